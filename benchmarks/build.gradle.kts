@@ -41,6 +41,10 @@ dependencies {
     compile(kotlinStdlib())
     compile(project(":compiler:frontend"))
     compile(project(":compiler:cli"))
+    compile(project(":kotlin-build-common"))
+    compile(project(":js:js.translator"))
+    compile(project(":compiler:cli-js"))
+    compile(project(":compiler:ir.serialization.js"))
     compile(intellijCoreDep()) { includeJars("intellij-core") }
     compile(jpsStandalone()) { includeJars("jps-model") }
     Platform[192].orHigher {
@@ -75,6 +79,49 @@ benchmark {
             include("CommonCallsBenchmark")
             //include("InferenceBaselineCallsBenchmark")
         }
+
+        register("backend") {
+            warmups = 10
+            iterations = 10
+            iterationTime = 1
+            iterationTimeUnit = "sec"
+
+            include("CodegenBenchmark")
+            include("MethodTransformerBenchmark")
+            include("ClassWritingBenchmark")
+        }
+
+        register("klib") {
+            warmups = 5
+            iterations = 10
+            iterationTime = 1
+            iterationTimeUnit = "sec"
+
+            include("KlibIrReadingBenchmark")
+        }
+
+        register("lookups") {
+            warmups = 3
+            iterations = 10
+
+            include("LookupStorageBenchmark")
+        }
+
+        register("names") {
+            warmups = 5
+            iterations = 10
+            iterationTime = 1
+            iterationTimeUnit = "sec"
+
+            include("NameResolverBenchmark")
+        }
+
+        register("sourcemaps") {
+            warmups = 3
+            iterations = 10
+
+            include("SourceMapBuilderBenchmark")
+        }
     }
     targets {
         register("main")
@@ -0,0 +1,265 @@
+package benchmark.classes
+
+import java.io.Serializable
+
+interface Shape {
+    val name: String
+    fun area(): Double
+    fun perimeter(): Double
+
+    fun describe(): String = "$name: area=${area()}, perimeter=${perimeter()}"
+}
+
+data class Point(val x: Double, val y: Double) : Serializable {
+    operator fun plus(other: Point) = Point(x + other.x, y + other.y)
+    operator fun minus(other: Point) = Point(x - other.x, y - other.y)
+    operator fun times(factor: Double) = Point(x * factor, y * factor)
+
+    fun distanceTo(other: Point): Double {
+        val dx = x - other.x
+        val dy = y - other.y
+        return Math.sqrt(dx * dx + dy * dy)
+    }
+
+    companion object {
+        val ORIGIN = Point(0.0, 0.0)
+    }
+}
+
+data class Circle(val center: Point, val radius: Double) : Shape {
+    override val name get() = "circle"
+    override fun area() = Math.PI * radius * radius
+    override fun perimeter() = 2 * Math.PI * radius
+}
+
+data class Rectangle(val topLeft: Point, val width: Double, val height: Double) : Shape {
+    override val name get() = "rectangle"
+    override fun area() = width * height
+    override fun perimeter() = 2 * (width + height)
+
+    val corners: List<Point>
+        get() = listOf(topLeft, topLeft + Point(width, 0.0), topLeft + Point(width, height), topLeft + Point(0.0, height))
+}
+
+class Polygon(private val vertices: List<Point>) : Shape {
+    override val name = "polygon with ${vertices.size} vertices"
+
+    override fun area(): Double {
+        var sum = 0.0
+        for (i in vertices.indices) {
+            val a = vertices[i]
+            val b = vertices[(i + 1) % vertices.size]
+            sum += a.x * b.y - b.x * a.y
+        }
+        return Math.abs(sum) / 2
+    }
+
+    override fun perimeter(): Double {
+        var sum = 0.0
+        for (i in vertices.indices) {
+            sum += vertices[i].distanceTo(vertices[(i + 1) % vertices.size])
+        }
+        return sum
+    }
+}
+
+sealed class Expr {
+    data class Const(val value: Long) : Expr()
+    data class Var(val name: String) : Expr()
+    data class Sum(val left: Expr, val right: Expr) : Expr()
+    data class Product(val left: Expr, val right: Expr) : Expr()
+    data class Negate(val operand: Expr) : Expr()
+    object Zero : Expr()
+}
+
+fun eval(expr: Expr, env: Map<String, Long>): Long = when (expr) {
+    is Expr.Const -> expr.value
+    is Expr.Var -> env[expr.name] ?: throw IllegalArgumentException("Unbound variable ${expr.name}")
+    is Expr.Sum -> eval(expr.left, env) + eval(expr.right, env)
+    is Expr.Product -> eval(expr.left, env) * eval(expr.right, env)
+    is Expr.Negate -> -eval(expr.operand, env)
+    Expr.Zero -> 0
+}
+
+fun simplify(expr: Expr): Expr = when (expr) {
+    is Expr.Sum -> {
+        val left = simplify(expr.left)
+        val right = simplify(expr.right)
+        when {
+            left == Expr.Zero -> right
+            right == Expr.Zero -> left
+            left is Expr.Const && right is Expr.Const -> Expr.Const(left.value + right.value)
+            else -> Expr.Sum(left, right)
+        }
+    }
+    is Expr.Product -> {
+        val left = simplify(expr.left)
+        val right = simplify(expr.right)
+        when {
+            left == Expr.Zero || right == Expr.Zero -> Expr.Zero
+            left == Expr.Const(1) -> right
+            right == Expr.Const(1) -> left
+            left is Expr.Const && right is Expr.Const -> Expr.Const(left.value * right.value)
+            else -> Expr.Product(left, right)
+        }
+    }
+    is Expr.Negate -> when (val operand = simplify(expr.operand)) {
+        is Expr.Negate -> operand.operand
+        is Expr.Const -> Expr.Const(-operand.value)
+        else -> Expr.Negate(operand)
+    }
+    else -> expr
+}
+
+enum class Color(val rgb: Int) {
+    RED(0xFF0000), GREEN(0x00FF00), BLUE(0x0000FF), WHITE(0xFFFFFF), BLACK(0);
+
+    val red get() = rgb shr 16 and 0xFF
+    val green get() = rgb shr 8 and 0xFF
+    val blue get() = rgb and 0xFF
+
+    fun mix(other: Color): Int = ((red + other.red) / 2 shl 16) or ((green + other.green) / 2 shl 8) or ((blue + other.blue) / 2)
+}
+
+abstract class Account(val id: String) {
+    var balance: Long = 0
+        protected set
+
+    private val history = ArrayList<String>()
+
+    open fun deposit(amount: Long) {
+        require(amount > 0) { "Amount must be positive: $amount" }
+        balance += amount
+        history.add("deposit $amount")
+    }
+
+    open fun withdraw(amount: Long): Boolean {
+        if (amount > balance) return false
+        balance -= amount
+        history.add("withdraw $amount")
+        return true
+    }
+
+    fun history(): List<String> = history
+
+    abstract fun monthlyFee(): Long
+}
+
+class CheckingAccount(id: String, private val overdraft: Long) : Account(id) {
+    override fun withdraw(amount: Long): Boolean {
+        if (amount > balance + overdraft) return false
+        balance -= amount
+        return true
+    }
+
+    override fun monthlyFee() = if (balance < 0) 10L else 0L
+}
+
+class SavingsAccount(id: String, private val rate: Double) : Account(id) {
+    override fun monthlyFee() = 0L
+
+    fun addInterest() {
+        deposit((balance * rate).toLong().coerceAtLeast(1))
+    }
+}
+
+class Matrix(val rows: Int, val columns: Int) {
+    private val data = DoubleArray(rows * columns)
+
+    operator fun get(row: Int, column: Int) = data[row * columns + column]
+
+    operator fun set(row: Int, column: Int, value: Double) {
+        data[row * columns + column] = value
+    }
+
+    operator fun times(other: Matrix): Matrix {
+        require(columns == other.rows)
+        val result = Matrix(rows, other.columns)
+        for (i in 0 until rows) {
+            for (j in 0 until other.columns) {
+                var sum = 0.0
+                for (k in 0 until columns) {
+                    sum += this[i, k] * other[k, j]
+                }
+                result[i, j] = sum
+            }
+        }
+        return result
+    }
+
+    override fun toString() = (0 until rows).joinToString("\n") { i -> (0 until columns).joinToString(" ") { j -> "${this[i, j]}" } }
+}
+
+class Node<T : Comparable<T>>(val value: T) {
+    var left: Node<T>? = null
+    var right: Node<T>? = null
+
+    fun insert(newValue: T) {
+        if (newValue < value) {
+            val l = left
+            if (l == null) left = Node(newValue) else l.insert(newValue)
+        } else {
+            val r = right
+            if (r == null) right = Node(newValue) else r.insert(newValue)
+        }
+    }
+
+    fun contains(candidate: T): Boolean {
+        val cmp = candidate.compareTo(value)
+        return when {
+            cmp == 0 -> true
+            cmp < 0 -> left?.contains(candidate) ?: false
+            else -> right?.contains(candidate) ?: false
+        }
+    }
+
+    fun height(): Int = 1 + Math.max(left?.height() ?: 0, right?.height() ?: 0)
+}
+
+object Registry {
+    private val shapes = HashMap<String, Shape>()
+    private var counter = 0
+
+    @JvmStatic
+    fun register(shape: Shape): String {
+        val id = "${shape.name}#${counter++}"
+        shapes[id] = shape
+        return id
+    }
+
+    fun totalArea(): Double {
+        var total = 0.0
+        for (shape in shapes.values) total += shape.area()
+        return total
+    }
+
+    const val VERSION = 3
+}
+
+class Lazy<T>(initializer: () -> T) {
+    private var initializer: (() -> T)? = initializer
+    private var value: Any? = null
+
+    @Suppress("UNCHECKED_CAST")
+    fun get(): T {
+        val init = initializer
+        if (init != null) {
+            value = init()
+            initializer = null
+        }
+        return value as T
+    }
+}
+
+class Delegating(private val inner: Shape) : Shape by inner {
+    override val name get() = "delegating to ${inner.name}"
+}
+
+fun describeAll(shapes: List<Shape?>): String {
+    val builder = StringBuilder()
+    for (shape in shapes) {
+        if (shape == null) continue
+        builder.append(shape.describe()).append('\n')
+    }
+    return builder.toString()
+}
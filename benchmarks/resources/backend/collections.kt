@@ -0,0 +1,158 @@
+package benchmark.collections
+
+data class Employee(val name: String, val department: String, val salary: Int, val age: Int, val manager: String?)
+
+fun departments(employees: List<Employee>): Map<String, List<String>> =
+    employees.groupBy { it.department }.mapValues { (_, list) -> list.map { it.name }.sorted() }
+
+fun averageSalaryByDepartment(employees: List<Employee>): Map<String, Double> =
+    employees.groupBy { it.department }.mapValues { (_, list) -> list.map { it.salary }.average() }
+
+fun topEarners(employees: List<Employee>, count: Int): List<Employee> =
+    employees.sortedWith(compareByDescending<Employee> { it.salary }.thenBy { it.name }).take(count)
+
+fun managersChain(employees: List<Employee>, name: String): List<String> {
+    val byName = employees.associateBy { it.name }
+    return generateSequence(byName[name]) { employee -> employee.manager?.let { byName[it] } }
+        .map { it.name }
+        .toList()
+}
+
+fun statistics(employees: List<Employee>): String {
+    val ages = employees.map { it.age }
+    val youngest = employees.minBy { it.age }
+    val oldest = employees.maxBy { it.age }
+    val (seniors, juniors) = employees.partition { it.age >= 40 }
+    return buildString {
+        append("count: ").append(employees.size).append('\n')
+        append("average age: ").append(ages.average()).append('\n')
+        append("youngest: ").append(youngest?.name).append('\n')
+        append("oldest: ").append(oldest?.name).append('\n')
+        append("seniors: ").append(seniors.joinToString { it.name }).append('\n')
+        append("juniors: ").append(juniors.joinToString { it.name }).append('\n')
+    }
+}
+
+fun wordFrequencies(text: String): List<Pair<String, Int>> =
+    text.split(' ', '\n', '\t', ',', '.', ';')
+        .asSequence()
+        .map { it.trim().toLowerCase() }
+        .filter { it.isNotEmpty() && it.all { c -> c.isLetter() } }
+        .groupingBy { it }
+        .eachCount()
+        .toList()
+        .sortedWith(compareByDescending<Pair<String, Int>> { it.second }.thenBy { it.first })
+
+fun matrixTranspose(matrix: List<List<Int>>): List<List<Int>> =
+    if (matrix.isEmpty()) emptyList() else matrix[0].indices.map { column -> matrix.map { row -> row[column] } }
+
+fun primes(limit: Int): List<Int> {
+    val sieve = BooleanArray(limit + 1) { it >= 2 }
+    for (i in 2..limit) {
+        if (!sieve[i]) continue
+        var j = i * 2
+        while (j <= limit) {
+            sieve[j] = false
+            j += i
+        }
+    }
+    return sieve.indices.filter { sieve[it] }
+}
+
+fun runLengthEncode(values: List<Char>): List<Pair<Char, Int>> =
+    values.fold(mutableListOf<Pair<Char, Int>>()) { acc, c ->
+        val last = acc.lastOrNull()
+        if (last != null && last.first == c) {
+            acc[acc.lastIndex] = c to last.second + 1
+        } else {
+            acc.add(c to 1)
+        }
+        acc
+    }
+
+fun flattenAndDeduplicate(lists: List<List<String?>>): Set<String> =
+    lists.flatMap { list -> list.filterNotNull() }
+        .map { it.trim() }
+        .filterNot { it.isBlank() }
+        .toSortedSet()
+
+fun windows(values: IntArray, size: Int): List<Int> =
+    values.toList().windowed(size) { window -> window.sum() }
+
+fun chunkedAverages(values: List<Double>): List<Double> =
+    values.chunked(10).map { chunk -> chunk.sum() / chunk.size }
+
+fun zipAndCompare(first: List<String>, second: List<String>): List<String> =
+    first.zip(second) { a, b -> if (a == b) a else "$a/$b" }
+        .mapIndexed { index, s -> "$index:$s" }
+        .filterIndexed { index, _ -> index % 2 == 0 }
+
+fun nestedLoops(matrix: Array<IntArray>): Int {
+    var result = 0
+    matrix.forEachIndexed { i, row ->
+        row.forEachIndexed { j, value ->
+            if ((i + j) % 2 == 0) result += value else result -= value
+        }
+    }
+    return result
+}
+
+fun findFirstDuplicate(values: List<Int>): Int? {
+    val seen = HashSet<Int>()
+    values.forEach { value ->
+        if (!seen.add(value)) return value
+    }
+    return null
+}
+
+fun mutableOperations(): Map<String, Int> {
+    val map = mutableMapOf<String, Int>()
+    (1..100).forEach { i ->
+        val key = "key${i % 10}"
+        map[key] = map.getOrElse(key) { 0 } + i
+        map.getOrPut("total") { 0 }
+        map.computeIfPresent("total") { _, v -> v + i }
+    }
+    map.entries.removeIf { it.value % 3 == 0 }
+    return map.toSortedMap()
+}
+
+fun stringProcessing(lines: List<String>): List<String> =
+    lines.asSequence()
+        .mapNotNull { line -> line.takeIf { it.isNotBlank() }?.trim() }
+        .filter { !it.startsWith("#") }
+        .map { line -> line.substringBefore('=').trim() to line.substringAfter('=', "").trim() }
+        .filter { (key, value) -> key.isNotEmpty() && value.isNotEmpty() }
+        .map { (key, value) -> "${key.toUpperCase()}=${value.reversed()}" }
+        .distinct()
+        .toList()
+
+fun primitiveArrays(size: Int): Long {
+    val ints = IntArray(size) { it * 3 }
+    val longs = LongArray(size) { ints[it].toLong() * it }
+    val doubles = DoubleArray(size) { longs[it] / 2.0 }
+    return ints.filter { it % 2 == 0 }.sum() + longs.map { it / 7 }.sum() + doubles.count { it > 100 }.toLong()
+}
+
+fun associateAndInvert(employees: List<Employee>): Map<Int, List<String>> =
+    employees.associate { it.name to it.salary }
+        .entries
+        .groupBy({ it.value / 1000 }, { it.key })
+        .toSortedMap(reverseOrder())
+
+fun <T, K> distinctByAndCount(values: List<T>, selector: (T) -> K): Map<K, Int> =
+    values.distinctBy(selector).groupBy(selector).mapValues { it.value.size }
+
+fun reduceOperations(values: List<Int>): Triple<Int, Int, Int> {
+    val sum = values.reduce { acc, i -> acc + i }
+    val product = values.fold(1) { acc, i -> acc * (i % 5 + 1) }
+    val max = values.reduceRight { i, acc -> if (i > acc) i else acc }
+    return Triple(sum, product, max)
+}
+
+fun anyAllNone(employees: List<Employee>): List<Boolean> = listOf(
+    employees.any { it.salary > 100000 },
+    employees.all { it.age >= 18 },
+    employees.none { it.department.isEmpty() },
+    employees.count { it.manager == null } == 1
+)
@@ -0,0 +1,187 @@
+package benchmark.inline
+
+inline fun <T> measure(block: () -> T): Pair<T, Long> {
+    val start = System.nanoTime()
+    val result = block()
+    return result to System.nanoTime() - start
+}
+
+inline fun <T> retry(times: Int, block: (Int) -> T): T {
+    var lastError: Throwable? = null
+    for (attempt in 0 until times) {
+        try {
+            return block(attempt)
+        } catch (e: Exception) {
+            lastError = e
+        }
+    }
+    throw IllegalStateException("Failed after $times attempts", lastError)
+}
+
+inline fun <T : AutoCloseable?, R> T.useResource(block: (T) -> R): R {
+    var thrown: Throwable? = null
+    try {
+        return block(this)
+    } catch (e: Throwable) {
+        thrown = e
+        throw e
+    } finally {
+        if (thrown == null) this?.close() else try {
+            this?.close()
+        } catch (e: Throwable) {
+            thrown.addSuppressed(e)
+        }
+    }
+}
+
+inline fun <reified T> Iterable<*>.filterIsInstanceTo(destination: MutableList<T>): MutableList<T> {
+    for (element in this) if (element is T) destination.add(element)
+    return destination
+}
+
+inline fun <reified T : Any> Any?.castOrNull(): T? = this as? T
+
+inline fun <reified T> arrayOfNotNull(vararg elements: T?): Array<T> {
+    val list = ArrayList<T>()
+    for (element in elements) if (element != null) list.add(element)
+    return list.toTypedArray()
+}
+
+inline fun <T> synchronizedWith(lock: Any, crossinline block: () -> T): () -> T = {
+    synchronized(lock) { block() }
+}
+
+inline fun repeatIndexed(times: Int, action: (index: Int, isLast: Boolean) -> Unit) {
+    for (i in 0 until times) action(i, i == times - 1)
+}
+
+inline fun <T> Iterable<T>.sumByLong(selector: (T) -> Long): Long {
+    var sum = 0L
+    for (element in this) sum += selector(element)
+    return sum
+}
+
+inline fun <T, R> T.letIf(condition: Boolean, block: (T) -> R): R? = if (condition) block(this) else null
+
+inline fun <T> T.alsoIf(condition: (T) -> Boolean, block: (T) -> Unit): T {
+    if (condition(this)) block(this)
+    return this
+}
+
+inline fun <A, B, R> withBoth(a: A, b: B, block: (A, B) -> R): R = block(a, b)
+
+inline fun <T> lazyIf(condition: Boolean, noinline initializer: () -> T): Lazy<T>? =
+    if (condition) lazy(initializer) else null
+
+inline fun <T> trace(name: String, log: MutableList<String>, block: () -> T): T {
+    log.add("enter $name")
+    try {
+        return block()
+    } finally {
+        log.add("exit $name")
+    }
+}
+
+class Transaction(private val log: MutableList<String>) : AutoCloseable {
+    var committed = false
+
+    inline fun <T> step(name: String, block: () -> T): T = trace(name, log(), block)
+
+    fun log(): MutableList<String> = log
+
+    fun commit() {
+        committed = true
+    }
+
+    override fun close() {
+        if (!committed) log.add("rollback")
+    }
+}
+
+fun nestedInlining(values: List<Int>): Long {
+    val log = ArrayList<String>()
+    return trace("outer", log) {
+        retry(3) { attempt ->
+            measure {
+                values.sumByLong { value ->
+                    trace("inner", log) {
+                        withBoth(value, attempt) { v, a -> (v * a).toLong() }
+                    }
+                }
+            }.first
+        }
+    }
+}
+
+fun nonLocalReturns(values: List<String?>): String {
+    values.forEach { value ->
+        value?.letIf(value.length > 3) { return it }
+    }
+    repeatIndexed(values.size) { index, isLast ->
+        if (isLast) return values[index] ?: "null"
+    }
+    return ""
+}
+
+fun reifiedCalls(values: List<Any?>): Int {
+    val strings = values.filterIsInstanceTo(ArrayList<String>())
+    val ints = values.filterIsInstanceTo(ArrayList<Int>())
+    val numbers = arrayOfNotNull(values.firstOrNull().castOrNull<Number>(), ints.firstOrNull())
+    return strings.size + ints.sum() + numbers.size
+}
+
+fun transactions(): List<String> {
+    val log = ArrayList<String>()
+    Transaction(log).useResource { transaction ->
+        val total = transaction.step("load") {
+            (1..10).map { it * it }
+        }.sum()
+        transaction.step("validate") {
+            require(total > 0)
+        }
+        if (total % 2 == 0) {
+            transaction.step("commit") { transaction.commit() }
+        }
+    }
+    return log
+}
+
+fun capturedLambdas(lock: Any, counter: IntArray): Int {
+    val increment = synchronizedWith(lock) { ++counter[0] }
+    val decrement = synchronizedWith(lock) { --counter[0] }
+    repeat(10) { increment() }
+    repeat(3) { decrement() }
+    return counter[0].alsoIf({ it > 5 }) { counter[0] = 0 }
+}
+
+fun scopeFunctions(input: String?): String =
+    input?.trim()
+        ?.takeIf { it.isNotEmpty() }
+        ?.let { s -> s.run { toUpperCase() } }
+        ?.also { require(it.isNotEmpty()) }
+        ?.apply { length }
+        ?: with(StringBuilder()) {
+            append("empty")
+            toString()
+        }
+
+fun lazyValues(flag: Boolean): Int {
+    val value = lazyIf(flag) { (1..100).filter { it % 7 == 0 }.sum() }
+    return value?.value ?: measure { 42 }.first
+}
+
+fun deeplyNested(n: Int): Int {
+    var result = 0
+    repeat(n) { i ->
+        repeat(n) { j ->
+            withBoth(i, j) { a, b ->
+                retry(2) { _ ->
+                    measure {
+                        result += a.letIf(a > b) { it - b } ?: b - a
+                    }
+                }
+            }
+        }
+    }
+    return result
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+package org.jetbrains.kotlin.benchmarks
+
+import com.intellij.openapi.Disposable
+import com.intellij.openapi.util.Disposer
+import org.jetbrains.kotlin.analyzer.AnalysisResult
+import org.jetbrains.kotlin.backend.common.phaser.PhaseConfig
+import org.jetbrains.kotlin.backend.jvm.JvmIrCodegenFactory
+import org.jetbrains.kotlin.backend.jvm.jvmPhases
+import org.jetbrains.kotlin.cli.jvm.compiler.EnvironmentConfigFiles
+import org.jetbrains.kotlin.cli.jvm.compiler.KotlinCoreEnvironment
+import org.jetbrains.kotlin.cli.jvm.compiler.NoScopeRecordCliBindingTrace
+import org.jetbrains.kotlin.cli.jvm.compiler.TopDownAnalyzerFacadeForJVM
+import org.jetbrains.kotlin.codegen.ClassBuilderFactories
+import org.jetbrains.kotlin.codegen.DefaultCodegenFactory
+import org.jetbrains.kotlin.codegen.KotlinCodegenFacade
+import org.jetbrains.kotlin.codegen.state.GenerationState
+import org.jetbrains.kotlin.config.CompilerConfiguration
+import org.jetbrains.kotlin.diagnostics.Severity
+import org.jetbrains.kotlin.psi.KtFile
+import org.jetbrains.org.objectweb.asm.ClassReader
+import org.jetbrains.org.objectweb.asm.tree.ClassNode
+import org.openjdk.jmh.annotations.*
+
+/**
+ * Base class for benchmarks of the JVM backend. The [corpus] (a file from the "backend" directory of the resources of this module)
+ * is analyzed once per trial, so that benchmarks measure only code generation and what follows it.
+ */
+@State(Scope.Benchmark)
+abstract class AbstractBackendBenchmark {
+
+    private var myDisposable: Disposable = Disposer.newDisposable()
+    protected lateinit var env: KotlinCoreEnvironment
+    private lateinit var files: List<KtFile>
+    private lateinit var analysisResult: AnalysisResult
+
+    @Param("classes", "collections", "inline")
+    protected var corpus: String = ""
+
+    @Param("true", "false")
+    protected var isIR: Boolean = false
+
+    @Setup(Level.Trial)
+    fun setUp() {
+        env = KotlinCoreEnvironment.createForTests(
+                myDisposable,
+                newConfiguration(useNewInference = false),
+                EnvironmentConfigFiles.JVM_CONFIG_FILES
+        )
+
+        val text = AbstractBackendBenchmark::class.java.getResource("/backend/$corpus.kt")?.readText()
+                ?: error("Unknown corpus: $corpus")
+        files = listOf(createFile("$corpus.kt", text, env.project))
+
+        analysisResult = TopDownAnalyzerFacadeForJVM.analyzeFilesWithJavaIntegration(
+                env.project,
+                files,
+                NoScopeRecordCliBindingTrace(),
+                env.configuration,
+                env::createPackagePartProvider
+        )
+        analysisResult.throwIfError()
+        check(analysisResult.bindingContext.diagnostics.none { it.severity == Severity.ERROR }) { "Corpus $corpus has errors" }
+
+        prepare()
+    }
+
+    @TearDown(Level.Trial)
+    fun tearDown() {
+        Disposer.dispose(myDisposable)
+        myDisposable = Disposer.newDisposable()
+    }
+
+    // Called after the corpus is analyzed, to prepare inputs of the benchmark which depend on the generated code
+    protected open fun prepare() {}
+
+    protected fun createGenerationState(configuration: CompilerConfiguration = env.configuration): GenerationState =
+            GenerationState.Builder(
+                    env.project, ClassBuilderFactories.BINARIES, analysisResult.moduleDescriptor, analysisResult.bindingContext,
+                    files, configuration
+            ).codegenFactory(
+                    if (isIR) JvmIrCodegenFactory(PhaseConfig(jvmPhases)) else DefaultCodegenFactory
+            ).isIrBackend(isIR).build()
+
+    protected fun generate(configuration: CompilerConfiguration = env.configuration): GenerationState =
+            createGenerationState(configuration).also(KotlinCodegenFacade::compileCorrectFiles)
+
+    protected fun generateClassNodes(configuration: CompilerConfiguration = env.configuration): List<ClassNode> {
+        val state = generate(configuration)
+        try {
+            return state.factory.asList().filter { it.relativePath.endsWith(".class") }.map { outputFile ->
+                ClassNode().also { ClassReader(outputFile.asByteArray()).accept(it, ClassReader.SKIP_FRAMES) }
+            }
+        } finally {
+            state.destroy()
+        }
+    }
+}
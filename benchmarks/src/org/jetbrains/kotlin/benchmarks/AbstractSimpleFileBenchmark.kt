@@ -48,7 +48,7 @@ import org.openjdk.jmh.annotations.*
 import org.openjdk.jmh.infra.Blackhole
 import java.io.File
 
-private fun createFile(shortName: String, text: String, project: Project): KtFile {
+internal fun createFile(shortName: String, text: String, project: Project): KtFile {
     val virtualFile = object : LightVirtualFile(shortName, KotlinLanguage.INSTANCE, text) {
         override fun getPath(): String {
             //TODO: patch LightVirtualFile
@@ -71,7 +71,7 @@ private val LANGUAGE_FEATURE_SETTINGS =
                 specificFeatures = mapOf(LanguageFeature.NewInference to LanguageFeature.State.ENABLED)
         )
 
-private fun newConfiguration(useNewInference: Boolean): CompilerConfiguration {
+internal fun newConfiguration(useNewInference: Boolean): CompilerConfiguration {
     val configuration = CompilerConfiguration()
     configuration.put(CommonConfigurationKeys.MODULE_NAME, "benchmark")
     configuration.put(CLIConfigurationKeys.INTELLIJ_PLUGIN_ROOT, "../idea/resources")
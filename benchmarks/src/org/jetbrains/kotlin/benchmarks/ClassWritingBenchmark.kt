@@ -0,0 +1,36 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.benchmarks
+
+import org.jetbrains.kotlin.codegen.ClassBuilderFactories
+import org.jetbrains.kotlin.resolve.jvm.diagnostics.JvmDeclarationOrigin
+import org.jetbrains.org.objectweb.asm.tree.ClassNode
+import org.openjdk.jmh.annotations.*
+import org.openjdk.jmh.infra.Blackhole
+import java.util.concurrent.TimeUnit
+
+// Writes classes generated from the corpus with the class writer used by the backend, which computes frames and maximums
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+open class ClassWritingBenchmark : AbstractBackendBenchmark() {
+
+    private lateinit var classes: List<ClassNode>
+
+    override fun prepare() {
+        classes = generateClassNodes()
+    }
+
+    @Benchmark
+    fun benchmark(bh: Blackhole) {
+        val factory = ClassBuilderFactories.BINARIES
+        for (classNode in classes) {
+            val builder = factory.newClassBuilder(JvmDeclarationOrigin.NO_ORIGIN)
+            classNode.accept(builder.visitor)
+            bh.consume(factory.asBytes(builder))
+        }
+    }
+}
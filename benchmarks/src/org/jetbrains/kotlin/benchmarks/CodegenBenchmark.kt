@@ -0,0 +1,26 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.benchmarks
+
+import org.openjdk.jmh.annotations.*
+import org.openjdk.jmh.infra.Blackhole
+import java.util.concurrent.TimeUnit
+
+// Generates the whole corpus, including inlining (see the "inline" corpus), optimizations and class writing
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+open class CodegenBenchmark : AbstractBackendBenchmark() {
+
+    @Benchmark
+    fun benchmark(bh: Blackhole) {
+        val state = generate()
+        for (outputFile in state.factory.asList()) {
+            bh.consume(outputFile.asByteArray())
+        }
+        state.destroy()
+    }
+}
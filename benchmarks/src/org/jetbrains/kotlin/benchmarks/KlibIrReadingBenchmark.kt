@@ -0,0 +1,69 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.benchmarks
+
+import com.intellij.openapi.util.Disposer
+import org.jetbrains.kotlin.cli.common.CLIConfigurationKeys
+import org.jetbrains.kotlin.cli.common.messages.MessageCollector
+import org.jetbrains.kotlin.cli.js.messageCollectorLogger
+import org.jetbrains.kotlin.cli.jvm.compiler.EnvironmentConfigFiles
+import org.jetbrains.kotlin.cli.jvm.compiler.KotlinCoreEnvironment
+import org.jetbrains.kotlin.config.CommonConfigurationKeys
+import org.jetbrains.kotlin.config.CompilerConfiguration
+import org.jetbrains.kotlin.ir.backend.js.MainModule
+import org.jetbrains.kotlin.ir.backend.js.jsResolveLibraries
+import org.jetbrains.kotlin.ir.backend.js.loadIr
+import org.jetbrains.kotlin.library.KotlinLibrary
+import org.jetbrains.kotlin.library.resolver.KotlinLibraryResolveResult
+import org.openjdk.jmh.annotations.*
+import org.openjdk.jmh.infra.Blackhole
+import java.io.File
+import java.util.concurrent.TimeUnit
+
+/**
+ * Links all declarations and bodies of a klib (the full JS stdlib by default, which has to be built beforehand) with the JS IR linker,
+ * the same way as the JS IR compiler does when the klib is passed as the main module with `-Xinclude`.
+ *
+ * Run it with the JMH GC profiler (`-prof gc`) to compare allocations of the klib readers and the linker before and after a change.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+open class KlibIrReadingBenchmark {
+    private val disposable = Disposer.newDisposable()
+    private lateinit var environment: KotlinCoreEnvironment
+    private lateinit var libraries: KotlinLibraryResolveResult
+    private lateinit var klib: KotlinLibrary
+
+    @Setup(Level.Trial)
+    fun setUp() {
+        val path = File(System.getProperty("kotlin.benchmarks.klib", DEFAULT_KLIB)).absolutePath
+        check(File(path).exists()) { "Klib not found: $path" }
+
+        val configuration = CompilerConfiguration()
+        configuration.put(CLIConfigurationKeys.MESSAGE_COLLECTOR_KEY, MessageCollector.NONE)
+        configuration.put(CommonConfigurationKeys.MODULE_NAME, "benchmark")
+        environment = KotlinCoreEnvironment.createForProduction(disposable, configuration, EnvironmentConfigFiles.JS_CONFIG_FILES)
+
+        libraries = jsResolveLibraries(listOf(path), messageCollectorLogger(MessageCollector.NONE))
+        klib = libraries.getFullList().single { it.libraryFile.absolutePath == path }
+    }
+
+    @TearDown(Level.Trial)
+    fun tearDown() {
+        Disposer.dispose(disposable)
+    }
+
+    @Benchmark
+    fun benchmark(bh: Blackhole) {
+        val moduleInfo = loadIr(environment.project, MainModule.Klib(klib), environment.configuration, libraries, emptyList())
+        bh.consume(moduleInfo.module)
+    }
+
+    private companion object {
+        const val DEFAULT_KLIB = "../libraries/stdlib/js-ir/build/fullRuntime/klib"
+    }
+}
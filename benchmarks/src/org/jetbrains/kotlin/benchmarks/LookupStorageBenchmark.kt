@@ -0,0 +1,95 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.benchmarks
+
+import com.intellij.openapi.util.io.FileUtil
+import com.intellij.util.containers.MultiMap
+import org.jetbrains.kotlin.incremental.LookupStorage
+import org.jetbrains.kotlin.incremental.LookupSymbol
+import org.jetbrains.kotlin.incremental.storage.RelativeFileToPathConverter
+import org.openjdk.jmh.annotations.*
+import org.openjdk.jmh.infra.Blackhole
+import java.io.File
+import java.util.*
+import java.util.concurrent.TimeUnit
+
+/**
+ * Records lookups of a synthetic project into the incremental compilation lookup storage, as after a full build,
+ * then as after an incremental build recompiling some of the files, and queries them as when computing dirty files.
+ *
+ * Each of [files] files looks up [lookupsPerFile] symbols, chosen randomly (with a fixed seed) from `files * 2` declarations
+ * in `files / 10` packages.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+open class LookupStorageBenchmark {
+
+    @Param("10000")
+    private var files: Int = 0
+
+    @Param("200")
+    private var lookupsPerFile: Int = 0
+
+    private lateinit var root: File
+    private lateinit var paths: List<String>
+    private lateinit var symbols: List<LookupSymbol>
+    private lateinit var fullBuildLookups: MultiMap<LookupSymbol, String>
+    private lateinit var incrementalBuildLookups: MultiMap<LookupSymbol, String>
+
+    private lateinit var storage: LookupStorage
+
+    @Setup(Level.Trial)
+    fun setUp() {
+        root = FileUtil.createTempDirectory("lookups", null)
+        paths = (0 until files).map { File(root, "src/File$it.kt").path }
+        symbols = (0 until files * 2).map { LookupSymbol("Declaration$it", "org.example.package${it % (files / 10)}") }
+
+        val random = Random(42)
+        fullBuildLookups = generateLookups(paths, random)
+        incrementalBuildLookups = generateLookups(paths.filterIndexed { index, _ -> index % 20 == 0 }, random)
+    }
+
+    @TearDown(Level.Trial)
+    fun tearDown() {
+        FileUtil.delete(root)
+    }
+
+    @Setup(Level.Invocation)
+    fun createStorage() {
+        val cachesDir = File(root, "caches")
+        FileUtil.delete(cachesDir)
+        storage = LookupStorage(cachesDir, RelativeFileToPathConverter(root))
+    }
+
+    @TearDown(Level.Invocation)
+    fun closeStorage() {
+        storage.close()
+    }
+
+    @Benchmark
+    fun benchmark(bh: Blackhole) {
+        storage.addAll(fullBuildLookups, fullBuildLookups.values().toSet())
+        storage.flush(false)
+
+        storage.addAll(incrementalBuildLookups, incrementalBuildLookups.values().toSet())
+        storage.flush(false)
+
+        for (symbol in symbols) {
+            bh.consume(storage.get(symbol))
+        }
+    }
+
+    private fun generateLookups(paths: List<String>, random: Random): MultiMap<LookupSymbol, String> {
+        val result = MultiMap.createSet<LookupSymbol, String>()
+        for (path in paths) {
+            repeat(lookupsPerFile) {
+                result.putValue(symbols[random.nextInt(symbols.size)], path)
+            }
+        }
+        return result
+    }
+}
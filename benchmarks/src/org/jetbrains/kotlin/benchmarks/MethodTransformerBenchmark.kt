@@ -0,0 +1,88 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.benchmarks
+
+import org.jetbrains.kotlin.codegen.optimization.CapturedVarsOptimizationMethodTransformer
+import org.jetbrains.kotlin.codegen.optimization.ConstantConditionEliminationMethodTransformer
+import org.jetbrains.kotlin.codegen.optimization.DeadCodeEliminationMethodTransformer
+import org.jetbrains.kotlin.codegen.optimization.OptimizationMethodVisitor
+import org.jetbrains.kotlin.codegen.optimization.boxing.RedundantBoxingMethodTransformer
+import org.jetbrains.kotlin.codegen.optimization.boxing.StackPeepholeOptimizationsTransformer
+import org.jetbrains.kotlin.codegen.optimization.nullCheck.RedundantNullCheckMethodTransformer
+import org.jetbrains.kotlin.codegen.optimization.transformer.MethodTransformer
+import org.jetbrains.kotlin.codegen.state.GenerationState
+import org.jetbrains.kotlin.config.JVMConfigurationKeys
+import org.jetbrains.org.objectweb.asm.tree.ClassNode
+import org.jetbrains.org.objectweb.asm.tree.MethodNode
+import org.openjdk.jmh.annotations.*
+import org.openjdk.jmh.infra.Blackhole
+import java.util.concurrent.TimeUnit
+
+/**
+ * Runs a bytecode optimization on all methods of the corpus generated with optimizations disabled.
+ * "all" runs the complete pipeline of [OptimizationMethodVisitor], as it's done in the backend.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+open class MethodTransformerBenchmark : AbstractBackendBenchmark() {
+
+    @Param("all", "capturedVars", "nullCheck", "constantCondition", "boxing", "peephole", "deadCode")
+    private var transformer: String = ""
+
+    private lateinit var unoptimizedClasses: List<ClassNode>
+    private lateinit var optimizationState: GenerationState
+    private lateinit var methods: List<Pair<String, MethodNode>>
+
+    override fun prepare() {
+        val configuration = env.configuration.copy()
+        configuration.put(JVMConfigurationKeys.DISABLE_OPTIMIZATION, true)
+        unoptimizedClasses = generateClassNodes(configuration)
+        optimizationState = createGenerationState()
+    }
+
+    // Transformers modify methods in place, so each invocation needs fresh copies
+    @Setup(Level.Invocation)
+    fun copyMethods() {
+        methods = unoptimizedClasses.flatMap { classNode ->
+            classNode.methods.filter { it.instructions.size() > 0 }.map { method -> classNode.name to method.copy() }
+        }
+    }
+
+    @Benchmark
+    fun benchmark(bh: Blackhole) {
+        val methodTransformer = createTransformer()
+        for ((owner, method) in methods) {
+            if (methodTransformer != null) {
+                methodTransformer.transform(owner, method)
+                bh.consume(method)
+            } else {
+                val optimized = MethodNode(method.access, method.name, method.desc, method.signature, method.exceptions.toTypedArray())
+                method.accept(
+                    OptimizationMethodVisitor(
+                        optimized, optimizationState, method.access, method.name, method.desc, method.signature,
+                        method.exceptions.toTypedArray()
+                    )
+                )
+                bh.consume(optimized)
+            }
+        }
+    }
+
+    private fun createTransformer(): MethodTransformer? = when (transformer) {
+        "all" -> null
+        "capturedVars" -> CapturedVarsOptimizationMethodTransformer()
+        "nullCheck" -> RedundantNullCheckMethodTransformer(optimizationState)
+        "constantCondition" -> ConstantConditionEliminationMethodTransformer()
+        "boxing" -> RedundantBoxingMethodTransformer(optimizationState)
+        "peephole" -> StackPeepholeOptimizationsTransformer()
+        "deadCode" -> DeadCodeEliminationMethodTransformer()
+        else -> error("Unknown transformer: $transformer")
+    }
+
+    private fun MethodNode.copy(): MethodNode =
+        MethodNode(access, name, desc, signature, exceptions.toTypedArray()).also(::accept)
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.benchmarks
+
+import org.jetbrains.kotlin.metadata.ProtoBuf
+import org.jetbrains.kotlin.metadata.deserialization.NameResolver
+import org.jetbrains.kotlin.metadata.jvm.deserialization.JvmProtoBufUtil
+import org.jetbrains.kotlin.serialization.deserialization.getClassId
+import org.jetbrains.kotlin.serialization.deserialization.getName
+import org.jetbrains.org.objectweb.asm.AnnotationVisitor
+import org.jetbrains.org.objectweb.asm.ClassReader
+import org.jetbrains.org.objectweb.asm.ClassVisitor
+import org.jetbrains.org.objectweb.asm.Opcodes
+import org.openjdk.jmh.annotations.*
+import org.openjdk.jmh.infra.Blackhole
+import java.io.File
+import java.util.concurrent.TimeUnit
+import java.util.zip.ZipFile
+
+/**
+ * Resolves names of the classes and packages of jars (the stdlib by default, others can be given in the `kotlin.benchmarks.jars`
+ * system property, e.g. kotlinx-metadata) several times, as when their descriptors are deserialized.
+ *
+ * In the "uncached" mode the resolvers are wrapped so that `ClassId`s and `Name`s are created on every call. Run it with the JMH GC
+ * profiler (`-prof gc`) to compare allocations per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+open class NameResolverBenchmark {
+
+    @Param("cached", "uncached")
+    private var mode: String = ""
+
+    private class Metadata(val kind: Int, val data: Array<String>, val strings: Array<String>)
+
+    private lateinit var metadata: List<Metadata>
+
+    @Setup(Level.Trial)
+    fun setUp() {
+        val jars = System.getProperty("kotlin.benchmarks.jars")?.split(File.pathSeparator)?.map(::File)
+            ?: listOf(File(KotlinVersion::class.java.protectionDomain.codeSource.location.toURI()))
+
+        metadata = jars.flatMap(::readMetadata)
+        check(metadata.isNotEmpty()) { "No Kotlin classes in $jars" }
+    }
+
+    @Benchmark
+    fun benchmark(bh: Blackhole) {
+        for (it in metadata) {
+            when (it.kind) {
+                CLASS_KIND -> {
+                    val (nameResolver, proto) = JvmProtoBufUtil.readClassDataFrom(it.data, it.strings)
+                    repeat(PASSES) { resolveClass(bh, wrap(nameResolver), proto) }
+                }
+                FILE_FACADE_KIND, MULTI_FILE_CLASS_PART_KIND -> {
+                    val (nameResolver, proto) = JvmProtoBufUtil.readPackageDataFrom(it.data, it.strings)
+                    repeat(PASSES) { resolvePackage(bh, wrap(nameResolver), proto) }
+                }
+            }
+        }
+    }
+
+    private fun wrap(nameResolver: NameResolver): NameResolver =
+        if (mode == "cached") nameResolver
+        else object : NameResolver by nameResolver {}
+
+    private fun resolveClass(bh: Blackhole, nameResolver: NameResolver, proto: ProtoBuf.Class) {
+        bh.consume(nameResolver.getClassId(proto.fqName))
+        for (supertype in proto.supertypeList) resolveType(bh, nameResolver, supertype)
+        for (id in proto.nestedClassNameList) bh.consume(nameResolver.getName(id))
+        for (function in proto.functionList) resolveFunction(bh, nameResolver, function)
+        for (property in proto.propertyList) resolveProperty(bh, nameResolver, property)
+    }
+
+    private fun resolvePackage(bh: Blackhole, nameResolver: NameResolver, proto: ProtoBuf.Package) {
+        for (function in proto.functionList) resolveFunction(bh, nameResolver, function)
+        for (property in proto.propertyList) resolveProperty(bh, nameResolver, property)
+    }
+
+    private fun resolveFunction(bh: Blackhole, nameResolver: NameResolver, proto: ProtoBuf.Function) {
+        bh.consume(nameResolver.getName(proto.name))
+        if (proto.hasReturnType()) resolveType(bh, nameResolver, proto.returnType)
+        if (proto.hasReceiverType()) resolveType(bh, nameResolver, proto.receiverType)
+        for (parameter in proto.valueParameterList) {
+            bh.consume(nameResolver.getName(parameter.name))
+            if (parameter.hasType()) resolveType(bh, nameResolver, parameter.type)
+        }
+    }
+
+    private fun resolveProperty(bh: Blackhole, nameResolver: NameResolver, proto: ProtoBuf.Property) {
+        bh.consume(nameResolver.getName(proto.name))
+        if (proto.hasReturnType()) resolveType(bh, nameResolver, proto.returnType)
+        if (proto.hasReceiverType()) resolveType(bh, nameResolver, proto.receiverType)
+    }
+
+    private fun resolveType(bh: Blackhole, nameResolver: NameResolver, proto: ProtoBuf.Type) {
+        if (proto.hasClassName()) bh.consume(nameResolver.getClassId(proto.className))
+        for (argument in proto.argumentList) {
+            if (argument.hasType()) resolveType(bh, nameResolver, argument.type)
+        }
+    }
+
+    private fun readMetadata(jar: File): List<Metadata> = ZipFile(jar).use { zip ->
+        zip.entries().asSequence().filter { it.name.endsWith(".class") }.mapNotNull { entry ->
+            zip.getInputStream(entry).use { input -> readMetadata(ClassReader(input)) }
+        }.toList()
+    }
+
+    private fun readMetadata(reader: ClassReader): Metadata? {
+        var kind = 0
+        var data: Array<String>? = null
+        var strings: Array<String>? = null
+
+        reader.accept(object : ClassVisitor(Opcodes.API_VERSION) {
+            override fun visitAnnotation(desc: String, visible: Boolean): AnnotationVisitor? {
+                if (desc != METADATA_DESC) return null
+                return object : AnnotationVisitor(Opcodes.API_VERSION) {
+                    override fun visit(name: String, value: Any) {
+                        if (name == "k") kind = value as Int
+                    }
+
+                    override fun visitArray(name: String): AnnotationVisitor = object : AnnotationVisitor(Opcodes.API_VERSION) {
+                        private val values = ArrayList<String>()
+
+                        override fun visit(name: String?, value: Any) {
+                            values.add(value as String)
+                        }
+
+                        override fun visitEnd() {
+                            when (name) {
+                                "d1" -> data = values.toTypedArray()
+                                "d2" -> strings = values.toTypedArray()
+                            }
+                        }
+                    }
+                }
+            }
+        }, ClassReader.SKIP_CODE or ClassReader.SKIP_DEBUG or ClassReader.SKIP_FRAMES)
+
+        return Metadata(kind, data ?: return null, strings ?: return null)
+    }
+
+    private companion object {
+        const val METADATA_DESC = "Lkotlin/Metadata;"
+        const val CLASS_KIND = 1
+        const val FILE_FACADE_KIND = 2
+        const val MULTI_FILE_CLASS_PART_KIND = 5
+
+        // Descriptors look up the same names many times, e.g. when their members are resolved and when their types are compared
+        const val PASSES = 4
+    }
+}
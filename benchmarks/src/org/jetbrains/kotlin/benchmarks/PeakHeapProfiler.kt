@@ -0,0 +1,39 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.benchmarks
+
+import org.openjdk.jmh.infra.BenchmarkParams
+import org.openjdk.jmh.infra.IterationParams
+import org.openjdk.jmh.profile.InternalProfiler
+import org.openjdk.jmh.results.AggregationPolicy
+import org.openjdk.jmh.results.IterationResult
+import org.openjdk.jmh.results.Result
+import org.openjdk.jmh.results.ScalarResult
+import java.lang.management.ManagementFactory
+import java.lang.management.MemoryType
+
+/**
+ * Reports the peak usage of the heap during each iteration, the result of a benchmark is the maximum over the iterations.
+ * Enable it with `-prof org.jetbrains.kotlin.benchmarks.PeakHeapProfiler`.
+ */
+class PeakHeapProfiler : InternalProfiler {
+    override fun getDescription(): String = "Peak heap usage"
+
+    override fun beforeIteration(benchmarkParams: BenchmarkParams, iterationParams: IterationParams) {
+        heapPools().forEach { it.resetPeakUsage() }
+    }
+
+    override fun afterIteration(
+        benchmarkParams: BenchmarkParams,
+        iterationParams: IterationParams,
+        result: IterationResult
+    ): Collection<Result<*>> {
+        val peak = heapPools().map { it.peakUsage.used }.sum()
+        return listOf(ScalarResult("·heap.peak", peak.toDouble() / (1024 * 1024), "MB", AggregationPolicy.MAX))
+    }
+
+    private fun heapPools() = ManagementFactory.getMemoryPoolMXBeans().filter { it.type == MemoryType.HEAP }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.benchmarks
+
+import org.jetbrains.kotlin.js.backend.JsToStringGenerationVisitor
+import org.jetbrains.kotlin.js.backend.ast.*
+import org.jetbrains.kotlin.js.facade.SourceMapBuilderConsumer
+import org.jetbrains.kotlin.js.sourceMap.SourceFilePathResolver
+import org.jetbrains.kotlin.js.sourceMap.SourceMap3Builder
+import org.jetbrains.kotlin.js.util.TextOutputImpl
+import org.openjdk.jmh.annotations.*
+import java.io.File
+import java.io.StringReader
+import java.util.concurrent.TimeUnit
+
+/**
+ * Writes the code and the source map of a generated JS module with [size] functions, as the JS DCE does for its output files.
+ *
+ * In the "in-memory" mode the code and the source map (including the content of the sources) are built into strings first,
+ * in the "streaming" mode they are written to the files while the code is generated. Run it with [PeakHeapProfiler] to compare
+ * the peak usage of the heap, and with the JMH GC profiler (`-prof gc`) to compare allocations per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+open class SourceMapBuilderBenchmark {
+
+    @Param("in-memory", "streaming")
+    private var mode: String = ""
+
+    @Param("20000")
+    private var size: Int = 0
+
+    private lateinit var module: JsGlobalBlock
+    private lateinit var outputDir: File
+
+    @Setup(Level.Trial)
+    fun setUp() {
+        module = generateModule()
+        outputDir = createTempDir("sourceMaps")
+    }
+
+    @TearDown(Level.Trial)
+    fun tearDown() {
+        outputDir.deleteRecursively()
+    }
+
+    @Benchmark
+    fun benchmark(): Long {
+        val outputFile = File(outputDir, "module.js")
+        val sourceMapFile = File(outputDir, "module.js.map")
+
+        if (mode == "streaming") {
+            outputFile.bufferedWriter().use { writer ->
+                sourceMapFile.bufferedWriter().use { sourceMapWriter ->
+                    val textOutput = TextOutputImpl(false, writer)
+                    val sourceMapBuilder = SourceMap3Builder(outputFile, textOutput, "", sourceMapWriter)
+                    module.accept(JsToStringGenerationVisitor(textOutput, consumer(sourceMapBuilder)))
+                    sourceMapBuilder.finish()
+                    sourceMapBuilder.addLink()
+                    textOutput.flush()
+                }
+            }
+        } else {
+            val textOutput = TextOutputImpl()
+            val sourceMapBuilder = SourceMap3Builder(outputFile, textOutput, "")
+            module.accept(JsToStringGenerationVisitor(textOutput, consumer(sourceMapBuilder)))
+            val sourceMapContent = sourceMapBuilder.build()
+            sourceMapBuilder.addLink()
+            outputFile.writeText(textOutput.toString())
+            sourceMapFile.writeText(sourceMapContent)
+        }
+
+        return outputFile.length() + sourceMapFile.length()
+    }
+
+    private fun consumer(sourceMapBuilder: SourceMap3Builder) =
+        SourceMapBuilderConsumer(outputDir, sourceMapBuilder, SourceFilePathResolver(emptyList(), outputDir), true, true)
+
+    // function f<i>(a) { var b = a + <i>; g(b, "<i>"); return b; }, located in one of the FILES sources
+    private fun generateModule(): JsGlobalBlock {
+        val program = JsProgram()
+        val sources = List(FILES) { index ->
+            val content = (0 until size / FILES * LINES_PER_FUNCTION).joinToString("\n") { "    val value$it = compute($index, $it)" }
+            "src/file$index.kt" to content
+        }
+
+        val block = JsGlobalBlock()
+        for (i in 0 until size) {
+            val (path, content) = sources[i % FILES]
+            val line = i / FILES * LINES_PER_FUNCTION
+            fun <T : JsNode> T.at(offset: Int, column: Int): T = apply {
+                source = JsLocationWithEmbeddedSource(JsLocation(path, line + offset, column), null) { StringReader(content) }
+            }
+
+            val function = JsFunction(program.scope, "f$i")
+            val a = function.scope.declareName("a")
+            val b = function.scope.declareName("b")
+            function.parameters += JsParameter(a)
+            function.body.statements += JsVars(
+                JsVars.JsVar(b, JsBinaryOperation(JsBinaryOperator.ADD, a.makeRef().at(1, 8), JsIntLiteral(i).at(1, 12)).at(1, 8))
+            ).at(1, 4)
+            function.body.statements += JsExpressionStatement(
+                JsInvocation(JsNameRef("g").at(2, 4), b.makeRef().at(2, 6), JsStringLiteral("$i").at(2, 9)).at(2, 4)
+            ).at(2, 4)
+            function.body.statements += JsReturn(b.makeRef().at(3, 11)).at(3, 4)
+
+            block.statements += JsExpressionStatement(
+                JsBinaryOperation(JsBinaryOperator.ASG, JsNameRef("f$i", "_").at(0, 0), function.at(0, 0))
+            ).at(0, 0)
+        }
+        return block
+    }
+
+    private companion object {
+        const val FILES = 100
+        const val LINES_PER_FUNCTION = 4
+    }
+}
@@ -37,6 +37,10 @@ open class LookupStorage(
     companion object {
         private val DELETED_TO_SIZE_TRESHOLD = 0.5
         private val MINIMUM_GARBAGE_COLLECTIBLE_SIZE = 10000
+
+        // Version of the format of lookupMap, stored in the counters file.
+        // Version 1 (no version in the file) stored file ids as plain ints, see LegacyLookupMap
+        private val FORMAT_VERSION = 2
     }
 
     private val countersFile = "counters".storageFile
@@ -44,6 +48,9 @@ open class LookupStorage(
     private val fileToId = registerMap(FileToIdMap("file-to-id".storageFile, pathConverter))
     private val lookupMap = registerMap(LookupMap("lookups".storageFile))
 
+    // File ids added since the last flush, sorted. They are written to lookupMap in batch on flush
+    private val pendingLookups = HashMap<LookupSymbolKey, IntArray>()
+
     @Volatile
     private var size: Int = 0
 
@@ -51,24 +58,35 @@ open class LookupStorage(
     private var deletedCount: Int = 0
 
     init {
+        var formatVersion = FORMAT_VERSION
         try {
             if (countersFile.exists()) {
                 val lines = countersFile.readLines()
                 size = lines[0].toInt()
                 deletedCount = lines[1].toInt()
+                formatVersion = lines.getOrNull(2)?.toInt() ?: 1
             }
         } catch (e: Exception) {
             throw IOException("Could not read $countersFile", e)
         }
 
+        if (formatVersion < FORMAT_VERSION) {
+            migrateLegacyLookups()
+        }
     }
 
     @Synchronized
     fun get(lookupSymbol: LookupSymbol): Collection<String> {
         val key = LookupSymbolKey(lookupSymbol.name, lookupSymbol.scope)
-        val fileIds = lookupMap[key] ?: return emptySet()
+        val storedIds = lookupMap[key]
+        val pendingIds = pendingLookups[key]
+        val fileIds = when {
+            storedIds == null -> pendingIds ?: return emptySet()
+            pendingIds == null -> storedIds
+            else -> storedIds.unionSorted(pendingIds)
+        }
 
-        return fileIds.mapNotNull {
+        return fileIds.asList().mapNotNull {
             // null means it's outdated
             idToFile[it]?.path
         }
@@ -81,9 +99,8 @@ open class LookupStorage(
         for (lookupSymbol in lookups.keySet().sorted()) {
             val key = LookupSymbolKey(lookupSymbol.name, lookupSymbol.scope)
             val paths = lookups[lookupSymbol]!!
-            val fileIds = paths.mapTo(TreeSet()) { pathToId[it]!! }
-            fileIds.addAll(lookupMap[key] ?: emptySet())
-            lookupMap[key] = fileIds
+            val fileIds = paths.map { pathToId[it]!! }.toSortedIntArray()
+            pendingLookups[key] = pendingLookups[key]?.unionSorted(fileIds) ?: fileIds
         }
     }
 
@@ -105,6 +122,7 @@ open class LookupStorage(
 
         size = 0
         deletedCount = 0
+        pendingLookups.clear()
 
         super.clean()
     }
@@ -112,15 +130,11 @@ open class LookupStorage(
     @Synchronized
     override fun flush(memoryCachesOnly: Boolean) {
         try {
+            writePendingLookups()
             removeGarbageIfNeeded()
 
             if (size > 0) {
-                if (!countersFile.exists()) {
-                    countersFile.parentFile.mkdirs()
-                    countersFile.createNewFile()
-                }
-
-                countersFile.writeText("$size\n$deletedCount")
+                writeCounters()
             }
         }
         finally {
@@ -128,6 +142,51 @@ open class LookupStorage(
         }
     }
 
+    private fun writeCounters() {
+        if (!countersFile.exists()) {
+            countersFile.parentFile.mkdirs()
+            countersFile.createNewFile()
+        }
+
+        countersFile.writeText("$size\n$deletedCount\n$FORMAT_VERSION")
+    }
+
+    // Only ids which are not stored yet are appended, so that values don't grow when the same files are recompiled
+    private fun writePendingLookups() {
+        for (key in pendingLookups.keys.sorted()) {
+            val fileIds = pendingLookups[key]!!
+            val storedIds = lookupMap[key]
+            val newIds = if (storedIds == null) fileIds else fileIds.subtractSorted(storedIds)
+            if (newIds.isNotEmpty()) {
+                lookupMap.append(key, newIds)
+            }
+        }
+        pendingLookups.clear()
+    }
+
+    // Rewrites lookups stored in the legacy format. Values of the whole map are loaded in memory, in the compact format
+    private fun migrateLegacyLookups() {
+        val lookupsFile = "lookups".storageFile
+        if (!lookupsFile.exists()) return
+
+        val legacyLookupMap = LegacyLookupMap(lookupsFile)
+        val lookups = TreeMap<LookupSymbolKey, IntArray>()
+        try {
+            for (key in legacyLookupMap.keys) {
+                lookups[key] = legacyLookupMap[key]!!.toSortedIntArray()
+            }
+        } finally {
+            legacyLookupMap.close()
+        }
+        legacyLookupMap.clean()
+
+        for ((key, fileIds) in lookups) {
+            lookupMap[key] = fileIds
+        }
+        lookupMap.flush(false)
+        writeCounters()
+    }
+
     private fun addFileIfNeeded(file: File): Int {
         val existing = fileToId[file]
         if (existing != null) return existing
@@ -146,7 +205,7 @@ open class LookupStorage(
 
     private fun doRemoveGarbage() {
         for (hash in lookupMap.keys) {
-            lookupMap[hash] = lookupMap[hash]!!.filter { it in idToFile }.toSet()
+            lookupMap[hash] = lookupMap[hash]!!.filter { it in idToFile }.toIntArray()
         }
 
         val oldFileToId = fileToId.toMap()
@@ -162,7 +221,7 @@ open class LookupStorage(
         }
 
         for (lookup in lookupMap.keys) {
-            val fileIds = lookupMap[lookup]!!.mapNotNull { oldIdToNewId[it] }.toSet()
+            val fileIds = lookupMap[lookup]!!.asList().mapNotNull { oldIdToNewId[it] }.toSortedIntArray()
 
             if (fileIds.isEmpty()) {
                 lookupMap.remove(lookup)
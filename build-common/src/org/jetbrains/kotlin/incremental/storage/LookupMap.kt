@@ -18,18 +18,19 @@ package org.jetbrains.kotlin.incremental.storage
 
 import java.io.File
 
-internal class LookupMap(storage: File) : BasicMap<LookupSymbolKey, Collection<Int>>(storage, LookupSymbolKeyDescriptor, IntCollectionExternalizer) {
+internal class LookupMap(storage: File) : BasicMap<LookupSymbolKey, IntArray>(storage, LookupSymbolKeyDescriptor, SortedIntArrayExternalizer) {
     override fun dumpKey(key: LookupSymbolKey): String = key.toString()
 
-    override fun dumpValue(value: Collection<Int>): String = value.toString()
+    override fun dumpValue(value: IntArray): String = value.contentToString()
 
-    fun add(name: String, scope: String, fileId: Int) {
-        storage.append(LookupSymbolKey(name, scope), listOf(fileId))
+    // Adds sorted distinct file ids to the ones already stored for the key, without rewriting them
+    fun append(key: LookupSymbolKey, fileIds: IntArray) {
+        storage.append(key, fileIds)
     }
 
-    operator fun get(key: LookupSymbolKey): Collection<Int>? = storage[key]
+    operator fun get(key: LookupSymbolKey): IntArray? = storage[key]
 
-    operator fun set(key: LookupSymbolKey, fileIds: Set<Int>) {
+    operator fun set(key: LookupSymbolKey, fileIds: IntArray) {
         storage[key] = fileIds
     }
 
@@ -40,3 +41,16 @@ internal class LookupMap(storage: File) : BasicMap<LookupSymbolKey, Collection<I
     val keys: Collection<LookupSymbolKey>
         get() = storage.keys
 }
+
+// The format of lookups used before LookupMap, where file ids were stored as plain ints. Only used to migrate existing caches
+internal class LegacyLookupMap(storage: File) :
+    BasicMap<LookupSymbolKey, Collection<Int>>(storage, LookupSymbolKeyDescriptor, IntCollectionExternalizer) {
+    override fun dumpKey(key: LookupSymbolKey): String = key.toString()
+
+    override fun dumpValue(value: Collection<Int>): String = value.toString()
+
+    operator fun get(key: LookupSymbolKey): Collection<Int>? = storage[key]
+
+    val keys: Collection<LookupSymbolKey>
+        get() = storage.keys
+}
@@ -18,6 +18,7 @@ package org.jetbrains.kotlin.incremental.storage
 
 import com.intellij.openapi.util.io.FileUtil
 import com.intellij.util.io.DataExternalizer
+import com.intellij.util.io.DataInputOutputUtil
 import com.intellij.util.io.EnumeratorStringDescriptor
 import com.intellij.util.io.IOUtil
 import com.intellij.util.io.KeyDescriptor
@@ -200,3 +201,81 @@ open class CollectionExternalizer<T>(
 object StringCollectionExternalizer : CollectionExternalizer<String>(EnumeratorStringDescriptor(), { HashSet() })
 
 object IntCollectionExternalizer : CollectionExternalizer<Int>(IntExternalizer, { HashSet() })
+
+/**
+ * Stores sorted arrays of distinct non-negative ints (e.g. file ids) as a count followed by varint-encoded differences
+ * between consecutive elements. Arrays may be appended to an existing value, so a value is read as a union of all its chunks.
+ */
+object SortedIntArrayExternalizer : DataExternalizer<IntArray> {
+    override fun save(output: DataOutput, value: IntArray) {
+        DataInputOutputUtil.writeINT(output, value.size)
+        var previous = 0
+        for (element in value) {
+            DataInputOutputUtil.writeINT(output, element - previous)
+            previous = element
+        }
+    }
+
+    override fun read(input: DataInput): IntArray {
+        val stream = input as DataInputStream
+        var result: IntArray? = null
+
+        while (stream.available() > 0) {
+            val chunk = readChunk(stream)
+            result = if (result == null) chunk else result.unionSorted(chunk)
+        }
+
+        return result ?: EMPTY_INT_ARRAY
+    }
+
+    private fun readChunk(input: DataInput): IntArray {
+        val size = DataInputOutputUtil.readINT(input)
+        var previous = 0
+        return IntArray(size) {
+            previous += DataInputOutputUtil.readINT(input)
+            previous
+        }
+    }
+}
+
+private val EMPTY_INT_ARRAY = IntArray(0)
+
+// Both arrays must be sorted and contain distinct elements, as well as the result
+internal fun IntArray.unionSorted(other: IntArray): IntArray {
+    if (other.isEmpty()) return this
+    if (isEmpty()) return other
+
+    val result = IntArray(size + other.size)
+    var i = 0
+    var j = 0
+    var k = 0
+    while (i < size && j < other.size) {
+        val a = this[i]
+        val b = other[j]
+        result[k++] = if (a <= b) a else b
+        if (a <= b) i++
+        if (b <= a) j++
+    }
+    while (i < size) result[k++] = this[i++]
+    while (j < other.size) result[k++] = other[j++]
+
+    return if (k == result.size) result else result.copyOf(k)
+}
+
+// Elements of this array which are not in the other one. Both arrays must be sorted and contain distinct elements
+internal fun IntArray.subtractSorted(other: IntArray): IntArray {
+    if (isEmpty() || other.isEmpty()) return this
+
+    val result = IntArray(size)
+    var j = 0
+    var k = 0
+    for (element in this) {
+        while (j < other.size && other[j] < element) j++
+        if (j == other.size || other[j] != element) result[k++] = element
+    }
+
+    return if (k == size) this else result.copyOf(k)
+}
+
+internal fun Collection<Int>.toSortedIntArray(): IntArray =
+    toSortedSet().toIntArray()
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.incremental.storage
+
+import com.intellij.util.containers.MultiMap
+import org.jetbrains.kotlin.TestWithWorkingDir
+import org.jetbrains.kotlin.incremental.LookupStorage
+import org.jetbrains.kotlin.incremental.LookupSymbol
+import org.junit.Test
+import java.io.File
+
+class LookupStorageMigrationTest : TestWithWorkingDir() {
+    @Test
+    fun testMigrationFromLegacyFormat() {
+        val storageRoot = workingDir.resolve("storage")
+        val pathConverter = RelativeFileToPathConverter(workingDir)
+        val symbols = (0..2).map { LookupSymbol(name = "MyClass_$it", scope = "myscope_$it") }
+        val paths = (0..2).map { workingDir.resolve("src/File$it.kt").canonicalFile.invariantSeparatorsPath }
+
+        // Fills the file id maps, the lookups are then rewritten in the format which was used before the format version was stored
+        val lookups = MultiMap.createOrderedSet<LookupSymbol, String>()
+        symbols.forEachIndexed { i, symbol -> lookups.putValues(symbol, paths.take(i + 1)) }
+        val expected = LookupStorage(storageRoot, pathConverter).run {
+            addAll(lookups, paths.toSet())
+            flush(memoryCachesOnly = false)
+            val result = symbols.map { get(it).toSet() }
+            close()
+            result
+        }
+
+        val lookupsFile = File(storageRoot, "lookups.${BasicMapsOwner.CACHE_EXTENSION}")
+        LegacyLookupMapWriter(lookupsFile).run {
+            clean()
+            symbols.forEachIndexed { i, symbol -> this[LookupSymbolKey(symbol.name, symbol.scope)] = (0..i).toSet() }
+            flush(memoryCachesOnly = false)
+            close()
+        }
+        val countersFile = File(storageRoot, "counters.${BasicMapsOwner.CACHE_EXTENSION}")
+        countersFile.writeText("${paths.size}\n0")
+
+        LookupStorage(storageRoot, pathConverter).run {
+            assertEquals(expected, symbols.map { get(it).toSet() })
+            close()
+        }
+        assertEquals("2", countersFile.readLines()[2])
+
+        // Migrated lookups are read in the new format, and new lookups are appended to them
+        val newPath = workingDir.resolve("src/File3.kt").canonicalFile.invariantSeparatorsPath
+        LookupStorage(storageRoot, pathConverter).run {
+            assertEquals(expected, symbols.map { get(it).toSet() })
+            addAll(MultiMap.createOrderedSet<LookupSymbol, String>().apply { putValue(symbols[0], newPath) }, setOf(newPath))
+            flush(memoryCachesOnly = false)
+            val fileIds = get(symbols[0])
+            assertEquals(expected[0].size + 1, fileIds.size)
+            assertTrue(fileIds.containsAll(expected[0]))
+            close()
+        }
+    }
+
+    private class LegacyLookupMapWriter(storage: File) :
+        BasicMap<LookupSymbolKey, Collection<Int>>(storage, LookupSymbolKeyDescriptor, IntCollectionExternalizer) {
+        override fun dumpKey(key: LookupSymbolKey): String = key.toString()
+
+        override fun dumpValue(value: Collection<Int>): String = value.toString()
+
+        operator fun set(key: LookupSymbolKey, fileIds: Collection<Int>) {
+            storage[key] = fileIds
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.incremental.storage
+
+import junit.framework.TestCase
+import org.junit.Test
+import java.io.ByteArrayInputStream
+import java.io.ByteArrayOutputStream
+import java.io.DataInputStream
+import java.io.DataOutputStream
+
+class SortedIntArrayExternalizerTest : TestCase() {
+    @Test
+    fun testRoundTrip() {
+        for (value in listOf(intArrayOf(), intArrayOf(0), intArrayOf(1, 2, 3), intArrayOf(0, 127, 128, 16384, Int.MAX_VALUE))) {
+            assertArrayEquals(value, read(write(value)))
+        }
+    }
+
+    @Test
+    fun testAppendedChunksAreMerged() {
+        val bytes = write(intArrayOf(1, 5, 9)) + write(intArrayOf()) + write(intArrayOf(2, 5, 10))
+        assertArrayEquals(intArrayOf(1, 2, 5, 9, 10), read(bytes))
+    }
+
+    @Test
+    fun testUnionSorted() {
+        assertArrayEquals(intArrayOf(), intArrayOf().unionSorted(intArrayOf()))
+        assertArrayEquals(intArrayOf(1, 2), intArrayOf().unionSorted(intArrayOf(1, 2)))
+        assertArrayEquals(intArrayOf(1, 2), intArrayOf(1, 2).unionSorted(intArrayOf()))
+        assertArrayEquals(intArrayOf(1, 2, 3), intArrayOf(1, 2, 3).unionSorted(intArrayOf(1, 2, 3)))
+        assertArrayEquals(intArrayOf(1, 2, 3, 4, 5), intArrayOf(1, 3, 5).unionSorted(intArrayOf(2, 3, 4)))
+        assertArrayEquals(intArrayOf(1, 2, 3, 4), intArrayOf(3, 4).unionSorted(intArrayOf(1, 2)))
+    }
+
+    @Test
+    fun testSubtractSorted() {
+        assertArrayEquals(intArrayOf(), intArrayOf().subtractSorted(intArrayOf()))
+        assertArrayEquals(intArrayOf(), intArrayOf().subtractSorted(intArrayOf(1, 2)))
+        assertArrayEquals(intArrayOf(1, 2), intArrayOf(1, 2).subtractSorted(intArrayOf()))
+        assertArrayEquals(intArrayOf(), intArrayOf(1, 2, 3).subtractSorted(intArrayOf(1, 2, 3)))
+        assertArrayEquals(intArrayOf(1, 5), intArrayOf(1, 3, 5).subtractSorted(intArrayOf(2, 3, 4)))
+        assertArrayEquals(intArrayOf(3, 4), intArrayOf(3, 4).subtractSorted(intArrayOf(1, 2, 5)))
+    }
+
+    private fun write(value: IntArray): ByteArray {
+        val bytes = ByteArrayOutputStream()
+        DataOutputStream(bytes).use { SortedIntArrayExternalizer.save(it, value) }
+        return bytes.toByteArray()
+    }
+
+    private fun read(bytes: ByteArray): IntArray =
+        DataInputStream(ByteArrayInputStream(bytes)).use { SortedIntArrayExternalizer.read(it) }
+
+    private fun assertArrayEquals(expected: IntArray, actual: IntArray) {
+        assertEquals(expected.contentToString(), actual.contentToString())
+    }
+}
@@ -59,6 +59,9 @@ public class ClassFileFactory implements OutputFileCollection {
     private final ClassBuilderFactory builderFactory;
     private final Map<String, OutAndSourceFileList> generators = new LinkedHashMap<>();
 
+    // Outputs of the current thread which are not yet visible in the factory, see generateDeferred
+    private final ThreadLocal<Map<String, OutAndSourceFileList>> deferredGenerators = new ThreadLocal<>();
+
     private boolean isDone = false;
 
     private final Set<File> sourceFiles = new HashSet<>();
@@ -93,7 +96,7 @@ public class ClassFileFactory implements OutputFileCollection {
             @NotNull Collection<? extends PsiFile> sourceFiles
     ) {
         ClassBuilder answer = builderFactory.newClassBuilder(origin);
-        generators.put(
+        addGenerator(
                 asmType.getInternalName() + ".class",
                 new ClassBuilderAndSourceFileList(answer, toIoFilesIgnoringNonPhysical(sourceFiles))
         );
@@ -107,13 +110,49 @@ public class ClassFileFactory implements OutputFileCollection {
             @NotNull List<File> sourceFiles
     ) {
         ClassBuilder answer = builderFactory.newClassBuilder(origin);
-        generators.put(
+        addGenerator(
                 asmType.getInternalName() + ".class",
                 new ClassBuilderAndSourceFileList(answer, sourceFiles)
         );
         return answer;
     }
 
+    private void addGenerator(@NotNull String relativePath, @NotNull OutAndSourceFileList generator) {
+        Map<String, OutAndSourceFileList> deferred = deferredGenerators.get();
+        if (deferred != null) {
+            deferred.put(relativePath, generator);
+            return;
+        }
+        synchronized (generators) {
+            generators.put(relativePath, generator);
+        }
+    }
+
+    /**
+     * Runs the generation so that the classes it creates in the current thread are not added to this factory until
+     * {@link #commitDeferred} is called. This allows generating independent files in several threads while keeping
+     * the order of the output files the same as in the sequential generation.
+     */
+    @NotNull
+    public DeferredOutput generateDeferred(@NotNull Runnable generation) {
+        assert deferredGenerators.get() == null : "Deferred generation can't be nested";
+        Map<String, OutAndSourceFileList> deferred = new LinkedHashMap<>();
+        deferredGenerators.set(deferred);
+        try {
+            generation.run();
+        }
+        finally {
+            deferredGenerators.remove();
+        }
+        return new DeferredOutput(deferred);
+    }
+
+    public void commitDeferred(@NotNull DeferredOutput output) {
+        synchronized (generators) {
+            generators.putAll(output.generators);
+        }
+    }
+
     public void done() {
         if (!isDone) {
             isDone = true;
@@ -122,7 +161,9 @@ public class ClassFileFactory implements OutputFileCollection {
     }
 
     public void releaseGeneratedOutput() {
-        generators.clear();
+        synchronized (generators) {
+            generators.clear();
+        }
     }
 
     private void writeModuleMappings() {
@@ -140,7 +181,7 @@ public class ClassFileFactory implements OutputFileCollection {
 
         JvmModuleProtoBuf.Module moduleProto = builder.build();
 
-        generators.put(outputFilePath, new OutAndSourceFileList(CollectionsKt.toList(sourceFiles)) {
+        addGenerator(outputFilePath, new OutAndSourceFileList(CollectionsKt.toList(sourceFiles)) {
             @Override
             public byte[] asBytes(ClassBuilderFactory factory) {
                 int flags = 0;
@@ -189,13 +230,24 @@ public class ClassFileFactory implements OutputFileCollection {
 
     @NotNull
     public List<OutputFile> getCurrentOutput() {
-        return CollectionsKt.map(generators.keySet(), OutputClassFile::new);
+        synchronized (generators) {
+            return CollectionsKt.map(generators.keySet(), OutputClassFile::new);
+        }
     }
 
     @Override
     @Nullable
     public OutputFile get(@NotNull String relativePath) {
-        return generators.containsKey(relativePath) ? new OutputClassFile(relativePath) : null;
+        synchronized (generators) {
+            return generators.containsKey(relativePath) ? new OutputClassFile(relativePath) : null;
+        }
+    }
+
+    @Nullable
+    private OutAndSourceFileList getGenerator(@NotNull String relativePath) {
+        synchronized (generators) {
+            return generators.get(relativePath);
+        }
     }
 
     @NotNull
@@ -264,7 +316,9 @@ public class ClassFileFactory implements OutputFileCollection {
     }
 
     private void registerSourceFiles(Collection<KtFile> files) {
-        sourceFiles.addAll(toIoFilesIgnoringNonPhysical(files));
+        synchronized (sourceFiles) {
+            sourceFiles.addAll(toIoFilesIgnoringNonPhysical(files));
+        }
     }
 
     @NotNull
@@ -297,7 +351,7 @@ public class ClassFileFactory implements OutputFileCollection {
         @NotNull
         @Override
         public List<File> getSourceFiles() {
-            OutAndSourceFileList pair = generators.get(relativeClassFilePath);
+            OutAndSourceFileList pair = getGenerator(relativeClassFilePath);
             if (pair == null) {
                 throw new IllegalStateException("No record for binary file " + relativeClassFilePath);
             }
@@ -309,7 +363,7 @@ public class ClassFileFactory implements OutputFileCollection {
         @Override
         public byte[] asByteArray() {
             try {
-                return generators.get(relativeClassFilePath).asBytes(builderFactory);
+                return getGenerator(relativeClassFilePath).asBytes(builderFactory);
             }
             catch (RuntimeException e) {
                 throw new RuntimeException("Error generating class file " + this.toString() + ": " + e.getMessage(), e);
@@ -320,7 +374,7 @@ public class ClassFileFactory implements OutputFileCollection {
         @Override
         public String asText() {
             try {
-                return generators.get(relativeClassFilePath).asText(builderFactory);
+                return getGenerator(relativeClassFilePath).asText(builderFactory);
             }
             catch (RuntimeException e) {
                 throw new RuntimeException("Error generating class file " + this.toString() + ": " + e.getMessage(), e);
@@ -366,9 +420,19 @@ public class ClassFileFactory implements OutputFileCollection {
         public abstract String asText(ClassBuilderFactory factory);
     }
 
+    public static final class DeferredOutput {
+        private final Map<String, OutAndSourceFileList> generators;
+
+        private DeferredOutput(@NotNull Map<String, OutAndSourceFileList> generators) {
+            this.generators = generators;
+        }
+    }
+
     public void removeClasses(Set<String> classNamesToRemove) {
-        for (String classInternalName : classNamesToRemove) {
-            generators.remove(classInternalName + ".class");
+        synchronized (generators) {
+            for (String classInternalName : classNamesToRemove) {
+                generators.remove(classInternalName + ".class");
+            }
         }
     }
 
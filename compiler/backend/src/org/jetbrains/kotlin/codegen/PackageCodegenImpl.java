@@ -38,6 +38,7 @@ import org.jetbrains.kotlin.resolve.BindingContext;
 import org.jetbrains.kotlin.resolve.checkers.ExpectedActualDeclarationChecker;
 import org.jetbrains.kotlin.resolve.jvm.diagnostics.JvmDeclarationOriginKt;
 import org.jetbrains.kotlin.resolve.lazy.descriptors.PackageDescriptorUtilKt;
+import org.jetbrains.kotlin.util.PerformanceTracer;
 import org.jetbrains.kotlin.utils.KotlinExceptionWithAttachments;
 import org.jetbrains.org.objectweb.asm.Type;
 
@@ -66,6 +67,11 @@ public class PackageCodegenImpl implements PackageCodegen {
     public void generate() {
         for (KtFile file : files) {
             ProgressIndicatorAndCompilationCanceledStatus.checkCanceled();
+            PerformanceTracer tracer = state.getPerformanceTracer();
+            if (tracer != null) {
+                VirtualFile vFile = file.getVirtualFile();
+                tracer.start(vFile == null ? file.getName() : vFile.getPath(), PerformanceTracer.CODEGEN_CATEGORY);
+            }
             try {
                 generateFile(file);
                 state.afterIndependentPart();
@@ -77,6 +83,11 @@ public class PackageCodegenImpl implements PackageCodegen {
                 VirtualFile vFile = file.getVirtualFile();
                 CodegenUtil.reportBackendException(e, "file facade code generation", vFile == null ? null : vFile.getUrl());
             }
+            finally {
+                if (tracer != null) {
+                    tracer.finish();
+                }
+            }
         }
     }
 
@@ -65,11 +65,30 @@ abstract class TransformationMethodVisitor(
 
         super.visitEnd()
 
+        if (!deferTransformation()) {
+            transform()
+            emit()
+        }
+    }
+
+    /**
+     * Called when the method node is complete. If it returns true, the method is neither transformed nor emitted to the delegate
+     * in [visitEnd], and the caller is responsible for calling [transform] and then [emit] later.
+     */
+    protected open fun deferTransformation(): Boolean = false
+
+    fun transform() {
         try {
             if (shouldBeTransformed(methodNode)) {
                 performTransformations(methodNode)
             }
+        } catch (t: Throwable) {
+            throw CompilationException("Couldn't transform method node:\n" + methodNode.nodeText, t, null)
+        }
+    }
 
+    fun emit() {
+        try {
             methodNode.accept(EndIgnoringMethodVisitorDecorator(Opcodes.API_VERSION, delegate))
 
 
@@ -22,16 +22,18 @@ import org.jetbrains.org.objectweb.asm.commons.Method
 
 data class MethodId(val ownerInternalName: String, val method: Method)
 
-class InlineCache {
+class InlineCache(val persistentCache: PersistentInlineFunctionCache? = null) {
     val classBytes: SLRUMap<ClassId, ByteArray> = SLRUMap(30, 20)
     val methodNodeById: SLRUMap<MethodId, SMAPAndMethodNode> = SLRUMap(60, 50)
 }
 
+// The cache may be shared by several threads generating code in parallel, so the map is guarded by its own monitor.
+// The value is computed outside of the lock; if two threads miss the same key, both compute it and the last one wins.
 inline fun <K, V> SLRUMap<K, V>.getOrPut(key: K, defaultValue: () -> V): V {
-    val value = get(key)
+    val value = synchronized(this) { get(key) }
     return if (value == null) {
         val answer = defaultValue()
-        put(key, answer)
+        synchronized(this) { put(key, answer) }
         answer
     } else {
         value
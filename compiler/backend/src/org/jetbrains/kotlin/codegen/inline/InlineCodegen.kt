@@ -17,6 +17,7 @@ import org.jetbrains.kotlin.codegen.intrinsics.IntrinsicArrayConstructors
 import org.jetbrains.kotlin.codegen.state.GenerationState
 import org.jetbrains.kotlin.codegen.state.KotlinTypeMapper
 import org.jetbrains.kotlin.descriptors.*
+import org.jetbrains.kotlin.name.ClassId
 import org.jetbrains.kotlin.name.Name
 import org.jetbrains.kotlin.renderer.DescriptorRenderer
 import org.jetbrains.kotlin.resolve.DescriptorToSourceUtils
@@ -33,6 +34,7 @@ import org.jetbrains.kotlin.types.TypeSystemCommonBackendContext
 import org.jetbrains.kotlin.types.expressions.ExpressionTypingUtils.isFunctionLiteral
 import org.jetbrains.kotlin.types.expressions.LabelResolver
 import org.jetbrains.kotlin.types.model.TypeParameterMarker
+import org.jetbrains.kotlin.util.PerformanceTracer
 import org.jetbrains.org.objectweb.asm.Label
 import org.jetbrains.org.objectweb.asm.Opcodes
 import org.jetbrains.org.objectweb.asm.Type
@@ -134,6 +136,8 @@ abstract class InlineCodegen<out T : BaseExpressionCodegen>(
         mapDefaultSignature: Boolean,
         typeSystem: TypeSystemCommonBackendContext
     ) {
+        val tracer = state.performanceTracer
+        tracer?.start("${methodOwner.internalName}.${jvmSignature.asmMethod.name}", PerformanceTracer.INLINE_CATEGORY)
         var nodeAndSmap: SMAPAndMethodNode? = null
         try {
             nodeAndSmap = createInlineMethodNode(
@@ -146,6 +150,8 @@ abstract class InlineCodegen<out T : BaseExpressionCodegen>(
             throw throwCompilationException(nodeAndSmap, e, false)
         } catch (e: Exception) {
             throw throwCompilationException(nodeAndSmap, e, true)
+        } finally {
+            tracer?.finish()
         }
     }
 
@@ -628,13 +634,21 @@ abstract class InlineCodegen<out T : BaseExpressionCodegen>(
 
             val containerId = containingClasses.implClassId
 
-            val bytes = state.inlineCache.classBytes.getOrPut(containerId) {
-                findVirtualFile(state, containerId)?.contentsToByteArray()
-                    ?: throw IllegalStateException("Couldn't find declaration file for $containerId")
+            val classType = AsmUtil.asmTypeByClassId(containerId)
+            val persistentCache = state.inlineCache.persistentCache
+            // Classes from directories aren't cached on disk, their bytes are kept in memory by loadClassBytes
+            val file = if (persistentCache != null) {
+                findVirtualFile(state, containerId)?.takeIf(persistentCache::isCacheable)
+            } else null
+            val bytes = if (persistentCache != null && file != null) {
+                persistentCache.getOrPut(file, MethodId(classType.internalName, asmMethod)) {
+                    extractMethodClass(loadClassBytes(containerId, state), asmMethod.name, asmMethod.descriptor)
+                } ?: return null
+            } else {
+                loadClassBytes(containerId, state)
             }
 
-            val methodNode =
-                getMethodNode(bytes, asmMethod.name, asmMethod.descriptor, AsmUtil.asmTypeByClassId(containerId)) ?: return null
+            val methodNode = getMethodNode(bytes, asmMethod.name, asmMethod.descriptor, classType) ?: return null
 
             // KLUDGE: Inline suspend function built with compiler version less than 1.1.4/1.2-M1 did not contain proper
             // before/after suspension point marks, so we detect those functions here and insert the corresponding marks
@@ -645,6 +659,12 @@ abstract class InlineCodegen<out T : BaseExpressionCodegen>(
             return methodNode
         }
 
+        private fun loadClassBytes(containerId: ClassId, state: GenerationState): ByteArray =
+            state.inlineCache.classBytes.getOrPut(containerId) {
+                findVirtualFile(state, containerId)?.contentsToByteArray()
+                    ?: throw IllegalStateException("Couldn't find declaration file for $containerId")
+            }
+
         private fun isBuiltInArrayIntrinsic(callableDescriptor: CallableMemberDescriptor): Boolean {
             if (callableDescriptor is FictitiousArrayConstructor) return true
             val name = callableDescriptor.name.asString()
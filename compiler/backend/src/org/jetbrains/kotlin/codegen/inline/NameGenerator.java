@@ -47,12 +47,13 @@ public class NameGenerator {
         return generatorClass + "$" + nextWhenIndex++ + WhenMappingTransformationInfo.TRANSFORMED_WHEN_MAPPING_MARKER + original;
     }
 
-    public NameGenerator subGenerator(String inliningMethod) {
+    // Generators of the regenerated objects may be shared by several threads generating code in parallel
+    public synchronized NameGenerator subGenerator(String inliningMethod) {
         return subGenerators.computeIfAbsent(inliningMethod, method -> new NameGenerator(generatorClass + "$" + method));
     }
 
     @NotNull
-    public NameGenerator subGenerator(boolean lambdaNoWhen, @Nullable String nameSuffix) {
+    public synchronized NameGenerator subGenerator(boolean lambdaNoWhen, @Nullable String nameSuffix) {
         String generatorClass = lambdaNoWhen ? genLambdaClassName() : genWhenClassName(nameSuffix);
         assert !subGenerators.containsKey(generatorClass) : "Name generator for regenerated class should be unique: " + generatorClass;
         NameGenerator generator = new NameGenerator(generatorClass);
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.codegen.inline
+
+import com.intellij.openapi.util.io.FileUtil
+import com.intellij.openapi.vfs.VirtualFile
+import com.intellij.util.io.URLUtil
+import org.jetbrains.kotlin.utils.fileUtils.writeAtomically
+import org.jetbrains.kotlin.utils.strings.toHexString
+import java.io.*
+import java.security.MessageDigest
+
+/**
+ * On-disk cache of bytecode of inline functions loaded from library jars, shared by all modules and compilations which use
+ * the same [directory].
+ *
+ * The key is the hash of the path, size and timestamp of the jar, the path of the class in it and the method signature, so that
+ * jars aren't read to find out whether their entries are up to date. A jar which is rewritten with the same size and timestamp
+ * (e.g. on a file system with a coarse timestamp resolution) is not noticed, the same assumption is made by incremental compilation.
+ * Entries are written atomically, so the cache can be safely shared by concurrent compiler processes. Each entry is a class file
+ * with only the source debug information and the method, see [extractMethodClass]. When the total size of the entries exceeds
+ * [maxSize], the least recently used ones are deleted.
+ *
+ * Only classes from jars are cached, see [isCacheable].
+ */
+class PersistentInlineFunctionCache(val directory: File, private val maxSize: Long) {
+    private var size: Long = -1
+
+    fun isCacheable(classFile: VirtualFile): Boolean =
+        classFile.path.contains(URLUtil.JAR_SEPARATOR)
+
+    fun getOrPut(classFile: VirtualFile, methodId: MethodId, compute: () -> ByteArray?): ByteArray? {
+        val key = computeKey(classFile, methodId) ?: return compute()
+        val entry = File(directory, "$key$ENTRY_EXTENSION")
+
+        readEntry(entry)?.let { return it }
+
+        val bytes = compute() ?: return null
+        writeEntry(entry, bytes)
+        return bytes
+    }
+
+    private fun computeKey(classFile: VirtualFile, methodId: MethodId): String? {
+        val path = classFile.path
+        val separator = path.indexOf(URLUtil.JAR_SEPARATOR)
+        if (separator < 0) return null
+
+        val jar = File(path.substring(0, separator))
+        val lastModified = jar.lastModified()
+        if (lastModified == 0L) return null
+
+        val jarId = "${jar.absolutePath}:${jar.length()}:$lastModified"
+        val pathInJar = path.substring(separator + URLUtil.JAR_SEPARATOR.length)
+        return sha1("$jarId!$pathInJar!${methodId.ownerInternalName}.${methodId.method.name}${methodId.method.descriptor}".toByteArray())
+    }
+
+    private fun readEntry(entry: File): ByteArray? {
+        try {
+            DataInputStream(BufferedInputStream(FileInputStream(entry))).use { input ->
+                if (input.readInt() != FORMAT_VERSION) return null
+                val bytes = ByteArray(input.readInt())
+                input.readFully(bytes)
+                entry.setLastModified(System.currentTimeMillis())
+                return bytes
+            }
+        } catch (e: IOException) {
+            // The entry is either absent or being written by another process at the moment
+            return null
+        }
+    }
+
+    private fun writeEntry(entry: File, bytes: ByteArray) {
+        // The cache is an optimization only, failing to write an entry is not a reason to fail the compilation
+        val written = entry.writeAtomically { temp ->
+            DataOutputStream(BufferedOutputStream(FileOutputStream(temp))).use { output ->
+                output.writeInt(FORMAT_VERSION)
+                output.writeInt(bytes.size)
+                output.write(bytes)
+            }
+        }
+        if (written) {
+            entryAdded(entry.length())
+        }
+    }
+
+    @Synchronized
+    private fun entryAdded(entrySize: Long) {
+        if (size < 0) {
+            size = listEntries().fold(0L) { sum, entry -> sum + entry.length() }
+        } else {
+            size += entrySize
+        }
+        if (size <= maxSize) return
+
+        // Evict down to a fraction of the limit, so that the directory isn't listed on each new entry
+        for (entry in listEntries().sortedBy { it.lastModified() }) {
+            if (size <= maxSize * 3 / 4) break
+            val length = entry.length()
+            if (FileUtil.delete(entry)) {
+                size -= length
+            }
+        }
+    }
+
+    private fun listEntries(): List<File> =
+        directory.listFiles { file -> file.name.endsWith(ENTRY_EXTENSION) }?.toList().orEmpty()
+
+    companion object {
+        private const val FORMAT_VERSION = 1
+        private const val ENTRY_EXTENSION = ".inline"
+
+        const val DEFAULT_MAX_SIZE_MB = 256
+
+        private fun sha1(bytes: ByteArray): String =
+            MessageDigest.getInstance("SHA-1").digest(bytes).toHexString()
+    }
+}
@@ -140,6 +140,39 @@ internal fun getMethodNode(
     return SMAPAndMethodNode(node!!, smap)
 }
 
+/**
+ * Returns a class file with only the source debug information of the class and the given method, or null if there's no such method.
+ * The result of [getMethodNode] for it is the same as for the original class, so it's used to store the method in
+ * [PersistentInlineFunctionCache].
+ */
+internal fun extractMethodClass(classData: ByteArray, methodName: String, methodDescriptor: String): ByteArray? {
+    val writer = ClassWriter(0)
+    var found = false
+    ClassReader(classData).accept(object : ClassVisitor(Opcodes.API_VERSION, writer) {
+        override fun visitMethod(
+            access: Int,
+            name: String,
+            desc: String,
+            signature: String?,
+            exceptions: Array<String>?
+        ): MethodVisitor? {
+            if (methodName != name || methodDescriptor != desc) return null
+            found = true
+            return super.visitMethod(access, name, desc, signature, exceptions)
+        }
+
+        override fun visitField(access: Int, name: String, descriptor: String, signature: String?, value: Any?): FieldVisitor? = null
+        override fun visitAnnotation(descriptor: String, visible: Boolean): AnnotationVisitor? = null
+        override fun visitTypeAnnotation(typeRef: Int, typePath: TypePath?, descriptor: String, visible: Boolean): AnnotationVisitor? = null
+        override fun visitAttribute(attribute: Attribute) {}
+        override fun visitInnerClass(name: String, outerName: String?, innerName: String?, access: Int) {}
+        override fun visitOuterClass(owner: String, name: String?, descriptor: String?) {}
+        override fun visitNestHost(nestHost: String) {}
+        override fun visitNestMember(nestMember: String) {}
+    }, ClassReader.SKIP_FRAMES or if (GENERATE_SMAP) 0 else ClassReader.SKIP_DEBUG)
+    return if (found) writer.toByteArray() else null
+}
+
 internal fun findVirtualFile(state: GenerationState, classId: ClassId): VirtualFile? {
     return VirtualFileFinder.getInstance(state.project, state.module).findVirtualFileWithHeader(classId)
 }
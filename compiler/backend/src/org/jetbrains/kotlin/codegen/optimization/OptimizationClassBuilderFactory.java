@@ -17,7 +17,9 @@
 package org.jetbrains.kotlin.codegen.optimization;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.kotlin.codegen.ClassBuilder;
 import org.jetbrains.kotlin.codegen.ClassBuilderFactory;
+import org.jetbrains.kotlin.codegen.DelegatingClassBuilder;
 import org.jetbrains.kotlin.codegen.DelegatingClassBuilderFactory;
 import org.jetbrains.kotlin.codegen.state.GenerationState;
 import org.jetbrains.kotlin.resolve.jvm.diagnostics.JvmDeclarationOrigin;
@@ -32,7 +34,11 @@ public class OptimizationClassBuilderFactory extends DelegatingClassBuilderFacto
 
     @NotNull
     @Override
-    public OptimizationClassBuilder newClassBuilder(@NotNull JvmDeclarationOrigin origin) {
-        return new OptimizationClassBuilder(getDelegate().newClassBuilder(origin), generationState);
+    public DelegatingClassBuilder newClassBuilder(@NotNull JvmDeclarationOrigin origin) {
+        ClassBuilder delegate = getDelegate().newClassBuilder(origin);
+        if (generationState.getParallelMethodOptimization()) {
+            return new ParallelOptimizationClassBuilder(delegate, generationState);
+        }
+        return new OptimizationClassBuilder(delegate, generationState);
     }
 }
@@ -20,21 +20,25 @@ import org.jetbrains.kotlin.codegen.TransformationMethodVisitor
 import org.jetbrains.kotlin.codegen.optimization.boxing.PopBackwardPropagationTransformer
 import org.jetbrains.kotlin.codegen.optimization.boxing.RedundantBoxingMethodTransformer
 import org.jetbrains.kotlin.codegen.optimization.boxing.StackPeepholeOptimizationsTransformer
+import org.jetbrains.kotlin.codegen.optimization.common.InsnSequence
 import org.jetbrains.kotlin.codegen.optimization.common.prepareForEmitting
 import org.jetbrains.kotlin.codegen.optimization.nullCheck.RedundantNullCheckMethodTransformer
 import org.jetbrains.kotlin.codegen.optimization.transformer.CompositeMethodTransformer
 import org.jetbrains.kotlin.codegen.state.GenerationState
 import org.jetbrains.org.objectweb.asm.MethodVisitor
+import org.jetbrains.org.objectweb.asm.tree.AbstractInsnNode
 import org.jetbrains.org.objectweb.asm.tree.MethodNode
 
-class OptimizationMethodVisitor(
+class OptimizationMethodVisitor @JvmOverloads constructor(
     delegate: MethodVisitor,
     private val generationState: GenerationState,
     access: Int,
     name: String,
     desc: String,
     signature: String?,
-    exceptions: Array<String>?
+    exceptions: Array<String>?,
+    // If not null, transformations are not performed in visitEnd, but the visitor is passed to this callback instead
+    private val deferTransformationTo: ((OptimizationMethodVisitor) -> Unit)? = null
 ) : TransformationMethodVisitor(delegate, access, name, desc, signature, exceptions) {
     private val constructorCallNormalizationTransformer =
         UninitializedStoresMethodTransformer(generationState.constructorCallNormalizationMode)
@@ -58,12 +62,31 @@ class OptimizationMethodVisitor(
         MethodVerifier("AFTER optimizations")
     )
 
+    // Optimizations which don't need frames of all instructions at once, used for methods too big for optimizationTransformer.
+    // RedundantBoxingMethodTransformer isn't here: its interpreter collects boxed values, so frames can't be recomputed
+    val sparseFramesOptimizationTransformer = CompositeMethodTransformer(
+        RedundantNullCheckMethodTransformer(generationState),
+        StackPeepholeOptimizationsTransformer(),
+        RedundantGotoMethodTransformer(),
+        RedundantNopsCleanupMethodTransformer()
+    )
+
+    override fun deferTransformation(): Boolean {
+        val callback = deferTransformationTo ?: return false
+        callback(this)
+        return true
+    }
+
     override fun performTransformations(methodNode: MethodNode) {
         normalizationMethodTransformer.transform("fake", methodNode)
         constructorCallNormalizationTransformer.transform("fake", methodNode)
 
-        if (canBeOptimized(methodNode) && !generationState.disableOptimization) {
-            optimizationTransformer.transform("fake", methodNode)
+        if (!generationState.disableOptimization) {
+            if (canBeOptimized(methodNode)) {
+                optimizationTransformer.transform("fake", methodNode)
+            } else if (canBeOptimizedUsingSparseFrames(methodNode)) {
+                sparseFramesOptimizationTransformer.transform("fake", methodNode)
+            }
         }
 
         DeadCodeEliminationMethodTransformer().transform("fake", methodNode)
@@ -79,6 +102,17 @@ class OptimizationMethodVisitor(
             return totalFramesSizeMb < MEMORY_LIMIT_BY_METHOD_MB
         }
 
+        fun canBeOptimizedUsingSparseFrames(node: MethodNode): Boolean {
+            val frameSize = node.maxLocals + node.maxStack
+            val totalFramesSizeMb = countBasicBlockEntries(node).toLong() * frameSize / (1024 * 1024)
+            return totalFramesSizeMb < MEMORY_LIMIT_BY_METHOD_MB
+        }
+
+        // Jump targets and exception handlers are labels, so the number of labels is a good estimate of the number of frames
+        // stored by MethodAnalyzer with sparse frames
+        private fun countBasicBlockEntries(node: MethodNode): Int =
+            InsnSequence(node.instructions).count { it.type == AbstractInsnNode.LABEL } + 1
+
         fun canBeOptimizedUsingSourceInterpreter(node: MethodNode): Boolean {
             val frameSize = node.maxLocals + node.maxStack
             val methodSize = node.instructions.size().toLong()
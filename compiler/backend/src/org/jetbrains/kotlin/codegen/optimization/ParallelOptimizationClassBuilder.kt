@@ -0,0 +1,186 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.codegen.optimization
+
+import org.jetbrains.kotlin.codegen.ClassBuilder
+import org.jetbrains.kotlin.codegen.DelegatingClassBuilder
+import org.jetbrains.kotlin.codegen.state.GenerationState
+import org.jetbrains.kotlin.resolve.jvm.diagnostics.JvmDeclarationOrigin
+import org.jetbrains.org.objectweb.asm.*
+import org.jetbrains.org.objectweb.asm.tree.AnnotationNode
+import org.jetbrains.org.objectweb.asm.tree.MethodNode
+
+/**
+ * Optimizes methods of the class concurrently, see [GenerationState.parallelMethodOptimization].
+ *
+ * Everything written to the class is buffered until [done]. Then the methods are transformed in the common fork-join pool,
+ * and all the buffered events are replayed to the delegate in their original order. The order matters because the constant pool
+ * is filled in the order of events, so the resulting class file is identical to the one produced by [OptimizationClassBuilder].
+ */
+class ParallelOptimizationClassBuilder(
+    private val delegate: ClassBuilder,
+    private val generationState: GenerationState
+) : DelegatingClassBuilder() {
+    private val events = ArrayList<() -> Unit>()
+    private val methods = ArrayList<OptimizationMethodVisitor>()
+
+    private val recordingVisitor = RecordingClassVisitor()
+
+    override fun getDelegate(): ClassBuilder = delegate
+
+    override fun getVisitor(): ClassVisitor = recordingVisitor
+
+    override fun newField(
+        origin: JvmDeclarationOrigin,
+        access: Int,
+        name: String,
+        desc: String,
+        signature: String?,
+        value: Any?
+    ): FieldVisitor {
+        val field = RecordingFieldVisitor()
+        events.add { field.target = delegate.newField(origin, access, name, desc, signature, value) }
+        return field
+    }
+
+    override fun newMethod(
+        origin: JvmDeclarationOrigin,
+        access: Int,
+        name: String,
+        desc: String,
+        signature: String?,
+        exceptions: Array<String>?
+    ): MethodVisitor {
+        val target = ForwardingMethodVisitor()
+        events.add { target.target = delegate.newMethod(origin, access, name, desc, signature, exceptions) }
+        return OptimizationMethodVisitor(target, generationState, access, name, desc, signature, exceptions) { method ->
+            methods.add(method)
+            events.add { method.emit() }
+        }
+    }
+
+    override fun newAnnotation(desc: String, visible: Boolean): AnnotationVisitor =
+        recordAnnotation(desc) { delegate.newAnnotation(desc, visible) }
+
+    override fun visitOuterClass(owner: String, name: String?, desc: String?) {
+        events.add { delegate.visitOuterClass(owner, name, desc) }
+    }
+
+    override fun visitInnerClass(name: String, outerName: String?, innerName: String?, access: Int) {
+        events.add { delegate.visitInnerClass(name, outerName, innerName, access) }
+    }
+
+    override fun done() {
+        if (methods.size > 1) {
+            methods.parallelStream().forEach(OptimizationMethodVisitor::transform)
+        } else {
+            methods.forEach(OptimizationMethodVisitor::transform)
+        }
+
+        for (event in events) {
+            event()
+        }
+        events.clear()
+        methods.clear()
+
+        delegate.done()
+    }
+
+    // Annotation values are written depth-first by the codegen, so it's enough to record the position of the annotation itself
+    private fun recordAnnotation(desc: String, createTarget: () -> AnnotationVisitor?): AnnotationVisitor {
+        val annotation = AnnotationNode(desc)
+        events.add { annotation.accept(createTarget()) }
+        return annotation
+    }
+
+    private inner class RecordingClassVisitor : ClassVisitor(Opcodes.API_VERSION) {
+        private val target: ClassVisitor get() = delegate.visitor
+
+        override fun visit(version: Int, access: Int, name: String, signature: String?, superName: String?, interfaces: Array<String>?) {
+            events.add { target.visit(version, access, name, signature, superName, interfaces) }
+        }
+
+        override fun visitSource(source: String?, debug: String?) {
+            events.add { target.visitSource(source, debug) }
+        }
+
+        override fun visitNestHost(nestHost: String) {
+            events.add { target.visitNestHost(nestHost) }
+        }
+
+        override fun visitOuterClass(owner: String, name: String?, descriptor: String?) {
+            events.add { target.visitOuterClass(owner, name, descriptor) }
+        }
+
+        override fun visitAnnotation(descriptor: String, visible: Boolean): AnnotationVisitor =
+            recordAnnotation(descriptor) { target.visitAnnotation(descriptor, visible) }
+
+        override fun visitTypeAnnotation(typeRef: Int, typePath: TypePath?, descriptor: String, visible: Boolean): AnnotationVisitor =
+            recordAnnotation(descriptor) { target.visitTypeAnnotation(typeRef, typePath, descriptor, visible) }
+
+        override fun visitAttribute(attribute: Attribute) {
+            events.add { target.visitAttribute(attribute) }
+        }
+
+        override fun visitNestMember(nestMember: String) {
+            events.add { target.visitNestMember(nestMember) }
+        }
+
+        override fun visitInnerClass(name: String, outerName: String?, innerName: String?, access: Int) {
+            events.add { target.visitInnerClass(name, outerName, innerName, access) }
+        }
+
+        override fun visitField(access: Int, name: String, descriptor: String, signature: String?, value: Any?): FieldVisitor {
+            val field = RecordingFieldVisitor()
+            events.add { field.target = target.visitField(access, name, descriptor, signature, value) }
+            return field
+        }
+
+        // Methods visited directly are not optimized, same as in OptimizationClassBuilder
+        override fun visitMethod(
+            access: Int,
+            name: String,
+            descriptor: String,
+            signature: String?,
+            exceptions: Array<String>?
+        ): MethodVisitor {
+            val method = MethodNode(Opcodes.API_VERSION, access, name, descriptor, signature, exceptions)
+            events.add { method.accept(target) }
+            return method
+        }
+
+        override fun visitEnd() {
+            events.add { target.visitEnd() }
+        }
+    }
+
+    private inner class RecordingFieldVisitor : FieldVisitor(Opcodes.API_VERSION) {
+        var target: FieldVisitor? = null
+
+        override fun visitAnnotation(descriptor: String, visible: Boolean): AnnotationVisitor =
+            recordAnnotation(descriptor) { target?.visitAnnotation(descriptor, visible) }
+
+        override fun visitTypeAnnotation(typeRef: Int, typePath: TypePath?, descriptor: String, visible: Boolean): AnnotationVisitor =
+            recordAnnotation(descriptor) { target?.visitTypeAnnotation(typeRef, typePath, descriptor, visible) }
+
+        override fun visitAttribute(attribute: Attribute) {
+            events.add { target?.visitAttribute(attribute) }
+        }
+
+        override fun visitEnd() {
+            events.add { target?.visitEnd() }
+        }
+    }
+
+    // The actual method visitor is only created when the events are replayed
+    private class ForwardingMethodVisitor : MethodVisitor(Opcodes.API_VERSION) {
+        var target: MethodVisitor?
+            get() = mv
+            set(value) {
+                mv = value
+            }
+    }
+}
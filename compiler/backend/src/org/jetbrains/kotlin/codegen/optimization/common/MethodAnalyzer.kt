@@ -58,24 +58,58 @@ import java.util.*
 
 /**
  * This class is a modified version of `org.objectweb.asm.tree.analysis.Analyzer`
+ *
+ * If [sparseFrames] is true, frames are stored only for the entries of basic blocks, and frames of other instructions are
+ * recomputed by [getFrame] from the entry of their block. This makes it possible to analyze huge methods, for which frames
+ * of all instructions don't fit into memory. Recomputed frames are the same as the stored ones as long as the interpreter
+ * is monotone (the result of merging the values reached at the fixed point is the last of them).
+ *
+ * Recomputation calls the interpreter again for the instructions of the block, so sparse frames can only be used with
+ * interpreters which have no side effects and create equal values for the same instruction (e.g. [OptimizationBasicInterpreter]).
+ * Interpreters which collect information about the method while it's analyzed, like `RedundantBoxingInterpreter`, need dense frames.
+ *
  * @author Eric Bruneton
  * @author Dmitry Petrov
  */
 open class MethodAnalyzer<V : Value>(
     val owner: String,
     val method: MethodNode,
-    protected val interpreter: Interpreter<V>
+    protected val interpreter: Interpreter<V>,
+    private val sparseFrames: Boolean = false
 ) {
     val instructions: InsnList = method.instructions
     private val nInsns: Int = instructions.size()
 
+    /**
+     * Frames of all instructions, or only of the block entries if [sparseFrames] is set.
+     * Use [getFrame] or [allFrames] to get the frame of any instruction.
+     */
     val frames: Array<Frame<V>?> = arrayOfNulls(nInsns)
 
+    /**
+     * Frames of all instructions, recomputed on access if [sparseFrames] is set. Sequential access is the cheapest in this case.
+     */
+    val allFrames: List<Frame<V>?> = object : AbstractList<Frame<V>?>() {
+        override val size: Int get() = nInsns
+        override fun get(index: Int): Frame<V>? = getFrame(index)
+    }
+
     private val handlers: Array<MutableList<TryCatchBlockNode>?> = arrayOfNulls(nInsns)
     private val queued: BooleanArray = BooleanArray(nInsns)
     private val queue: IntArray = IntArray(nInsns)
     private var top: Int = 0
 
+    // For sparse frames only: block entries, instructions inside of blocks reached during the analysis and the frame passed to the
+    // next instruction of the block being analyzed
+    private val blockEntries: BooleanArray? = if (sparseFrames) BooleanArray(nInsns) else null
+    private val reached: BooleanArray? = if (sparseFrames) BooleanArray(nInsns) else null
+    private var nextInsnInBlock: Int = -1
+    private var nextFrameInBlock: Frame<V>? = null
+
+    // For sparse frames only: the last recomputed frame, used to continue recomputation when frames are requested in order
+    private var recomputedInsn: Int = -1
+    private var recomputedFrame: Frame<V>? = null
+
     protected open fun init(owner: String, m: MethodNode) {}
 
     protected open fun newFrame(nLocals: Int, nStack: Int): Frame<V> = Frame(nLocals, nStack)
@@ -100,6 +134,10 @@ open class MethodAnalyzer<V : Value>(
 
         computeExceptionHandlersForEachInsn(method)
 
+        if (sparseFrames) {
+            computeBlockEntries()
+        }
+
         val current = newFrame(method.maxLocals, method.maxStack)
         val handler = newFrame(method.maxLocals, method.maxStack)
         initControlFlowAnalysis(current, method, owner)
@@ -109,54 +147,141 @@ open class MethodAnalyzer<V : Value>(
             val f = frames[insn]!!
             queued[insn] = false
 
-            val insnNode = method.instructions[insn]
-            try {
-                val insnOpcode = insnNode.opcode
-                val insnType = insnNode.type
-
-                if (insnType == AbstractInsnNode.LABEL || insnType == AbstractInsnNode.LINE || insnType == AbstractInsnNode.FRAME) {
-                    visitNopInsn(f, insn)
-                } else {
-                    current.init(f).execute(insnNode, interpreter)
-
-                    when {
-                        insnNode is JumpInsnNode ->
-                            visitJumpInsnNode(insnNode, current, insn, insnOpcode)
-                        insnNode is LookupSwitchInsnNode ->
-                            visitLookupSwitchInsnNode(insnNode, current, insn)
-                        insnNode is TableSwitchInsnNode ->
-                            visitTableSwitchInsnNode(insnNode, current, insn)
-                        insnOpcode != Opcodes.ATHROW && (insnOpcode < Opcodes.IRETURN || insnOpcode > Opcodes.RETURN) ->
-                            visitOpInsn(current, insn)
-                        else -> {
-                        }
-                    }
-                }
+            if (sparseFrames) {
+                analyzeBlock(insn, f, current, handler)
+            } else {
+                analyzeInsn(insn, f, current, handler)
+            }
+        }
+
+        return frames
+    }
 
-                handlers[insn]?.forEach { tcb ->
-                    val exnType = Type.getObjectType(tcb.type ?: "java/lang/Throwable")
-                    val jump = instructions.indexOf(tcb.handler)
-                    if (visitControlFlowExceptionEdge(insn, tcb)) {
-                        handler.init(f)
-                        handler.clearStack()
-                        handler.push(interpreter.newValue(exnType))
-                        mergeControlFlowEdge(jump, handler)
+    private fun analyzeInsn(insn: Int, f: Frame<V>, current: Frame<V>, handler: Frame<V>) {
+        val insnNode = method.instructions[insn]
+        try {
+            val insnOpcode = insnNode.opcode
+            val insnType = insnNode.type
+
+            if (insnType == AbstractInsnNode.LABEL || insnType == AbstractInsnNode.LINE || insnType == AbstractInsnNode.FRAME) {
+                visitNopInsn(f, insn)
+            } else {
+                current.init(f).execute(insnNode, interpreter)
+
+                when {
+                    insnNode is JumpInsnNode ->
+                        visitJumpInsnNode(insnNode, current, insn, insnOpcode)
+                    insnNode is LookupSwitchInsnNode ->
+                        visitLookupSwitchInsnNode(insnNode, current, insn)
+                    insnNode is TableSwitchInsnNode ->
+                        visitTableSwitchInsnNode(insnNode, current, insn)
+                    insnOpcode != Opcodes.ATHROW && (insnOpcode < Opcodes.IRETURN || insnOpcode > Opcodes.RETURN) ->
+                        visitOpInsn(current, insn)
+                    else -> {
                     }
                 }
+            }
 
-            } catch (e: AnalyzerException) {
-                throw AnalyzerException(e.node, "Error at instruction #$insn ${insnNode.insnText}: ${e.message}", e)
-            } catch (e: Exception) {
-                throw AnalyzerException(insnNode, "Error at instruction #$insn ${insnNode.insnText}: ${e.message}", e)
+            handlers[insn]?.forEach { tcb ->
+                val exnType = Type.getObjectType(tcb.type ?: "java/lang/Throwable")
+                val jump = instructions.indexOf(tcb.handler)
+                if (visitControlFlowExceptionEdge(insn, tcb)) {
+                    handler.init(f)
+                    handler.clearStack()
+                    handler.push(interpreter.newValue(exnType))
+                    mergeControlFlowEdge(jump, handler)
+                }
             }
 
+        } catch (e: AnalyzerException) {
+            throw AnalyzerException(e.node, "Error at instruction #$insn ${insnNode.insnText}: ${e.message}", e)
+        } catch (e: Exception) {
+            throw AnalyzerException(insnNode, "Error at instruction #$insn ${insnNode.insnText}: ${e.message}", e)
         }
+    }
 
-        return frames
+    // Analyzes instructions of the block one by one, passing the resulting frame of each instruction to the next one
+    // without storing it. Two frames are needed because the input frame is still used for exception edges after the output is computed.
+    private fun analyzeBlock(entry: Int, entryFrame: Frame<V>, current: Frame<V>, handler: Frame<V>) {
+        var input = entryFrame
+        var output = newFrame(method.maxLocals, method.maxStack)
+        var insn = entry
+        while (true) {
+            nextInsnInBlock = -1
+            nextFrameInBlock = output
+            analyzeInsn(insn, input, current, handler)
+            if (nextInsnInBlock == -1) break
+
+            insn = nextInsnInBlock
+            val previousInput = input
+            input = output
+            output = if (previousInput === entryFrame) newFrame(method.maxLocals, method.maxStack) else previousInput
+        }
+        nextFrameInBlock = null
+    }
+
+    private fun computeBlockEntries() {
+        val blockEntries = blockEntries!!
+        blockEntries[0] = true
+        for (i in 0 until nInsns) {
+            val insnNode = instructions[i]
+            when (insnNode) {
+                is JumpInsnNode ->
+                    blockEntries[instructions.indexOf(insnNode.label)] = true
+                is LookupSwitchInsnNode -> {
+                    blockEntries[instructions.indexOf(insnNode.dflt)] = true
+                    insnNode.labels.forEach { blockEntries[instructions.indexOf(it)] = true }
+                }
+                is TableSwitchInsnNode -> {
+                    blockEntries[instructions.indexOf(insnNode.dflt)] = true
+                    insnNode.labels.forEach { blockEntries[instructions.indexOf(it)] = true }
+                }
+            }
+            // Instructions following the ones which don't fall through can only be reached by jumps
+            if (i + 1 < nInsns && !insnNode.fallsThrough()) {
+                blockEntries[i + 1] = true
+            }
+        }
+        for (tcb in method.tryCatchBlocks) {
+            blockEntries[instructions.indexOf(tcb.handler)] = true
+        }
+    }
+
+    private fun AbstractInsnNode.fallsThrough(): Boolean = when (opcode) {
+        Opcodes.GOTO, Opcodes.JSR, Opcodes.RET, Opcodes.ATHROW, Opcodes.TABLESWITCH, Opcodes.LOOKUPSWITCH -> false
+        in Opcodes.IRETURN..Opcodes.RETURN -> false
+        else -> true
     }
 
     fun getFrame(insn: AbstractInsnNode): Frame<V>? =
-        frames[instructions.indexOf(insn)]
+        getFrame(instructions.indexOf(insn))
+
+    fun getFrame(insn: Int): Frame<V>? =
+        if (sparseFrames) recomputeFrame(insn) else frames[insn]
+
+    private fun recomputeFrame(insn: Int): Frame<V>? {
+        if (blockEntries!![insn]) return frames[insn]
+        if (!reached!![insn]) return null
+
+        // Find the entry of the block, or the last recomputed frame if it's in the same block before the requested instruction
+        var start = insn
+        while (!blockEntries[start] && start != recomputedInsn) start--
+
+        val frame =
+            if (start == recomputedInsn) recomputedFrame!!
+            else newFrame(frames[start]!!).also { recomputedFrame = it }
+
+        for (i in start until insn) {
+            val insnNode = instructions[i]
+            val insnType = insnNode.type
+            if (insnType != AbstractInsnNode.LABEL && insnType != AbstractInsnNode.LINE && insnType != AbstractInsnNode.FRAME) {
+                frame.execute(insnNode, interpreter)
+            }
+        }
+        recomputedInsn = insn
+
+        return newFrame(frame)
+    }
 
     private fun checkAssertions() {
         if (instructions.toArray().any { it.opcode == Opcodes.JSR || it.opcode == Opcodes.RET })
@@ -246,6 +371,14 @@ open class MethodAnalyzer<V : Value>(
     }
 
     private fun mergeControlFlowEdge(insn: Int, frame: Frame<V>) {
+        if (blockEntries != null && !blockEntries[insn]) {
+            // The only edge leading inside of a block is the one from the previous instruction, see analyzeBlock
+            reached!![insn] = true
+            nextInsnInBlock = insn
+            nextFrameInBlock!!.init(frame)
+            return
+        }
+
         val oldFrame = frames[insn]
         val changes =
             if (oldFrame != null)
@@ -61,7 +61,7 @@ class RedundantNullCheckMethodTransformer(private val generationState: Generatio
         }
 
         private fun analyzeNullabilities(): Map<AbstractInsnNode, StrictBasicValue> {
-            val frames = analyze(internalClassName, methodNode, NullabilityInterpreter(generationState))
+            val frames = analyzeWithinMemoryBudget(internalClassName, methodNode, NullabilityInterpreter(generationState))
             val insns = methodNode.instructions.toArray()
             val nullabilityMap = LinkedHashMap<AbstractInsnNode, StrictBasicValue>()
             for (i in insns.indices) {
@@ -17,9 +17,14 @@
 package org.jetbrains.kotlin.codegen.optimization.transformer;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.kotlin.codegen.optimization.OptimizationMethodVisitor;
+import org.jetbrains.kotlin.codegen.optimization.common.MethodAnalyzer;
 import org.jetbrains.org.objectweb.asm.tree.MethodNode;
 import org.jetbrains.org.objectweb.asm.tree.analysis.*;
 
+import java.util.Arrays;
+import java.util.List;
+
 public abstract class MethodTransformer {
     @NotNull
     protected static <V extends Value> Frame<V>[] runAnalyzer(
@@ -44,5 +49,25 @@ public abstract class MethodTransformer {
         return runAnalyzer(new Analyzer<>(interpreter), internalClassName, node);
     }
 
+    /**
+     * Same as {@link #analyze}, but if frames of all instructions of the method don't fit into the memory limit,
+     * only frames of basic block entries are stored, and other frames are recomputed on access.
+     * The interpreter is called again when frames are recomputed, so it must not have side effects.
+     */
+    @NotNull
+    public static <V extends Value> List<Frame<V>> analyzeWithinMemoryBudget(
+            @NotNull String internalClassName,
+            @NotNull MethodNode node,
+            @NotNull Interpreter<V> interpreter
+    ) {
+        if (OptimizationMethodVisitor.Companion.canBeOptimized(node)) {
+            return Arrays.asList(analyze(internalClassName, node, interpreter));
+        }
+
+        MethodAnalyzer<V> analyzer = new MethodAnalyzer<>(internalClassName, node, interpreter, true);
+        analyzer.analyze();
+        return analyzer.getAllFrames();
+    }
+
     public abstract void transform(@NotNull String internalClassName, @NotNull MethodNode methodNode);
 }
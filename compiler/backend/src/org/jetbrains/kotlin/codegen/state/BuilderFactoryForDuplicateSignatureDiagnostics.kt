@@ -63,12 +63,21 @@ class BuilderFactoryForDuplicateSignatureDiagnostics(
     private val reportDiagnosticsTasks = ArrayList<() -> Unit>()
 
     fun reportDiagnostics() {
-        reportDiagnosticsTasks.forEach { it() }
-        reportDiagnosticsTasks.clear()
+        val tasks = synchronized(reportDiagnosticsTasks) {
+            reportDiagnosticsTasks.toList().also { reportDiagnosticsTasks.clear() }
+        }
+        tasks.forEach { it() }
+    }
+
+    private fun addReportDiagnosticsTask(task: () -> Unit) {
+        // Classes may be generated concurrently, see GenerationState.backendThreads
+        synchronized(reportDiagnosticsTasks) {
+            reportDiagnosticsTasks.add(task)
+        }
     }
 
     override fun handleClashingSignatures(data: ConflictingJvmDeclarationsData) {
-        reportDiagnosticsTasks.add { reportConflictingJvmSignatures(data) }
+        addReportDiagnosticsTask { reportConflictingJvmSignatures(data) }
     }
 
     private fun reportConflictingJvmSignatures(data: ConflictingJvmDeclarationsData) {
@@ -100,7 +109,7 @@ class BuilderFactoryForDuplicateSignatureDiagnostics(
             classInternalName: String,
             signatures: MultiMap<RawSignature, JvmDeclarationOrigin>
     ) {
-        reportDiagnosticsTasks.add {
+        addReportDiagnosticsTask {
             reportClashingWithPredefinedSignatures(classOrigin, classInternalName, signatures)
             reportClashingSignaturesInHierarchy(classOrigin, classInternalName, signatures)
         }
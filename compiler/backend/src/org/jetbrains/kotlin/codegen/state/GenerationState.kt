@@ -16,6 +16,7 @@ import org.jetbrains.kotlin.codegen.context.RootContext
 import org.jetbrains.kotlin.codegen.extensions.ClassBuilderInterceptorExtension
 import org.jetbrains.kotlin.codegen.inline.GlobalInlineContext
 import org.jetbrains.kotlin.codegen.inline.InlineCache
+import org.jetbrains.kotlin.codegen.inline.PersistentInlineFunctionCache
 import org.jetbrains.kotlin.codegen.intrinsics.IntrinsicMethods
 import org.jetbrains.kotlin.codegen.optimization.OptimizationClassBuilderFactory
 import org.jetbrains.kotlin.codegen.serialization.JvmSerializationBindings
@@ -44,8 +45,10 @@ import org.jetbrains.kotlin.resolve.jvm.JvmClassName
 import org.jetbrains.kotlin.resolve.jvm.diagnostics.JvmDeclarationOrigin
 import org.jetbrains.kotlin.resolve.jvm.diagnostics.JvmDeclarationOriginKind.*
 import org.jetbrains.kotlin.serialization.deserialization.DeserializationConfiguration
+import org.jetbrains.kotlin.storage.LockBasedLazyResolveStorageManager
 import org.jetbrains.kotlin.storage.LockBasedStorageManager
 import org.jetbrains.kotlin.types.KotlinType
+import org.jetbrains.kotlin.util.PerformanceTracer
 import org.jetbrains.org.objectweb.asm.Type
 import org.jetbrains.org.objectweb.asm.commons.Method
 import java.io.File
@@ -145,7 +148,13 @@ class GenerationState private constructor(
         }
     }
 
-    val inlineCache: InlineCache = InlineCache()
+    val inlineCache: InlineCache = InlineCache(
+        configuration.get(JVMConfigurationKeys.INLINE_FUNCTION_CACHE_DIRECTORY)?.let { directory ->
+            val maxSizeMb = configuration.get(JVMConfigurationKeys.INLINE_FUNCTION_CACHE_SIZE)
+                ?: PersistentInlineFunctionCache.DEFAULT_MAX_SIZE_MB
+            PersistentInlineFunctionCache(directory, maxSizeMb * 1024L * 1024L)
+        }
+    )
 
     val incrementalCacheForThisTarget: IncrementalCache?
     val packagesWithObsoleteParts: Set<FqName>
@@ -178,8 +187,25 @@ class GenerationState private constructor(
         }
     }
 
+    // Number of threads generating bytecode of independent files, only supported by the JVM IR backend
+    val backendThreads: Int = if (isIrBackend) configuration.get(JVMConfigurationKeys.PARALLEL_BACKEND_THREADS, 1) else 1
+
+    // Methods of each class are optimized concurrently before the class is written, see ParallelOptimizationClassBuilder
+    val parallelMethodOptimization: Boolean = configuration.getBoolean(JVMConfigurationKeys.PARALLEL_METHOD_OPTIMIZATION)
+
+    // Collects timings of files and inline call sites if detailed performance statistics are requested
+    val performanceTracer: PerformanceTracer? = configuration.get(CommonConfigurationKeys.PERFORMANCE_TRACER)
+
+    // Traces written by the backend have to be guarded by a lock if files are generated or optimized concurrently
+    private val traceStorageManager: LockBasedLazyResolveStorageManager? =
+        if (backendThreads > 1 || parallelMethodOptimization)
+            LockBasedLazyResolveStorageManager(LockBasedStorageManager("GenerationState"))
+        else null
+
+    private fun BindingTrace.threadSafeIfNeeded(): BindingTrace = traceStorageManager?.createSafeTrace(this) ?: this
+
     val extraJvmDiagnosticsTrace: BindingTrace =
-        DelegatingBindingTrace(bindingContext, "For extra diagnostics in ${this::class.java}", false)
+        DelegatingBindingTrace(bindingContext, "For extra diagnostics in ${this::class.java}", false).threadSafeIfNeeded()
     private val interceptedBuilderFactory: ClassBuilderFactory
     private var used = false
 
@@ -198,7 +224,7 @@ class GenerationState private constructor(
     val bindingTrace: BindingTrace = DelegatingBindingTrace(
         bindingContext, "trace in GenerationState",
         filter = if (wantsDiagnostics) BindingTraceFilter.ACCEPT_ALL else BindingTraceFilter.NO_DIAGNOSTICS
-    )
+    ).threadSafeIfNeeded()
     val bindingContext: BindingContext = bindingTrace.bindingContext
     val mainFunctionDetector = MainFunctionDetector(bindingContext, languageVersionSettings)
     val typeMapper: KotlinTypeMapper = KotlinTypeMapper(
@@ -217,7 +243,9 @@ class GenerationState private constructor(
         IntrinsicMethods(target, canReplaceStdlibRuntimeApiBehavior, shouldUseConsistentEquals)
     }
     val samWrapperClasses: SamWrapperClasses = SamWrapperClasses(this)
-    val globalInlineContext: GlobalInlineContext = GlobalInlineContext(diagnostics)
+    // Inline context tracks the stack of functions being inlined, so each thread generating code needs its own
+    private val globalInlineContextForThread = ThreadLocal.withInitial { GlobalInlineContext(diagnostics) }
+    val globalInlineContext: GlobalInlineContext get() = globalInlineContextForThread.get()
     val mappingsClassesForWhenByEnum: MappingsClassesForWhenByEnum = MappingsClassesForWhenByEnum(this)
     val jvmRuntimeTypes: JvmRuntimeTypes = JvmRuntimeTypes(module, configuration.languageVersionSettings)
     val factory: ClassFileFactory
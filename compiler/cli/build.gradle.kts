@@ -21,6 +21,7 @@ dependencies {
     compile(commonDep("org.fusesource.jansi", "jansi"))
     compile(commonDep("org.jline", "jline"))
     compile(project(":compiler:fir:psi2fir"))
+    compile(project(":compiler:fir:lightTree"))
     compile(project(":compiler:fir:resolve"))
     compile(project(":compiler:fir:jvm"))
     compile(project(":compiler:fir:java"))
@@ -198,6 +198,15 @@ abstract class CommonCompilerArguments : CommonToolArguments() {
     )
     var dumpPerf: String? by NullableStringFreezableVar(null)
 
+    @Argument(
+        value = "-Xdump-perf-format",
+        valueDescription = "{text|json|trace}",
+        description = "Format of the performance statistics dumped with -Xdump-perf.\n" +
+                "'json' and 'trace' (Chrome trace event format) also include timings and allocations of compiler phases,\n" +
+                "files and inline call sites"
+    )
+    var dumpPerfFormat: String by FreezableVar("text")
+
     @Argument(
         value = "-Xmetadata-version",
         description = "Change metadata version of the generated binary files"
@@ -42,6 +42,22 @@ class K2JSDceArguments : CommonToolArguments() {
     )
     var printReachabilityInfo: Boolean by FreezableVar(false)
 
+    @Argument(
+            value = "-Xthreads",
+            valueDescription = "<N>",
+            description = "Parse input files and write output files in N parallel threads.\n" +
+                          "0 means use a thread per processor core. Default value is 1"
+    )
+    var threads: String by FreezableVar("1")
+
+    @Argument(
+            value = "-Xincremental-cache",
+            valueDescription = "<path>",
+            description = "Store parsed input files and summaries of the output files in the given directory,\n" +
+                          "so that files which haven't changed aren't parsed and written again by later runs"
+    )
+    var incrementalCache: String? by NullableStringFreezableVar(null)
+
     @Argument(
             value = "-dev-mode",
             description = "Development mode: don't strip out any code, just copy dependencies"
@@ -80,6 +80,12 @@ class K2JVMCompilerArguments : CommonCompilerArguments() {
     @Argument(value = "-Xuse-ir", description = "Use the IR backend")
     var useIR: Boolean by FreezableVar(false)
 
+    @Argument(
+        value = "-Xuse-light-tree",
+        description = "Build Front-end IR of Kotlin sources from the light syntax tree without creating PSI, with -Xuse-fir"
+    )
+    var useLightTree: Boolean by FreezableVar(false)
+
     @Argument(value = "-Xno-use-ir", description = "Do not use the IR backend. Useful for a custom-built compiler where IR backend is enabled by default")
     var noUseIR: Boolean by FreezableVar(false)
 
@@ -298,6 +304,73 @@ class K2JVMCompilerArguments : CommonCompilerArguments() {
     )
     var emitJvmTypeAnnotations: Boolean by FreezableVar(false)
 
+    @Argument(
+        value = "-Xper-key-storage-locking",
+        description = "Guard lazily resolved declarations with per-declaration locks instead of one module-wide lock,\n" +
+                "so that they can be resolved concurrently from several threads"
+    )
+    var perKeyStorageLocking: Boolean by FreezableVar(false)
+
+    @Argument(
+        value = "-Xbackend-threads",
+        valueDescription = "<N>",
+        description = "Generate bytecode of independent files in N parallel threads (JVM IR backend only).\n" +
+                "0 means use a thread per processor core. Default value is 1"
+    )
+    var backendThreads: String by FreezableVar("1")
+
+    @Argument(
+        value = "-Xir-lowering-threads",
+        valueDescription = "<N>",
+        description = "Run lowerings which don't depend on other files in N parallel threads (JVM IR backend only, experimental).\n" +
+                "0 means use a thread per processor core. Default value is 1"
+    )
+    var irLoweringThreads: String by FreezableVar("1")
+
+    @Argument(
+        value = "-Xparsing-threads",
+        valueDescription = "<N>",
+        description = "Parse source files in N parallel threads before the analysis.\n" +
+                "0 means use a thread per processor core. Default value is 1 (files are parsed when the analysis reaches them)"
+    )
+    var parsingThreads: String by FreezableVar("1")
+
+    @Argument(
+        value = "-Xparallel-method-optimization",
+        description = "Optimize bytecode of methods of each class in parallel threads before writing the class"
+    )
+    var parallelMethodOptimization: Boolean by FreezableVar(false)
+
+    @Argument(
+        value = "-Xinline-function-cache",
+        valueDescription = "<path>",
+        description = "Cache bytecode of inline functions from library jars in the given directory,\n" +
+                "so that it's reused by other modules and compilations"
+    )
+    var inlineFunctionCache: String? by NullableStringFreezableVar(null)
+
+    @Argument(
+        value = "-Xinline-function-cache-size",
+        valueDescription = "<N>",
+        description = "Maximum size of the inline function cache in megabytes, least recently used entries are evicted.\n" +
+                "Default value is 256"
+    )
+    var inlineFunctionCacheSize: String? by NullableStringFreezableVar(null)
+
+    @Argument(
+        value = "-Xjar-index-cache",
+        valueDescription = "<path>",
+        description = "Look up packages and classes in classpath jars using tables read from their zip central directories,\n" +
+                "and store the tables in the given directory for later compilations"
+    )
+    var jarIndexCache: String? by NullableStringFreezableVar(null)
+
+    @Argument(
+        value = "-Xlazy-member-deserialization",
+        description = "Parse functions, properties and type aliases of library classes from their metadata only when they're looked up"
+    )
+    var lazyMemberDeserialization: Boolean by FreezableVar(false)
+
     override fun configureAnalysisFlags(collector: MessageCollector): MutableMap<AnalysisFlag<*>, Any> {
         val result = super.configureAnalysisFlags(collector)
         result[JvmAnalysisFlags.strictMetadataVersionSemantics] = strictMetadataVersionSemantics
@@ -316,6 +389,7 @@ class K2JVMCompilerArguments : CommonCompilerArguments() {
         result[JvmAnalysisFlags.sanitizeParentheses] = sanitizeParentheses
         result[JvmAnalysisFlags.suppressMissingBuiltinsError] = suppressMissingBuiltinsError
         result[JvmAnalysisFlags.irCheckLocalNames] = irCheckLocalNames
+        result[AnalysisFlags.lazyMemberDeserialization] = lazyMemberDeserialization
         return result
     }
 
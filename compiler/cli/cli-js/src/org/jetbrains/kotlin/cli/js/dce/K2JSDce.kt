@@ -80,7 +80,21 @@ class K2JSDce : CLITool<K2JSDceArguments>() {
             messageCollector.report(severity, message)
         }
 
-        val dceResult = DeadCodeElimination.run(files, includedDeclarations, logConsumer)
+        val threads = arguments.threads.toIntOrNull()
+        if (threads == null || threads < 0) {
+            messageCollector.report(
+                CompilerMessageSeverity.ERROR, "Invalid number of threads: ${arguments.threads}, a non-negative integer is expected"
+            )
+            return ExitCode.COMPILATION_ERROR
+        }
+        val cache = arguments.incrementalCache?.let { DeadCodeEliminationCache(File(it)) }
+
+        val dceResult = DeadCodeElimination.run(
+            files, includedDeclarations,
+            threads = if (threads == 0) Runtime.getRuntime().availableProcessors() else threads,
+            cache = cache,
+            logConsumer = logConsumer
+        )
         if (dceResult.status == DeadCodeEliminationStatus.FAILED) return ExitCode.COMPILATION_ERROR
         val nodes = dceResult.reachableNodes.filterTo(mutableSetOf()) { it.reachable }
 
@@ -25,9 +25,11 @@ import org.jetbrains.kotlin.cli.common.ExitCode.INTERNAL_ERROR
 import org.jetbrains.kotlin.cli.common.arguments.CommonCompilerArguments
 import org.jetbrains.kotlin.cli.common.environment.setIdeaIoUseFallback
 import org.jetbrains.kotlin.cli.common.messages.*
+import org.jetbrains.kotlin.cli.common.messages.CompilerMessageSeverity.ERROR
 import org.jetbrains.kotlin.cli.common.messages.CompilerMessageSeverity.INFO
 import org.jetbrains.kotlin.cli.jvm.plugins.PluginCliParser
 import org.jetbrains.kotlin.compiler.plugin.ComponentRegistrar
+import org.jetbrains.kotlin.config.CommonConfigurationKeys
 import org.jetbrains.kotlin.config.CompilerConfiguration
 import org.jetbrains.kotlin.config.Services
 import org.jetbrains.kotlin.metadata.deserialization.BinaryVersion
@@ -67,6 +69,23 @@ abstract class CLICompiler<A : CommonCompilerArguments> : CLITool<A>() {
         }
 
         configuration.put(CLIConfigurationKeys.PERF_MANAGER, performanceManager)
+
+        val perfReportFormat = PerformanceReportFormat.fromString(arguments.dumpPerfFormat)
+        if (perfReportFormat == null) {
+            collector.report(
+                ERROR,
+                "Unknown value for parameter -Xdump-perf-format: '${arguments.dumpPerfFormat}'. " +
+                        "Value should be one of ${PerformanceReportFormat.values().map { it.value }}"
+            )
+            return COMPILATION_ERROR
+        }
+
+        // Spans are only written by these reports, so they aren't recorded for -Xreport-perf and text dumps
+        if (arguments.dumpPerf != null && perfReportFormat != PerformanceReportFormat.TEXT) {
+            performanceManager.enableTracing()
+        }
+        performanceManager.tracer?.let { configuration.put(CommonConfigurationKeys.PERFORMANCE_TRACER, it) }
+
         try {
             setupCommonArguments(configuration, arguments)
             setupPlatformSpecificArgumentsAndServices(configuration, arguments, services)
@@ -91,7 +110,7 @@ abstract class CLICompiler<A : CommonCompilerArguments> : CLITool<A>() {
                 }
 
                 if (arguments.dumpPerf != null) {
-                    performanceManager.dumpPerformanceReport(File(arguments.dumpPerf!!))
+                    performanceManager.dumpPerformanceReport(File(arguments.dumpPerf!!), perfReportFormat)
                 }
 
                 return if (collector.hasErrors()) COMPILATION_ERROR else code
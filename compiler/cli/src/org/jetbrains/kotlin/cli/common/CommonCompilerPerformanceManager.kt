@@ -6,6 +6,7 @@
 package org.jetbrains.kotlin.cli.common
 
 import org.jetbrains.kotlin.util.PerformanceCounter
+import org.jetbrains.kotlin.util.PerformanceTracer
 import java.io.File
 import java.lang.management.ManagementFactory
 import java.util.concurrent.TimeUnit
@@ -15,9 +16,14 @@ abstract class CommonCompilerPerformanceManager(private val presentableName: Str
     protected val measurements: MutableList<PerformanceMeasurement> = mutableListOf()
     protected var isEnabled: Boolean = false
     private var initStartNanos = PerformanceCounter.currentTime()
+    private var parsingStart: Long = 0
     private var analysisStart: Long = 0
     private var generationStart: Long = 0
 
+    // Passed to the compiler via CommonConfigurationKeys.PERFORMANCE_TRACER if spans are dumped, see enableTracing
+    var tracer: PerformanceTracer? = null
+        private set
+
     fun getMeasurementResults(): List<PerformanceMeasurement> = measurements
 
     fun enableCollectingPerformanceStatistics() {
@@ -25,6 +31,16 @@ abstract class CommonCompilerPerformanceManager(private val presentableName: Str
         PerformanceCounter.setTimeCounterEnabled(true)
     }
 
+    /**
+     * Records spans of the compilation phases, they are written only by the [PerformanceReportFormat.JSON] and
+     * [PerformanceReportFormat.CHROME_TRACE] reports.
+     */
+    fun enableTracing() {
+        if (tracer == null) {
+            tracer = PerformanceTracer()
+        }
+    }
+
     open fun notifyCompilerInitialized() {
         if (!isEnabled) return
         recordInitializationTime()
@@ -37,26 +53,46 @@ abstract class CommonCompilerPerformanceManager(private val presentableName: Str
         recordPerfCountersMeasurements()
     }
 
+    open fun notifyParsingStarted() {
+        parsingStart = PerformanceCounter.currentTime()
+        tracer?.start("Parsing", PerformanceTracer.PARSING_CATEGORY)
+    }
+
+    open fun notifyParsingFinished(files: Int, lines: Int, threads: Int) {
+        val time = PerformanceCounter.currentTime() - parsingStart
+        measurements += SourceParsingMeasurement(files, lines, TimeUnit.NANOSECONDS.toMillis(time), threads)
+        tracer?.finish()
+    }
+
     open fun notifyAnalysisStarted() {
         analysisStart = PerformanceCounter.currentTime()
+        tracer?.start("Analysis", PerformanceTracer.ANALYSIS_CATEGORY)
     }
 
     open fun notifyAnalysisFinished(files: Int, lines: Int, additionalDescription: String?) {
         val time = PerformanceCounter.currentTime() - analysisStart
         measurements += CodeAnalysisMeasurement(files, lines, TimeUnit.NANOSECONDS.toMillis(time), additionalDescription)
+        tracer?.finish()
     }
 
     open fun notifyGenerationStarted() {
         generationStart = PerformanceCounter.currentTime()
+        tracer?.start("Generation", PerformanceTracer.CODEGEN_CATEGORY)
     }
 
     open fun notifyGenerationFinished(lines: Int, files: Int, additionalDescription: String) {
         val time = PerformanceCounter.currentTime() - generationStart
         measurements += CodeGenerationMeasurement(lines, files, TimeUnit.NANOSECONDS.toMillis(time), additionalDescription)
+        tracer?.finish()
     }
 
-    fun dumpPerformanceReport(destination: File) {
-        destination.writeBytes(createPerformanceReport())
+    fun dumpPerformanceReport(destination: File, format: PerformanceReportFormat = PerformanceReportFormat.TEXT) {
+        val report = when (format) {
+            PerformanceReportFormat.TEXT -> createPerformanceReport()
+            PerformanceReportFormat.JSON -> createJsonPerformanceReport()
+            PerformanceReportFormat.CHROME_TRACE -> createChromeTracePerformanceReport()
+        }
+        destination.writeBytes(report)
     }
 
     private fun recordGcTime() {
@@ -87,4 +123,56 @@ abstract class CommonCompilerPerformanceManager(private val presentableName: Str
         appendln("$presentableName performance report")
         measurements.map { it.render() }.sorted().forEach { appendln(it) }
     }.toByteArray()
+
+    private fun createJsonPerformanceReport(): ByteArray = buildString {
+        appendln("{")
+        appendln("  \"name\": ${presentableName.toJsonString()},")
+        appendln("  \"measurements\": [")
+        appendln(measurements.map { it.render() }.sorted().joinToString(",\n") { "    ${it.toJsonString()}" })
+        appendln("  ],")
+        appendln("  \"spans\": [")
+        appendln(tracer?.spans.orEmpty().joinToString(",\n") { span ->
+            "    {\"name\": ${span.name.toJsonString()}, \"category\": ${span.category.toJsonString()}, " +
+                    "\"thread\": ${span.threadId}, \"depth\": ${span.depth}, " +
+                    "\"startMicros\": ${span.startNanos / 1000}, \"durationMicros\": ${span.durationNanos / 1000}, " +
+                    "\"allocatedBytes\": ${span.allocatedBytes}}"
+        })
+        appendln("  ]")
+        appendln("}")
+    }.toByteArray()
+
+    // See the "Trace Event Format" document of the Chrome tracing tool, spans are written as complete ("X") events
+    private fun createChromeTracePerformanceReport(): ByteArray = buildString {
+        appendln("{\"traceEvents\": [")
+        appendln(tracer?.spans.orEmpty().joinToString(",\n") { span ->
+            "{\"name\": ${span.name.toJsonString()}, \"cat\": ${span.category.toJsonString()}, \"ph\": \"X\", " +
+                    "\"ts\": ${span.startNanos / 1000}, \"dur\": ${span.durationNanos / 1000}, \"pid\": 1, \"tid\": ${span.threadId}, " +
+                    "\"args\": {\"allocatedBytes\": ${span.allocatedBytes}}}"
+        })
+        appendln("], \"displayTimeUnit\": \"ms\", \"otherData\": {\"name\": ${presentableName.toJsonString()}}}")
+    }.toByteArray()
+
+    private fun String.toJsonString(): String = buildString {
+        append('"')
+        for (c in this@toJsonString) {
+            when {
+                c == '"' -> append("\\\"")
+                c == '\\' -> append("\\\\")
+                c == '\n' -> append("\\n")
+                c < ' ' -> append("\\u%04x".format(c.toInt()))
+                else -> append(c)
+            }
+        }
+        append('"')
+    }
+}
+
+enum class PerformanceReportFormat(val value: String) {
+    TEXT("text"),
+    JSON("json"),
+    CHROME_TRACE("trace");
+
+    companion object {
+        fun fromString(value: String): PerformanceReportFormat? = values().find { it.value == value }
+    }
 }
@@ -20,6 +20,16 @@ class CompilerInitializationMeasurement(private val milliseconds: Long) : Perfor
 }
 
 
+class SourceParsingMeasurement(private val files: Int, val lines: Int, private val milliseconds: Long, private val threads: Int) :
+    PerformanceMeasurement {
+
+    private val speed: Double = lines.toDouble() * 1000 / milliseconds
+
+    override fun render(): String =
+        "PARSE: $files files ($lines lines) in $threads threads in $milliseconds ms - ${"%.3f".format(speed)} loc/s"
+}
+
+
 class CodeAnalysisMeasurement(private val files: Int, val lines: Int, private val milliseconds: Long, private val description: String?) :
     PerformanceMeasurement {
 
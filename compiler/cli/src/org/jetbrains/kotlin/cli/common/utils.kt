@@ -16,6 +16,7 @@
 
 package org.jetbrains.kotlin.cli.common
 
+import org.jetbrains.kotlin.cli.common.messages.CompilerMessageLocation
 import org.jetbrains.kotlin.cli.common.messages.CompilerMessageSeverity
 import org.jetbrains.kotlin.cli.common.messages.MessageCollector
 import org.jetbrains.kotlin.cli.common.messages.MessageUtil
@@ -26,18 +27,27 @@ import org.jetbrains.kotlin.psi.KtFile
 import org.jetbrains.kotlin.utils.KotlinPaths
 import java.io.File
 
-fun checkKotlinPackageUsage(environment: KotlinCoreEnvironment, files: Collection<KtFile>): Boolean {
+fun checkKotlinPackageUsage(environment: KotlinCoreEnvironment, files: Collection<KtFile>): Boolean =
+    checkKotlinPackageUsage(environment, files, KtFile::getPackageFqName) { MessageUtil.psiElementToMessageLocation(it.packageDirective!!) }
+
+// For files which aren't parsed to PSI, e.g. FIR files built from the light tree
+fun <F> checkKotlinPackageUsage(
+    environment: KotlinCoreEnvironment,
+    files: Collection<F>,
+    packageFqName: (F) -> FqName,
+    location: (F) -> CompilerMessageLocation?
+): Boolean {
     if (environment.configuration.getBoolean(CLIConfigurationKeys.ALLOW_KOTLIN_PACKAGE)) {
         return true
     }
     val messageCollector = environment.configuration.get(CLIConfigurationKeys.MESSAGE_COLLECTOR_KEY, MessageCollector.NONE)
     val kotlinPackage = FqName("kotlin")
     for (file in files) {
-        if (file.packageFqName.isSubpackageOf(kotlinPackage)) {
+        if (packageFqName(file).isSubpackageOf(kotlinPackage)) {
             messageCollector.report(
                 CompilerMessageSeverity.ERROR,
                 "Only the Kotlin standard library is allowed to use the 'kotlin' package",
-                MessageUtil.psiElementToMessageLocation(file.packageDirective!!)
+                location(file)
             )
             return false
         }
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.cli.jvm.compiler
+
+import com.intellij.openapi.vfs.StandardFileSystems
+import com.intellij.openapi.vfs.VirtualFile
+import com.intellij.util.io.URLUtil
+import org.jetbrains.kotlin.metadata.jvm.deserialization.ModuleMapping
+import org.jetbrains.kotlin.serialization.deserialization.DeserializationConfiguration
+import java.io.File
+
+/**
+ * Module mappings (`.kotlin_module` files in `META-INF`) of classpath jars for [JvmPackagePartProvider]. The [shared] cache is kept
+ * for the lifetime of the application environment, so that the compile daemon reads them once per dependency jar rather than
+ * in every compilation.
+ *
+ * Mappings of a jar are reused only if its size and modification time haven't changed, and if it wasn't modified shortly before
+ * its mappings were loaded: file systems with a coarse timestamp granularity could otherwise miss a rewrite of the same size.
+ *
+ * The cache size is bounded by [maxCachedBytes] of module files, the least recently used jars are evicted first. It's an approximate
+ * bound of the retained memory: parsed mappings take several times more memory than their files, depending on the number of packages.
+ */
+class JarModuleMappingCache(private val maxCachedBytes: Long) {
+    class JarModule(val name: String, val mapping: ModuleMapping)
+
+    /**
+     * Modules of a jar loaded by [JvmPackagePartProvider], with the total size of their files. Not cached if not [isCacheable]
+     * (e.g. when the jar has incompatible modules, so that the errors are reported by every compilation).
+     */
+    class LoadedModules(val modules: List<JarModule>, val bytes: Long, val isCacheable: Boolean)
+
+    private data class Key(val jarPath: String, val skipMetadataVersionCheck: Boolean, val isJvmPackageNameSupported: Boolean)
+
+    private class Entry(val modules: List<JarModule>, val length: Long, val lastModified: Long, val bytes: Long)
+
+    private val entries = LinkedHashMap<Key, Entry>(16, 0.75f, true)
+    private var cachedBytes = 0L
+
+    // Returns cached modules of the root if it is a jar, or loads them with [load] and caches them
+    fun getOrLoad(root: VirtualFile, configuration: DeserializationConfiguration, load: () -> LoadedModules): List<JarModule> {
+        if (root.parent != null || root.fileSystem.protocol != StandardFileSystems.JAR_PROTOCOL) return load().modules
+        return getOrLoad(File(root.path.removeSuffix(URLUtil.JAR_SEPARATOR)), configuration, load)
+    }
+
+    fun getOrLoad(jar: File, configuration: DeserializationConfiguration, load: () -> LoadedModules): List<JarModule> {
+        val length = jar.length()
+        val lastModified = jar.lastModified()
+        if (lastModified == 0L) return load().modules
+
+        val key = Key(jar.absolutePath, configuration.skipMetadataVersionCheck, configuration.isJvmPackageNameSupported)
+        synchronized(entries) {
+            entries[key]?.let { if (it.length == length && it.lastModified == lastModified) return it.modules }
+        }
+
+        val loadStart = System.currentTimeMillis()
+        val loaded = load()
+        val modules = loaded.modules
+        val bytes = loaded.bytes
+        if (!loaded.isCacheable || bytes > maxCachedBytes) return modules
+        // A rewrite within the same timestamp tick would go unnoticed, the jar can be cached when it's loaded next time
+        if (lastModified > loadStart - MAX_TIMESTAMP_GRANULARITY_MS) return modules
+
+        synchronized(entries) {
+            entries.put(key, Entry(modules, length, lastModified, bytes))?.let { cachedBytes -= it.bytes }
+            cachedBytes += bytes
+
+            val iterator = entries.values.iterator()
+            while (cachedBytes > maxCachedBytes && iterator.hasNext()) {
+                cachedBytes -= iterator.next().bytes
+                iterator.remove()
+            }
+        }
+        return modules
+    }
+
+    fun clear() {
+        synchronized(entries) {
+            entries.clear()
+            cachedBytes = 0L
+        }
+    }
+
+    companion object {
+        private const val MAX_CACHED_BYTES = 64L * 1024 * 1024
+
+        // The worst case is FAT, where modification times are stored with 2 seconds precision
+        private const val MAX_TIMESTAMP_GRANULARITY_MS = 2000L
+
+        val shared = JarModuleMappingCache(MAX_CACHED_BYTES)
+    }
+}
@@ -23,6 +23,8 @@ import org.jetbrains.kotlin.cli.common.messages.CompilerMessageLocation
 import org.jetbrains.kotlin.cli.common.messages.CompilerMessageSeverity.ERROR
 import org.jetbrains.kotlin.cli.common.messages.CompilerMessageSeverity.LOGGING
 import org.jetbrains.kotlin.cli.common.messages.MessageCollector
+import org.jetbrains.kotlin.cli.jvm.compiler.JarModuleMappingCache.JarModule
+import org.jetbrains.kotlin.cli.jvm.compiler.JarModuleMappingCache.LoadedModules
 import org.jetbrains.kotlin.cli.jvm.index.JavaRoot
 import org.jetbrains.kotlin.config.LanguageVersionSettings
 import org.jetbrains.kotlin.load.kotlin.JvmPackagePartProviderBase
@@ -47,18 +49,34 @@ class JvmPackagePartProvider(
             if (type != JavaRoot.RootType.BINARY) continue
             if (root !in scope) continue
 
-            val metaInf = root.findChild("META-INF") ?: continue
-            for (moduleFile in metaInf.children) {
-                if (!moduleFile.name.endsWith(ModuleMapping.MAPPING_FILE_EXT)) continue
+            val modules = JarModuleMappingCache.shared.getOrLoad(root, deserializationConfiguration) {
+                loadModules(root, messageCollector)
+            }
+
+            for (module in modules) {
+                loadedModules.add(ModuleMappingInfo(root, module.mapping, module.name))
+            }
+        }
+    }
+
+    private fun loadModules(root: VirtualFile, messageCollector: MessageCollector): LoadedModules {
+        val metaInf = root.findChild("META-INF") ?: return LoadedModules(emptyList(), 0L, isCacheable = true)
+
+        // Modules are not cached if errors are reported while loading them, so that they are reported by every compilation
+        val hadErrors = messageCollector.hasErrors()
+        val modules = SmartList<JarModule>()
+        var bytes = 0L
+        for (moduleFile in metaInf.children) {
+            if (!moduleFile.name.endsWith(ModuleMapping.MAPPING_FILE_EXT)) continue
 
-                tryLoadModuleMapping(
-                    { moduleFile.contentsToByteArray() }, moduleFile.toString(), moduleFile.path,
-                    deserializationConfiguration, messageCollector
-                )?.let {
-                    loadedModules.add(ModuleMappingInfo(root, it, moduleFile.nameWithoutExtension))
-                }
+            tryLoadModuleMapping(
+                { moduleFile.contentsToByteArray().also { bytes += it.size } }, moduleFile.toString(), moduleFile.path,
+                deserializationConfiguration, messageCollector
+            )?.let {
+                modules.add(JarModule(moduleFile.nameWithoutExtension, it))
             }
         }
+        return LoadedModules(modules, bytes, isCacheable = !hadErrors && !messageCollector.hasErrors())
     }
 }
 
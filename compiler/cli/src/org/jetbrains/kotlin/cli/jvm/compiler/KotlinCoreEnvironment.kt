@@ -81,6 +81,7 @@ import org.jetbrains.kotlin.codegen.extensions.ClassBuilderInterceptorExtension
 import org.jetbrains.kotlin.codegen.extensions.ExpressionCodegenExtension
 import org.jetbrains.kotlin.compiler.plugin.ComponentRegistrar
 import org.jetbrains.kotlin.config.APPEND_JAVA_SOURCE_ROOTS_HANDLER_KEY
+import org.jetbrains.kotlin.config.CommonConfigurationKeys
 import org.jetbrains.kotlin.config.CompilerConfiguration
 import org.jetbrains.kotlin.config.JVMConfigurationKeys
 import org.jetbrains.kotlin.config.languageVersionSettings
@@ -89,6 +90,7 @@ import org.jetbrains.kotlin.extensions.internal.CandidateInterceptor
 import org.jetbrains.kotlin.extensions.internal.TypeResolutionInterceptor
 import org.jetbrains.kotlin.idea.KotlinFileType
 import org.jetbrains.kotlin.js.translate.extensions.JsSyntheticTranslateExtension
+import org.jetbrains.kotlin.load.kotlin.JarKotlinClassCache
 import org.jetbrains.kotlin.load.kotlin.KotlinBinaryClassCache
 import org.jetbrains.kotlin.load.kotlin.MetadataFinderFactory
 import org.jetbrains.kotlin.load.kotlin.ModuleVisibilityManager
@@ -195,6 +197,17 @@ class KotlinCoreEnvironment private constructor(
 
         sourceFiles.sortBy { it.virtualFile.path }
 
+        val parsingThreads = configuration.get(CLIConfigurationKeys.PARSING_THREADS, 1)
+        // Raw FIR is built from the light tree then, PSI trees of the sources are never needed
+        val useLightTree = configuration.getBoolean(CommonConfigurationKeys.USE_FIR) &&
+                configuration.getBoolean(JVMConfigurationKeys.USE_LIGHT_TREE)
+        if (parsingThreads > 1 && !useLightTree) {
+            val performanceManager = configuration.get(CLIConfigurationKeys.PERF_MANAGER)
+            performanceManager?.notifyParsingStarted()
+            parseSourceFilesInParallel(sourceFiles, parsingThreads, configuration.get(CommonConfigurationKeys.PERFORMANCE_TRACER))
+            performanceManager?.notifyParsingFinished(sourceFiles.size, countLinesOfCode(sourceFiles), parsingThreads)
+        }
+
         val jdkHome = configuration.get(JVMConfigurationKeys.JDK_HOME)
         val jrtFileSystem = VirtualFileManager.getInstance().getFileSystem(StandardFileSystems.JRT_PROTOCOL)
         val javaModuleFinder = CliJavaModuleFinder(jdkHome?.path?.let { path ->
@@ -231,8 +244,9 @@ class KotlinCoreEnvironment private constructor(
                 initialRoots.partition { (file) -> file.isDirectory || file.extension != JavaFileType.DEFAULT_EXTENSION }
 
         // REPL and kapt2 update classpath dynamically
-        rootsIndex = JvmDependenciesDynamicCompoundIndex().apply {
-            addIndex(JvmDependenciesIndexImpl(roots))
+        val jarPackageTables = configuration.get(JVMConfigurationKeys.JAR_INDEX_CACHE_DIRECTORY)?.let(::JarPackageTables)
+        rootsIndex = JvmDependenciesDynamicCompoundIndex(jarPackageTables).apply {
+            addIndex(JvmDependenciesIndexImpl(roots, jarPackageTables))
             updateClasspathFromRootsIndex(this)
         }
 
@@ -414,6 +428,9 @@ class KotlinCoreEnvironment private constructor(
         private val LOG = Logger.getInstance(KotlinCoreEnvironment::class.java)
 
         private val APPLICATION_LOCK = Object()
+
+        // Headers of library classes shared between compilations in the same application environment, see JarKotlinClassCache
+        private const val MAX_CACHED_JAR_CLASSES_BYTES = 64L * 1024 * 1024
         private var ourApplicationEnvironment: KotlinCoreApplicationEnvironment? = null
         private var ourProjectCount = 0
 
@@ -499,6 +516,8 @@ class KotlinCoreEnvironment private constructor(
                 ourApplicationEnvironment = null
                 Disposer.dispose(environment.parentDisposable)
                 ZipHandler.clearFileAccessorCache()
+                JarModuleMappingCache.shared.clear()
+                JarPackageTables.clearLoadedTables()
             }
         }
 
@@ -628,7 +647,9 @@ class KotlinCoreEnvironment private constructor(
                 registerFileType(KotlinFileType.INSTANCE, "kt")
                 registerFileType(KotlinFileType.INSTANCE, KotlinParserDefinition.STD_SCRIPT_SUFFIX)
                 registerParserDefinition(KotlinParserDefinition())
-                application.registerService(KotlinBinaryClassCache::class.java, KotlinBinaryClassCache())
+                application.registerService(
+                    KotlinBinaryClassCache::class.java, KotlinBinaryClassCache(JarKotlinClassCache(MAX_CACHED_JAR_CLASSES_BYTES))
+                )
                 application.registerService(JavaClassSupers::class.java, JavaClassSupersImpl::class.java)
                 application.registerService(TransactionGuard::class.java, TransactionGuardImpl::class.java)
             }
@@ -38,6 +38,7 @@ import org.jetbrains.kotlin.cli.common.ExitCode
 import org.jetbrains.kotlin.cli.common.checkKotlinPackageUsage
 import org.jetbrains.kotlin.cli.common.config.addKotlinSourceRoot
 import org.jetbrains.kotlin.cli.common.messages.AnalyzerWithCompilerReport
+import org.jetbrains.kotlin.cli.common.messages.CompilerMessageLocation
 import org.jetbrains.kotlin.cli.common.messages.CompilerMessageSeverity.OUTPUT
 import org.jetbrains.kotlin.cli.common.messages.CompilerMessageSeverity.WARNING
 import org.jetbrains.kotlin.cli.common.messages.MessageCollector
@@ -49,12 +50,16 @@ import org.jetbrains.kotlin.codegen.state.GenerationState
 import org.jetbrains.kotlin.codegen.state.GenerationStateEventCallback
 import org.jetbrains.kotlin.config.*
 import org.jetbrains.kotlin.fileClasses.JvmFileClassUtil
+import org.jetbrains.kotlin.fir.FirPsiSourceElement
 import org.jetbrains.kotlin.fir.FirSession
 import org.jetbrains.kotlin.fir.backend.Fir2IrConverter
 import org.jetbrains.kotlin.fir.builder.RawFirBuilder
+import org.jetbrains.kotlin.fir.declarations.FirFile
 import org.jetbrains.kotlin.fir.java.FirJavaModuleBasedSession
 import org.jetbrains.kotlin.fir.java.FirLibrarySession
 import org.jetbrains.kotlin.fir.java.FirProjectSessionProvider
+import org.jetbrains.kotlin.fir.lightTree.LightTree2Fir
+import org.jetbrains.kotlin.fir.psi
 import org.jetbrains.kotlin.fir.resolve.firProvider
 import org.jetbrains.kotlin.fir.resolve.impl.FirProviderImpl
 import org.jetbrains.kotlin.fir.resolve.transformers.FirTotalResolveTransformer
@@ -285,13 +290,14 @@ object KotlinToJVMBytecodeCompiler {
             .unregisterExtension(JavaElementFinder::class.java)
 
         val projectConfiguration = environment.configuration
+        val useLightTree = projectConfiguration.getBoolean(JVMConfigurationKeys.USE_LIGHT_TREE)
         val localFileSystem = VirtualFileManager.getInstance().getFileSystem(StandardFileSystems.FILE_PROTOCOL)
         val outputs = newLinkedHashMapWithExpectedSize<Module, GenerationState>(chunk.size)
         for (module in chunk) {
             ProgressIndicatorAndCompilationCanceledStatus.checkCanceled()
 
             val ktFiles = module.getSourceFiles(environment, localFileSystem, chunk.size > 1, buildFile)
-            if (!checkKotlinPackageUsage(environment, ktFiles)) return false
+            if (!useLightTree && !checkKotlinPackageUsage(environment, ktFiles)) return false
             val moduleConfiguration = projectConfiguration.applyModuleProperties(module, buildFile)
 
             val scope = GlobalSearchScope.filesScope(project, ktFiles.map { it.virtualFile })
@@ -326,18 +332,24 @@ object KotlinToJVMBytecodeCompiler {
 
             }
             val firProvider = (session.firProvider as FirProviderImpl)
-            val builder = RawFirBuilder(session, firProvider.kotlinScopeProvider, stubMode = false)
             val resolveTransformer = FirTotalResolveTransformer()
-            val firFiles = ktFiles.map {
-                val firFile = builder.buildFirFile(it)
-                firProvider.recordFile(firFile)
-                firFile
-            }.also {
-                try {
-                    resolveTransformer.processFiles(it)
-                } catch (e: Exception) {
-                    throw e
-                }
+            val firFiles = if (useLightTree) {
+                val lightTree2Fir = LightTree2Fir(session, firProvider.kotlinScopeProvider, stubMode = false)
+                // Syntax trees of the KtFiles are never built, the backend uses them only to get their paths and line starts
+                ktFiles.map { lightTree2Fir.buildFirFile(it.viewProvider.contents.toString(), it.name, FirPsiSourceElement(it)) }
+            } else {
+                val builder = RawFirBuilder(session, firProvider.kotlinScopeProvider, stubMode = false)
+                ktFiles.map(builder::buildFirFile)
+            }
+            if (useLightTree) {
+                val fileLocation = { firFile: FirFile -> CompilerMessageLocation.create((firFile.psi as KtFile).virtualFilePath) }
+                if (!checkKotlinPackageUsage(environment, firFiles, FirFile::packageFqName, fileLocation)) return false
+            }
+            firFiles.forEach(firProvider::recordFile)
+            try {
+                resolveTransformer.processFiles(firFiles)
+            } catch (e: Exception) {
+                throw e
             }
             val (moduleFragment, symbolTable, sourceManager) =
                 Fir2IrConverter.createModuleFragment(session, firFiles, moduleConfiguration.languageVersionSettings)
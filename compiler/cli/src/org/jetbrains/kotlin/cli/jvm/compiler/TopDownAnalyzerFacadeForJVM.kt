@@ -30,9 +30,11 @@ import org.jetbrains.kotlin.container.StorageComponentContainer
 import org.jetbrains.kotlin.container.get
 import org.jetbrains.kotlin.container.useImpl
 import org.jetbrains.kotlin.context.ContextForNewModule
+import org.jetbrains.kotlin.context.GlobalContext
 import org.jetbrains.kotlin.context.ModuleContext
 import org.jetbrains.kotlin.context.MutableModuleContext
-import org.jetbrains.kotlin.context.ProjectContext
+import org.jetbrains.kotlin.context.PerKeyLockingGlobalContext
+import org.jetbrains.kotlin.context.withProject
 import org.jetbrains.kotlin.descriptors.ClassDescriptor
 import org.jetbrains.kotlin.descriptors.ModuleDescriptor
 import org.jetbrains.kotlin.descriptors.PackageFragmentProvider
@@ -278,7 +280,11 @@ object TopDownAnalyzerFacadeForJVM {
     }
 
     private fun createModuleContext(project: Project, configuration: CompilerConfiguration, platform: TargetPlatform?): MutableModuleContext {
-        val projectContext = ProjectContext(project, "TopDownAnalyzer for JVM")
+        val debugName = "TopDownAnalyzer for JVM"
+        val globalContext =
+            if (configuration.getBoolean(JVMConfigurationKeys.PER_KEY_STORAGE_LOCKING)) PerKeyLockingGlobalContext(debugName)
+            else GlobalContext(debugName)
+        val projectContext = globalContext.withProject(project)
         val builtIns = JvmBuiltIns(projectContext.storageManager, JvmBuiltIns.Kind.FROM_DEPENDENCIES)
         return ContextForNewModule(
             projectContext, Name.special("<${configuration.getNotNull(CommonConfigurationKeys.MODULE_NAME)}>"), builtIns, platform
@@ -21,6 +21,9 @@ import org.jetbrains.kotlin.extensions.PreprocessedFileCreator
 import org.jetbrains.kotlin.idea.KotlinFileType
 import org.jetbrains.kotlin.psi.KtFile
 import org.jetbrains.kotlin.resolve.multiplatform.isCommonSource
+import org.jetbrains.kotlin.util.PerformanceTracer
+import org.jetbrains.kotlin.util.trace
+import org.jetbrains.kotlin.utils.forEachInParallel
 import java.io.File
 
 fun CompilerConfiguration.report(severity: CompilerMessageSeverity, message: String, location: CompilerMessageLocation? = null) {
@@ -79,4 +82,16 @@ fun createSourceFilesFromSourceRoots(
     }
 
     return result
-}
\ No newline at end of file
+}
+
+/**
+ * Builds syntax trees of [files] in [threads] parallel threads, so that they are not parsed one by one when the analysis first
+ * accesses them. Each file is lexed and parsed independently.
+ */
+fun parseSourceFilesInParallel(files: List<KtFile>, threads: Int, tracer: PerformanceTracer?) {
+    forEachInParallel(files, threads) { file ->
+        tracer.trace(file.name, PerformanceTracer.PARSING_CATEGORY) {
+            file.node.firstChildNode
+        }
+    }
+}
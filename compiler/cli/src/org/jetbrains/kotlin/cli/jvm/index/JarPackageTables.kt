@@ -0,0 +1,202 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.cli.jvm.index
+
+import com.intellij.openapi.vfs.StandardFileSystems
+import com.intellij.openapi.vfs.VirtualFile
+import com.intellij.util.io.URLUtil
+import org.jetbrains.kotlin.utils.fileUtils.writeAtomically
+import org.jetbrains.kotlin.utils.strings.toHexString
+import java.io.*
+import java.nio.ByteBuffer
+import java.nio.ByteOrder
+import java.nio.channels.FileChannel
+import java.nio.file.StandardOpenOption
+import java.security.MessageDigest
+import java.util.zip.ZipFile
+
+/**
+ * Directories and classes of a jar, read from its zip central directory.
+ *
+ * [packages] maps the path of each directory in the jar (e.g. "kotlin/collections", "" for the root) to the names of classes
+ * directly in it, without the ".class" extension and cut at the first '$'. So the absence of a name means that the jar has
+ * no top-level class with this name nor classes nested in it.
+ */
+class JarPackageTable(val packages: Map<String, Set<String>>) {
+    fun hasPackage(path: String): Boolean = path in packages
+
+    fun mayContainClass(packagePath: String, topLevelClassName: String): Boolean =
+        packages[packagePath]?.contains(topLevelClassName.substringBefore('$')) == true
+}
+
+/**
+ * Provides [JarPackageTable]s of classpath jars for [JvmDependenciesIndexImpl].
+ *
+ * Tables of the [MAX_LOADED_TABLES] most recently used jars are kept in memory until the application environment is disposed
+ * (so the daemon reads each jar once), and all tables are stored in [directory] for later processes. A table is reused only
+ * if the size and the modification time of its jar haven't changed.
+ */
+class JarPackageTables(private val directory: File?) {
+    fun getTable(root: VirtualFile): JarPackageTable? {
+        if (root.parent != null || root.fileSystem.protocol != StandardFileSystems.JAR_PROTOCOL) return null
+        val jar = File(root.path.removeSuffix(URLUtil.JAR_SEPARATOR))
+
+        val length = jar.length()
+        val lastModified = jar.lastModified()
+        if (lastModified == 0L) return null
+
+        val key = jar.absolutePath
+        synchronized(loadedTables) {
+            loadedTables[key]?.let { if (it.length == length && it.lastModified == lastModified) return it.table }
+        }
+
+        val storage = directory?.let { File(it, sha1(key) + TABLE_EXTENSION) }
+        val table = storage?.let { readTable(it, length, lastModified) }
+            ?: readCentralDirectory(jar)?.also { table -> storage?.let { writeTable(it, table, length, lastModified) } }
+            ?: return null
+
+        synchronized(loadedTables) {
+            loadedTables[key] = LoadedTable(table, length, lastModified)
+        }
+        return table
+    }
+
+    private fun readTable(file: File, length: Long, lastModified: Long): JarPackageTable? {
+        try {
+            DataInputStream(BufferedInputStream(FileInputStream(file))).use { input ->
+                if (input.readInt() != FORMAT_VERSION || input.readLong() != length || input.readLong() != lastModified) return null
+                val packages = HashMap<String, Set<String>>()
+                repeat(input.readInt()) {
+                    val packagePath = input.readUTF()
+                    packages[packagePath] = (0 until input.readInt()).mapTo(HashSet()) { input.readUTF() }
+                }
+                return JarPackageTable(packages)
+            }
+        } catch (e: IOException) {
+            return null
+        }
+    }
+
+    private fun writeTable(file: File, table: JarPackageTable, length: Long, lastModified: Long) {
+        // If it's not written, the table is going to be read from the jar again next time
+        file.writeAtomically { temp ->
+            DataOutputStream(BufferedOutputStream(FileOutputStream(temp))).use { output ->
+                output.writeInt(FORMAT_VERSION)
+                output.writeLong(length)
+                output.writeLong(lastModified)
+                output.writeInt(table.packages.size)
+                for ((packagePath, classes) in table.packages) {
+                    output.writeUTF(packagePath)
+                    output.writeInt(classes.size)
+                    classes.forEach(output::writeUTF)
+                }
+            }
+        }
+    }
+
+    private class LoadedTable(val table: JarPackageTable, val length: Long, val lastModified: Long)
+
+    companion object {
+        private const val FORMAT_VERSION = 1
+        private const val TABLE_EXTENSION = ".jartable"
+        private const val CLASS_FILE_SUFFIX = ".class"
+
+        private const val MAX_LOADED_TABLES = 1000
+
+        private val loadedTables = object : LinkedHashMap<String, LoadedTable>(16, 0.75f, true) {
+            override fun removeEldestEntry(eldest: MutableMap.MutableEntry<String, LoadedTable>): Boolean = size > MAX_LOADED_TABLES
+        }
+
+        fun clearLoadedTables() {
+            synchronized(loadedTables) {
+                loadedTables.clear()
+            }
+        }
+
+        private const val END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50
+        private const val END_OF_CENTRAL_DIRECTORY_SIZE = 22
+        private const val CENTRAL_DIRECTORY_ENTRY_SIGNATURE = 0x02014b50
+        private const val CENTRAL_DIRECTORY_ENTRY_SIZE = 46
+        private const val MAX_ZIP_COMMENT_SIZE = 0xFFFF
+
+        fun readCentralDirectory(jar: File): JarPackageTable? {
+            val entryNames = try {
+                readEntryNamesMapped(jar) ?: ZipFile(jar).use { zip -> zip.entries().asSequence().map { it.name }.toList() }
+            } catch (e: IOException) {
+                return null
+            }
+
+            val packages = HashMap<String, MutableSet<String>>()
+            packages[""] = HashSet()
+            for (name in entryNames) {
+                val lastSlash = name.lastIndexOf('/')
+                val packagePath = if (lastSlash < 0) "" else name.substring(0, lastSlash)
+                addPackageWithParents(packages, packagePath)
+
+                if (name.endsWith(CLASS_FILE_SUFFIX)) {
+                    val className = name.substring(lastSlash + 1, name.length - CLASS_FILE_SUFFIX.length)
+                    packages.getValue(packagePath).add(className.substringBefore('$'))
+                }
+            }
+            return JarPackageTable(packages)
+        }
+
+        private fun addPackageWithParents(packages: MutableMap<String, MutableSet<String>>, packagePath: String) {
+            var path = packagePath
+            while (path.isNotEmpty() && path !in packages) {
+                packages[path] = HashSet()
+                path = path.substringBeforeLast('/', "")
+            }
+        }
+
+        // Reads names of the entries from the memory-mapped central directory of the jar, or returns null if it uses a format
+        // not supported here (e.g. zip64), so that the caller can fall back to ZipFile
+        private fun readEntryNamesMapped(jar: File): List<String>? =
+            FileChannel.open(jar.toPath(), StandardOpenOption.READ).use { channel ->
+                val fileSize = channel.size()
+                if (fileSize < END_OF_CENTRAL_DIRECTORY_SIZE) return null
+
+                val tailSize = minOf(fileSize, (END_OF_CENTRAL_DIRECTORY_SIZE + MAX_ZIP_COMMENT_SIZE).toLong()).toInt()
+                val tail = channel.map(FileChannel.MapMode.READ_ONLY, fileSize - tailSize, tailSize.toLong()).order(ByteOrder.LITTLE_ENDIAN)
+                var end = tailSize - END_OF_CENTRAL_DIRECTORY_SIZE
+                while (end >= 0 && tail.getInt(end) != END_OF_CENTRAL_DIRECTORY_SIGNATURE) end--
+                if (end < 0) return null
+
+                val entryCount = tail.getShort(end + 10).toInt() and 0xFFFF
+                val directorySize = tail.getInt(end + 12).toLong() and 0xFFFFFFFFL
+                val directoryOffset = tail.getInt(end + 16).toLong() and 0xFFFFFFFFL
+                if (entryCount == 0xFFFF || directoryOffset == 0xFFFFFFFFL || directoryOffset + directorySize > fileSize) return null
+
+                val directory = channel.map(FileChannel.MapMode.READ_ONLY, directoryOffset, directorySize).order(ByteOrder.LITTLE_ENDIAN)
+                readEntryNames(directory, entryCount)
+            }
+
+        private fun readEntryNames(directory: ByteBuffer, entryCount: Int): List<String>? {
+            val names = ArrayList<String>(entryCount)
+            var position = 0
+            repeat(entryCount) {
+                if (position + CENTRAL_DIRECTORY_ENTRY_SIZE > directory.limit()) return null
+                if (directory.getInt(position) != CENTRAL_DIRECTORY_ENTRY_SIGNATURE) return null
+                val nameLength = directory.getShort(position + 28).toInt() and 0xFFFF
+                val extraLength = directory.getShort(position + 30).toInt() and 0xFFFF
+                val commentLength = directory.getShort(position + 32).toInt() and 0xFFFF
+                // A corrupt directory is left to ZipFile, the position of the next entry is checked in the next iteration
+                if (position + CENTRAL_DIRECTORY_ENTRY_SIZE + nameLength > directory.limit()) return null
+
+                val nameBytes = ByteArray(nameLength)
+                directory.position(position + CENTRAL_DIRECTORY_ENTRY_SIZE)
+                directory.get(nameBytes)
+                names.add(String(nameBytes, Charsets.UTF_8))
+
+                position += CENTRAL_DIRECTORY_ENTRY_SIZE + nameLength + extraLength + commentLength
+            }
+            return names
+        }
+
+        private fun sha1(value: String): String =
+            MessageDigest.getInstance("SHA-1").digest(value.toByteArray()).toHexString()
+    }
+}
@@ -29,7 +29,11 @@ import java.util.*
 // speeds up finding files/classes in classpath/java source roots
 // NOT THREADSAFE, needs to be adapted/removed if we want compiler to be multithreaded
 // the main idea of this class is for each package to store roots which contains it to avoid excessive file system traversal
-class JvmDependenciesIndexImpl(_roots: List<JavaRoot>) : JvmDependenciesIndex {
+// if jarPackageTables are given, packages and classes absent in jar roots are filtered out by their tables without touching the jars
+class JvmDependenciesIndexImpl(
+    _roots: List<JavaRoot>,
+    private val jarPackageTables: JarPackageTables? = null
+) : JvmDependenciesIndex {
     //these fields are computed based on _roots passed to constructor which are filled in later
     private val roots: List<JavaRoot> by lazy { _roots.toList() }
 
@@ -68,6 +72,14 @@ class JvmDependenciesIndexImpl(_roots: List<JavaRoot>) : JvmDependenciesIndex {
         Array(roots.size) { THashMap<String, VirtualFile?>() }
     }
 
+    // tables are only used for jar roots without a package prefix, null for other roots
+    private val rootTables: Array<JarPackageTable?> by lazy {
+        Array(roots.size) { index ->
+            val root = roots[index]
+            if (root.type == JavaRoot.RootType.BINARY && root.prefixFqName == null) jarPackageTables?.getTable(root.file) else null
+        }
+    }
+
     override fun traverseDirectoriesInPackage(
         packageFqName: FqName,
         acceptedRootTypes: Set<JavaRoot.RootType>,
@@ -127,7 +139,7 @@ class JvmDependenciesIndexImpl(_roots: List<JavaRoot>) : JvmDependenciesIndex {
 
                 val directoryInRoot = travelPath(rootIndex, request.packageFqName, packagesPath, cacheIndex, caches) ?: continue
                 val root = roots[rootIndex]
-                if (root.type in request.acceptedRootTypes) {
+                if (root.type in request.acceptedRootTypes && mayContainRequestedClass(rootIndex, request, packagesPath)) {
                     val result = handler(directoryInRoot, root.type)
                     if (result != null) {
                         if (request is FindClassRequest) {
@@ -146,6 +158,13 @@ class JvmDependenciesIndexImpl(_roots: List<JavaRoot>) : JvmDependenciesIndex {
         return null
     }
 
+    private fun mayContainRequestedClass(rootIndex: Int, request: SearchRequest, packagesPath: List<String>): Boolean {
+        if (request !is FindClassRequest) return true
+        val table = rootTables[rootIndex] ?: return true
+        val topLevelClassName = request.classId.relativeClassName.pathSegments().first().asString()
+        return table.mayContainClass(packagesPath.joinToString("/"), topLevelClassName)
+    }
+
     // try to find a target directory corresponding to package represented by packagesPath in a given root represented by index
     // possibly filling "Cache" objects with new information
     private fun travelPath(
@@ -172,6 +191,8 @@ class JvmDependenciesIndexImpl(_roots: List<JavaRoot>) : JvmDependenciesIndex {
     private fun doTravelPath(rootIndex: Int, packagesPath: List<String>, fillCachesAfter: Int, cachesPath: List<Cache>): VirtualFile? {
         val pathRoot = roots[rootIndex]
         val prefixPathSegments = pathRoot.prefixFqName?.pathSegments()
+        val table = rootTables[rootIndex]
+        val packagePathInJar = StringBuilder()
 
         var currentFile = pathRoot.file
 
@@ -183,6 +204,11 @@ class JvmDependenciesIndexImpl(_roots: List<JavaRoot>) : JvmDependenciesIndex {
                     return null
                 }
             } else {
+                if (table != null) {
+                    if (pathIndex > 0) packagePathInJar.append('/')
+                    packagePathInJar.append(subPackageName)
+                    if (!table.hasPackage(packagePathInJar.toString())) return null
+                }
                 currentFile = currentFile.findChildPackage(subPackageName, pathRoot.type) ?: return null
             }
 
@@ -144,6 +144,7 @@ fun CompilerConfiguration.configureAdvancedJvmOptions(arguments: K2JVMCompilerAr
     put(JVMConfigurationKeys.PARAMETERS_METADATA, arguments.javaParameters)
 
     put(JVMConfigurationKeys.IR, arguments.useIR && !arguments.noUseIR)
+    put(JVMConfigurationKeys.USE_LIGHT_TREE, arguments.useLightTree)
     put(JVMConfigurationKeys.DISABLE_CALL_ASSERTIONS, arguments.noCallAssertions)
     put(JVMConfigurationKeys.DISABLE_RECEIVER_ASSERTIONS, arguments.noReceiverAssertions)
     put(JVMConfigurationKeys.DISABLE_PARAM_ASSERTIONS, arguments.noParamAssertions)
@@ -153,6 +154,51 @@ fun CompilerConfiguration.configureAdvancedJvmOptions(arguments: K2JVMCompilerAr
     )
     put(JVMConfigurationKeys.DISABLE_OPTIMIZATION, arguments.noOptimize)
     put(JVMConfigurationKeys.EMIT_JVM_TYPE_ANNOTATIONS, arguments.emitJvmTypeAnnotations)
+    put(JVMConfigurationKeys.PER_KEY_STORAGE_LOCKING, arguments.perKeyStorageLocking)
+    put(JVMConfigurationKeys.PARALLEL_METHOD_OPTIMIZATION, arguments.parallelMethodOptimization)
+
+    val backendThreads = arguments.backendThreads.toIntOrNull()
+    if (backendThreads == null || backendThreads < 0) {
+        getNotNull(CLIConfigurationKeys.MESSAGE_COLLECTOR_KEY).report(
+            ERROR, "Invalid number of backend threads: ${arguments.backendThreads}, a non-negative integer is expected"
+        )
+    } else {
+        put(JVMConfigurationKeys.PARALLEL_BACKEND_THREADS, if (backendThreads == 0) Runtime.getRuntime().availableProcessors() else backendThreads)
+    }
+
+    val irLoweringThreads = arguments.irLoweringThreads.toIntOrNull()
+    if (irLoweringThreads == null || irLoweringThreads < 0) {
+        getNotNull(CLIConfigurationKeys.MESSAGE_COLLECTOR_KEY).report(
+            ERROR, "Invalid number of IR lowering threads: ${arguments.irLoweringThreads}, a non-negative integer is expected"
+        )
+    } else {
+        put(
+            CommonConfigurationKeys.PARALLEL_LOWERING_THREADS,
+            if (irLoweringThreads == 0) Runtime.getRuntime().availableProcessors() else irLoweringThreads
+        )
+    }
+
+    val parsingThreads = arguments.parsingThreads.toIntOrNull()
+    if (parsingThreads == null || parsingThreads < 0) {
+        getNotNull(CLIConfigurationKeys.MESSAGE_COLLECTOR_KEY).report(
+            ERROR, "Invalid number of parsing threads: ${arguments.parsingThreads}, a non-negative integer is expected"
+        )
+    } else {
+        put(CLIConfigurationKeys.PARSING_THREADS, if (parsingThreads == 0) Runtime.getRuntime().availableProcessors() else parsingThreads)
+    }
+
+    arguments.inlineFunctionCache?.let { put(JVMConfigurationKeys.INLINE_FUNCTION_CACHE_DIRECTORY, File(it)) }
+    arguments.jarIndexCache?.let { put(JVMConfigurationKeys.JAR_INDEX_CACHE_DIRECTORY, File(it)) }
+    arguments.inlineFunctionCacheSize?.let { value ->
+        val size = value.toIntOrNull()
+        if (size == null || size <= 0) {
+            getNotNull(CLIConfigurationKeys.MESSAGE_COLLECTOR_KEY).report(
+                ERROR, "Invalid inline function cache size: $value, a positive number of megabytes is expected"
+            )
+        } else {
+            put(JVMConfigurationKeys.INLINE_FUNCTION_CACHE_SIZE, size)
+        }
+    }
 
     if (!JVMConstructorCallNormalizationMode.isSupportedValue(arguments.constructorCallNormalizationMode)) {
         getNotNull(CLIConfigurationKeys.MESSAGE_COLLECTOR_KEY).report(
@@ -96,6 +96,26 @@ open class CompilerCallbackServicesFacadeServer(
         }
     }
 
+    // Strings of the lookups received in batches during the current compilation, see LookupBatch
+    private val lookupStrings = ArrayList<String>()
+
+    @Synchronized
+    override fun lookupTracker_recordBatch(batch: LookupBatch) {
+        val lookupTracker = lookupTracker!!
+
+        if (batch.firstStringIndex == 0) {
+            lookupStrings.clear()
+        }
+        check(batch.firstStringIndex == lookupStrings.size) {
+            "Lookup batch strings start at ${batch.firstStringIndex}, but ${lookupStrings.size} strings were received"
+        }
+        lookupStrings.addAll(batch.newStrings)
+
+        batch.forEachLookup(lookupStrings) { filePath, position, scopeFqName, scopeKind, name ->
+            lookupTracker.record(filePath, position, scopeFqName, scopeKind, name)
+        }
+    }
+
     private val lookupTracker_isDoNothing: Boolean = lookupTracker === LookupTracker.DO_NOTHING
 
     override fun lookupTracker_isDoNothing(): Boolean = lookupTracker_isDoNothing
@@ -17,6 +17,8 @@
 package org.jetbrains.kotlin.daemon.common
 
 import org.jetbrains.kotlin.incremental.components.LookupInfo
+import org.jetbrains.kotlin.incremental.components.Position
+import org.jetbrains.kotlin.incremental.components.ScopeKind
 import org.jetbrains.kotlin.incremental.js.JsInlineFunctionHash
 import org.jetbrains.kotlin.load.kotlin.incremental.components.JvmPackagePartProto
 import org.jetbrains.kotlin.modules.TargetId
@@ -88,6 +90,9 @@ interface CompilerCallbackServicesFacade : Remote {
     @Throws(RemoteException::class)
     fun lookupTracker_record(lookups: Collection<LookupInfo>)
 
+    @Throws(RemoteException::class)
+    fun lookupTracker_recordBatch(batch: LookupBatch)
+
     @Throws(RemoteException::class)
     fun lookupTracker_isDoNothing(): Boolean
 
@@ -135,6 +140,41 @@ class CompiledPackagePart(
     val metadata: ByteArray, val binaryAst: ByteArray, val inlineData: ByteArray
 ) : Serializable
 
+/**
+ * Lookups sent from the daemon in one call of [CompilerCallbackServicesFacade.lookupTracker_recordBatch].
+ *
+ * Strings are sent only once per compilation: the receiver keeps a table of them, [newStrings] are appended to it and should start
+ * at [firstStringIndex] (0 for the first batch of a compilation). Each lookup takes [recordSize] ints of [records]: the indices of its file
+ * path, scope fq name and name in the table, the ordinal of its scope kind, and the line and the column of its position if [hasPositions].
+ */
+class LookupBatch(
+    val firstStringIndex: Int,
+    val newStrings: Array<String>,
+    val records: IntArray,
+    val hasPositions: Boolean
+) : Serializable {
+    val recordSize: Int
+        get() = if (hasPositions) 6 else 4
+
+    inline fun forEachLookup(
+        strings: List<String>,
+        action: (filePath: String, position: Position, scopeFqName: String, scopeKind: ScopeKind, name: String) -> Unit
+    ) {
+        val scopeKinds = ScopeKind.values()
+        var offset = 0
+        while (offset < records.size) {
+            val position = if (hasPositions) Position(records[offset + 4], records[offset + 5]) else Position.NO_POSITION
+            action(strings[records[offset]], position, strings[records[offset + 1]], scopeKinds[records[offset + 3]], strings[records[offset + 2]])
+            offset += recordSize
+        }
+    }
+
+    companion object {
+        // just a random number, but should never be changed to avoid deserialization problems
+        private val serialVersionUID: Long = 7301785467019531L
+    }
+}
+
 class PackageMetadata(
     val packageName: String,
     val metadata: ByteArray
@@ -16,9 +16,14 @@
 
 package org.jetbrains.kotlin.daemon.common
 
+import com.sun.management.GarbageCollectionNotificationInfo
 import java.lang.management.ManagementFactory
 import java.lang.management.ThreadMXBean
 import java.util.concurrent.atomic.AtomicLong
+import javax.management.Notification
+import javax.management.NotificationEmitter
+import javax.management.NotificationListener
+import javax.management.openmbean.CompositeData
 
 interface PerfCounters {
     val count: Long
@@ -92,6 +97,38 @@ inline fun usedMemory(withGC: Boolean): Long {
     return (rt.totalMemory() - rt.freeMemory())
 }
 
+// Memory allocated by the current thread so far, unlike usedMemory not affected by other threads, or 0 if not supported by the JVM
+fun threadAllocatedBytes(): Long {
+    val threadMXBean = ManagementFactory.getThreadMXBean() as? com.sun.management.ThreadMXBean ?: return 0L
+    return if (threadMXBean.isThreadAllocatedMemorySupported && threadMXBean.isThreadAllocatedMemoryEnabled)
+        threadMXBean.getThreadAllocatedBytes(Thread.currentThread().id)
+    else 0L
+}
+
+// Memory allocated by all threads of the process so far: the used heap plus the memory freed by garbage collections since the
+// first call. Unlike threadAllocatedBytes it includes worker threads which are already finished, but garbage collections are
+// reported asynchronously, so the result is approximate
+fun processAllocatedBytes(): Long = usedMemory(withGC = false) + GarbageCollectionListener.freedBytes.get()
+
+private object GarbageCollectionListener : NotificationListener {
+    val freedBytes = AtomicLong()
+
+    init {
+        for (garbageCollector in ManagementFactory.getGarbageCollectorMXBeans()) {
+            (garbageCollector as? NotificationEmitter)?.addNotificationListener(this, null, null)
+        }
+    }
+
+    override fun handleNotification(notification: Notification, handback: Any?) {
+        if (notification.type != GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION) return
+
+        val gcInfo = GarbageCollectionNotificationInfo.from(notification.userData as CompositeData).gcInfo
+        val usedBefore = gcInfo.memoryUsageBeforeGc.values.map { it.used }.sum()
+        val usedAfter = gcInfo.memoryUsageAfterGc.values.map { it.used }.sum()
+        freedBytes.addAndGet(usedBefore - usedAfter)
+    }
+}
+
 
 inline fun beginMeasureWallTime() = listOf(System.nanoTime())
 
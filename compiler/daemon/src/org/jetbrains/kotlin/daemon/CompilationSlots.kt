@@ -0,0 +1,83 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.daemon
+
+import java.util.concurrent.Semaphore
+import java.util.concurrent.locks.ReentrantLock
+import java.util.logging.Logger
+import kotlin.concurrent.withLock
+
+/**
+ * Lets at most [maxParallelCompilations] compilations run at once, other ones wait for a free slot in a fair queue.
+ *
+ * Compilations share the jar caches, so [clearJarCache] is only called when no compilation is running. If a clearing is requested
+ * during compilations, it's done when the running ones finish, and the compilations started meanwhile wait for it, so that
+ * overlapping compilations can't postpone it forever.
+ */
+class CompilationSlots(
+    val maxParallelCompilations: Int,
+    private val log: Logger,
+    private val clearJarCache: () -> Unit
+) {
+    private val slots = Semaphore(maxParallelCompilations, true)
+
+    private val lock = ReentrantLock()
+    private val jarCacheCleared = lock.newCondition()
+    // Guarded by lock
+    private var activeCompilations = 0
+    private var isJarCacheClearingPending = false
+
+    val activeCompilationsCount: Int
+        get() = lock.withLock { activeCompilations }
+
+    fun startCompilation() {
+        if (!slots.tryAcquire()) {
+            log.info("$maxParallelCompilations compilations are running, waiting for one of them to finish")
+            slots.acquire()
+        }
+        try {
+            lock.withLock {
+                while (isJarCacheClearingPending) {
+                    jarCacheCleared.await()
+                }
+                activeCompilations++
+            }
+        } catch (e: InterruptedException) {
+            slots.release()
+            throw e
+        }
+    }
+
+    fun finishCompilation() {
+        lock.withLock {
+            activeCompilations--
+            if (activeCompilations == 0 && isJarCacheClearingPending) {
+                clearPendingJarCache()
+            }
+        }
+        slots.release()
+    }
+
+    fun clearJarCacheWhenIdle() {
+        lock.withLock {
+            if (activeCompilations == 0) {
+                clearJarCache()
+            } else {
+                isJarCacheClearingPending = true
+            }
+        }
+    }
+
+    // Should be called under the lock
+    private fun clearPendingJarCache() {
+        try {
+            clearJarCache()
+        } finally {
+            isJarCacheClearingPending = false
+            jarCacheCleared.signalAll()
+        }
+    }
+}
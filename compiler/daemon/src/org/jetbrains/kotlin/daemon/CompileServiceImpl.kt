@@ -127,6 +127,12 @@ abstract class CompileServiceImplBase(
 
     protected val compilationsCounter = AtomicInteger(0)
 
+    // Compilations run in the threads of their calls and share the application environment and the jar caches
+    protected val compilationSlots = CompilationSlots(daemonOptions.maxParallelCompilationsOrDefault, log) {
+        ZipHandler.clearFileAccessorCache()
+        (KotlinCoreEnvironment.applicationEnvironment?.jarFileSystem as? CoreJarFileSystem)?.clearHandlersCache()
+    }
+
     protected val classpathWatcher = LazyClasspathWatcher(compilerId.compilerClasspath)
 
     enum class Aliveness {
@@ -381,6 +387,7 @@ abstract class CompileServiceImplBase(
             tracer?.before("compile")
             val rpcProfiler = if (daemonOptions.reportPerf) WallAndThreadTotalProfiler() else DummyProfiler()
             val eventManager = EventManagerImpl()
+            compilationSlots.startCompilation()
             try {
                 log.fine("trying get exitCode")
                 val exitCode = checkedCompile(daemonMessageReporter, rpcProfiler) {
@@ -388,7 +395,11 @@ abstract class CompileServiceImplBase(
                 }
                 CompileService.CallResult.Good(exitCode)
             } finally {
-                eventManager.fireCompilationFinished()
+                try {
+                    eventManager.fireCompilationFinished()
+                } finally {
+                    compilationSlots.finishCompilation()
+                }
                 tracer?.after("compile")
             }
         }
@@ -404,9 +415,15 @@ abstract class CompileServiceImplBase(
     ): R {
         try {
             val profiler = if (daemonOptions.reportPerf) WallAndThreadAndMemoryTotalProfiler(withGC = false) else DummyProfiler()
+            val startThreadAllocatedBytes = if (daemonOptions.reportPerf) threadAllocatedBytes() else 0L
+            val startProcessAllocatedBytes = if (daemonOptions.reportPerf) processAllocatedBytes() else 0L
 
             val res = profiler.withMeasure(null, body)
 
+            val allocatedByThread = if (daemonOptions.reportPerf) threadAllocatedBytes() - startThreadAllocatedBytes else 0L
+            // Includes worker threads of the compilation, as well as other compilations running at the same time
+            val allocatedByProcess = if (daemonOptions.reportPerf) processAllocatedBytes() - startProcessAllocatedBytes else 0L
+
             val endMem = if (daemonOptions.reportPerf) usedMemory(withGC = false) else 0L
 
             log.info("Done with result $res")
@@ -417,7 +434,7 @@ abstract class CompileServiceImplBase(
 
                 "PERF: Compile on daemon: ${pc.time.ms()} ms; thread: user ${pc.threadUserTime.ms()} ms, sys ${(pc.threadTime - pc.threadUserTime).ms()} ms; rpc: ${rpc.count} calls, ${rpc.time.ms()} ms, thread ${rpc.threadTime.ms()} ms; memory: ${endMem.kb()} kb (${"%+d".format(
                     pc.memory.kb()
-                )} kb)".let {
+                )} kb); allocated: ${allocatedByProcess.kb()} kb by all threads, ${allocatedByThread.kb()} kb by compilation thread; parallel compilations: ${compilationSlots.activeCompilationsCount}".let {
                     daemonMessageReporter.report(ReportSeverity.INFO, it)
                     log.info(it)
                 }
@@ -678,9 +695,7 @@ class CompileServiceImpl(
     override fun releaseCompileSession(sessionId: Int) = ifAlive(minAliveness = Aliveness.LastSession) {
         state.sessions.remove(sessionId)
         log.info("cleaning after session $sessionId")
-        rwlock.write {
-            clearJarCache()
-        }
+        clearJarCache()
         postReleaseCompileSession()
     }
 
@@ -1189,8 +1204,7 @@ class CompileServiceImpl(
     }
 
     override fun clearJarCache() {
-        ZipHandler.clearFileAccessorCache()
-        (KotlinCoreEnvironment.applicationEnvironment?.jarFileSystem as? CoreJarFileSystem)?.clearHandlersCache()
+        compilationSlots.clearJarCacheWhenIdle()
     }
 
     private inline fun <R> ifAlive(
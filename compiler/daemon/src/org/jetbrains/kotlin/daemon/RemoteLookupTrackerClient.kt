@@ -16,19 +16,30 @@
 
 package org.jetbrains.kotlin.daemon
 
-import com.intellij.util.containers.StringInterner
-import gnu.trove.THashMap
-import gnu.trove.THashSet
+import gnu.trove.TIntArrayList
+import gnu.trove.TIntObjectHashMap
+import gnu.trove.TLongHashSet
+import gnu.trove.TObjectIntHashMap
 import org.jetbrains.kotlin.daemon.common.CompilerCallbackServicesFacade
 import org.jetbrains.kotlin.daemon.common.DummyProfiler
+import org.jetbrains.kotlin.daemon.common.LookupBatch
 import org.jetbrains.kotlin.daemon.common.Profiler
 import org.jetbrains.kotlin.daemon.common.withMeasure
 import org.jetbrains.kotlin.incremental.components.LookupInfo
 import org.jetbrains.kotlin.incremental.components.LookupTracker
 import org.jetbrains.kotlin.incremental.components.Position
 import org.jetbrains.kotlin.incremental.components.ScopeKind
+import java.rmi.ServerException
+import java.rmi.UnmarshalException
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Semaphore
+import java.util.concurrent.TimeUnit
 
-
+/**
+ * Sends lookups to the client in batches of at most [BATCH_SIZE] lookups while the compilation is in progress, without waiting
+ * for the client to process them, unless [MAX_PENDING_BATCHES] batches are already being sent. See [LookupBatch] for the encoding.
+ */
 class RemoteLookupTrackerClient(
     val facade: CompilerCallbackServicesFacade,
     eventManager: EventManager,
@@ -36,52 +47,146 @@ class RemoteLookupTrackerClient(
 ) : LookupTracker {
     private val isDoNothing = profiler.withMeasure(this) { facade.lookupTracker_isDoNothing() }
 
-    // Map: FileName -> (ScopeFqName -> Set<Name[String] | LookupInfo>)
-    private val lookups = THashMap<String, MutableMap<String, MutableSet<Any>>>()
-    private val interner = StringInterner()
-
     override val requiresPosition: Boolean = profiler.withMeasure(this) { facade.lookupTracker_requiresPosition() }
 
+    // Strings of the sent lookups in the order of their indices, the ones not sent yet to the client at the end
+    private val strings = ArrayList<String>()
+    private val stringIndices = TObjectIntHashMap<String>()
+    private var sentStringCount = 0
+
+    // Map: FileName index -> Set<(ScopeFqName index, Name index)>, to send every lookup without position only once
+    private val recordedLookups = TIntObjectHashMap<TLongHashSet>()
+
+    private val records = TIntArrayList()
+    private val recordSize = if (requiresPosition) 6 else 4
+
+    private var sender: ExecutorService? = null
+    private val pendingBatches = Semaphore(MAX_PENDING_BATCHES)
+    @Volatile
+    private var sendError: Throwable? = null
+    // Used only by the sender: false if the client was built before batches were introduced, see send
+    private var sendBatches = true
+    private val receivedStrings = ArrayList<String>()
+
     override fun record(filePath: String, position: Position, scopeFqName: String, scopeKind: ScopeKind, name: String) {
         if (isDoNothing) return
 
-        val internedSymbolFqName = interner.intern(scopeFqName)
-        val internedName = interner.intern(name)
+        val fileIndex = stringIndex(filePath)
+        val scopeIndex = stringIndex(scopeFqName)
+        val nameIndex = stringIndex(name)
+
+        if (!requiresPosition) {
+            val lookupsInFile = recordedLookups.get(fileIndex) ?: TLongHashSet().also { recordedLookups.put(fileIndex, it) }
+            if (!lookupsInFile.add((scopeIndex.toLong() shl 32) or nameIndex.toLong())) return
+        }
+
+        records.add(fileIndex)
+        records.add(scopeIndex)
+        records.add(nameIndex)
+        if (requiresPosition) {
+            records.add(scopeKind.ordinal)
+            records.add(position.line)
+            records.add(position.column)
+        } else {
+            // Lookups without positions are deduplicated regardless of their kind, so all of them are sent as classifier ones
+            records.add(ScopeKind.CLASSIFIER.ordinal)
+        }
+
+        if (records.size() >= BATCH_SIZE * recordSize) {
+            // Measured here rather than in the sender, so that only this thread uses the profiler
+            profiler.withMeasure(this) { sendBatch() }
+        }
+    }
 
-        val objectToPut: Any =
-            if (requiresPosition)
-                LookupInfo(filePath, position, scopeFqName, scopeKind, name)
-            else
-                internedName
+    private fun stringIndex(string: String): Int {
+        if (stringIndices.containsKey(string)) return stringIndices.get(string)
 
-        lookups.getOrPut(filePath, ::THashMap).getOrPut(internedSymbolFqName, ::THashSet).add(objectToPut)
+        stringIndices.put(string, strings.size)
+        strings.add(string)
+        return strings.size - 1
     }
 
     init {
         eventManager.onCompilationFinished { flush() }
     }
 
+    private fun sendBatch() {
+        sendError?.let { throw it }
+
+        val batch = LookupBatch(sentStringCount, strings.subList(sentStringCount, strings.size).toTypedArray(), records.toNativeArray(), requiresPosition)
+        sentStringCount = strings.size
+        records.resetQuick()
+
+        val sender = sender ?: Executors.newSingleThreadExecutor { runnable ->
+            Thread(runnable, "Kotlin daemon lookups sender").apply { isDaemon = true }
+        }.also { sender = it }
+
+        pendingBatches.acquire()
+        sender.execute {
+            try {
+                if (sendError == null) {
+                    send(batch)
+                }
+            } catch (e: Throwable) {
+                sendError = e
+            } finally {
+                pendingBatches.release()
+            }
+        }
+    }
+
+    private fun send(batch: LookupBatch) {
+        if (sendBatches) {
+            try {
+                facade.lookupTracker_recordBatch(batch)
+                return
+            } catch (e: ServerException) {
+                if (batch.firstStringIndex != 0 || e.cause !is UnmarshalException) throw e
+                sendBatches = false
+            }
+        }
+
+        receivedStrings.addAll(batch.newStrings)
+        val lookups = ArrayList<LookupInfo>(batch.records.size / batch.recordSize)
+        batch.forEachLookup(receivedStrings) { filePath, position, scopeFqName, scopeKind, name ->
+            lookups.add(LookupInfo(filePath, position, scopeFqName, scopeKind, name))
+        }
+        facade.lookupTracker_record(lookups)
+    }
+
     private fun flush() {
-        if (isDoNothing || lookups.isEmpty) return
+        if (isDoNothing) return
 
         profiler.withMeasure(this) {
-            facade.lookupTracker_record(
-                lookups.flatMap { (filePath, lookupsByFile) ->
-                    lookupsByFile.flatMap { (scopeFqName, lookupsByScopeFqName) ->
-                        lookupsByScopeFqName.map { lookupInfoOrString ->
-                            if (requiresPosition)
-                                lookupInfoOrString as LookupInfo
-                            else
-                                LookupInfo(
-                                    filePath, Position.NO_POSITION, scopeFqName, ScopeKind.CLASSIFIER,
-                                    lookupInfoOrString as String
-                                )
-                        }
-                    }
+            try {
+                if (!records.isEmpty() && sendError == null) {
+                    sendBatch()
+                }
+            } finally {
+                sender?.let {
+                    it.shutdown()
+                    it.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS)
                 }
-            )
+                sender = null
+            }
         }
 
-        lookups.clear()
+        // The sender is terminated, so its state can be reset as well
+        strings.clear()
+        stringIndices.clear()
+        sentStringCount = 0
+        recordedLookups.clear()
+        records.resetQuick()
+        receivedStrings.clear()
+        sendBatches = true
+
+        val error = sendError
+        sendError = null
+        error?.let { throw it }
+    }
+
+    companion object {
+        const val BATCH_SIZE = 16 * 1024
+        const val MAX_PENDING_BATCHES = 4
     }
 }
@@ -275,7 +275,7 @@ class JavaSymbolProvider(
     }
 
     fun getJavaTopLevelClasses(): List<FirRegularClass> {
-        return classCache.values
+        return withFirSharedCachesLock { classCache.values.toList() }
             .filterIsInstance<FirRegularClassSymbol>()
             .filter { it.classId.relativeClassName.parent().isRoot }
             .map { it.fir }
@@ -284,7 +284,7 @@ class JavaSymbolProvider(
     private val knownClassNamesInPackage = mutableMapOf<FqName, Set<String>?>()
 
     private fun hasTopLevelClassOf(classId: ClassId): Boolean {
-        val knownNames = knownClassNamesInPackage.getOrPut(classId.packageFqName) {
+        val knownNames = knownClassNamesInPackage.getOrPutShared(classId.packageFqName) {
             facade.knownClassNamesInPackage(classId.packageFqName)
         } ?: return true
         return classId.relativeClassName.topLevelName() in knownNames
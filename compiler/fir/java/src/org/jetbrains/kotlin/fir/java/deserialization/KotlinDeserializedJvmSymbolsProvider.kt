@@ -143,7 +143,9 @@ class KotlinDeserializedJvmSymbolsProvider(
         get() = classHeader.isPreRelease
 
     override fun getClassLikeSymbolByFqName(classId: ClassId): FirClassLikeSymbol<*>? {
-        return findAndDeserializeClass(classId) ?: findAndDeserializeTypeAlias(classId)
+        return withFirSharedCachesLock {
+            findAndDeserializeClass(classId) ?: findAndDeserializeTypeAlias(classId)
+        }
     }
 
     private fun findAndDeserializeTypeAlias(
@@ -375,8 +377,10 @@ class KotlinDeserializedJvmSymbolsProvider(
     }
 
     override fun getTopLevelCallableSymbols(packageFqName: FqName, name: Name): List<FirCallableSymbol<*>> {
-        return getPackageParts(packageFqName).flatMap { part ->
-            loadFunctionsByName(part, name) + loadPropertiesByName(part, name)
+        return withFirSharedCachesLock {
+            getPackageParts(packageFqName).flatMap { part ->
+                loadFunctionsByName(part, name) + loadPropertiesByName(part, name)
+            }
         }
     }
 
@@ -387,7 +391,7 @@ class KotlinDeserializedJvmSymbolsProvider(
     }
 
     private fun getPackageParts(packageFqName: FqName): Collection<PackagePartsCacheData> {
-        return packagePartsCache.getOrPut(packageFqName) {
+        return packagePartsCache.getOrPutShared(packageFqName) {
             try {
                 computePackagePartsInfos(packageFqName)
             } catch (e: ProcessCanceledException) {
@@ -16,6 +16,8 @@ import org.jetbrains.kotlin.fir.expressions.impl.FirConstExpressionImpl
 import org.jetbrains.kotlin.fir.java.JavaTypeParameterStack
 import org.jetbrains.kotlin.fir.java.declarations.*
 import org.jetbrains.kotlin.fir.java.enhancement.*
+import org.jetbrains.kotlin.fir.resolve.getOrPutShared
+import org.jetbrains.kotlin.fir.resolve.withFirSharedCachesLock
 import org.jetbrains.kotlin.fir.types.jvm.FirJavaTypeRef
 import org.jetbrains.kotlin.fir.render
 import org.jetbrains.kotlin.fir.scopes.FirScope
@@ -55,7 +57,7 @@ class JavaClassEnhancementScope(
     override fun processPropertiesByName(name: Name, processor: (FirCallableSymbol<*>) -> ProcessorAction): ProcessorAction {
         useSiteMemberScope.processPropertiesByName(name) process@{ original ->
 
-            val field = enhancements.getOrPut(original) { enhance(original, name) }
+            val field = enhancements.getOrPutShared(original) { enhance(original, name) }
             processor(field)
         }
 
@@ -65,7 +67,7 @@ class JavaClassEnhancementScope(
     override fun processFunctionsByName(name: Name, processor: (FirFunctionSymbol<*>) -> ProcessorAction): ProcessorAction {
         useSiteMemberScope.processFunctionsByName(name) process@{ original ->
 
-            val function = enhancements.getOrPut(original) { enhance(original, name) }
+            val function = enhancements.getOrPutShared(original) { enhance(original, name) }
             processor(function as FirFunctionSymbol<*>)
         }
 
@@ -305,11 +307,9 @@ class JavaClassEnhancementScope(
     private val overrideBindCache = mutableMapOf<Name, Map<FirCallableSymbol<*>?, List<FirCallableSymbol<*>>>>()
 
     private fun FirCallableMemberDeclaration<*>.overriddenMembers(): List<FirCallableMemberDeclaration<*>> {
-        val backMap = overrideBindCache.getOrPut(this.name) {
+        val backMap = overrideBindCache.getOrPutShared(this.name) {
             useSiteMemberScope.bindOverrides(this.name)
-            useSiteMemberScope
-                .overrideByBase
-                .toList()
+            withFirSharedCachesLock { useSiteMemberScope.overrideByBase.toList() }
                 .groupBy({ (_, key) -> key }, { (value) -> value })
         }
         return backMap[this.symbol]?.map { it.fir as FirCallableMemberDeclaration<*> } ?: emptyList()
@@ -12,6 +12,7 @@ import com.intellij.openapi.vfs.CharsetToolkit
 import com.intellij.util.diff.FlyweightCapableTreeStructure
 import org.jetbrains.kotlin.fir.FirSession
 import org.jetbrains.kotlin.fir.FirSessionBase
+import org.jetbrains.kotlin.fir.FirSourceElement
 import org.jetbrains.kotlin.fir.declarations.FirFile
 import org.jetbrains.kotlin.fir.lightTree.converter.DeclarationsConverter
 import org.jetbrains.kotlin.fir.scopes.FirScopeProvider
@@ -63,10 +64,14 @@ class LightTree2Fir(
         return builder.lightTree
     }
 
-    fun buildFirFile(code: String, fileName: String): FirFile {
+    /**
+     * The [source] of the file, if given, is kept as the file's own source element. Other elements of the FIR get
+     * [org.jetbrains.kotlin.fir.FirLightSourceElement]s with their offsets in [code], so that the backend maps them to line numbers.
+     */
+    fun buildFirFile(code: String, fileName: String, source: FirSourceElement? = null): FirFile {
         val lightTree = buildLightTree(code)
 
         return DeclarationsConverter(session, scopeProvider, stubMode, lightTree)
-            .convertFile(lightTree.root, fileName)
+            .convertFile(lightTree.root, fileName, source)
     }
 }
\ No newline at end of file
@@ -10,7 +10,9 @@ import com.intellij.openapi.util.Ref
 import com.intellij.psi.tree.IElementType
 import com.intellij.util.diff.FlyweightCapableTreeStructure
 import org.jetbrains.kotlin.KtNodeTypes
+import org.jetbrains.kotlin.fir.FirLightSourceElement
 import org.jetbrains.kotlin.fir.FirSession
+import org.jetbrains.kotlin.fir.FirSourceElement
 import org.jetbrains.kotlin.fir.builder.BaseFirBuilder
 import org.jetbrains.kotlin.fir.builder.Context
 import org.jetbrains.kotlin.fir.builder.escapedStringToCharacter
@@ -20,13 +22,31 @@ import org.jetbrains.kotlin.lexer.KtTokens
 import org.jetbrains.kotlin.lexer.KtTokens.*
 import org.jetbrains.kotlin.name.Name
 
+/**
+ * [offsetDelta] is the offset of the [tree] in the file, blocks and lambdas are parsed into separate trees from their texts.
+ */
 open class BaseConverter(
     session: FirSession,
     private val tree: FlyweightCapableTreeStructure<LighterASTNode>,
+    protected val offsetDelta: Int,
     context: Context = Context()
 ) : BaseFirBuilder<LighterASTNode>(session, context) {
     protected val implicitType = FirImplicitTypeRefImpl(null)
 
+    // Offsets of the node in the file, leading comments are skipped like in the PSI-based FIR
+    fun LighterASTNode.toFirSourceElement(): FirSourceElement {
+        var startOffset = this.startOffset
+        for (kid in getChildrenAsArray()) {
+            if (kid == null) break
+            if (COMMENTS.contains(kid.tokenType) || kid.tokenType == WHITE_SPACE) continue
+            startOffset = kid.startOffset
+            break
+        }
+        return FirLightSourceElement(offsetDelta + startOffset, offsetDelta + endOffset)
+    }
+
+    override fun LighterASTNode?.getSourceOrNull(): FirSourceElement? = this?.toFirSourceElement()
+
     override val LighterASTNode.elementType: IElementType
         get() = this.tokenType
 
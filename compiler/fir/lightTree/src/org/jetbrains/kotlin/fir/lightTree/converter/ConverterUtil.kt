@@ -132,12 +132,12 @@ fun generateDestructuringBlock(
         val isVar = multiDeclaration.isVar
         for ((index, entry) in multiDeclaration.entries.withIndex()) {
             statements += FirPropertyImpl(
-                null,
+                entry.source,
                 session,
                 entry.returnTypeRef,
                 null,
                 entry.name,
-                FirComponentCallImpl(null, generateResolvedAccessExpression(null, container), index + 1),
+                FirComponentCallImpl(entry.source, generateResolvedAccessExpression(entry.source, container), index + 1),
                 null,
                 isVar,
                 FirPropertySymbol(entry.name), // TODO?
@@ -47,15 +47,16 @@ class DeclarationsConverter(
     val scopeProvider: FirScopeProvider,
     private val stubMode: Boolean,
     tree: FlyweightCapableTreeStructure<LighterASTNode>,
+    offsetDelta: Int = 0,
     context: Context = Context()
-) : BaseConverter(session, tree, context) {
-    private val expressionConverter = ExpressionsConverter(session, stubMode, tree, this, context)
+) : BaseConverter(session, tree, offsetDelta, context) {
+    private val expressionConverter = ExpressionsConverter(session, stubMode, tree, this, offsetDelta, context)
 
     /**
      * [org.jetbrains.kotlin.parsing.KotlinParsing.parseFile]
      * [org.jetbrains.kotlin.parsing.KotlinParsing.parsePreamble]
      */
-    fun convertFile(file: LighterASTNode, fileName: String = ""): FirFile {
+    fun convertFile(file: LighterASTNode, fileName: String = "", source: FirSourceElement? = null): FirFile {
         if (file.tokenType != KT_FILE) {
             //TODO throw error
             throw Exception()
@@ -79,7 +80,7 @@ class DeclarationsConverter(
         }
 
         val firFile = FirFileImpl(
-            null,
+            source,
             session,
             fileName,
             context.packageFqName
@@ -91,6 +92,10 @@ class DeclarationsConverter(
         return firFile
     }
 
+    fun convertLambdaExpression(lambdaExpression: LighterASTNode): FirExpression {
+        return expressionConverter.convertLambdaExpression(lambdaExpression)
+    }
+
     /**
      * @see org.jetbrains.kotlin.parsing.KotlinParsing.parseBlockExpression
      */
@@ -106,7 +111,7 @@ class DeclarationsConverter(
                 else -> if (node.isExpression()) container += expressionConverter.getAsFirExpression<FirStatement>(node)
             }
         }
-        return FirBlockImpl(null).apply {
+        return FirBlockImpl(block.toFirSourceElement()).apply {
             firStatements.forEach { firStatement ->
                 if (firStatement !is FirBlock || firStatement.annotations.isNotEmpty()) {
                     statements += firStatement
@@ -367,9 +372,10 @@ class DeclarationsConverter(
                 isData = modifiers.isDataClass() && classKind != ClassKind.OBJECT
                 isInline = modifiers.hasInline()
             }
+            val source = classNode.toFirSourceElement()
             val firClass = if (status.modality == Modality.SEALED) {
                 FirSealedClassImpl(
-                    null,
+                    source,
                     session,
                     className,
                     status,
@@ -379,7 +385,7 @@ class DeclarationsConverter(
                 )
             } else {
                 FirClassImpl(
-                    null,
+                    source,
                     session,
                     className,
                     status,
@@ -422,7 +428,7 @@ class DeclarationsConverter(
                 delegatedSuperTypeRef ?: defaultDelegatedSuperTypeRef, superTypeCallEntry
             )
             //parse primary constructor
-            val primaryConstructorWrapper = convertPrimaryConstructor(primaryConstructor, classWrapper)
+            val primaryConstructorWrapper = convertPrimaryConstructor(primaryConstructor, classNode, classWrapper)
             val firPrimaryConstructor = primaryConstructorWrapper?.firConstructor
             firPrimaryConstructor?.let { firClass.declarations += it }
 
@@ -489,7 +495,9 @@ class DeclarationsConverter(
         val delegatedType = delegatedSuperTypeRef ?: implicitAnyType
 
         return withChildClassName(ANONYMOUS_OBJECT_NAME) {
-            FirAnonymousObjectImpl(null, session, ClassKind.OBJECT, scopeProvider, FirAnonymousObjectSymbol()).apply {
+            FirAnonymousObjectImpl(
+                objectLiteral.toFirSourceElement(), session, ClassKind.OBJECT, scopeProvider, FirAnonymousObjectSymbol()
+            ).apply {
                 annotations += modifiers.annotations
                 this.superTypeRefs += superTypeRefs
                 this.typeRef = superTypeRefs.first()
@@ -502,7 +510,7 @@ class DeclarationsConverter(
                     superTypeCallEntry = superTypeCallEntry
                 )
                 //parse primary constructor
-                convertPrimaryConstructor(primaryConstructor, classWrapper)?.let { this.declarations += it.firConstructor }
+                convertPrimaryConstructor(primaryConstructor, objectLiteral, classWrapper)?.let { this.declarations += it.firConstructor }
 
                 //parse declarations
                 classBody?.let {
@@ -534,14 +542,15 @@ class DeclarationsConverter(
         }
 
         val enumEntryName = identifier.nameAsSafeName()
+        val source = enumEntry.toFirSourceElement()
         return FirEnumEntryImpl(
-            null,
+            source,
             session,
             classWrapper.delegatedSelfTypeRef,
             name = enumEntryName,
             initializer = withChildClassName(enumEntryName) {
                 FirAnonymousObjectImpl(
-                    null,
+                    source,
                     session,
                     ClassKind.ENUM_ENTRY,
                     scopeProvider,
@@ -563,7 +572,7 @@ class DeclarationsConverter(
                         superTypeCallEntry = enumSuperTypeCallEntry
                     )
                     superTypeRefs += enumClassWrapper.delegatedSuperTypeRef
-                    convertPrimaryConstructor(null, enumClassWrapper)?.let { declarations += it.firConstructor }
+                    convertPrimaryConstructor(null, enumEntry, enumClassWrapper)?.let { declarations += it.firConstructor }
                     classBodyNode?.also { declarations += convertClassBody(it, enumClassWrapper) }
                 }
             },
@@ -613,7 +622,11 @@ class DeclarationsConverter(
      * @see org.jetbrains.kotlin.parsing.KotlinParsing.parseClassOrObject
      * primaryConstructor branch
      */
-    private fun convertPrimaryConstructor(primaryConstructor: LighterASTNode?, classWrapper: ClassWrapper): PrimaryConstructor? {
+    private fun convertPrimaryConstructor(
+        primaryConstructor: LighterASTNode?,
+        owner: LighterASTNode,
+        classWrapper: ClassWrapper
+    ): PrimaryConstructor? {
         if (primaryConstructor == null && !classWrapper.isEnumEntry() && classWrapper.hasSecondaryConstructor) return null
         if (classWrapper.isInterface()) return null
 
@@ -627,8 +640,9 @@ class DeclarationsConverter(
         }
 
         val defaultVisibility = classWrapper.defaultConstructorVisibility()
+        val constructorSource = (primaryConstructor ?: owner).toFirSourceElement()
         val firDelegatedCall = FirDelegatedConstructorCallImpl(
-            null,
+            constructorSource,
             classWrapper.delegatedSuperTypeRef,
             isThis = false
         ).extractArgumentsFrom(classWrapper.superTypeCallEntry, stubMode)
@@ -644,7 +658,7 @@ class DeclarationsConverter(
 
         return PrimaryConstructor(
             FirPrimaryConstructorImpl(
-                null,
+                constructorSource,
                 session,
                 classWrapper.delegatedSelfTypeRef,
                 null,
@@ -672,7 +686,7 @@ class DeclarationsConverter(
         }
 
         return FirAnonymousInitializerImpl(
-            null,
+            anonymousInitializer.toFirSourceElement(),
             session,
             if (stubMode) FirEmptyExpressionBlock() else firBlock
         )
@@ -713,7 +727,7 @@ class DeclarationsConverter(
         }
 
         val firConstructor = FirConstructorImpl(
-            null,
+            secondaryConstructor.toFirSourceElement(),
             session,
             delegatedSelfTypeRef,
             null,
@@ -762,7 +776,7 @@ class DeclarationsConverter(
             }
 
         return FirDelegatedConstructorCallImpl(
-            null,
+            constructorDelegationCall.toFirSourceElement(),
             delegatedType,
             isThis
         ).extractArgumentsFrom(firValueArguments, stubMode)
@@ -840,6 +854,7 @@ class DeclarationsConverter(
         }
 
         val propertyName = identifier.nameAsSafeName()
+        val source = property.toFirSourceElement()
 
         val parentNode = property.getParent()
         val isLocal = !(parentNode?.tokenType == KT_FILE || parentNode?.tokenType == CLASS_BODY)
@@ -847,7 +862,7 @@ class DeclarationsConverter(
             val receiver =
                 delegateExpression?.let { expressionConverter.getAsFirExpression<FirExpression>(it, "Incorrect delegate expression") }
             FirPropertyImpl(
-                null,
+                source,
                 session,
                 returnType,
                 null,
@@ -878,7 +893,7 @@ class DeclarationsConverter(
                 expressionConverter.getAsFirExpression<FirExpression>(it, "Should have delegate")
             }
             FirPropertyImpl(
-                null,
+                source,
                 session,
                 returnType,
                 receiverType,
@@ -944,7 +959,7 @@ class DeclarationsConverter(
 
         val name = identifier.nameAsSafeName()
         return FirPropertyImpl(
-            null,
+            entry.toFirSourceElement(),
             session,
             firType ?: implicitType,
             null,
@@ -990,7 +1005,7 @@ class DeclarationsConverter(
         val status = FirDeclarationStatusImpl(modifiers.getVisibility(), Modality.FINAL)
 
         val firAccessor = FirPropertyAccessorImpl(
-            null,
+            getterOrSetter.toFirSourceElement(),
             session,
             returnType ?: if (isGetter) propertyTypeRef else implicitUnitType,
             FirPropertyAccessorSymbol(),
@@ -1026,7 +1041,7 @@ class DeclarationsConverter(
         }
 
         return FirValueParameterImpl(
-            null,
+            firValueParameter.source,
             session,
             if (firValueParameter.returnTypeRef == implicitType) propertyTypeRef else firValueParameter.returnTypeRef,
             firValueParameter.name,
@@ -1078,8 +1093,9 @@ class DeclarationsConverter(
 
         val parentNode = functionDeclaration.getParent()
         val isLocal = !(parentNode?.tokenType == KT_FILE || parentNode?.tokenType == CLASS_BODY)
+        val source = functionDeclaration.toFirSourceElement()
         val firFunction = if (identifier == null) {
-            FirAnonymousFunctionImpl(null, session, returnType!!, receiverType, FirAnonymousFunctionSymbol(), isLambda = false)
+            FirAnonymousFunctionImpl(source, session, returnType!!, receiverType, FirAnonymousFunctionSymbol(), isLambda = false)
         } else {
             val functionName = identifier.nameAsSafeName()
             val status = FirDeclarationStatusImpl(
@@ -1097,7 +1113,7 @@ class DeclarationsConverter(
                 isSuspend = modifiers.hasSuspend()
             }
             FirSimpleFunctionImpl(
-                null,
+                source,
                 session,
                 returnType!!,
                 receiverType,
@@ -1147,7 +1163,8 @@ class DeclarationsConverter(
         }
         return if (!stubMode) {
             val blockTree = LightTree2Fir.buildLightTreeBlockExpression(block.asText)
-            return DeclarationsConverter(session, scopeProvider, stubMode, blockTree, context).convertBlockExpression(blockTree.root)
+            return DeclarationsConverter(session, scopeProvider, stubMode, blockTree, offsetDelta + block.startOffset, context)
+                .convertBlockExpression(blockTree.root)
         } else {
             FirSingleExpressionBlock(
                 FirExpressionStub(null).toReturn()
@@ -1486,7 +1503,7 @@ class DeclarationsConverter(
 
         val name = identifier.nameAsSafeName()
         val firValueParameter = FirValueParameterImpl(
-            null,
+            valueParameter.toFirSourceElement(),
             session,
             firType ?: implicitType,
             name,
@@ -54,8 +54,9 @@ class ExpressionsConverter(
     private val stubMode: Boolean,
     tree: FlyweightCapableTreeStructure<LighterASTNode>,
     private val declarationsConverter: DeclarationsConverter,
+    offsetDelta: Int,
     context: Context = Context()
-) : BaseConverter(session, tree, context) {
+) : BaseConverter(session, tree, offsetDelta, context) {
 
     inline fun <reified R : FirElement> getAsFirExpression(expression: LighterASTNode?, errorReason: String = ""): R {
         return expression?.let { convertExpression(it, errorReason) } as? R ?: (FirErrorExpressionImpl(null, FirSimpleDiagnostic(errorReason, DiagnosticKind.Syntax)) as R)
@@ -67,8 +68,9 @@ class ExpressionsConverter(
             return when (expression.tokenType) {
                 LAMBDA_EXPRESSION -> {
                     val lambdaTree = LightTree2Fir.buildLightTreeLambdaExpression(expression.asText)
-                    ExpressionsConverter(session, stubMode, lambdaTree, declarationsConverter, context)
-                        .convertLambdaExpression(lambdaTree.root)
+                    DeclarationsConverter(
+                        session, declarationsConverter.scopeProvider, stubMode, lambdaTree, offsetDelta + expression.startOffset, context
+                    ).convertLambdaExpression(lambdaTree.root)
                 }
                 BINARY_EXPRESSION -> convertBinaryExpression(expression)
                 BINARY_WITH_TYPE -> convertBinaryWithTypeRHSExpression(expression) {
@@ -117,7 +119,7 @@ class ExpressionsConverter(
      * @see org.jetbrains.kotlin.parsing.KotlinExpressionParsing.parseFunctionLiteral
      * @see org.jetbrains.kotlin.fir.builder.RawFirBuilder.Visitor.visitLambdaExpression
      */
-    private fun convertLambdaExpression(lambdaExpression: LighterASTNode): FirExpression {
+    fun convertLambdaExpression(lambdaExpression: LighterASTNode): FirExpression {
         val valueParameterList = mutableListOf<ValueParameter>()
         var block: LighterASTNode? = null
         lambdaExpression.getChildNodesByType(FUNCTION_LITERAL).first().forEachChildren {
@@ -127,7 +129,8 @@ class ExpressionsConverter(
             }
         }
 
-        return FirAnonymousFunctionImpl(null, session, implicitType, implicitType, FirAnonymousFunctionSymbol(), isLambda = true).apply {
+        val source = lambdaExpression.toFirSourceElement()
+        return FirAnonymousFunctionImpl(source, session, implicitType, implicitType, FirAnonymousFunctionSymbol(), isLambda = true).apply {
             context.firFunctions += this
             var destructuringBlock: FirExpression? = null
             for (valueParameter in valueParameterList) {
@@ -204,15 +207,16 @@ class ExpressionsConverter(
             }
         }
 
+        val source = binaryExpression.toFirSourceElement()
         val operationToken = operationTokenName.getOperationSymbol()
         when (operationToken) {
             ELVIS ->
                 return getAsFirExpression<FirExpression>(leftArgNode, "No left operand").generateNotNullOrOther(
-                    session, rightArgAsFir, "elvis", null
+                    session, rightArgAsFir, "elvis", source
                 )
             ANDAND, OROR ->
                 return getAsFirExpression<FirExpression>(leftArgNode, "No left operand").generateLazyLogicalOperation(
-                    rightArgAsFir, operationToken == ANDAND, null
+                    rightArgAsFir, operationToken == ANDAND, source
                 )
             in OperatorConventions.IN_OPERATIONS ->
                 return rightArgAsFir.generateContainsOperation(
@@ -221,7 +225,7 @@ class ExpressionsConverter(
         }
         val conventionCallName = operationToken.toBinaryName()
         return if (conventionCallName != null || operationToken == IDENTIFIER) {
-            FirFunctionCallImpl(null).apply {
+            FirFunctionCallImpl(source).apply {
                 calleeReference = FirSimpleNamedReference(
                     null, conventionCallName ?: operationTokenName.nameAsSafeName(), null
                 )
@@ -231,9 +235,9 @@ class ExpressionsConverter(
         } else {
             val firOperation = operationToken.toFirOperation()
             if (firOperation in FirOperation.ASSIGNMENTS) {
-                return leftArgNode.generateAssignment(null, rightArgAsFir, firOperation) { getAsFirExpression(this) }
+                return leftArgNode.generateAssignment(source, rightArgAsFir, firOperation) { getAsFirExpression(this) }
             } else {
-                FirOperatorCallImpl(null, firOperation).apply {
+                FirOperatorCallImpl(source, firOperation).apply {
                     arguments += getAsFirExpression<FirExpression>(leftArgNode, "No left operand")
                     arguments += rightArgAsFir
                 }
@@ -262,7 +266,7 @@ class ExpressionsConverter(
         }
 
         val operation = operationTokenName.toFirOperation()
-        return FirTypeOperatorCallImpl(null, operation, firType).apply {
+        return FirTypeOperatorCallImpl(binaryExpression.toFirSourceElement(), operation, firType).apply {
             arguments += leftArgAsFir
         }
     }
@@ -305,11 +309,12 @@ class ExpressionsConverter(
             }
         }
 
+        val source = unaryExpression.toFirSourceElement()
         val operationToken = operationTokenName.getOperationSymbol()
         val conventionCallName = operationToken.toUnaryName()
         return when {
             operationToken == EXCLEXCL -> {
-                FirCheckNotNullCallImpl(null).apply {
+                FirCheckNotNullCallImpl(source).apply {
                     arguments += getAsFirExpression<FirExpression>(argument, "No operand")
                 }
 
@@ -323,14 +328,14 @@ class ExpressionsConverter(
                         prefix = unaryExpression.tokenType == PREFIX_EXPRESSION
                     ) { getAsFirExpression(this) }
                 }
-                FirFunctionCallImpl(null).apply {
+                FirFunctionCallImpl(source).apply {
                     calleeReference = FirSimpleNamedReference(null, conventionCallName, null)
                     explicitReceiver = getAsFirExpression(argument, "No operand")
                 }
             }
             else -> {
                 val firOperation = operationToken.toFirOperation()
-                FirOperatorCallImpl(null, firOperation).apply {
+                FirOperatorCallImpl(source, firOperation).apply {
                     arguments += getAsFirExpression<FirExpression>(argument, "No operand")
                 }
             }
@@ -367,7 +372,7 @@ class ExpressionsConverter(
             if (it.isExpression()) firReceiverExpression = getAsFirExpression(it, "No receiver in class literal")
         }
 
-        return FirGetClassCallImpl(null).apply {
+        return FirGetClassCallImpl(classLiteralExpression.toFirSourceElement()).apply {
             arguments += firReceiverExpression
         }
     }
@@ -393,7 +398,7 @@ class ExpressionsConverter(
             }
         }
 
-        return FirCallableReferenceAccessImpl(null).apply {
+        return FirCallableReferenceAccessImpl(callableReferenceExpression.toFirSourceElement()).apply {
             calleeReference = firCallableReference.calleeReference as FirNamedReference
             explicitReceiver = firReceiverExpression
         }
@@ -473,8 +478,9 @@ class ExpressionsConverter(
             else -> FirErrorNamedReferenceImpl(null, FirSimpleDiagnostic("Call has no callee", DiagnosticKind.Syntax)) to null
         }
 
+        val source = callSuffix.toFirSourceElement()
         return if (hasArguments) {
-            FirFunctionCallImpl(null).apply {
+            FirFunctionCallImpl(source).apply {
                 this.calleeReference = calleeReference
 
                 context.firFunctionCalls += this
@@ -482,7 +488,7 @@ class ExpressionsConverter(
                 context.firFunctionCalls.removeLast()
             }
         } else {
-            FirQualifiedAccessExpressionImpl(null).apply {
+            FirQualifiedAccessExpressionImpl(source).apply {
                 this.calleeReference = calleeReference
             }
         }.apply {
@@ -525,7 +531,7 @@ class ExpressionsConverter(
             when (it.tokenType) {
                 PROPERTY -> subjectVariable = (declarationsConverter.convertPropertyDeclaration(it) as FirVariable<*>).let { variable ->
                     FirPropertyImpl(
-                        null,
+                        variable.source,
                         session,
                         variable.returnTypeRef,
                         null,
@@ -549,7 +555,7 @@ class ExpressionsConverter(
         subjectExpression = subjectVariable?.initializer ?: subjectExpression
         val hasSubject = subjectExpression != null
         val subject = FirWhenSubject()
-        return FirWhenExpressionImpl(null, subjectExpression, subjectVariable).apply {
+        return FirWhenExpressionImpl(whenExpression.toFirSourceElement(), subjectExpression, subjectVariable).apply {
             if (hasSubject) {
                 subject.bind(this)
             }
@@ -558,14 +564,14 @@ class ExpressionsConverter(
                 branches += if (!entry.isElse) {
                     if (hasSubject) {
                         val firCondition = entry.toFirWhenCondition(subject)
-                        FirWhenBranchImpl(null, firCondition, branch)
+                        FirWhenBranchImpl(entry.source, firCondition, branch)
                     } else {
                         val firCondition = entry.toFirWhenConditionWithoutSubject()
-                        FirWhenBranchImpl(null, firCondition, branch)
+                        FirWhenBranchImpl(entry.source, firCondition, branch)
                     }
                 } else {
                     FirWhenBranchImpl(
-                        null, FirElseIfTrueCondition(null), branch
+                        entry.source, FirElseIfTrueCondition(null), branch
                     )
                 }
             }
@@ -591,7 +597,7 @@ class ExpressionsConverter(
             }
         }
 
-        return WhenEntry(conditions, firBlock, isElse)
+        return WhenEntry(conditions, firBlock, whenEntry.toFirSourceElement(), isElse)
     }
 
     private fun convertWhenConditionExpression(whenCondition: LighterASTNode): FirExpression {
@@ -602,7 +608,7 @@ class ExpressionsConverter(
             }
         }
 
-        return FirOperatorCallImpl(null, FirOperation.EQ).apply {
+        return FirOperatorCallImpl(whenCondition.toFirSourceElement(), FirOperation.EQ).apply {
             arguments += firExpression
         }
     }
@@ -618,7 +624,7 @@ class ExpressionsConverter(
         }
 
         val name = if (isNegate) OperatorNameConventions.NOT else SpecialNames.NO_NAME_PROVIDED
-        return FirFunctionCallImpl(null).apply {
+        return FirFunctionCallImpl(whenCondition.toFirSourceElement()).apply {
             calleeReference = FirSimpleNamedReference(null, name, null)
             explicitReceiver = firExpression
         }
@@ -635,7 +641,7 @@ class ExpressionsConverter(
             }
         }
 
-        return FirTypeOperatorCallImpl(null, firOperation, firType)
+        return FirTypeOperatorCallImpl(whenCondition.toFirSourceElement(), firOperation, firType)
     }
 
     /**
@@ -651,7 +657,7 @@ class ExpressionsConverter(
                 else -> if (it.isExpression()) firExpression = getAsFirExpression(it, "No array expression")
             }
         }
-        return FirFunctionCallImpl(null).apply {
+        return FirFunctionCallImpl(arrayAccess.toFirSourceElement()).apply {
             calleeReference = FirSimpleNamedReference(null, OperatorNameConventions.GET, null)
             explicitReceiver = firExpression
             arguments += indices
@@ -667,7 +673,7 @@ class ExpressionsConverter(
             if (it.isExpression()) firExpressionList += getAsFirExpression<FirExpression>(it, "Incorrect collection literal argument")
         }
 
-        return FirArrayOfCallImpl(null).apply {
+        return FirArrayOfCallImpl(expression.toFirSourceElement()).apply {
             arguments += firExpressionList
         }
     }
@@ -689,7 +695,7 @@ class ExpressionsConverter(
      * @see org.jetbrains.kotlin.fir.builder.RawFirBuilder.Visitor.visitSimpleNameExpression
      */
     private fun convertSimpleNameExpression(referenceExpression: LighterASTNode): FirQualifiedAccessExpression {
-        return FirQualifiedAccessExpressionImpl(null).apply {
+        return FirQualifiedAccessExpressionImpl(referenceExpression.toFirSourceElement()).apply {
             calleeReference =
                 FirSimpleNamedReference(null, referenceExpression.asText.nameAsSafeName(), null)
         }
@@ -709,7 +715,7 @@ class ExpressionsConverter(
             }
         }
 
-        return FirDoWhileLoopImpl(null, firCondition).configure { convertLoopBody(block) }
+        return FirDoWhileLoopImpl(doWhileLoop.toFirSourceElement(), firCondition).configure { convertLoopBody(block) }
     }
 
     /**
@@ -726,7 +732,7 @@ class ExpressionsConverter(
             }
         }
 
-        return FirWhileLoopImpl(null, firCondition).configure { convertLoopBody(block) }
+        return FirWhileLoopImpl(whileLoop.toFirSourceElement(), firCondition).configure { convertLoopBody(block) }
     }
 
     /**
@@ -745,23 +751,25 @@ class ExpressionsConverter(
             }
         }
 
-        return FirBlockImpl(null).apply {
+        val loopSource = forLoop.toFirSourceElement()
+        return FirBlockImpl(loopSource).apply {
+            val rangeSource = rangeExpression.source
             val rangeVal =
-                generateTemporaryVariable(this@ExpressionsConverter.session, null, Name.special("<range>"), rangeExpression)
+                generateTemporaryVariable(this@ExpressionsConverter.session, rangeSource, Name.special("<range>"), rangeExpression)
             statements += rangeVal
             val iteratorVal = generateTemporaryVariable(
-                this@ExpressionsConverter.session, null, Name.special("<iterator>"),
-                FirFunctionCallImpl(null).apply {
+                this@ExpressionsConverter.session, rangeSource, Name.special("<iterator>"),
+                FirFunctionCallImpl(loopSource).apply {
                     calleeReference = FirSimpleNamedReference(null, Name.identifier("iterator"), null)
-                    explicitReceiver = generateResolvedAccessExpression(null, rangeVal)
+                    explicitReceiver = generateResolvedAccessExpression(rangeSource, rangeVal)
                 }
             )
             statements += iteratorVal
             statements += FirWhileLoopImpl(
-                null,
-                FirFunctionCallImpl(null).apply {
+                loopSource,
+                FirFunctionCallImpl(loopSource).apply {
                     calleeReference = FirSimpleNamedReference(null, Name.identifier("hasNext"), null)
-                    explicitReceiver = generateResolvedAccessExpression(null, iteratorVal)
+                    explicitReceiver = generateResolvedAccessExpression(loopSource, iteratorVal)
                 }
             ).configure {
                 // NB: just body.toFirBlock() isn't acceptable here because we need to add some statements
@@ -771,11 +779,11 @@ class ExpressionsConverter(
                 if (parameter != null) {
                     val multiDeclaration = parameter!!.destructuringDeclaration
                     val firLoopParameter = generateTemporaryVariable(
-                        this@ExpressionsConverter.session, null,
+                        this@ExpressionsConverter.session, parameter!!.firValueParameter.source,
                         if (multiDeclaration != null) Name.special("<destruct>") else parameter!!.firValueParameter.name,
-                        FirFunctionCallImpl(null).apply {
+                        FirFunctionCallImpl(loopSource).apply {
                             calleeReference = FirSimpleNamedReference(null, Name.identifier("next"), null)
-                            explicitReceiver = generateResolvedAccessExpression(null, iteratorVal)
+                            explicitReceiver = generateResolvedAccessExpression(loopSource, iteratorVal)
                         },
                         parameter!!.firValueParameter.returnTypeRef
                     )
@@ -836,10 +844,10 @@ class ExpressionsConverter(
                 FINALLY -> finallyBlock = convertFinally(it)
             }
         }
-        return FirTryExpressionImpl(null, tryBlock, finallyBlock).apply {
+        return FirTryExpressionImpl(tryExpression.toFirSourceElement(), tryBlock, finallyBlock).apply {
             for ((parameter, block) in catchClauses) {
                 if (parameter == null) continue
-                catches += FirCatchImpl(null, parameter.firValueParameter, block)
+                catches += FirCatchImpl(parameter.firValueParameter.source, parameter.firValueParameter, block)
             }
         }
     }
@@ -880,23 +888,27 @@ class ExpressionsConverter(
      */
     private fun convertIfExpression(ifExpression: LighterASTNode): FirExpression {
         var firCondition: FirExpression = FirErrorExpressionImpl(null, FirSimpleDiagnostic("If statement should have condition", DiagnosticKind.Syntax))
+        var conditionNode: LighterASTNode? = null
         var thenBlock: LighterASTNode? = null
         var elseBlock: LighterASTNode? = null
         ifExpression.forEachChildren {
             when (it.tokenType) {
-                CONDITION -> firCondition = getAsFirExpression(it, "If statement should have condition")
+                CONDITION -> {
+                    conditionNode = it
+                    firCondition = getAsFirExpression(it, "If statement should have condition")
+                }
                 THEN -> thenBlock = it
                 ELSE -> elseBlock = it
             }
         }
 
-        return FirWhenExpressionImpl(null, null, null).apply {
+        return FirWhenExpressionImpl(ifExpression.toFirSourceElement(), null, null).apply {
             val trueBranch = convertLoopBody(thenBlock)
-            branches += FirWhenBranchImpl(null, firCondition, trueBranch)
+            branches += FirWhenBranchImpl(conditionNode?.toFirSourceElement(), firCondition, trueBranch)
             val elseBranch = convertLoopBody(elseBlock)
             if (elseBranch !is FirEmptyExpressionBlock) {
                 branches += FirWhenBranchImpl(
-                    null, FirElseIfTrueCondition(null), elseBranch
+                    elseBlock?.toFirSourceElement(), FirElseIfTrueCondition(null), elseBranch
                 )
             }
         }
@@ -916,7 +928,8 @@ class ExpressionsConverter(
             }
         }
 
-        return (if (isBreak) FirBreakExpressionImpl(null) else FirContinueExpressionImpl(null)).bindLabel(jump)
+        val source = jump.toFirSourceElement()
+        return (if (isBreak) FirBreakExpressionImpl(source) else FirContinueExpressionImpl(source)).bindLabel(jump)
     }
 
     /**
@@ -933,7 +946,7 @@ class ExpressionsConverter(
             }
         }
 
-        return firExpression.toReturn(labelName = labelName)
+        return firExpression.toReturn(returnExpression.toFirSourceElement(), labelName)
     }
 
     /**
@@ -946,7 +959,7 @@ class ExpressionsConverter(
             if (it.isExpression()) firExpression = getAsFirExpression(it, "Nothing to throw")
         }
 
-        return FirThrowExpressionImpl(null, firExpression)
+        return FirThrowExpressionImpl(throwExpression.toFirSourceElement(), firExpression)
     }
 
     /**
@@ -955,7 +968,8 @@ class ExpressionsConverter(
      */
     private fun convertThisExpression(thisExpression: LighterASTNode): FirQualifiedAccessExpression {
         val label: String? = thisExpression.getLabelName()
-        return FirThisReceiverExpressionImpl(null, FirExplicitThisReference(null, label))
+        val source = thisExpression.toFirSourceElement()
+        return FirThisReceiverExpressionImpl(source, FirExplicitThisReference(source, label))
     }
 
     /**
@@ -970,7 +984,7 @@ class ExpressionsConverter(
             }
         }
 
-        return FirQualifiedAccessExpressionImpl(null).apply {
+        return FirQualifiedAccessExpressionImpl(superExpression.toFirSourceElement()).apply {
             calleeReference = FirExplicitSuperReference(null, superTypeRef)
         }
     }
@@ -48,13 +48,14 @@ class ValueParameter(
             isLateInit = false
         }
 
+        val source = this.firValueParameter.source
         return FirPropertyImpl(
-            null,
+            source,
             session,
             type,
             null,
             name,
-            FirQualifiedAccessExpressionImpl(null).apply {
+            FirQualifiedAccessExpressionImpl(source).apply {
                 calleeReference = FirPropertyFromParameterResolvedNamedReference(
                     null, name, this@ValueParameter.firValueParameter.symbol
                 )
@@ -5,6 +5,7 @@
 
 package org.jetbrains.kotlin.fir.lightTree.fir
 
+import org.jetbrains.kotlin.fir.FirSourceElement
 import org.jetbrains.kotlin.fir.FirWhenSubject
 import org.jetbrains.kotlin.fir.builder.generateContainsOperation
 import org.jetbrains.kotlin.fir.builder.generateLazyLogicalOperation
@@ -20,6 +21,7 @@ import org.jetbrains.kotlin.util.OperatorNameConventions
 data class WhenEntry(
     val conditions: List<FirExpression>,
     val firBlock: FirBlock,
+    val source: FirSourceElement?,
     val isElse: Boolean = false
 ) {
     fun toFirWhenCondition(subject: FirWhenSubject): FirExpression {
@@ -42,6 +42,12 @@ private val DUMP_FIR = System.getProperty("fir.bench.dump", "true") == "true"
 internal val PASSES = System.getProperty("fir.bench.passes")?.toInt() ?: 3
 internal val SEPARATE_PASS_DUMP = System.getProperty("fir.bench.dump.separate_pass", "false") == "true"
 
+// Bodies are resolved in parallel if greater than 1, compare the reports with ones of 1 thread to see the speedup on the same modules
+private val BODY_RESOLVE_THREADS = System.getProperty("fir.bench.threads")?.toInt() ?: 1
+
+// Raw FIR is built from the light tree instead of PSI, compare the time of the builders and the retained heap with the default mode
+private val USE_LIGHT_TREE = System.getProperty("fir.bench.use.light.tree", "false") == "true"
+
 class FirResolveModularizedTotalKotlinTest : AbstractModularizedTest() {
 
     private lateinit var dump: MultiModuleHtmlFirDump
@@ -126,7 +132,7 @@ class FirResolveModularizedTotalKotlinTest : AbstractModularizedTest() {
             .getExtensionPoint(PsiElementFinder.EP_NAME)
             .unregisterExtension(JavaElementFinder::class.java)
 
-        runAnalysis(moduleData, environment)
+        runAnalysis(moduleData, environment, USE_LIGHT_TREE)
 
         Disposer.dispose(disposable)
         if (bench.hasFiles && FAIL_FAST) return ProcessorAction.STOP
@@ -187,7 +193,7 @@ class FirResolveModularizedTotalKotlinTest : AbstractModularizedTest() {
         for (i in 0 until PASSES) {
             println("Pass $i")
 
-            bench = FirResolveBench(withProgress = false)
+            bench = FirResolveBench(withProgress = false, bodyResolveThreads = BODY_RESOLVE_THREADS)
             runTestOnce(i)
         }
         afterAllPasses()
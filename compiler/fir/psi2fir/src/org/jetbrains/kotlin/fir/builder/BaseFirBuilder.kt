@@ -201,7 +201,7 @@ abstract class BaseFirBuilder<T>(val session: FirSession, val context: Context =
     }
 
     /**** Conversion utils ****/
-    private fun <T> T.getSourceOrNull(): FirSourceElement? {
+    protected open fun T?.getSourceOrNull(): FirSourceElement? {
         return if (this is PsiElement) FirPsiSourceElement(this) else null
     }
 
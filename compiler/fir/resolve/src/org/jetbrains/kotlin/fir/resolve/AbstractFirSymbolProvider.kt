@@ -17,25 +17,23 @@ abstract class AbstractFirSymbolProvider<C : FirClassLikeSymbol<*>> : FirSymbolP
     protected val packageCache = HashMap<FqName, FqName?>()
 
     protected inline fun <K, V : Any?> MutableMap<K, V>.lookupCacheOrCalculate(key: K, crossinline l: (K) -> V): V? {
-        return if (containsKey(key)) {
-            this[key]
-        } else {
-            val calculated = l(key)
-            this[key] = calculated
-            calculated
-        }
+        return getOrPutShared(key) { l(key) }
     }
 
     protected inline fun <K, V : Any, T> MutableMap<K, V?>.lookupCacheOrCalculateWithPostCompute(
         key: K, crossinline l: (K) -> Pair<V?, T>, postCompute: (V, T) -> Unit
     ): V? {
-        return if (containsKey(key)) {
-            this[key]
-        } else {
-            val calculated = l(key)
+        withFirSharedCachesLock {
+            if (containsKey(key)) return this[key]
+        }
+        val calculated = l(key)
+        // The post-computation is under the lock, so that other threads don't see the value until it's completed,
+        // while lookups of the same key made by the post-computation itself get the value
+        withFirSharedCachesLock {
+            if (containsKey(key)) return this[key]
             this[key] = calculated.first
             calculated.first?.let { first -> postCompute(first, calculated.second) }
-            calculated.first
+            return calculated.first
         }
     }
 }
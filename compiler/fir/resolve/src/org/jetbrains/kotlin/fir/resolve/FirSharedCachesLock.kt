@@ -0,0 +1,61 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.fir.resolve
+
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Guards the caches of session components and scopes which are filled lazily while files are resolved, e.g. of symbol providers,
+ * declared member scopes and corresponding supertypes, when bodies of the files are resolved in parallel.
+ *
+ * There is one lock for all sessions: the caches are computed from each other, across providers of dependency sessions too,
+ * so that separate locks could be taken by two threads in different orders. To keep threads from waiting for each other,
+ * the lock should be held only to access the caches, see [getOrPutShared].
+ *
+ * The lock is taken only while bodies are resolved in parallel (see [whileResolvingInParallel]), so that compilations which
+ * resolve bodies in a single thread, e.g. in the same daemon, don't contend for it.
+ */
+object FirSharedCachesLock {
+    private val parallelResolves = AtomicInteger()
+
+    val isUsed: Boolean
+        get() = parallelResolves.get() > 0
+
+    fun <T> whileResolvingInParallel(block: () -> T): T {
+        parallelResolves.incrementAndGet()
+        try {
+            return block()
+        } finally {
+            parallelResolves.decrementAndGet()
+        }
+    }
+}
+
+inline fun <T> withFirSharedCachesLock(block: () -> T): T =
+    if (FirSharedCachesLock.isUsed) synchronized(FirSharedCachesLock, block) else block()
+
+/**
+ * Returns the value cached for the [key], or computes it with [compute] and caches it. The value is computed outside of
+ * [FirSharedCachesLock], so that other threads can use the caches meanwhile. If several threads compute the value at once,
+ * all of them get the value cached first and the other ones are dropped, so that the threads see the same symbols.
+ */
+inline fun <K, V> MutableMap<K, V>.getOrPutShared(key: K, compute: () -> V): V {
+    withFirSharedCachesLock {
+        if (containsKey(key)) {
+            @Suppress("UNCHECKED_CAST")
+            return get(key) as V
+        }
+    }
+    val computed = compute()
+    withFirSharedCachesLock {
+        if (containsKey(key)) {
+            @Suppress("UNCHECKED_CAST")
+            return get(key) as V
+        }
+        put(key, computed)
+    }
+    return computed
+}
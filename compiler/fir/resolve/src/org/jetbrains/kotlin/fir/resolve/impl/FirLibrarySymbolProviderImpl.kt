@@ -20,6 +20,7 @@ import org.jetbrains.kotlin.fir.deserialization.deserializeClassToSymbol
 import org.jetbrains.kotlin.fir.resolve.FirSymbolProvider
 import org.jetbrains.kotlin.fir.resolve.constructClassType
 import org.jetbrains.kotlin.fir.resolve.getOrPut
+import org.jetbrains.kotlin.fir.resolve.withFirSharedCachesLock
 import org.jetbrains.kotlin.fir.scopes.FirScope
 import org.jetbrains.kotlin.fir.scopes.KotlinScopeProvider
 import org.jetbrains.kotlin.fir.scopes.impl.nestedClassifierScope
@@ -270,15 +271,20 @@ class FirLibrarySymbolProviderImpl(val session: FirSession, val kotlinScopeProvi
 
 
     override fun getClassLikeSymbolByFqName(classId: ClassId): FirRegularClassSymbol? {
-        return allPackageFragments[classId.packageFqName]?.firstNotNullResult {
-            it.getClassLikeSymbolByFqName(classId)
-        } ?: trySyntheticFunctionalInterface(classId)
+        // Symbols are cached before their classes are deserialized, see [BuiltInsPackageFragment.findAndDeserializeClass]
+        return withFirSharedCachesLock {
+            allPackageFragments[classId.packageFqName]?.firstNotNullResult {
+                it.getClassLikeSymbolByFqName(classId)
+            } ?: trySyntheticFunctionalInterface(classId)
+        }
     }
 
     override fun getTopLevelCallableSymbols(packageFqName: FqName, name: Name): List<FirCallableSymbol<*>> {
-        return allPackageFragments[packageFqName]?.flatMap {
-            it.getTopLevelCallableSymbols(name)
-        } ?: emptyList()
+        return withFirSharedCachesLock {
+            allPackageFragments[packageFqName]?.flatMap {
+                it.getTopLevelCallableSymbols(name)
+            } ?: emptyList()
+        }
     }
 
     override fun getNestedClassifierScope(classId: ClassId): FirScope? {
@@ -12,6 +12,7 @@ import org.jetbrains.kotlin.fir.resolve.FirQualifierResolver
 import org.jetbrains.kotlin.fir.resolve.FirTypeResolver
 import org.jetbrains.kotlin.fir.resolve.constructType
 import org.jetbrains.kotlin.fir.resolve.firSymbolProvider
+import org.jetbrains.kotlin.fir.resolve.getOrPutShared
 import org.jetbrains.kotlin.fir.scopes.FirScope
 import org.jetbrains.kotlin.fir.scopes.ProcessorAction
 import org.jetbrains.kotlin.fir.symbols.impl.FirClassLikeSymbol
@@ -35,7 +36,7 @@ class FirTypeResolverImpl(private val session: FirSession) : FirTypeResolver {
     // TODO: get rid of session used here, and may be also of the cache above (see KT-30275)
     private fun resolveBuiltInQualified(id: ClassId, session: FirSession): FirClassLikeSymbol<*> {
         val nameInSession = ClassIdInSession(session, id)
-        return implicitBuiltinTypeSymbols.getOrPut(nameInSession) {
+        return implicitBuiltinTypeSymbols.getOrPutShared(nameInSession) {
             symbolProvider.getClassLikeSymbolByFqName(id)!!
         }
     }
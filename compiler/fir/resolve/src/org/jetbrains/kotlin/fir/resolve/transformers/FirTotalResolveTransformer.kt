@@ -7,10 +7,17 @@ package org.jetbrains.kotlin.fir.resolve.transformers
 
 import org.jetbrains.kotlin.fir.declarations.FirFile
 import org.jetbrains.kotlin.fir.declarations.FirResolvePhase
+import org.jetbrains.kotlin.fir.resolve.FirSharedCachesLock
+import org.jetbrains.kotlin.fir.resolve.transformers.body.resolve.FirBodyResolveTransformerAdapter
 import org.jetbrains.kotlin.fir.visitors.FirTransformer
+import org.jetbrains.kotlin.utils.forEachInParallel
 
 // TODO: rework, see rr/FIR/semoro-dev FirStagesTransformerFactory
-class FirTotalResolveTransformer {
+/**
+ * Applies all resolve phases to the files. If [bodyResolveThreads] is greater than 1, bodies are resolved in parallel
+ * (see [resolveBodiesInParallel]), the other phases are still applied to the files one by one.
+ */
+class FirTotalResolveTransformer(private val bodyResolveThreads: Int = 1) {
 
     val transformers: List<FirTransformer<Nothing?>> =
         FirResolvePhase.values()
@@ -19,9 +26,39 @@ class FirTotalResolveTransformer {
 
     fun processFiles(files: List<FirFile>) {
         for (transformer in transformers) {
+            if (transformer is FirBodyResolveTransformerAdapter && bodyResolveThreads > 1) {
+                resolveBodiesInParallel(files, bodyResolveThreads) { firFile, threadTransformer ->
+                    firFile.transform<FirFile, Nothing?>(threadTransformer, null)
+                }
+                continue
+            }
             for (firFile in files) {
                 firFile.transform<FirFile, Nothing?>(transformer, null)
             }
         }
     }
 }
+
+/**
+ * Resolves bodies of [files] on [threads] threads, [process] is called for each file with the body resolve transformer.
+ *
+ * Files are independent of each other in [FirResolvePhase.BODY_RESOLVE], as their declarations already have resolved types
+ * after the previous phases, so that they share only caches of the sessions (guarded by [FirSharedCachesLock]). The threads
+ * share the scope session too, so that symbols created by scopes, e.g. enhanced Java members and substitution overrides,
+ * are the same in all files. The earlier phases resolve declarations across files and can't be run this way.
+ */
+fun resolveBodiesInParallel(files: List<FirFile>, threads: Int, process: (FirFile, FirTransformer<Nothing?>) -> Unit) {
+    if (files.isEmpty()) return
+
+    val transformer = FirBodyResolveTransformerAdapter()
+    if (threads <= 1 || files.size <= 1) {
+        files.forEach { process(it, transformer) }
+        return
+    }
+
+    FirSharedCachesLock.whileResolvingInParallel {
+        forEachInParallel(files, threads) { file ->
+            process(file, transformer)
+        }
+    }
+}
@@ -12,6 +12,7 @@ import org.jetbrains.kotlin.fir.declarations.FirValueParameter
 import org.jetbrains.kotlin.fir.declarations.impl.FirSimpleFunctionImpl
 import org.jetbrains.kotlin.fir.declarations.impl.FirValueParameterImpl
 import org.jetbrains.kotlin.fir.expressions.FirExpression
+import org.jetbrains.kotlin.fir.resolve.getOrPutShared
 import org.jetbrains.kotlin.fir.scopes.FirOverrideChecker
 import org.jetbrains.kotlin.fir.scopes.FirScope
 import org.jetbrains.kotlin.fir.scopes.ProcessorAction
@@ -31,7 +32,7 @@ abstract class AbstractFirUseSiteMemberScope(
     private val functions = hashMapOf<Name, Collection<FirFunctionSymbol<*>>>()
 
     override fun processFunctionsByName(name: Name, processor: (FirFunctionSymbol<*>) -> ProcessorAction): ProcessorAction {
-        functions.getOrPut(name) {
+        functions.getOrPutShared(name) {
             doProcessFunctions(name)
         }.forEach {
             if (processor(it) == ProcessorAction.STOP) return ProcessorAction.STOP
@@ -12,6 +12,7 @@ import org.jetbrains.kotlin.fir.declarations.FirSimpleFunction
 import org.jetbrains.kotlin.fir.declarations.FirTypeParameter
 import org.jetbrains.kotlin.fir.declarations.impl.*
 import org.jetbrains.kotlin.fir.resolve.ScopeSession
+import org.jetbrains.kotlin.fir.resolve.getOrPutShared
 import org.jetbrains.kotlin.fir.resolve.substitution.ChainedSubstitutor
 import org.jetbrains.kotlin.fir.resolve.substitution.ConeSubstitutor
 import org.jetbrains.kotlin.fir.resolve.substitution.substitutorByMap
@@ -47,7 +48,7 @@ class FirClassSubstitutionScope(
     override fun processFunctionsByName(name: Name, processor: (FirFunctionSymbol<*>) -> ProcessorAction): ProcessorAction {
         useSiteMemberScope.processFunctionsByName(name) process@{ original ->
 
-            val function = fakeOverrideFunctions.getOrPut(original) { createFakeOverrideFunction(original) }
+            val function = fakeOverrideFunctions.getOrPutShared(original) { createFakeOverrideFunction(original) }
             processor(function)
         }
 
@@ -59,15 +60,15 @@ class FirClassSubstitutionScope(
         return useSiteMemberScope.processPropertiesByName(name) process@{ original ->
             when (original) {
                 is FirPropertySymbol -> {
-                    val property = fakeOverrideProperties.getOrPut(original) { createFakeOverrideProperty(original) }
+                    val property = fakeOverrideProperties.getOrPutShared(original) { createFakeOverrideProperty(original) }
                     processor(property)
                 }
                 is FirFieldSymbol -> {
-                    val field = fakeOverrideFields.getOrPut(original) { createFakeOverrideField(original) }
+                    val field = fakeOverrideFields.getOrPutShared(original) { createFakeOverrideField(original) }
                     processor(field)
                 }
                 is FirAccessorSymbol -> {
-                    val accessor = fakeOverrideAccessors.getOrPut(original) { createFakeOverrideAccessor(original) }
+                    val accessor = fakeOverrideAccessors.getOrPutShared(original) { createFakeOverrideAccessor(original) }
                     processor(accessor)
                 }
                 else -> {
@@ -9,6 +9,7 @@ import org.jetbrains.kotlin.fir.FirSessionComponent
 import org.jetbrains.kotlin.fir.declarations.FirClass
 import org.jetbrains.kotlin.fir.resolve.FirSymbolProvider
 import org.jetbrains.kotlin.fir.resolve.declaredMemberScopeProvider
+import org.jetbrains.kotlin.fir.resolve.getOrPutShared
 import org.jetbrains.kotlin.fir.scopes.FirScope
 import org.jetbrains.kotlin.name.ClassId
 import org.jetbrains.kotlin.name.Name
@@ -24,13 +25,13 @@ class FirDeclaredMemberScopeProvider : FirSessionComponent {
         existingNames: List<Name>?,
         symbolProvider: FirSymbolProvider?
     ): FirScope {
-        return declaredMemberCache.getOrPut(klass) {
+        return declaredMemberCache.getOrPutShared(klass) {
             FirClassDeclaredMemberScope(klass, useLazyNestedClassifierScope, existingNames, symbolProvider)
         }
     }
 
     fun nestedClassifierScope(klass: FirClass<*>): FirNestedClassifierScope {
-        return nestedClassifierCache.getOrPut(klass) {
+        return nestedClassifierCache.getOrPutShared(klass) {
             FirNestedClassifierScope(klass)
         }
     }
@@ -7,6 +7,7 @@ package org.jetbrains.kotlin.fir.scopes.impl
 
 import org.jetbrains.kotlin.fir.FirSession
 import org.jetbrains.kotlin.fir.resolve.FirSymbolProvider
+import org.jetbrains.kotlin.fir.resolve.getOrPutShared
 import org.jetbrains.kotlin.fir.scopes.FirScope
 import org.jetbrains.kotlin.fir.scopes.ProcessorAction
 import org.jetbrains.kotlin.fir.symbols.impl.FirCallableSymbol
@@ -32,7 +33,7 @@ class FirPackageMemberScope(val fqName: FqName, val session: FirSession) : FirSc
         if (name.asString().isEmpty()) return ProcessorAction.NONE
 
 
-        val symbol = classifierCache.getOrPut(name) {
+        val symbol = classifierCache.getOrPutShared(name) {
             val unambiguousFqName = ClassId(fqName, name)
             symbolProvider.getClassLikeSymbolByFqName(unambiguousFqName)
         }
@@ -45,7 +46,7 @@ class FirPackageMemberScope(val fqName: FqName, val session: FirSession) : FirSc
     }
 
     override fun processFunctionsByName(name: Name, processor: (FirFunctionSymbol<*>) -> ProcessorAction): ProcessorAction {
-        val symbols = callableCache.getOrPut(name) {
+        val symbols = callableCache.getOrPutShared(name) {
             symbolProvider.getTopLevelCallableSymbols(fqName, name)
         }
         for (symbol in symbols) {
@@ -57,7 +58,7 @@ class FirPackageMemberScope(val fqName: FqName, val session: FirSession) : FirSc
     }
 
     override fun processPropertiesByName(name: Name, processor: (FirCallableSymbol<*>) -> ProcessorAction): ProcessorAction {
-        val symbols = callableCache.getOrPut(name) {
+        val symbols = callableCache.getOrPutShared(name) {
             symbolProvider.getTopLevelCallableSymbols(fqName, name)
         }
         for (symbol in symbols) {
@@ -26,6 +26,7 @@ import org.jetbrains.kotlin.types.AbstractTypeChecker
 import org.jetbrains.kotlin.types.AbstractTypeCheckerContext
 import org.jetbrains.kotlin.utils.addToStdlib.flattenTo
 import java.util.*
+import java.util.concurrent.ConcurrentHashMap
 import kotlin.collections.HashSet
 
 class FirSuperTypeScope private constructor(
@@ -34,11 +35,12 @@ class FirSuperTypeScope private constructor(
     val scopes: List<FirScope>
 ) : AbstractFirOverrideScope(session, overrideChecker) {
 
-    private val absentFunctions = mutableSetOf<Name>()
+    // The scope may be used by several threads, see [org.jetbrains.kotlin.fir.resolve.ScopeSession]
+    private val absentFunctions: MutableSet<Name> = ConcurrentHashMap.newKeySet()
 
-    private val absentProperties = mutableSetOf<Name>()
+    private val absentProperties: MutableSet<Name> = ConcurrentHashMap.newKeySet()
 
-    private val absentClassifiers = mutableSetOf<Name>()
+    private val absentClassifiers: MutableSet<Name> = ConcurrentHashMap.newKeySet()
 
     private val typeContext = ConeTypeCheckerContext(isErrorTypeEqualsToAnything = false, isStubTypeEqualsToAnything = false, session)
 
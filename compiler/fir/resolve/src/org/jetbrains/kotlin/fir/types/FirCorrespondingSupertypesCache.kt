@@ -11,6 +11,7 @@ import org.jetbrains.kotlin.fir.declarations.FirClassLikeDeclaration
 import org.jetbrains.kotlin.fir.declarations.FirTypeParametersOwner
 import org.jetbrains.kotlin.fir.resolve.constructClassType
 import org.jetbrains.kotlin.fir.resolve.constructType
+import org.jetbrains.kotlin.fir.resolve.getOrPutShared
 import org.jetbrains.kotlin.fir.resolve.toSymbol
 import org.jetbrains.kotlin.fir.symbols.impl.FirClassLikeSymbol
 import org.jetbrains.kotlin.types.AbstractTypeCheckerContext
@@ -31,11 +32,8 @@ class FirCorrespondingSupertypesCache(private val session: FirSession) : FirSess
         val symbol = type.lookupTag.toSymbol(session) ?: return null
         if (symbol == supertypeConstructor) return listOf(captureType(type))
 
-        if (symbol !in cache) {
-            cache[symbol] = computeSupertypesMap(type, symbol)
-        }
-
-        val resultTypes = cache[symbol]?.getOrDefault(supertypeConstructor, emptyList()) ?: return null
+        val resultTypes = cache.getOrPutShared(symbol) { computeSupertypesMap(type, symbol) }
+            ?.getOrDefault(supertypeConstructor, emptyList()) ?: return null
         if (type.typeArguments.isEmpty()) return resultTypes
 
         val capturedType = captureType(type)
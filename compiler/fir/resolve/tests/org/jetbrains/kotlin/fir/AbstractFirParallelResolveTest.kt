@@ -0,0 +1,81 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.fir
+
+import org.jetbrains.kotlin.fir.declarations.FirFile
+import org.jetbrains.kotlin.fir.references.FirResolvedNamedReference
+import org.jetbrains.kotlin.fir.resolve.transformers.FirTotalResolveTransformer
+import org.jetbrains.kotlin.fir.symbols.AbstractFirBasedSymbol
+import org.jetbrains.kotlin.fir.symbols.impl.FirCallableSymbol
+import org.jetbrains.kotlin.fir.visitors.FirVisitorVoid
+import java.io.File
+
+/**
+ * Resolves the files on one thread and then, from fresh sessions, with bodies resolved in parallel, and checks that the results are
+ * the same: the rendered FIR, the diagnostics, and the symbols references are resolved to. The latter catches symbols created twice
+ * by concurrently filled caches, e.g. two enhanced versions of the same Java member referenced from different files.
+ */
+abstract class AbstractFirParallelResolveTest : AbstractFirDiagnosticsWithStdlibTest() {
+    private var bodyResolveThreads = 1
+    private var result: ResolveResult? = null
+
+    private data class ResolveResult(val fir: String, val diagnostics: String, val symbolsPerCallable: Map<String, Int>)
+
+    override fun analyzeAndCheckUnhandled(testDataFile: File, files: List<TestFile>, useLightTree: Boolean) {
+        bodyResolveThreads = 1
+        super.analyzeAndCheckUnhandled(testDataFile, files, useLightTree)
+        val singleThreadResult = result!!
+
+        bodyResolveThreads = PARALLEL_THREADS
+        super.analyzeAndCheckUnhandled(testDataFile, files, useLightTree)
+        val parallelResult = result!!
+
+        assertEquals(singleThreadResult.fir, parallelResult.fir)
+        assertEquals(singleThreadResult.diagnostics, parallelResult.diagnostics)
+        assertEquals(singleThreadResult.symbolsPerCallable, parallelResult.symbolsPerCallable)
+    }
+
+    override fun runAnalysis(testDataFile: File, testFiles: List<TestFile>, firFilesPerSession: Map<FirSession, List<FirFile>>) {
+        for ((_, firFiles) in firFilesPerSession) {
+            FirTotalResolveTransformer(bodyResolveThreads).processFiles(firFiles)
+        }
+        val allFirFiles = firFilesPerSession.values.flatten()
+
+        val fir = StringBuilder().apply { allFirFiles.forEach { it.accept(FirRenderer(this), null) } }.toString()
+
+        val collector = createCollector()
+        val diagnostics = StringBuilder()
+        for (firFile in allFirFiles) {
+            for (coneDiagnostic in collector.collectDiagnostics(firFile)) {
+                val diagnostic = coneDiagnostic.diagnostic
+                diagnostics.appendln("${firFile.name}: ${diagnostic.factory.name} ${diagnostic.textRanges}")
+            }
+        }
+
+        val symbolCollector = ResolvedSymbolCollector()
+        allFirFiles.forEach { it.accept(symbolCollector) }
+        val symbolsPerCallable = symbolCollector.symbols.mapValues { (_, symbols) -> symbols.size }
+
+        result = ResolveResult(fir, diagnostics.toString(), symbolsPerCallable)
+    }
+
+    private class ResolvedSymbolCollector : FirVisitorVoid() {
+        val symbols = sortedMapOf<String, MutableSet<AbstractFirBasedSymbol<*>>>()
+
+        override fun visitElement(element: FirElement) {
+            element.acceptChildren(this)
+        }
+
+        override fun visitResolvedNamedReference(resolvedNamedReference: FirResolvedNamedReference) {
+            val symbol = resolvedNamedReference.resolvedSymbol as? FirCallableSymbol<*> ?: return
+            symbols.getOrPut(symbol.callableId.toString()) { mutableSetOf() }.add(symbol)
+        }
+    }
+
+    companion object {
+        private const val PARALLEL_THREADS = 4
+    }
+}
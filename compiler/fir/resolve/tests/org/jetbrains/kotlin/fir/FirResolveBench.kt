@@ -15,6 +15,8 @@ import org.jetbrains.kotlin.fir.lightTree.LightTree2Fir
 import org.jetbrains.kotlin.fir.references.FirErrorNamedReference
 import org.jetbrains.kotlin.fir.resolve.firProvider
 import org.jetbrains.kotlin.fir.resolve.impl.FirProviderImpl
+import org.jetbrains.kotlin.fir.resolve.transformers.body.resolve.FirBodyResolveTransformerAdapter
+import org.jetbrains.kotlin.fir.resolve.transformers.resolveBodiesInParallel
 import org.jetbrains.kotlin.fir.types.*
 import org.jetbrains.kotlin.fir.visitors.FirDefaultVisitorVoid
 import org.jetbrains.kotlin.fir.visitors.FirTransformer
@@ -38,7 +40,11 @@ fun checkFirProvidersConsistency(firFiles: List<FirFile>) {
 private data class FailureInfo(val transformer: KClass<*>, val throwable: Throwable, val file: String)
 data class ErrorTypeReport(val report: String, var count: Int = 0)
 
-class FirResolveBench(val withProgress: Boolean) {
+/**
+ * If [bodyResolveThreads] is greater than 1, bodies of files are resolved in parallel. The time of this stage is then the elapsed time
+ * rather than the total time of its files (CPU and user times are still totals), their ratio is reported as the speedup.
+ */
+class FirResolveBench(val withProgress: Boolean, val bodyResolveThreads: Int = 1) {
     data class TotalStatistics(
         val unresolvedTypes: Int,
         val resolvedTypes: Int,
@@ -48,7 +54,10 @@ class FirResolveBench(val withProgress: Boolean) {
         val errorQualifiedAccessTypes: Int,
         val fileCount: Int,
         val errorTypesReports: Map<String, ErrorTypeReport>,
-        val timePerTransformer: Map<String, Measure>
+        val timePerTransformer: Map<String, Measure>,
+        val bodyResolveThreads: Int = 1,
+        val bodyResolveSpeedup: Double? = null,
+        val rawFirRetainedHeap: Long = 0
     ) {
         val totalTypes: Int = unresolvedTypes + resolvedTypes
         val goodTypes: Int = resolvedTypes - errorTypes - implicitTypes
@@ -87,6 +96,11 @@ class FirResolveBench(val withProgress: Boolean) {
     var fileCount = 0
     var totalTime = 0L
 
+    private var parallelStageTime = 0L
+    private var parallelFilesTime = 0L
+
+    // Growth of the heap used after GC while raw FIR of the files is built, including the syntax trees kept by the builder
+    private var rawFirRetainedHeap = 0L
 
     private val fails = mutableListOf<FailureInfo>()
     val hasFiles get() = fails.isNotEmpty()
@@ -96,8 +110,8 @@ class FirResolveBench(val withProgress: Boolean) {
     fun buildFiles(
         builder: RawFirBuilder,
         ktFiles: List<KtFile>
-    ): List<FirFile> {
-        return ktFiles.map { file ->
+    ): List<FirFile> = measureRetainedHeap {
+        ktFiles.map { file ->
             val before = vmStateSnapshot()
             var firFile: FirFile? = null
             val time = measureNanoTime {
@@ -108,16 +122,16 @@ class FirResolveBench(val withProgress: Boolean) {
             val diff = after - before
             recordTime(builder::class, diff, time)
             firFile!!
-        }.also {
-            totalTime = timePerTransformer.values.sumByLong { it.time }
         }
+    }.also {
+        totalTime = timePerTransformer.values.sumByLong { it.time }
     }
 
     fun buildFiles(
         builder: LightTree2Fir,
         files: List<File>
-    ): List<FirFile> {
-        return files.map { file ->
+    ): List<FirFile> = measureRetainedHeap {
+        files.map { file ->
             val before = vmStateSnapshot()
             var firFile: FirFile? = null
             val time = measureNanoTime {
@@ -128,11 +142,25 @@ class FirResolveBench(val withProgress: Boolean) {
             val diff = after - before
             recordTime(builder::class, diff, time)
             firFile!!
-        }.also {
-            totalTime = timePerTransformer.values.sumByLong { it.time }
         }
+    }.also {
+        totalTime = timePerTransformer.values.sumByLong { it.time }
+    }
+
+    private fun <T> measureRetainedHeap(block: () -> T): T {
+        val before = usedHeapAfterGc()
+        val result = block()
+        rawFirRetainedHeap += usedHeapAfterGc() - before
+        return result
+    }
+
+    private fun usedHeapAfterGc(): Long {
+        System.gc()
+        val runtime = Runtime.getRuntime()
+        return runtime.totalMemory() - runtime.freeMemory()
     }
 
+    @Synchronized
     private fun recordTime(stageClass: KClass<*>, diff: VMCounters, time: Long) {
         timePerTransformer.computeIfAbsent(stageClass) { Measure() }.apply {
             this.time += time
@@ -146,33 +174,56 @@ class FirResolveBench(val withProgress: Boolean) {
 
     private fun runStage(transformer: FirTransformer<Nothing?>, firFileSequence: Sequence<FirFile>) {
         for (firFile in firFileSequence) {
-            var fail = false
-            val before = vmStateSnapshot()
-            val time = measureNanoTime {
-                try {
-                    transformer.transformFile(firFile, null)
-                } catch (e: Throwable) {
-                    val ktFile = firFile.psi
-                    if (ktFile is KtFile) {
-                        println("Fail in file: ${ktFile.virtualFilePath}")
-                        fails += FailureInfo(transformer::class, e, ktFile.virtualFilePath)
-                    } else {
-                        println("Fail in file: ${firFile.packageFqName} / ${firFile.name}")
-                        fails += FailureInfo(transformer::class, e, firFile.packageFqName.asString() + "/" + firFile.name)
-                    }
-                    fail = true
-                    //println(ktFile.text)
-                    //throw e
+            runFile(transformer, firFile, inParallel = false)
+        }
+    }
+
+    private fun runStageInParallel(firFiles: List<FirFile>) {
+        val time = measureNanoTime {
+            resolveBodiesInParallel(firFiles, bodyResolveThreads) { firFile, transformer ->
+                runFile(transformer, firFile, inParallel = true)
+            }
+        }
+        synchronized(this) {
+            timePerTransformer.computeIfAbsent(FirBodyResolveTransformerAdapter::class) { Measure() }.time += time
+            parallelStageTime += time
+        }
+    }
+
+    private fun runFile(transformer: FirTransformer<Nothing?>, firFile: FirFile, inParallel: Boolean) {
+        var fail = false
+        val before = vmStateSnapshot()
+        val time = measureNanoTime {
+            try {
+                transformer.transformFile(firFile, null)
+            } catch (e: Throwable) {
+                val ktFile = firFile.psi
+                val failure = if (ktFile is KtFile) {
+                    println("Fail in file: ${ktFile.virtualFilePath}")
+                    FailureInfo(transformer::class, e, ktFile.virtualFilePath)
+                } else {
+                    println("Fail in file: ${firFile.packageFqName} / ${firFile.name}")
+                    FailureInfo(transformer::class, e, firFile.packageFqName.asString() + "/" + firFile.name)
                 }
+                synchronized(this) {
+                    fails += failure
+                }
+                fail = true
+                //println(ktFile.text)
+                //throw e
             }
-            if (!fail) {
-                val after = vmStateSnapshot()
-                val diff = after - before
+        }
+        if (!fail) {
+            val after = vmStateSnapshot()
+            val diff = after - before
+            if (inParallel) {
+                recordTime(transformer::class, diff, 0)
+                synchronized(this) { parallelFilesTime += time }
+            } else {
                 recordTime(transformer::class, diff, time)
-
             }
-            //totalLength += StringBuilder().apply { FirRenderer(this).visitFile(firFile) }.length
         }
+        //totalLength += StringBuilder().apply { FirRenderer(this).visitFile(firFile) }.length
     }
 
     fun processFiles(
@@ -183,6 +234,11 @@ class FirResolveBench(val withProgress: Boolean) {
         try {
             for ((stage, transformer) in transformers.withIndex()) {
                 //println("Starting stage #$stage. $transformer")
+                if (transformer is FirBodyResolveTransformerAdapter && bodyResolveThreads > 1) {
+                    runStageInParallel(firFiles)
+                    checkFirProvidersConsistency(firFiles)
+                    continue
+                }
                 val firFileSequence = if (withProgress) firFiles.progress("   ~ ") else firFiles.asSequence()
                 runStage(transformer, firFileSequence)
                 checkFirProvidersConsistency(firFiles)
@@ -308,7 +364,10 @@ class FirResolveBench(val withProgress: Boolean) {
         errorQualifiedAccessTypes,
         fileCount,
         errorTypesReports,
-        timePerTransformer.mapKeys { (klass, _) -> klass.simpleName!!.toString() }
+        timePerTransformer.mapKeys { (klass, _) -> klass.simpleName!!.toString() },
+        bodyResolveThreads,
+        if (parallelStageTime > 0) parallelFilesTime.toDouble() / parallelStageTime else null,
+        rawFirRetainedHeap
     )
 }
 
@@ -382,6 +441,12 @@ fun FirResolveBench.TotalStatistics.report(stream: PrintStream, header: String)
         println("   - unresolved q.accesses: $errorQualifiedAccessTypes")
         println("Erroneously resolved implicit types: $implicitTypes (${implicitTypes percentOf resolvedTypes} of resolved)")
         println("Unique error types: $uniqueErrorTypes")
+        if (rawFirRetainedHeap > 0) {
+            println("Heap retained by raw FIR and syntax trees: ${rawFirRetainedHeap / (1024 * 1024)} MB")
+        }
+        if (bodyResolveSpeedup != null) {
+            println("Body resolve on $bodyResolveThreads threads: ${String.format("%.2f", bodyResolveSpeedup)}x faster than its files in total")
+        }
 
         printTable(stream) {
             row {
@@ -66,6 +66,8 @@ inline fun <reified T : Any> FirSession.service(): T =
 internal object ComponentTypeRegistry {
     private val idPerType = mutableMapOf<KClass<out FirSessionComponent>, Int>()
 
+    // Accessors of components may be initialized concurrently when files are resolved in parallel
+    @Synchronized
     fun <T : FirSessionComponent> id(kClass: KClass<T>): Int {
         return idPerType.getOrPut(kClass) { idPerType.size }
     }
@@ -11,6 +11,9 @@ abstract class FirSourceElement
 
 class FirPsiSourceElement(val psi: PsiElement) : FirSourceElement()
 
+// Elements built from a light tree have no PSI, only the offsets of their syntax nodes in the file
+class FirLightSourceElement(val startOffset: Int, val endOffset: Int) : FirSourceElement()
+
 val FirSourceElement?.psi: PsiElement? get() = (this as? FirPsiSourceElement)?.psi
 
 val FirElement.psi: PsiElement? get() = (source as? FirPsiSourceElement)?.psi
@@ -6,17 +6,20 @@
 package org.jetbrains.kotlin.fir.resolve
 
 import org.jetbrains.kotlin.fir.scopes.FirScope
+import java.util.concurrent.ConcurrentHashMap
 
+// May be shared by threads which resolve bodies in parallel, so that they use the same scopes and see the same symbols created by them
 class ScopeSession {
-    private val scopes = hashMapOf<Any, HashMap<ScopeSessionKey<*, *>, FirScope>>()
+    private val scopes = ConcurrentHashMap<Any, ConcurrentHashMap<ScopeSessionKey<*, *>, FirScope>>()
 
     @Deprecated(level = DeprecationLevel.ERROR, message = "Only for getOrBuild")
     fun scopes() = scopes
 
     inline fun <reified ID : Any, reified FS : FirScope> getOrBuild(id: ID, key: ScopeSessionKey<ID, FS>, build: () -> FS): FS {
+        // If several threads build a scope at once, all of them get the one cached first
         @Suppress("DEPRECATION_ERROR")
         return scopes().getOrPut(id) {
-            hashMapOf()
+            ConcurrentHashMap()
         }.getOrPut(key) {
             build()
         } as FS
@@ -24,4 +27,3 @@ class ScopeSession {
 }
 
 abstract class ScopeSessionKey<ID : Any, FS : FirScope>
-
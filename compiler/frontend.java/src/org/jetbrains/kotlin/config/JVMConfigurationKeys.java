@@ -96,6 +96,9 @@ public class JVMConfigurationKeys {
     public static final CompilerConfigurationKey<Boolean> IR =
             CompilerConfigurationKey.create("IR");
 
+    public static final CompilerConfigurationKey<Boolean> USE_LIGHT_TREE =
+            CompilerConfigurationKey.create("build front-end IR of sources from the light tree");
+
     public static final CompilerConfigurationKey<Boolean> USE_PSI_CLASS_FILES_READING =
             CompilerConfigurationKey.create("use a slower (PSI-based) class files reading implementation");
 
@@ -113,4 +116,22 @@ public class JVMConfigurationKeys {
 
     public static final CompilerConfigurationKey<Boolean> EMIT_JVM_TYPE_ANNOTATIONS =
             CompilerConfigurationKey.create("Emit JVM type annotations in bytecode");
+
+    public static final CompilerConfigurationKey<Integer> PARALLEL_BACKEND_THREADS =
+            CompilerConfigurationKey.create("number of threads generating bytecode of independent files");
+
+    public static final CompilerConfigurationKey<File> INLINE_FUNCTION_CACHE_DIRECTORY =
+            CompilerConfigurationKey.create("directory of the persistent cache of inline functions bytecode");
+
+    public static final CompilerConfigurationKey<Integer> INLINE_FUNCTION_CACHE_SIZE =
+            CompilerConfigurationKey.create("maximum size of the persistent cache of inline functions bytecode in megabytes");
+
+    public static final CompilerConfigurationKey<File> JAR_INDEX_CACHE_DIRECTORY =
+            CompilerConfigurationKey.create("directory of the cached package tables of classpath jars");
+
+    public static final CompilerConfigurationKey<Boolean> PER_KEY_STORAGE_LOCKING =
+            CompilerConfigurationKey.create("use per-key locking in the storage manager of the analyzed module");
+
+    public static final CompilerConfigurationKey<Boolean> PARALLEL_METHOD_OPTIMIZATION =
+            CompilerConfigurationKey.create("optimize bytecode of methods of each class in parallel");
 }
@@ -57,20 +57,38 @@ object JvmFileClassUtil {
     @JvmStatic
     fun getFileClassInfoNoResolve(file: KtFile): JvmFileClassInfo {
         val parsedAnnotations = parseJvmNameOnFileNoResolve(file)
-        val packageFqName = parsedAnnotations?.jvmPackageName ?: file.packageFqName
+        return getFileClassInfo(
+                file.name, file.packageFqName,
+                parsedAnnotations?.jvmName, parsedAnnotations?.jvmPackageName, parsedAnnotations?.isMultifileClass == true
+        )
+    }
+
+    /**
+     * Same as [getFileClassInfoNoResolve], for a file whose `JvmName`, `JvmPackageName` and `JvmMultifileClass` annotations are read
+     * elsewhere, e.g. from the IR of a file which isn't parsed to PSI.
+     */
+    @JvmStatic
+    fun getFileClassInfo(
+            fileName: String,
+            filePackageFqName: FqName,
+            jvmName: String?,
+            jvmPackageName: FqName?,
+            isMultifileClass: Boolean
+    ): JvmFileClassInfo {
+        val packageFqName = jvmPackageName ?: filePackageFqName
         return when {
-            parsedAnnotations != null -> {
-                val simpleName = parsedAnnotations.jvmName ?: PackagePartClassUtils.getFilePartShortName(file.name)
+            jvmName != null || jvmPackageName != null -> {
+                val simpleName = jvmName ?: PackagePartClassUtils.getFilePartShortName(fileName)
                 val facadeClassFqName = packageFqName.child(Name.identifier(simpleName))
                 when {
-                    parsedAnnotations.isMultifileClass -> JvmMultifileClassPartInfo(
-                            fileClassFqName = packageFqName.child(Name.identifier(manglePartName(simpleName, file.name))),
+                    isMultifileClass -> JvmMultifileClassPartInfo(
+                            fileClassFqName = packageFqName.child(Name.identifier(manglePartName(simpleName, fileName))),
                             facadeClassFqName = facadeClassFqName
                     )
                     else -> JvmSimpleFileClassInfo(facadeClassFqName, true)
                 }
             }
-            else -> JvmSimpleFileClassInfo(PackagePartClassUtils.getPackagePartFqName(packageFqName, file.name), false)
+            else -> JvmSimpleFileClassInfo(PackagePartClassUtils.getPackagePartFqName(packageFqName, fileName), false)
         }
     }
 
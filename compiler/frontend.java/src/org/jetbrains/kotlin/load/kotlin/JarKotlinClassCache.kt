@@ -0,0 +1,90 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.load.kotlin
+
+import com.intellij.openapi.vfs.StandardFileSystems
+import com.intellij.openapi.vfs.VirtualFile
+import com.intellij.util.io.URLUtil
+import org.jetbrains.kotlin.load.kotlin.KotlinClassFinder.Result.KotlinClass
+import org.jetbrains.kotlin.load.kotlin.header.KotlinClassHeader
+import java.io.File
+
+/**
+ * Kotlin classes read from class files in jars, i.e. their headers with the metadata and inner classes. [KotlinBinaryClassCache]
+ * keeps it for the lifetime of the application environment, so that the compile daemon reads the header of each library class
+ * once rather than in every compilation.
+ *
+ * A class is reused only if the size and the modification time of its jar haven't changed, and if the jar wasn't modified shortly
+ * before the class was read, as in JarModuleMappingCache. Java classes aren't cached, their whole contents would be kept.
+ * Protobufs of the metadata are still parsed in each compilation, by DeserializedDescriptorResolver with its configuration.
+ *
+ * The cache size is bounded by [maxCachedBytes] of metadata strings, the least recently used classes are evicted first.
+ */
+class JarKotlinClassCache(private val maxCachedBytes: Long) {
+    private class Entry(val kotlinClass: KotlinClass, val jarLength: Long, val jarLastModified: Long, val bytes: Long)
+
+    private val entries = LinkedHashMap<String, Entry>(16, 0.75f, true)
+    private var cachedBytes = 0L
+
+    // Returns the cached class if the file is in a jar, or reads it with [read] and caches it
+    fun getOrRead(file: VirtualFile, read: () -> KotlinClassFinder.Result?): KotlinClassFinder.Result? {
+        if (file.fileSystem.protocol != StandardFileSystems.JAR_PROTOCOL) return read()
+        val path = file.path
+        val jarPath = path.substringBefore(URLUtil.JAR_SEPARATOR, "")
+        if (jarPath.isEmpty()) return read()
+        return getOrRead(File(jarPath), path, read)
+    }
+
+    fun getOrRead(jar: File, path: String, read: () -> KotlinClassFinder.Result?): KotlinClassFinder.Result? {
+        val length = jar.length()
+        val lastModified = jar.lastModified()
+        if (lastModified == 0L) return read()
+
+        synchronized(entries) {
+            entries[path]?.let { if (it.jarLength == length && it.jarLastModified == lastModified) return it.kotlinClass }
+        }
+
+        val readStart = System.currentTimeMillis()
+        val result = read()
+        if (result !is KotlinClass) return result
+        val bytes = result.kotlinJvmBinaryClass.classHeader.estimateSize()
+        if (bytes > maxCachedBytes) return result
+        // A rewrite within the same timestamp tick would go unnoticed, the class can be cached when it's read next time
+        if (lastModified > readStart - MAX_TIMESTAMP_GRANULARITY_MS) return result
+
+        synchronized(entries) {
+            entries.put(path, Entry(result, length, lastModified, bytes))?.let { cachedBytes -= it.bytes }
+            cachedBytes += bytes
+
+            val iterator = entries.values.iterator()
+            while (cachedBytes > maxCachedBytes && iterator.hasNext()) {
+                cachedBytes -= iterator.next().bytes
+                iterator.remove()
+            }
+        }
+        return result
+    }
+
+    fun clear() {
+        synchronized(entries) {
+            entries.clear()
+            cachedBytes = 0L
+        }
+    }
+
+    private fun KotlinClassHeader.estimateSize(): Long {
+        val chars = listOfNotNull(data, incompatibleData, strings).sumBy { strings -> strings.sumBy { it.length } }
+        return CLASS_OVERHEAD_BYTES + 2L * chars
+    }
+
+    companion object {
+        // The class objects, the header and the inner classes of a class without metadata
+        private const val CLASS_OVERHEAD_BYTES = 200L
+
+        // The worst case is FAT, where modification times are stored with 2 seconds precision
+        private const val MAX_TIMESTAMP_GRANULARITY_MS = 2000L
+    }
+}
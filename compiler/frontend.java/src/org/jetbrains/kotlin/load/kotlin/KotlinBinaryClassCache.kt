@@ -24,7 +24,10 @@ import com.intellij.openapi.util.Computable
 import com.intellij.openapi.vfs.VirtualFile
 import com.intellij.psi.PsiJavaModule
 
-class KotlinBinaryClassCache : Disposable {
+/**
+ * @param jarClasses if specified, Kotlin classes read from jars are kept there rather than only for the last request of each thread
+ */
+class KotlinBinaryClassCache(private val jarClasses: JarKotlinClassCache? = null) : Disposable {
     private class RequestCache {
         internal var virtualFile: VirtualFile? = null
         internal var modificationStamp: Long = 0
@@ -53,6 +56,7 @@ class KotlinBinaryClassCache : Disposable {
         // also created for each test. However all tests share the same event dispatch thread, which would collect all instances of this
         // thread-local if they're not removed properly. Each instance would transitively retain VFS resulting in OutOfMemoryError
         cache.remove()
+        jarClasses?.clear()
     }
 
     companion object {
@@ -71,11 +75,16 @@ class KotlinBinaryClassCache : Disposable {
             }
 
             val aClass = ApplicationManager.getApplication().runReadAction(Computable {
-                @Suppress("DEPRECATION")
-                VirtualFileKotlinClass.create(file, fileContent)
+                val jarClasses = service.jarClasses
+                if (jarClasses != null) jarClasses.getOrRead(file) { readClass(file, fileContent) }
+                else readClass(file, fileContent)
             })
 
             return requestCache.cache(file, aClass)
         }
+
+        @Suppress("DEPRECATION")
+        private fun readClass(file: VirtualFile, fileContent: ByteArray?): KotlinClassFinder.Result? =
+            VirtualFileKotlinClass.create(file, fileContent)
     }
 }
@@ -41,4 +41,7 @@ object AnalysisFlags {
 
     @JvmStatic
     val ideMode by AnalysisFlag.Delegates.Boolean
+
+    @JvmStatic
+    val lazyMemberDeserialization by AnalysisFlag.Delegates.Boolean
 }
@@ -19,6 +19,7 @@ package org.jetbrains.kotlin.config
 import org.jetbrains.kotlin.incremental.components.ExpectActualTracker
 import org.jetbrains.kotlin.incremental.components.LookupTracker
 import org.jetbrains.kotlin.metadata.deserialization.BinaryVersion
+import org.jetbrains.kotlin.util.PerformanceTracer
 
 object CommonConfigurationKeys {
     @JvmField
@@ -47,6 +48,12 @@ object CommonConfigurationKeys {
 
     @JvmField
     val KLIB_MPP = CompilerConfigurationKey.create<Boolean>("Klib based MPP")
+
+    @JvmField
+    val PARALLEL_LOWERING_THREADS = CompilerConfigurationKey.create<Int>("number of threads lowering independent files")
+
+    @JvmField
+    val PERFORMANCE_TRACER = CompilerConfigurationKey.create<PerformanceTracer>("performance tracer")
 }
 
 var CompilerConfiguration.languageVersionSettings: LanguageVersionSettings
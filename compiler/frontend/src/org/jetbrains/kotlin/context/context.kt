@@ -25,6 +25,7 @@ import org.jetbrains.kotlin.name.Name
 import org.jetbrains.kotlin.platform.TargetPlatform
 import org.jetbrains.kotlin.storage.ExceptionTracker
 import org.jetbrains.kotlin.storage.LockBasedStorageManager
+import org.jetbrains.kotlin.storage.PerKeyLockingStorageManager
 import org.jetbrains.kotlin.storage.StorageManager
 
 interface GlobalContext {
@@ -88,6 +89,15 @@ fun GlobalContext(debugName: String): GlobalContextImpl {
     return GlobalContextImpl(LockBasedStorageManager.createWithExceptionHandling(debugName, tracker), tracker)
 }
 
+/**
+ * Creates a context whose storage manager locks lazy values and memoized function keys separately, so that independent
+ * declarations can be resolved concurrently. See [PerKeyLockingStorageManager].
+ */
+fun PerKeyLockingGlobalContext(debugName: String): GlobalContextImpl {
+    val tracker = ExceptionTracker()
+    return GlobalContextImpl(PerKeyLockingStorageManager.create(debugName, tracker), tracker)
+}
+
 fun ProjectContext(project: Project, debugName: String): ProjectContext = ProjectContextImpl(project, GlobalContext(debugName))
 fun ModuleContext(module: ModuleDescriptor, project: Project, debugName: String): ModuleContext =
     ModuleContextImpl(module, ProjectContext(project, debugName))
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.util
+
+import java.lang.management.ManagementFactory
+import java.util.concurrent.ConcurrentLinkedQueue
+
+/**
+ * Collects nested timed spans of the compilation (compiler phases, files, inline call sites), possibly from several threads,
+ * to be exported in a machine-readable format.
+ *
+ * Spans of each thread form a stack: [finish] finishes the span most recently started in the current thread. Use [trace]
+ * to make sure that every started span is finished.
+ */
+class PerformanceTracer {
+    /**
+     * A finished span. [depth] is the number of spans of the same thread which enclose this one. Times are in nanoseconds
+     * since the creation of the tracer. [allocatedBytes] is the number of bytes allocated by the thread during the span,
+     * or -1 if the JVM doesn't support measuring it.
+     */
+    class Span(
+        val name: String,
+        val category: String,
+        val threadId: Long,
+        val depth: Int,
+        val startNanos: Long,
+        val durationNanos: Long,
+        val allocatedBytes: Long
+    )
+
+    private class OpenSpan(val name: String, val category: String, val startNanos: Long, val startAllocatedBytes: Long)
+
+    private val origin = System.nanoTime()
+    private val finishedSpans = ConcurrentLinkedQueue<Span>()
+    private val openSpans = ThreadLocal.withInitial { ArrayList<OpenSpan>() }
+
+    /** Finished spans ordered by thread and start time, so that enclosing spans precede the nested ones. */
+    val spans: List<Span>
+        get() = finishedSpans.sortedWith(compareBy<Span>({ it.threadId }, { it.startNanos }, { it.depth }))
+
+    fun start(name: String, category: String) {
+        openSpans.get().add(OpenSpan(name, category, System.nanoTime(), currentThreadAllocatedBytes()))
+    }
+
+    fun finish() {
+        val stack = openSpans.get()
+        check(stack.isNotEmpty()) { "No span is started in thread ${Thread.currentThread().name}" }
+        val span = stack.removeAt(stack.lastIndex)
+
+        val endNanos = System.nanoTime()
+        val endAllocatedBytes = currentThreadAllocatedBytes()
+        val allocatedBytes = if (span.startAllocatedBytes < 0 || endAllocatedBytes < 0) -1 else endAllocatedBytes - span.startAllocatedBytes
+        finishedSpans.add(
+            Span(
+                span.name, span.category, Thread.currentThread().id, stack.size,
+                span.startNanos - origin, endNanos - span.startNanos, allocatedBytes
+            )
+        )
+    }
+
+    companion object {
+        const val PARSING_CATEGORY = "parsing"
+        const val ANALYSIS_CATEGORY = "analysis"
+        const val CODEGEN_CATEGORY = "codegen"
+        const val PHASE_CATEGORY = "phase"
+        const val INLINE_CATEGORY = "inline"
+
+        private val threadMXBean: com.sun.management.ThreadMXBean? = try {
+            (ManagementFactory.getThreadMXBean() as? com.sun.management.ThreadMXBean)?.takeIf { it.isThreadAllocatedMemorySupported }
+        } catch (e: LinkageError) {
+            // Not a HotSpot-based JVM
+            null
+        }
+
+        private fun currentThreadAllocatedBytes(): Long {
+            val bean = threadMXBean ?: return -1
+            return if (bean.isThreadAllocatedMemoryEnabled) bean.getThreadAllocatedBytes(Thread.currentThread().id) else -1
+        }
+    }
+}
+
+inline fun <T> PerformanceTracer?.trace(name: String, category: String, block: () -> T): T {
+    if (this == null) return block()
+
+    start(name, category)
+    try {
+        return block()
+    } finally {
+        finish()
+    }
+}
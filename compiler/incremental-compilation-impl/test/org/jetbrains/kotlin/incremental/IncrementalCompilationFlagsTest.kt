@@ -0,0 +1,90 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.incremental
+
+import org.jetbrains.kotlin.config.IncrementalCompilation
+import org.junit.After
+import org.junit.Assert
+import org.junit.Before
+import org.junit.Test
+import java.util.concurrent.Callable
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import kotlin.concurrent.thread
+
+class IncrementalCompilationFlagsTest {
+    private var jvmPropertyBackup: String? = null
+    private var jsPropertyBackup: String? = null
+
+    @Before
+    fun setUp() {
+        jvmPropertyBackup = System.getProperty(IncrementalCompilation.INCREMENTAL_COMPILATION_JVM_PROPERTY)
+        jsPropertyBackup = System.getProperty(IncrementalCompilation.INCREMENTAL_COMPILATION_JS_PROPERTY)
+        System.setProperty(IncrementalCompilation.INCREMENTAL_COMPILATION_JVM_PROPERTY, "false")
+        System.setProperty(IncrementalCompilation.INCREMENTAL_COMPILATION_JS_PROPERTY, "false")
+    }
+
+    @After
+    fun tearDown() {
+        restoreProperty(IncrementalCompilation.INCREMENTAL_COMPILATION_JVM_PROPERTY, jvmPropertyBackup)
+        restoreProperty(IncrementalCompilation.INCREMENTAL_COMPILATION_JS_PROPERTY, jsPropertyBackup)
+    }
+
+    @Test
+    fun testWithIC() {
+        checkFlagIsSetInThread(IncrementalCompilation::isEnabledForJvm) { body -> withIC { body() } }
+        Assert.assertNull(IncrementalCompilation.getIsEnabledForJvmInThread())
+    }
+
+    @Test
+    fun testWithJsIC() {
+        checkFlagIsSetInThread(IncrementalCompilation::isEnabledForJs) { body -> withJsIC { body() } }
+        Assert.assertNull(IncrementalCompilation.getIsEnabledForJsInThread())
+    }
+
+    @Test
+    fun testNestedWithIC() {
+        withIC(enabled = true) {
+            withIC(enabled = false) {
+                Assert.assertFalse(IncrementalCompilation.isEnabledForJvm())
+            }
+            Assert.assertTrue(IncrementalCompilation.isEnabledForJvm())
+        }
+        Assert.assertFalse(IncrementalCompilation.isEnabledForJvm())
+    }
+
+    // The flag is set in the current thread and the threads it starts, but not in other threads, e.g. ones of other compilations
+    private fun checkFlagIsSetInThread(isEnabled: () -> Boolean, withFlag: (() -> Unit) -> Unit) {
+        val otherThread = Executors.newSingleThreadExecutor()
+        try {
+            // Starts the thread of the executor before the flag is set
+            Assert.assertFalse(otherThread.submit(Callable { isEnabled() }).get())
+
+            withFlag {
+                Assert.assertTrue(isEnabled())
+
+                var isEnabledInChildThread = false
+                thread { isEnabledInChildThread = isEnabled() }.join()
+                Assert.assertTrue(isEnabledInChildThread)
+
+                Assert.assertFalse(otherThread.submit(Callable { isEnabled() }).get())
+            }
+
+            Assert.assertFalse(isEnabled())
+        } finally {
+            otherThread.shutdown()
+            otherThread.awaitTermination(1, TimeUnit.MINUTES)
+        }
+    }
+
+    private fun restoreProperty(name: String, value: String?) {
+        if (value == null) {
+            System.clearProperty(name)
+        } else {
+            System.setProperty(name, value)
+        }
+    }
+}
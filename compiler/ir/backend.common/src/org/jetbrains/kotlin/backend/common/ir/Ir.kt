@@ -32,6 +32,7 @@ abstract class Ir<out T : CommonBackendContext>(val context: T, val irModule: Ir
 
     abstract val symbols: Symbols<T>
 
+    // Guarded by itself, because default argument stubs may be generated by lowerings running in several threads
     val defaultParameterDeclarationsCache = mutableMapOf<IrFunction, IrFunction>()
 
     // If irType is an inline class type, return the underlying type according to the
@@ -176,11 +177,14 @@ open class BuiltinSymbolsBase(protected val builtIns: KotlinBuiltIns, private va
 
     fun getBinaryOperator(name: Name, lhsType: KotlinType, rhsType: KotlinType): IrSimpleFunctionSymbol {
         val key = Triple(name, lhsType, rhsType)
-        return binaryOperatorCache.getOrPut(key) {
-            symbolTable.referenceSimpleFunction(
-                lhsType.memberScope.getContributedFunctions(name, NoLookupLocation.FROM_BACKEND)
-                    .first { it.valueParameters.size == 1 && it.valueParameters[0].type == rhsType }
-            )
+        // Both the cache and the symbol table may be accessed from several threads lowering different files
+        return symbolTable.synchronizedIfUsedConcurrently {
+            binaryOperatorCache.getOrPut(key) {
+                symbolTable.referenceSimpleFunction(
+                    lhsType.memberScope.getContributedFunctions(name, NoLookupLocation.FROM_BACKEND)
+                        .first { it.valueParameters.size == 1 && it.valueParameters[0].type == rhsType }
+                )
+            }
         }
     }
 
@@ -188,11 +192,13 @@ open class BuiltinSymbolsBase(protected val builtIns: KotlinBuiltIns, private va
 
     fun getUnaryOperator(name: Name, receiverType: KotlinType): IrSimpleFunctionSymbol {
         val key = name to receiverType
-        return unaryOperatorCache.getOrPut(key) {
-            symbolTable.referenceSimpleFunction(
-                receiverType.memberScope.getContributedFunctions(name, NoLookupLocation.FROM_BACKEND)
-                    .first { it.valueParameters.isEmpty() }
-            )
+        return symbolTable.synchronizedIfUsedConcurrently {
+            unaryOperatorCache.getOrPut(key) {
+                symbolTable.referenceSimpleFunction(
+                    receiverType.memberScope.getContributedFunctions(name, NoLookupLocation.FROM_BACKEND)
+                        .first { it.valueParameters.isEmpty() }
+                )
+            }
         }
     }
 
@@ -343,40 +343,42 @@ private fun IrFunction.generateDefaultsFunction(
 ): IrFunction? {
     if (skipInlineMethods && isInline) return null
     if (skipExternalMethods && isExternalOrInheritedFromExternal()) return null
-    context.ir.defaultParameterDeclarationsCache[this]?.let { return it }
-    if (this is IrSimpleFunction) {
-        // If this is an override of a function with default arguments, produce a fake override of a default stub.
-        val overriddenStubs = overriddenSymbols.mapNotNull {
-            it.owner.generateDefaultsFunction(
-                context,
-                skipInlineMethods,
-                skipExternalMethods,
-                visibility
-            )?.symbol as IrSimpleFunctionSymbol?
+    synchronized(context.ir.defaultParameterDeclarationsCache) {
+        context.ir.defaultParameterDeclarationsCache[this]?.let { return it }
+        if (this is IrSimpleFunction) {
+            // If this is an override of a function with default arguments, produce a fake override of a default stub.
+            val overriddenStubs = overriddenSymbols.mapNotNull {
+                it.owner.generateDefaultsFunction(
+                    context,
+                    skipInlineMethods,
+                    skipExternalMethods,
+                    visibility
+                )?.symbol as IrSimpleFunctionSymbol?
+            }
+            if (overriddenStubs.isNotEmpty()) {
+                return generateDefaultsFunctionImpl(context, IrDeclarationOrigin.FAKE_OVERRIDE, visibility).also {
+                    (it as IrSimpleFunction).overriddenSymbols.addAll(overriddenStubs)
+                    context.ir.defaultParameterDeclarationsCache[this] = it
+                }
+            }
         }
-        if (overriddenStubs.isNotEmpty()) {
-            return generateDefaultsFunctionImpl(context, IrDeclarationOrigin.FAKE_OVERRIDE, visibility).also {
-                (it as IrSimpleFunction).overriddenSymbols.addAll(overriddenStubs)
+        // Note: this is intentionally done *after* checking for overrides. While normally `override fun`s
+        // have no default parameters, there is an exception in case of interface delegation:
+        //     interface I {
+        //         fun f(x: Int = 1)
+        //     }
+        //     class C(val y: I) : I by y {
+        //         // implicit `override fun f(x: Int) = y.f(x)` has a default value for `x`
+        //     }
+        // Since this bug causes the metadata serializer to write the "has default value" flag into compiled
+        // binaries, it's way too late to fix it. Hence the workaround.
+        if (valueParameters.any { it.defaultValue != null }) {
+            return generateDefaultsFunctionImpl(context, IrDeclarationOrigin.FUNCTION_FOR_DEFAULT_PARAMETER, visibility).also {
                 context.ir.defaultParameterDeclarationsCache[this] = it
             }
         }
+        return null
     }
-    // Note: this is intentionally done *after* checking for overrides. While normally `override fun`s
-    // have no default parameters, there is an exception in case of interface delegation:
-    //     interface I {
-    //         fun f(x: Int = 1)
-    //     }
-    //     class C(val y: I) : I by y {
-    //         // implicit `override fun f(x: Int) = y.f(x)` has a default value for `x`
-    //     }
-    // Since this bug causes the metadata serializer to write the "has default value" flag into compiled
-    // binaries, it's way too late to fix it. Hence the workaround.
-    if (valueParameters.any { it.defaultValue != null }) {
-        return generateDefaultsFunctionImpl(context, IrDeclarationOrigin.FUNCTION_FOR_DEFAULT_PARAMETER, visibility).also {
-            context.ir.defaultParameterDeclarationsCache[this] = it
-        }
-    }
-    return null
 }
 
 private fun IrFunction.generateDefaultsFunctionImpl(
@@ -40,15 +40,18 @@ class LateinitLowering(val backendContext: CommonBackendContext) : FileLoweringP
     private val nullableFields = backendContext.lateinitNullableFields
     private fun buildOrGetNullableField(originalField: IrField): IrField {
         if (originalField.type.isMarkedNullable()) return originalField
-        return nullableFields.getOrPut(originalField) {
-            buildField {
-                updateFrom(originalField)
-                type = originalField.type.makeNullable()
-                name = originalField.name
-            }.apply {
-                parent = originalField.parent
-                correspondingPropertySymbol = originalField.correspondingPropertySymbol
-                annotations += originalField.annotations
+        // The field may be referenced from several files, which may be lowered in parallel
+        return synchronized(nullableFields) {
+            nullableFields.getOrPut(originalField) {
+                buildField {
+                    updateFrom(originalField)
+                    type = originalField.type.makeNullable()
+                    name = originalField.name
+                }.apply {
+                    parent = originalField.parent
+                    correspondingPropertySymbol = originalField.correspondingPropertySymbol
+                    annotations += originalField.annotations
+                }
             }
         }
     }
@@ -6,6 +6,9 @@
 package org.jetbrains.kotlin.backend.common.phaser
 
 import org.jetbrains.kotlin.backend.common.CommonBackendContext
+import org.jetbrains.kotlin.config.CommonConfigurationKeys
+import org.jetbrains.kotlin.util.PerformanceTracer
+import org.jetbrains.kotlin.util.trace
 import kotlin.system.measureTimeMillis
 
 class PhaserState<Data>(
@@ -102,7 +105,9 @@ abstract class AbstractNamedPhaseWrapper<in Context : CommonBackendContext, Inpu
         context.inVerbosePhase = this in phaseConfig.verbose
 
         runBefore(phaseConfig, phaserState, context, input)
-        val output = runBody(phaseConfig, phaserState, context, input)
+        val output = context.configuration[CommonConfigurationKeys.PERFORMANCE_TRACER].trace(name, PerformanceTracer.PHASE_CATEGORY) {
+            runBody(phaseConfig, phaserState, context, input)
+        }
         runAfter(phaseConfig, phaserState, context, output)
 
         phaserState.alreadyDone.add(this)
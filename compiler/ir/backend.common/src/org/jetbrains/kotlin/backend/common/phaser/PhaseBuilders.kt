@@ -9,9 +9,11 @@ import org.jetbrains.kotlin.backend.common.CodegenUtil
 import org.jetbrains.kotlin.backend.common.CommonBackendContext
 import org.jetbrains.kotlin.backend.common.FileLoweringPass
 import org.jetbrains.kotlin.backend.common.lower
+import org.jetbrains.kotlin.config.CommonConfigurationKeys
 import org.jetbrains.kotlin.ir.IrElement
 import org.jetbrains.kotlin.ir.declarations.IrFile
 import org.jetbrains.kotlin.ir.declarations.IrModuleFragment
+import org.jetbrains.kotlin.utils.forEachInParallel
 
 // Phase composition.
 private class CompositePhase<Context : CommonBackendContext, Input, Output>(
@@ -159,6 +161,11 @@ fun <Context : CommonBackendContext> performByIrFile(
     postconditions: Set<Checker<IrModuleFragment>> = emptySet(),
     stickyPostconditions: Set<Checker<IrModuleFragment>> = emptySet(),
     actions: Set<Action<IrModuleFragment, Context>> = setOf(defaultDumper),
+    // Phases run on each file before `lower`. If CommonConfigurationKeys.PARALLEL_LOWERING_THREADS is greater than one, they are
+    // run on all files in several threads first, and only then `lower` is run on each file. It's only correct if each of them changes
+    // nothing but the file it's run on, doesn't read declarations of other files which they change, and uses the context (caches,
+    // symbol table) in a thread-safe way
+    fileLocalLower: CompilerPhase<Context, IrFile, IrFile>? = null,
     lower: CompilerPhase<Context, IrFile, IrFile>
 ) = namedIrModulePhase(
     name, description, prerequisite,
@@ -174,9 +181,17 @@ fun <Context : CommonBackendContext> performByIrFile(
             context: Context,
             input: IrModuleFragment
         ): IrModuleFragment {
+            val threads = context.configuration.get(CommonConfigurationKeys.PARALLEL_LOWERING_THREADS, 1)
+            val fileLower = if (fileLocalLower != null && threads > 1 && input.files.size > 1) {
+                lowerFilesInParallel(input.files, threads, phaseConfig, phaserState, context, fileLocalLower)
+                lower
+            } else {
+                allLower
+            }
+
             for (irFile in input.files) {
                 try {
-                    lower.invoke(phaseConfig, phaserState.changeType(), context, irFile)
+                    fileLower.invoke(phaseConfig, phaserState.changeType(), context, irFile)
                 } catch (e: Throwable) {
                     CodegenUtil.reportBackendException(e, "IR lowering", irFile.fileEntry.name)
                 }
@@ -186,10 +201,37 @@ fun <Context : CommonBackendContext> performByIrFile(
             return input
         }
 
-        override fun getNamedSubphases(startDepth: Int) = lower.getNamedSubphases(startDepth)
+        // Without threads, each file is lowered by the whole pipeline before the next one, as if there were no `fileLocalLower`
+        private val allLower = if (fileLocalLower != null) fileLocalLower then lower else lower
+
+        override fun getNamedSubphases(startDepth: Int) = allLower.getNamedSubphases(startDepth)
     }
 )
 
+private fun <Context : CommonBackendContext> lowerFilesInParallel(
+    files: List<IrFile>,
+    threads: Int,
+    phaseConfig: PhaseConfig,
+    phaserState: PhaserState<IrModuleFragment>,
+    context: Context,
+    lower: CompilerPhase<Context, IrFile, IrFile>
+) {
+    // Each file gets its own copy of the phaser state, which is updated by every phase
+    val fileStates = files.map { PhaserState<IrFile>(phaserState.alreadyDone.toMutableSet(), phaserState.depth, phaserState.phaseCount) }
+    // Failures are reported in the order of files, as if they were lowered sequentially
+    forEachInParallel(files.zip(fileStates), threads) { (irFile, fileState) ->
+        try {
+            lower.invoke(phaseConfig, fileState, context, irFile)
+        } catch (e: Throwable) {
+            CodegenUtil.reportBackendException(e, "IR lowering", irFile.fileEntry.name)
+        }
+    }
+
+    for (fileState in fileStates) {
+        phaserState.alreadyDone.addAll(fileState.alreadyDone)
+    }
+}
+
 fun <Context : CommonBackendContext> makeIrFilePhase(
     lowering: (Context) -> FileLoweringPass,
     name: String,
@@ -41,6 +41,7 @@ import org.jetbrains.kotlin.name.Name
 import org.jetbrains.kotlin.psi2ir.PsiSourceManager
 import org.jetbrains.kotlin.resolve.jvm.JvmClassName
 import org.jetbrains.org.objectweb.asm.Type
+import java.util.concurrent.ConcurrentHashMap
 
 class JvmBackendContext(
     val state: GenerationState,
@@ -56,7 +57,9 @@ class JvmBackendContext(
     override val transformedFunction: MutableMap<IrFunctionSymbol, IrSimpleFunctionSymbol>
         get() = TODO("not implemented")
     override val scriptMode: Boolean = false
-    override val lateinitNullableFields = mutableMapOf<IrField, IrField>()
+    // This and other maps below which are updated by file lowerings are concurrent, because files may be lowered in several threads,
+    // see CommonConfigurationKeys.PARALLEL_LOWERING_THREADS
+    override val lateinitNullableFields: MutableMap<IrField, IrField> = ConcurrentHashMap()
 
     override val builtIns = state.module.builtIns
     val typeMapper = IrTypeMapper(this)
@@ -69,7 +72,7 @@ class JvmBackendContext(
 
     val irIntrinsics by lazy { IrIntrinsicMethods(irBuiltIns, ir.symbols) }
 
-    private val localClassType = mutableMapOf<IrAttributeContainer, Type>()
+    private val localClassType = ConcurrentHashMap<IrAttributeContainer, Type>()
 
     internal fun getLocalClassType(container: IrAttributeContainer): Type? =
         localClassType[container.attributeOwnerId]
@@ -78,22 +81,24 @@ class JvmBackendContext(
         localClassType[container.attributeOwnerId] = value
     }
 
-    internal val customEnclosingFunction = mutableMapOf<IrAttributeContainer, IrFunction>()
+    internal val customEnclosingFunction = ConcurrentHashMap<IrAttributeContainer, IrFunction>()
 
     // TODO cache these at ClassCodegen level. Currently, sharing this map between classes in a module is required
     //      because IrSourceCompilerForInline constructs a new (Fake)ClassCodegen for every call to
     //      an inline function in the same module. Thus, if two inline functions happen to have the same name
     //      and call a third inline function that has an anonymous object, the one which is called last
     //      will overwrite the other's regenerated copy. (Or don't recompile the inline function for every call.)
-    internal val regeneratedObjectNameGenerators = mutableMapOf<Pair<IrClass, Name>, NameGenerator>()
+    internal val regeneratedObjectNameGenerators = ConcurrentHashMap<Pair<IrClass, Name>, NameGenerator>()
 
-    internal val localDelegatedProperties = mutableMapOf<IrClass, List<IrLocalDelegatedPropertySymbol>>()
+    internal val localDelegatedProperties = ConcurrentHashMap<IrClass, List<IrLocalDelegatedPropertySymbol>>()
 
+    // Filled by the module phases FileClassLowering and GenerateMultifileFacades, in the order of files
     internal val multifileFacadesToAdd = mutableMapOf<JvmClassName, MutableList<IrClass>>()
-    internal val multifileFacadeForPart = mutableMapOf<IrClass, JvmClassName>()
-    internal val multifileFacadeMemberToPartMember = mutableMapOf<IrFunction, IrFunction>()
+    // Read during code generation, which may run in several threads
+    internal val multifileFacadeForPart: MutableMap<IrClass, JvmClassName> = ConcurrentHashMap()
+    internal val multifileFacadeMemberToPartMember: MutableMap<IrFunction, IrFunction> = ConcurrentHashMap()
 
-    internal val hiddenConstructors = mutableMapOf<IrConstructor, IrConstructorImpl>()
+    internal val hiddenConstructors = ConcurrentHashMap<IrConstructor, IrConstructorImpl>()
 
     override var inVerbosePhase: Boolean = false
 
@@ -101,13 +106,14 @@ class JvmBackendContext(
 
     override val internalPackageFqn = FqName("kotlin.jvm")
 
-    val suspendLambdaToOriginalFunctionMap = mutableMapOf<IrFunctionReference, IrFunction>()
-    val continuationClassBuilders = mutableMapOf<IrSimpleFunction, ClassBuilder>()
-    val suspendFunctionOriginalToView = mutableMapOf<IrFunction, IrFunction>()
-    val suspendFunctionViewToOriginal = mutableMapOf<IrFunction, IrFunction>()
+    val suspendLambdaToOriginalFunctionMap: MutableMap<IrFunctionReference, IrFunction> = ConcurrentHashMap()
+    // These maps are updated during code generation, which may run in several threads, see GenerationState.backendThreads
+    val continuationClassBuilders: MutableMap<IrSimpleFunction, ClassBuilder> = ConcurrentHashMap()
+    val suspendFunctionOriginalToView: MutableMap<IrFunction, IrFunction> = ConcurrentHashMap()
+    val suspendFunctionViewToOriginal: MutableMap<IrFunction, IrFunction> = ConcurrentHashMap()
     val fakeContinuation: IrExpression = createFakeContinuation(this)
 
-    val staticDefaultStubs = mutableMapOf<IrFunctionSymbol, IrFunction>()
+    val staticDefaultStubs: MutableMap<IrFunctionSymbol, IrFunction> = ConcurrentHashMap()
 
     val inlineClassReplacements = MemoizedInlineClassReplacements()
 
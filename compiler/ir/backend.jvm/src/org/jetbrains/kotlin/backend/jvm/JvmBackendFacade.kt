@@ -13,13 +13,18 @@ import org.jetbrains.kotlin.backend.jvm.codegen.ClassCodegen
 import org.jetbrains.kotlin.backend.jvm.lower.MultifileFacadeFileEntry
 import org.jetbrains.kotlin.backend.jvm.serialization.JvmMangler
 import org.jetbrains.kotlin.codegen.state.GenerationState
+import org.jetbrains.kotlin.config.CommonConfigurationKeys
 import org.jetbrains.kotlin.ir.declarations.IrClass
+import org.jetbrains.kotlin.ir.declarations.IrFile
 import org.jetbrains.kotlin.ir.declarations.IrModuleFragment
 import org.jetbrains.kotlin.ir.types.defaultType
 import org.jetbrains.kotlin.ir.util.*
 import org.jetbrains.kotlin.psi.KtFile
 import org.jetbrains.kotlin.psi2ir.Psi2IrTranslator
 import org.jetbrains.kotlin.psi2ir.PsiSourceManager
+import org.jetbrains.kotlin.util.PerformanceTracer
+import org.jetbrains.kotlin.util.trace
+import org.jetbrains.kotlin.utils.processInParallel
 
 object JvmBackendFacade {
     fun doGenerateFiles(files: Collection<KtFile>, state: GenerationState, phaseConfig: PhaseConfig) {
@@ -65,6 +70,9 @@ object JvmBackendFacade {
         val context = JvmBackendContext(
             state, sourceManager, irModuleFragment.irBuiltins, irModuleFragment, symbolTable, phaseConfig, extensions.classNameOverride
         )
+        // Symbols are referenced without locking unless files are lowered or generated in several threads
+        symbolTable.isUsedConcurrently =
+            state.configuration.get(CommonConfigurationKeys.PARALLEL_LOWERING_THREADS, 1) > 1 || state.backendThreads > 1
         /* JvmBackendContext creates new unbound symbols, have to resolve them. */
         ExternalDependenciesGenerator(symbolTable, irProviders).generateUnboundSymbolsAsDependencies()
 
@@ -78,21 +86,18 @@ object JvmBackendFacade {
         JvmLower(context).lower(irModuleFragment)
 
         for (generateMultifileFacade in listOf(true, false)) {
-            for (irFile in irModuleFragment.files) {
-                // Generate multifile facades first, to compute and store JVM signatures of const properties which are later used
-                // when serializing metadata in the multifile parts.
-                // TODO: consider dividing codegen itself into separate phases (bytecode generation, metadata serialization) to avoid this
-                val isMultifileFacade = irFile.fileEntry is MultifileFacadeFileEntry
-                if (isMultifileFacade != generateMultifileFacade) continue
+            // Generate multifile facades first, to compute and store JVM signatures of const properties which are later used
+            // when serializing metadata in the multifile parts.
+            // TODO: consider dividing codegen itself into separate phases (bytecode generation, metadata serialization) to avoid this
+            val files = irModuleFragment.files.filter { (it.fileEntry is MultifileFacadeFileEntry) == generateMultifileFacade }
+            if (!generateMultifileFacade && state.backendThreads > 1 && files.size > 1) {
+                generateFilesInParallel(files, context, state.backendThreads)
+                continue
+            }
 
+            for (irFile in files) {
                 try {
-                    for (loweredClass in irFile.declarations) {
-                        if (loweredClass !is IrClass) {
-                            throw AssertionError("File-level declaration should be IrClass after JvmLower, got: " + loweredClass.render())
-                        }
-
-                        ClassCodegen.generate(loweredClass, context)
-                    }
+                    generateFile(irFile, context)
                     state.afterIndependentPart()
                 } catch (e: Throwable) {
                     CodegenUtil.reportBackendException(e, "code generation", irFile.fileEntry.name)
@@ -100,4 +105,36 @@ object JvmBackendFacade {
             }
         }
     }
+
+    private fun generateFile(irFile: IrFile, context: JvmBackendContext) {
+        context.state.performanceTracer.trace(irFile.fileEntry.name, PerformanceTracer.CODEGEN_CATEGORY) {
+            for (loweredClass in irFile.declarations) {
+                if (loweredClass !is IrClass) {
+                    throw AssertionError("File-level declaration should be IrClass after JvmLower, got: " + loweredClass.render())
+                }
+
+                ClassCodegen.generate(loweredClass, context)
+            }
+        }
+    }
+
+    // Files are generated in a thread pool, but their outputs are added to the class file factory in the original order,
+    // so that the result does not depend on the number of threads.
+    private fun generateFilesInParallel(files: List<IrFile>, context: JvmBackendContext, threads: Int) {
+        val state = context.state
+        processInParallel(files, threads, { irFile ->
+            try {
+                state.factory.generateDeferred { generateFile(irFile, context) }
+            } catch (e: Throwable) {
+                CodegenUtil.reportBackendException(e, "code generation", irFile.fileEntry.name)
+            }
+        }) { irFile, output ->
+            try {
+                state.factory.commitDeferred(output)
+                state.afterIndependentPart()
+            } catch (e: Throwable) {
+                CodegenUtil.reportBackendException(e, "code generation", irFile.fileEntry.name)
+            }
+        }
+    }
 }
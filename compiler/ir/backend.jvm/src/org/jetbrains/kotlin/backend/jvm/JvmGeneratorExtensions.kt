@@ -31,9 +31,11 @@ import org.jetbrains.kotlin.types.KotlinType
 import org.jetbrains.kotlin.types.TypeSubstitutor
 import org.jetbrains.kotlin.types.Variance
 import org.jetbrains.kotlin.types.typeUtil.replaceAnnotations
+import java.util.concurrent.ConcurrentHashMap
 
 class JvmGeneratorExtensions(private val generateFacades: Boolean = true) : GeneratorExtensions() {
-    val classNameOverride = mutableMapOf<IrClass, JvmClassName>()
+    // Facade classes of external declarations may be generated lazily during code generation, which may run in several threads
+    val classNameOverride: MutableMap<IrClass, JvmClassName> = ConcurrentHashMap()
 
     override val samConversion: SamConversion
         get() = JvmSamConversion
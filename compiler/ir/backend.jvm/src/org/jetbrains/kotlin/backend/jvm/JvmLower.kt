@@ -235,8 +235,12 @@ private val tailrecPhase = makeIrFilePhase<JvmBackendContext>(
     description = "Handle tailrec calls"
 )
 
+// These phases only change declarations of the file they are run on and don't read declarations of other files which are changed
+// by them, so several files may be lowered by them at the same time, see CommonConfigurationKeys.PARALLEL_LOWERING_THREADS.
+// The other phases patch declarations of other files (e.g. synthetic accessors, bridges and moved companion fields),
+// so they are run on one file at a time.
 @Suppress("Reformat")
-private val jvmFilePhases =
+private val jvmFileLocalPhases =
         renameAnonymousParametersLowering then
         typeAliasAnnotationMethodsPhase then
         stripTypeAliasDeclarationsPhase then
@@ -247,8 +251,10 @@ private val jvmFilePhases =
         polymorphicSignaturePhase then
         varargPhase then
         arrayConstructorPhase then
-        checkNotNullPhase then
+        checkNotNullPhase
 
+@Suppress("Reformat")
+private val jvmFilePhases =
         lateinitPhase then
 
         moveOrCopyCompanionObjectFieldsPhase then
@@ -335,7 +341,7 @@ val jvmPhases = namedIrModulePhase(
     lower = validateIrBeforeLowering then
             expectDeclarationsRemovingPhase then
             fileClassPhase then
-            performByIrFile(lower = jvmFilePhases) then
+            performByIrFile(fileLocalLower = jvmFileLocalPhases, lower = jvmFilePhases) then
             generateMultifileFacadesPhase then
             resolveInlineCallsPhase then
             // should be last transformation
@@ -135,7 +135,9 @@ internal fun IrFunction.getOrCreateSuspendFunctionViewIfNeeded(context: JvmBacke
     if (!isSuspend || origin == JvmLoweredDeclarationOrigin.SUSPEND_FUNCTION_VIEW ||
         origin == JvmLoweredDeclarationOrigin.FOR_INLINE_STATE_MACHINE_TEMPLATE_CAPTURES_CROSSINLINE_VIEW
     ) return this
-    return context.suspendFunctionOriginalToView[this] ?: suspendFunctionView(context)
+    return context.suspendFunctionOriginalToView[this] ?: synchronized(context.suspendFunctionOriginalToView) {
+        context.suspendFunctionOriginalToView[this] ?: suspendFunctionView(context)
+    }
 }
 
 private fun IrFunction.suspendFunctionView(context: JvmBackendContext): IrFunction {
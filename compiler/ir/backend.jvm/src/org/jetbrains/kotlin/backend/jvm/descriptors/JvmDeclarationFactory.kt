@@ -33,6 +33,7 @@ import org.jetbrains.kotlin.load.java.JvmAbi
 import org.jetbrains.kotlin.name.Name
 import java.util.*
 
+// Declarations are created lazily by file lowerings, which may run in several threads, so all access to the caches is synchronized.
 class JvmDeclarationFactory(
     private val methodSignatureMapper: MethodSignatureMapper
 ) : DeclarationFactory {
@@ -46,6 +47,7 @@ class JvmDeclarationFactory(
     private val defaultImplsClasses = HashMap<IrClass, IrClass>()
     private val defaultImplsRedirections = HashMap<IrSimpleFunction, IrSimpleFunction>()
 
+    @Synchronized
     override fun getFieldForEnumEntry(enumEntry: IrEnumEntry): IrField =
         singletonFieldDeclarations.getOrPut(enumEntry) {
             buildField {
@@ -60,6 +62,7 @@ class JvmDeclarationFactory(
             }
         }
 
+    @Synchronized
     override fun getOuterThisField(innerClass: IrClass): IrField =
         outerThisDeclarations.getOrPut(innerClass) {
             assert(innerClass.isInner) { "Class is not inner: ${innerClass.dump()}" }
@@ -74,6 +77,7 @@ class JvmDeclarationFactory(
             }
         }
 
+    @Synchronized
     override fun getInnerClassConstructorWithOuterThisParameter(innerClassConstructor: IrConstructor): IrConstructor {
         assert((innerClassConstructor.parent as IrClass).isInner) { "Class is not inner: ${(innerClassConstructor.parent as IrClass).dump()}" }
 
@@ -125,6 +129,7 @@ class JvmDeclarationFactory(
         }
     }
 
+    @Synchronized
     override fun getFieldForObjectInstance(singleton: IrClass): IrField =
         singletonFieldDeclarations.getOrPut(singleton) {
             val isNotMappedCompanion = singleton.isCompanion && !isMappedIntrinsicCompanionObject(singleton.descriptor)
@@ -139,6 +144,7 @@ class JvmDeclarationFactory(
             }
         }
 
+    @Synchronized
     fun getPrivateFieldForObjectInstance(singleton: IrClass): IrField =
         if (singleton.isCompanion && singleton.parentAsClass.isJvmInterface)
             interfaceCompanionFieldDeclarations.getOrPut(singleton) {
@@ -156,6 +162,7 @@ class JvmDeclarationFactory(
         else
             getFieldForObjectInstance(singleton)
 
+    @Synchronized
     fun getStaticBackingField(irProperty: IrProperty): IrField? {
         // Only fields defined directly in objects should be made static.
         // Fake overrides never point to those, as objects are final.
@@ -186,6 +193,7 @@ class JvmDeclarationFactory(
         }
     }
 
+    @Synchronized
     fun getDefaultImplsFunction(interfaceFun: IrSimpleFunction): IrSimpleFunction {
         val parent = interfaceFun.parentAsClass
         assert(parent.isJvmInterface) { "Parent of ${interfaceFun.dump()} should be interface" }
@@ -220,6 +228,7 @@ class JvmDeclarationFactory(
         }
     }
 
+    @Synchronized
     fun getDefaultImplsClass(interfaceClass: IrClass): IrClass =
         defaultImplsClasses.getOrPut(interfaceClass) {
             val descriptor = WrappedClassDescriptor()
@@ -244,6 +253,7 @@ class JvmDeclarationFactory(
             }
         }
 
+    @Synchronized
     fun getDefaultImplsRedirection(fakeOverride: IrSimpleFunction): IrSimpleFunction =
         defaultImplsRedirections.getOrPut(fakeOverride) {
             assert(fakeOverride.origin == IrDeclarationOrigin.FAKE_OVERRIDE)
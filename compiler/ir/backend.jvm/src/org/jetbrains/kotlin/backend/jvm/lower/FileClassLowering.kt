@@ -21,15 +21,22 @@ import org.jetbrains.kotlin.backend.common.ir.createImplicitParameterDeclaration
 import org.jetbrains.kotlin.backend.common.phaser.makeIrModulePhase
 import org.jetbrains.kotlin.backend.jvm.JvmBackendContext
 import org.jetbrains.kotlin.codegen.AsmUtil
+import org.jetbrains.kotlin.config.JVMConfigurationKeys
 import org.jetbrains.kotlin.descriptors.ClassKind
 import org.jetbrains.kotlin.descriptors.Modality
 import org.jetbrains.kotlin.descriptors.Visibilities
+import org.jetbrains.kotlin.fileClasses.JvmFileClassInfo
 import org.jetbrains.kotlin.fileClasses.JvmFileClassUtil
 import org.jetbrains.kotlin.ir.declarations.*
 import org.jetbrains.kotlin.ir.declarations.impl.IrClassImpl
 import org.jetbrains.kotlin.ir.descriptors.WrappedClassDescriptor
+import org.jetbrains.kotlin.ir.expressions.IrConst
 import org.jetbrains.kotlin.ir.symbols.impl.IrClassSymbolImpl
 import org.jetbrains.kotlin.ir.util.fqNameWhenAvailable
+import org.jetbrains.kotlin.ir.util.getAnnotation
+import org.jetbrains.kotlin.ir.util.hasAnnotation
+import org.jetbrains.kotlin.name.FqName
+import org.jetbrains.kotlin.name.Name
 import org.jetbrains.kotlin.psi2ir.PsiSourceManager
 import org.jetbrains.kotlin.resolve.jvm.JvmClassName
 import org.jetbrains.kotlin.resolve.source.KotlinSourceElement
@@ -73,7 +80,9 @@ private class FileClassLowering(val context: JvmBackendContext) : FileLoweringPa
         val fileEntry = irFile.fileEntry
         val ktFile = context.psiSourceManager.getKtFile(fileEntry as PsiSourceManager.PsiFileEntry)
             ?: throw AssertionError("Unexpected file entry: $fileEntry")
-        val fileClassInfo = JvmFileClassUtil.getFileClassInfoNoResolve(ktFile)
+        val fileClassInfo =
+            if (context.configuration.getBoolean(JVMConfigurationKeys.USE_LIGHT_TREE)) irFile.getFileClassInfoByAnnotations(ktFile.name)
+            else JvmFileClassUtil.getFileClassInfoNoResolve(ktFile)
         val descriptor = WrappedClassDescriptor(sourceElement = KotlinSourceElement(ktFile))
         return IrClassImpl(
             0, fileEntry.maxOffset,
@@ -124,4 +133,16 @@ private class FileClassLowering(val context: JvmBackendContext) : FileLoweringPa
             }
         }
     }
+
+    // Files built from the light tree have no syntax tree to find the annotations in, so they are taken from the IR
+    private fun IrFile.getFileClassInfoByAnnotations(fileName: String): JvmFileClassInfo {
+        fun stringArgument(name: FqName): String? = (getAnnotation(name)?.getValueArgument(0) as? IrConst<*>)?.value as? String
+
+        return JvmFileClassUtil.getFileClassInfo(
+            fileName, fqName,
+            stringArgument(JvmFileClassUtil.JVM_NAME)?.takeIf(Name::isValidIdentifier),
+            stringArgument(JvmFileClassUtil.JVM_PACKAGE_NAME)?.let(::FqName),
+            hasAnnotation(JvmFileClassUtil.JVM_MULTIFILE_CLASS)
+        )
+    }
 }
@@ -104,7 +104,9 @@ private class StaticDefaultCallLowering(
 }
 
 private fun JvmBackendContext.getStaticFunctionWithReceivers(function: IrFunction) =
-    staticDefaultStubs.getOrPut(function.symbol) {
-        createStaticFunctionWithReceivers(function.parent, function.name, function)
+    synchronized(staticDefaultStubs) {
+        staticDefaultStubs.getOrPut(function.symbol) {
+            createStaticFunctionWithReceivers(function.parent, function.name, function)
+        }
     }
 
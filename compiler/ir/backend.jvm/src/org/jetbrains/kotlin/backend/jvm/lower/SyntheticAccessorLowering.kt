@@ -138,18 +138,21 @@ internal class SyntheticAccessorLowering(val context: JvmBackendContext) : IrEle
 
     private fun handleHiddenConstructor(declaration: IrConstructor): IrConstructorImpl {
         require(declaration.isOrShouldBeHidden, declaration::render)
-        return context.hiddenConstructors.getOrPut(declaration) {
-            declaration.makeConstructorAccessor().also { accessor ->
-                // There's a special case in the JVM backend for serializing the metadata of hidden
-                // constructors - we serialize the descriptor of the original constructor, but the
-                // signature of the accessor. We implement this special case in the JVM IR backend by
-                // attaching the metadata directly to the accessor. We also have to move all annotations
-                // to the accessor. Parameter annotations are already moved by the copyTo method.
-                accessor.metadata = declaration.metadata
-                declaration.safeAs<IrConstructorImpl>()?.metadata = null
-                accessor.annotations += declaration.annotations
-                declaration.annotations.clear()
-                declaration.valueParameters.forEach { it.annotations.clear() }
+        // The constructor may be declared in another file, which may be lowered at the same time in another thread
+        return synchronized(context.hiddenConstructors) {
+            context.hiddenConstructors.getOrPut(declaration) {
+                declaration.makeConstructorAccessor().also { accessor ->
+                    // There's a special case in the JVM backend for serializing the metadata of hidden
+                    // constructors - we serialize the descriptor of the original constructor, but the
+                    // signature of the accessor. We implement this special case in the JVM IR backend by
+                    // attaching the metadata directly to the accessor. We also have to move all annotations
+                    // to the accessor. Parameter annotations are already moved by the copyTo method.
+                    accessor.metadata = declaration.metadata
+                    declaration.safeAs<IrConstructorImpl>()?.metadata = null
+                    accessor.annotations += declaration.annotations
+                    declaration.annotations.clear()
+                    declaration.valueParameters.forEach { it.annotations.clear() }
+                }
             }
         }
     }
@@ -15,47 +15,58 @@ import org.jetbrains.kotlin.ir.util.ReferenceSymbolTable
 import org.jetbrains.kotlin.ir.util.SymbolTable
 
 
+// Stubs are generated under the same lock as the symbols are referenced, so that a stub for a symbol is generated by one thread only
 class IrLazySymbolTable(private val originalTable: SymbolTable) : ReferenceSymbolTable by originalTable {
 
     /*Don't force builtins class linking before unbound symbols linking: otherwise stdlib compilation will failed*/
     var stubGenerator: DeclarationStubGenerator? = null
 
     override fun referenceClass(descriptor: ClassDescriptor): IrClassSymbol {
-        return originalTable.referenceClass(descriptor).also {
-            if (!it.isBound) {
-                stubGenerator?.generateClassStub(descriptor)
+        return originalTable.synchronizedIfUsedConcurrently {
+            originalTable.referenceClass(descriptor).also {
+                if (!it.isBound) {
+                    stubGenerator?.generateClassStub(descriptor)
+                }
             }
         }
     }
 
     override fun referenceConstructor(descriptor: ClassConstructorDescriptor): IrConstructorSymbol {
-        return originalTable.referenceConstructor(descriptor).also {
-            if (!it.isBound) {
-                stubGenerator?.generateConstructorStub(descriptor)
+        return originalTable.synchronizedIfUsedConcurrently {
+            originalTable.referenceConstructor(descriptor).also {
+                if (!it.isBound) {
+                    stubGenerator?.generateConstructorStub(descriptor)
+                }
             }
         }
     }
 
     override fun referenceEnumEntry(descriptor: ClassDescriptor): IrEnumEntrySymbol {
-        return originalTable.referenceEnumEntry(descriptor).also {
-            if (!it.isBound) {
-                stubGenerator?.generateEnumEntryStub(descriptor)
+        return originalTable.synchronizedIfUsedConcurrently {
+            originalTable.referenceEnumEntry(descriptor).also {
+                if (!it.isBound) {
+                    stubGenerator?.generateEnumEntryStub(descriptor)
+                }
             }
         }
     }
 
     override fun referenceSimpleFunction(descriptor: FunctionDescriptor): IrSimpleFunctionSymbol {
-        return originalTable.referenceSimpleFunction(descriptor).also {
-            if (!it.isBound) {
-                stubGenerator?.generateFunctionStub(descriptor)
+        return originalTable.synchronizedIfUsedConcurrently {
+            originalTable.referenceSimpleFunction(descriptor).also {
+                if (!it.isBound) {
+                    stubGenerator?.generateFunctionStub(descriptor)
+                }
             }
         }
     }
 
     override fun referenceTypeParameter(classifier: TypeParameterDescriptor): IrTypeParameterSymbol {
-        return originalTable.referenceTypeParameter(classifier).also {
-            if (!it.isBound) {
-                stubGenerator?.generateOrGetTypeParameterStub(classifier)
+        return originalTable.synchronizedIfUsedConcurrently {
+            originalTable.referenceTypeParameter(classifier).also {
+                if (!it.isBound) {
+                    stubGenerator?.generateOrGetTypeParameterStub(classifier)
+                }
             }
         }
     }
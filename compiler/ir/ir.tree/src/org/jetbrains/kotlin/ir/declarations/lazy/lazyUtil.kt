@@ -7,9 +7,17 @@ package org.jetbrains.kotlin.ir.declarations.lazy
 
 import kotlin.reflect.KProperty
 
+/**
+ * Lazy declarations are initialized using the shared symbol table and stub generator, so all initializations happen under this lock.
+ * This makes it possible to read lazy IR from several threads, e.g. when the JVM backend generates bytecode of files in parallel.
+ * The same lock must be taken by the code which references symbols in the symbol table while lazy IR may be read concurrently.
+ */
+object IrLazyInitializationLock
+
 internal fun <T> lazyVar(initializer: () -> T): UnsafeLazyVar<T> = UnsafeLazyVar(initializer)
 
 internal class UnsafeLazyVar<T>(initializer: () -> T) {
+    @Volatile
     private var isInitialized = false;
     private var initializer: (() -> T)? = initializer
     private var _value: Any? = null
@@ -17,9 +25,13 @@ internal class UnsafeLazyVar<T>(initializer: () -> T) {
     private val value: T
         get() {
             if (!isInitialized) {
-                _value = initializer!!()
-                isInitialized = true
-                initializer = null
+                synchronized(IrLazyInitializationLock) {
+                    if (!isInitialized) {
+                        _value = initializer!!()
+                        isInitialized = true
+                        initializer = null
+                    }
+                }
             }
             @Suppress("UNCHECKED_CAST")
             return _value as T
@@ -23,6 +23,7 @@ import org.jetbrains.kotlin.ir.IrElement
 import org.jetbrains.kotlin.ir.declarations.*
 import org.jetbrains.kotlin.ir.declarations.impl.*
 import org.jetbrains.kotlin.ir.declarations.lazy.IrLazyDeclarationBase
+import org.jetbrains.kotlin.ir.declarations.lazy.IrLazyInitializationLock
 import org.jetbrains.kotlin.ir.declarations.lazy.IrLazySymbolTable
 import org.jetbrains.kotlin.ir.expressions.IrExpression
 import org.jetbrains.kotlin.ir.expressions.IrExpressionBody
@@ -94,6 +95,16 @@ open class SymbolTable(val mangler: KotlinMangler? = null) : ReferenceSymbolTabl
     @Suppress("LeakingThis")
     val lazyWrapper = IrLazySymbolTable(this)
 
+    // Set while the table may be used by several threads, i.e. when files are lowered or generated in parallel
+    // (see CommonConfigurationKeys.PARALLEL_LOWERING_THREADS). Otherwise symbols are declared and referenced without locking.
+    @Volatile
+    var isUsedConcurrently = false
+
+    // Uses the lock of the lazy IR, which makes it possible to reference symbols while initializing lazy declarations and vice versa
+    // without deadlocks
+    inline fun <T> synchronizedIfUsedConcurrently(block: () -> T): T =
+        if (isUsedConcurrently) synchronized(IrLazyInitializationLock, block) else block()
+
     private fun IrSymbolOwner.getUniqId() = mangler?.run {
             (this@getUniqId as? IrDeclaration)?.hashedMangle?.let { UniqId(it) } ?: UniqId.NONE
     } ?: UniqId.NONE
@@ -107,6 +118,8 @@ open class SymbolTable(val mangler: KotlinMangler? = null) : ReferenceSymbolTabl
         }
     }
 
+    // Symbols are declared and referenced under a lock if the table is used concurrently, see isUsedConcurrently.
+    // Scoped tables are only used while psi2ir translates bodies, which happens in a single thread.
     private abstract inner class SymbolTableBase<D : DeclarationDescriptor, B : IrSymbolOwner, S : IrBindableSymbol<D, B>> {
         val unboundSymbols = linkedSetOf<S>()
         val unboundUniqIds = linkedSetOf<UniqId>()
@@ -122,24 +135,28 @@ open class SymbolTable(val mangler: KotlinMangler? = null) : ReferenceSymbolTabl
             assert(d0 === d) {
                 "Non-original descriptor in declaration: $d\n\tExpected: $d0"
             }
-            val existing = get(d0)
-            val symbol = if (existing == null) {
-                val new = createSymbol()
-                set(d0, new)
-                new
-            } else {
-                unboundSymbols.remove(existing)
-                existing
+            return synchronizedIfUsedConcurrently {
+                val existing = get(d0)
+                val symbol = if (existing == null) {
+                    val new = createSymbol()
+                    set(d0, new)
+                    new
+                } else {
+                    unboundSymbols.remove(existing)
+                    existing
+                }
+                createOwner(symbol)
             }
-            return createOwner(symbol)
         }
 
         fun computeUniqId(b: B) {
             if (b !is IrDeclaration) return
             val symbol = b.symbol as S
-            symbol.setUniqId()
-            set(symbol.uniqId, symbol)
-            unboundSymbols.remove(symbol)
+            synchronizedIfUsedConcurrently {
+                symbol.setUniqId()
+                set(symbol.uniqId, symbol)
+                unboundSymbols.remove(symbol)
+            }
         }
 
         inline fun referenced(d: D, orElse: () -> S): S {
@@ -148,27 +165,29 @@ open class SymbolTable(val mangler: KotlinMangler? = null) : ReferenceSymbolTabl
             assert(d0 === d) {
                 "Non-original descriptor in declaration: $d\n\tExpected: $d0"
             }
-            val s = get(d0)
-            if (s == null) {
-                val new = orElse()
-                assert(unboundSymbols.add(new)) {
-                    "Symbol for ${new.descriptor} was already referenced"
+            return synchronizedIfUsedConcurrently {
+                get(d0) ?: run {
+                    val new = orElse()
+                    assert(unboundSymbols.add(new)) {
+                        "Symbol for ${new.descriptor} was already referenced"
+                    }
+                    set(d0, new)
+                    new
                 }
-                set(d0, new)
-                return new
             }
-            return s
         }
 
         inline fun referenced(uid: UniqId, orElse: () -> S): S {
-            return get(uid) ?: run {
-                val new = orElse()
-                assert(unboundSymbols.add(new)) {
-                    "Symbol for ${new.uniqId} was already referenced"
+            return synchronizedIfUsedConcurrently {
+                get(uid) ?: run {
+                    val new = orElse()
+                    assert(unboundSymbols.add(new)) {
+                        "Symbol for ${new.uniqId} was already referenced"
+                    }
+                    set(uid, new)
+                    set(new.descriptor, new)
+                    new
                 }
-                set(uid, new)
-                set(new.descriptor, new)
-                new
             }
         }
     }
@@ -24,6 +24,7 @@ import org.jetbrains.kotlin.ir.symbols.impl.*
 import org.jetbrains.kotlin.ir.types.IrType
 import org.jetbrains.kotlin.ir.types.impl.IrErrorTypeImpl
 import org.jetbrains.kotlin.ir.util.*
+import org.jetbrains.kotlin.library.impl.ByteBufferInputStream
 import org.jetbrains.kotlin.protobuf.ExtensionRegistryLite.newInstance
 import org.jetbrains.kotlin.resolve.descriptorUtil.module
 import org.jetbrains.kotlin.serialization.deserialization.descriptors.DeserializedCallableMemberDescriptor
@@ -39,6 +40,7 @@ import org.jetbrains.kotlin.backend.common.serialization.proto.IrStatement as Pr
 import org.jetbrains.kotlin.backend.common.serialization.proto.IrExpression as ProtoExpression
 import org.jetbrains.kotlin.backend.common.serialization.proto.IrConstructorCall as ProtoConstructorCall
 import org.jetbrains.kotlin.backend.common.serialization.proto.Actual as ProtoActual
+import java.nio.ByteBuffer
 
 abstract class KotlinIrLinker(
     val logger: LoggingContext,
@@ -180,27 +182,27 @@ abstract class KotlinIrLinker(
             }
 
             private fun loadTopLevelDeclarationProto(uniqId: UniqId): ProtoDeclaration {
-                val stream = reader(moduleDescriptor, fileIndex, uniqId).codedInputStream
+                val stream = readDeclarationBuffer(moduleDescriptor, fileIndex, uniqId).codedInputStream
                 return ProtoDeclaration.parseFrom(stream, newInstance())
             }
 
             private fun loadSymbolProto(index: Int): ProtoSymbolData {
-                val stream = readSymbol(moduleDescriptor, fileIndex, index).codedInputStream
+                val stream = readSymbolBuffer(moduleDescriptor, fileIndex, index).codedInputStream
                 return ProtoSymbolData.parseFrom(stream, newInstance())
             }
 
             private fun loadTypeProto(index: Int): ProtoType {
-                val stream = readType(moduleDescriptor, fileIndex, index).codedInputStream
+                val stream = readTypeBuffer(moduleDescriptor, fileIndex, index).codedInputStream
                 return ProtoType.parseFrom(stream, newInstance())
             }
 
             private fun loadStatementBodyProto(index: Int): ProtoStatement {
-                val stream = readBody(moduleDescriptor, fileIndex, index).codedInputStream
+                val stream = readBodyBuffer(moduleDescriptor, fileIndex, index).codedInputStream
                 return ProtoStatement.parseFrom(stream, newInstance())
             }
 
             private fun loadExpressionBodyProto(index: Int): ProtoExpression {
-                val stream = readBody(moduleDescriptor, fileIndex, index).codedInputStream
+                val stream = readBodyBuffer(moduleDescriptor, fileIndex, index).codedInputStream
                 return ProtoExpression.parseFrom(stream, newInstance())
             }
 
@@ -516,6 +518,21 @@ abstract class KotlinIrLinker(
             return codedInputStream
         }
 
+    private val ByteBuffer.codedInputStream: org.jetbrains.kotlin.protobuf.CodedInputStream
+        get() {
+            val codedInputStream = when {
+                hasArray() ->
+                    org.jetbrains.kotlin.protobuf.CodedInputStream.newInstance(array(), arrayOffset() + position(), remaining())
+                // CodedInputStream reading from a stream allocates a buffer of this size anyway, so it's cheaper to copy small items.
+                remaining() <= CODED_INPUT_STREAM_BUFFER_SIZE ->
+                    org.jetbrains.kotlin.protobuf.CodedInputStream.newInstance(ByteArray(remaining()).also { duplicate().get(it) })
+                else ->
+                    org.jetbrains.kotlin.protobuf.CodedInputStream.newInstance(ByteBufferInputStream(duplicate()))
+            }
+            codedInputStream.setRecursionLimit(65535) // The default 64 is blatantly not enough for IR.
+            return codedInputStream
+        }
+
     protected abstract fun reader(moduleDescriptor: ModuleDescriptor, fileIndex: Int, uniqId: UniqId): ByteArray
     protected abstract fun readSymbol(moduleDescriptor: ModuleDescriptor, fileIndex: Int, symbolIndex: Int): ByteArray
     protected abstract fun readType(moduleDescriptor: ModuleDescriptor, fileIndex: Int, typeIndex: Int): ByteArray
@@ -524,6 +541,17 @@ abstract class KotlinIrLinker(
     protected abstract fun readFile(moduleDescriptor: ModuleDescriptor, fileIndex: Int): ByteArray
     protected abstract fun readFileCount(moduleDescriptor: ModuleDescriptor): Int
 
+    // Large declarations and bodies are parsed directly from these buffers, so implementations which can provide the data
+    // without copying it (e.g. from a memory-mapped klib) should override them.
+    protected open fun readDeclarationBuffer(moduleDescriptor: ModuleDescriptor, fileIndex: Int, uniqId: UniqId): ByteBuffer =
+        ByteBuffer.wrap(reader(moduleDescriptor, fileIndex, uniqId))
+    protected open fun readSymbolBuffer(moduleDescriptor: ModuleDescriptor, fileIndex: Int, symbolIndex: Int): ByteBuffer =
+        ByteBuffer.wrap(readSymbol(moduleDescriptor, fileIndex, symbolIndex))
+    protected open fun readTypeBuffer(moduleDescriptor: ModuleDescriptor, fileIndex: Int, typeIndex: Int): ByteBuffer =
+        ByteBuffer.wrap(readType(moduleDescriptor, fileIndex, typeIndex))
+    protected open fun readBodyBuffer(moduleDescriptor: ModuleDescriptor, fileIndex: Int, bodyIndex: Int): ByteBuffer =
+        ByteBuffer.wrap(readBody(moduleDescriptor, fileIndex, bodyIndex))
+
     protected abstract fun checkAccessibility(declarationDescriptor: DeclarationDescriptor): Boolean
     protected open fun handleNoModuleDeserializerFound(key: UniqId): DeserializationState<*> {
         error("Deserializer for declaration $key is not found")
@@ -699,6 +727,8 @@ abstract class KotlinIrLinker(
         deserializeIrModuleHeader(moduleDescriptor, DeserializationStrategy.ONLY_DECLARATION_HEADERS)
 }
 
+private const val CODED_INPUT_STREAM_BUFFER_SIZE = 4096
+
 enum class DeserializationStrategy(val needBodies: Boolean, val explicitlyExported: Boolean, val theWholeWorld: Boolean) {
     ONLY_REFERENCED(true, false, false),
     ALL(true, true, true),
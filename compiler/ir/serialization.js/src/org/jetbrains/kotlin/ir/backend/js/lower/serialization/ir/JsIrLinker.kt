@@ -51,6 +51,18 @@ class JsIrLinker(
     override fun readFileCount(moduleDescriptor: ModuleDescriptor) =
         moduleDescriptor.kotlinLibrary.fileCount()
 
+    override fun readDeclarationBuffer(moduleDescriptor: ModuleDescriptor, fileIndex: Int, uniqId: UniqId) =
+        moduleDescriptor.kotlinLibrary.irDeclarationBuffer(uniqId.index, fileIndex)
+
+    override fun readSymbolBuffer(moduleDescriptor: ModuleDescriptor, fileIndex: Int, symbolIndex: Int) =
+        moduleDescriptor.kotlinLibrary.symbolBuffer(symbolIndex, fileIndex)
+
+    override fun readTypeBuffer(moduleDescriptor: ModuleDescriptor, fileIndex: Int, typeIndex: Int) =
+        moduleDescriptor.kotlinLibrary.typeBuffer(typeIndex, fileIndex)
+
+    override fun readBodyBuffer(moduleDescriptor: ModuleDescriptor, fileIndex: Int, bodyIndex: Int) =
+        moduleDescriptor.kotlinLibrary.bodyBuffer(bodyIndex, fileIndex)
+
     override fun checkAccessibility(declarationDescriptor: DeclarationDescriptor): Boolean {
         require(declarationDescriptor is DeclarationDescriptorWithVisibility)
         return declarationDescriptor.isPublishedApi() || declarationDescriptor.visibility.let { it.isPublicAPI || it == Visibilities.INTERNAL }
@@ -0,0 +1,9 @@
+package test
+
+class A(val b: B?) {
+    fun foo() = listOf(1, 2, 3).map { it + (b?.bar() ?: 0) }
+}
+
+fun main() {
+    println(A(B()).foo())
+}
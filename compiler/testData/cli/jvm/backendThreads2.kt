@@ -0,0 +1,7 @@
+package test
+
+class B {
+    inline fun <T> inlined(block: () -> T): T = block()
+
+    fun bar(): Int = inlined { object { val x = 42 }.x }
+}
@@ -0,0 +1,6 @@
+fun test(list: List<String>): Map<Int, List<String>> =
+    list.filter { it.isNotEmpty() }.map { it.trim() }.groupBy { it.length }
+
+fun main() {
+    println(test(listOf("a", " bb ", "")))
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.codegen
+
+import org.jetbrains.kotlin.config.AnalysisFlag
+import org.jetbrains.kotlin.config.AnalysisFlags
+import org.jetbrains.kotlin.config.CompilerConfiguration
+import org.jetbrains.kotlin.config.LanguageVersionSettings
+import org.jetbrains.kotlin.config.languageVersionSettings
+
+// Compiles the second module against the first one with members of its classes and packages deserialized on demand
+abstract class AbstractLazyMemberDeserializationCompileKotlinAgainstKotlinTest : AbstractCompileKotlinAgainstKotlinTest() {
+    override fun updateConfiguration(configuration: CompilerConfiguration) {
+        val languageVersionSettings = configuration.languageVersionSettings
+        configuration.languageVersionSettings = object : LanguageVersionSettings by languageVersionSettings {
+            @Suppress("UNCHECKED_CAST")
+            override fun <T> getFlag(flag: AnalysisFlag<T>): T =
+                if (flag == AnalysisFlags.lazyMemberDeserialization) true as T else languageVersionSettings.getFlag(flag)
+        }
+    }
+}
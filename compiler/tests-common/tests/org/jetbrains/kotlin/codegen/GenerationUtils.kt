@@ -36,9 +36,11 @@ import org.jetbrains.kotlin.config.CommonConfigurationKeys
 import org.jetbrains.kotlin.config.CompilerConfiguration
 import org.jetbrains.kotlin.config.JVMConfigurationKeys
 import org.jetbrains.kotlin.config.languageVersionSettings
+import org.jetbrains.kotlin.fir.FirPsiSourceElement
 import org.jetbrains.kotlin.fir.backend.Fir2IrConverter
 import org.jetbrains.kotlin.fir.builder.RawFirBuilder
 import org.jetbrains.kotlin.fir.createSession
+import org.jetbrains.kotlin.fir.lightTree.LightTree2Fir
 import org.jetbrains.kotlin.fir.resolve.firProvider
 import org.jetbrains.kotlin.fir.resolve.impl.FirProviderImpl
 import org.jetbrains.kotlin.fir.resolve.transformers.FirTotalResolveTransformer
@@ -113,18 +115,19 @@ object GenerationUtils {
         val session = createSession(project, scope, librariesScope, "main", packagePartProvider)
 
         val firProvider = (session.firProvider as FirProviderImpl)
-        val builder = RawFirBuilder(session, firProvider.kotlinScopeProvider, stubMode = false)
         val resolveTransformer = FirTotalResolveTransformer()
-        val firFiles = files.map {
-            val firFile = builder.buildFirFile(it)
-            firProvider.recordFile(firFile)
-            firFile
-        }.also {
-            try {
-                resolveTransformer.processFiles(it)
-            } catch (e: Exception) {
-                throw e
-            }
+        val firFiles = if (configuration.getBoolean(JVMConfigurationKeys.USE_LIGHT_TREE)) {
+            val lightTree2Fir = LightTree2Fir(session, firProvider.kotlinScopeProvider, stubMode = false)
+            files.map { lightTree2Fir.buildFirFile(it.text, it.name, FirPsiSourceElement(it)) }
+        } else {
+            val builder = RawFirBuilder(session, firProvider.kotlinScopeProvider, stubMode = false)
+            files.map(builder::buildFirFile)
+        }
+        firFiles.forEach(firProvider::recordFile)
+        try {
+            resolveTransformer.processFiles(firFiles)
+        } catch (e: Exception) {
+            throw e
         }
         val (moduleFragment, symbolTable, sourceManager) =
             Fir2IrConverter.createModuleFragment(session, firFiles, configuration.languageVersionSettings)
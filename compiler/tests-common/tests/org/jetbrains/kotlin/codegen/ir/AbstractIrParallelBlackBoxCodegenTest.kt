@@ -0,0 +1,21 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.codegen.ir
+
+import org.jetbrains.kotlin.config.CommonConfigurationKeys
+import org.jetbrains.kotlin.config.CompilerConfiguration
+import org.jetbrains.kotlin.config.JVMConfigurationKeys
+
+abstract class AbstractIrParallelBlackBoxCodegenTest : AbstractIrBlackBoxCodegenTest() {
+    override fun updateConfiguration(configuration: CompilerConfiguration) {
+        configuration.put(CommonConfigurationKeys.PARALLEL_LOWERING_THREADS, THREADS)
+        configuration.put(JVMConfigurationKeys.PARALLEL_BACKEND_THREADS, THREADS)
+    }
+
+    private companion object {
+        const val THREADS = 4
+    }
+}
@@ -85,6 +85,16 @@ public class CliTestGenerated extends AbstractCliTest {
             runTest("compiler/testData/cli/jvm/argumentPassedMultipleTimes.args");
         }
 
+        @TestMetadata("backendThreads.args")
+        public void testBackendThreads() throws Exception {
+            runTest("compiler/testData/cli/jvm/backendThreads.args");
+        }
+
+        @TestMetadata("backendThreadsInvalid.args")
+        public void testBackendThreadsInvalid() throws Exception {
+            runTest("compiler/testData/cli/jvm/backendThreadsInvalid.args");
+        }
+
         @TestMetadata("classAndFileClassClash.args")
         public void testClassAndFileClassClash() throws Exception {
             runTest("compiler/testData/cli/jvm/classAndFileClassClash.args");
@@ -170,6 +180,16 @@ public class CliTestGenerated extends AbstractCliTest {
             runTest("compiler/testData/cli/jvm/diagnosticsOrder.args");
         }
 
+        @TestMetadata("dumpPerfChromeTrace.args")
+        public void testDumpPerfChromeTrace() throws Exception {
+            runTest("compiler/testData/cli/jvm/dumpPerfChromeTrace.args");
+        }
+
+        @TestMetadata("dumpPerfFormatInvalid.args")
+        public void testDumpPerfFormatInvalid() throws Exception {
+            runTest("compiler/testData/cli/jvm/dumpPerfFormatInvalid.args");
+        }
+
         @TestMetadata("duplicateSources.args")
         public void testDuplicateSources() throws Exception {
             runTest("compiler/testData/cli/jvm/duplicateSources.args");
@@ -265,6 +285,11 @@ public class CliTestGenerated extends AbstractCliTest {
             runTest("compiler/testData/cli/jvm/firHello.args");
         }
 
+        @TestMetadata("firLightTree.args")
+        public void testFirLightTree() throws Exception {
+            runTest("compiler/testData/cli/jvm/firLightTree.args");
+        }
+
         @TestMetadata("flagAllowingResultAsReturnType.args")
         public void testFlagAllowingResultAsReturnType() throws Exception {
             runTest("compiler/testData/cli/jvm/flagAllowingResultAsReturnType.args");
@@ -290,6 +315,16 @@ public class CliTestGenerated extends AbstractCliTest {
             runTest("compiler/testData/cli/jvm/inlineCycle.args");
         }
 
+        @TestMetadata("inlineFunctionCache.args")
+        public void testInlineFunctionCache() throws Exception {
+            runTest("compiler/testData/cli/jvm/inlineFunctionCache.args");
+        }
+
+        @TestMetadata("inlineFunctionCacheSizeInvalid.args")
+        public void testInlineFunctionCacheSizeInvalid() throws Exception {
+            runTest("compiler/testData/cli/jvm/inlineFunctionCacheSizeInvalid.args");
+        }
+
         @TestMetadata("internalArgDisableLanguageFeature.args")
         public void testInternalArgDisableLanguageFeature() throws Exception {
             runTest("compiler/testData/cli/jvm/internalArgDisableLanguageFeature.args");
@@ -345,6 +380,21 @@ public class CliTestGenerated extends AbstractCliTest {
             runTest("compiler/testData/cli/jvm/invalidMetadataVersion.args");
         }
 
+        @TestMetadata("irLoweringThreads.args")
+        public void testIrLoweringThreads() throws Exception {
+            runTest("compiler/testData/cli/jvm/irLoweringThreads.args");
+        }
+
+        @TestMetadata("irLoweringThreadsInvalid.args")
+        public void testIrLoweringThreadsInvalid() throws Exception {
+            runTest("compiler/testData/cli/jvm/irLoweringThreadsInvalid.args");
+        }
+
+        @TestMetadata("jarIndexCache.args")
+        public void testJarIndexCache() throws Exception {
+            runTest("compiler/testData/cli/jvm/jarIndexCache.args");
+        }
+
         @TestMetadata("javaSrcWrongPackage.args")
         public void testJavaSrcWrongPackage() throws Exception {
             runTest("compiler/testData/cli/jvm/javaSrcWrongPackage.args");
@@ -550,6 +600,16 @@ public class CliTestGenerated extends AbstractCliTest {
             runTest("compiler/testData/cli/jvm/nonexistingArgfile.args");
         }
 
+        @TestMetadata("parsingThreads.args")
+        public void testParsingThreads() throws Exception {
+            runTest("compiler/testData/cli/jvm/parsingThreads.args");
+        }
+
+        @TestMetadata("parsingThreadsInvalid.args")
+        public void testParsingThreadsInvalid() throws Exception {
+            runTest("compiler/testData/cli/jvm/parsingThreadsInvalid.args");
+        }
+
         @TestMetadata("pluginSimple.args")
         public void testPluginSimple() throws Exception {
             runTest("compiler/testData/cli/jvm/pluginSimple.args");
@@ -931,6 +991,11 @@ public class CliTestGenerated extends AbstractCliTest {
             runTest("compiler/testData/cli/js-dce/includeDeclarations.args");
         }
 
+        @TestMetadata("incrementalCache.args")
+        public void testIncrementalCache() throws Exception {
+            runTest("compiler/testData/cli/js-dce/incrementalCache.args");
+        }
+
         @TestMetadata("invalidFilename.args")
         public void testInvalidFilename() throws Exception {
             runTest("compiler/testData/cli/js-dce/invalidFilename.args");
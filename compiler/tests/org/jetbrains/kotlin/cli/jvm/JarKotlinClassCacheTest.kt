@@ -0,0 +1,124 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.cli.jvm
+
+import junit.framework.TestCase
+import org.jetbrains.kotlin.load.kotlin.JarKotlinClassCache
+import org.jetbrains.kotlin.load.kotlin.KotlinClassFinder
+import org.jetbrains.kotlin.load.kotlin.KotlinJvmBinaryClass
+import org.jetbrains.kotlin.load.kotlin.header.KotlinClassHeader
+import org.jetbrains.kotlin.metadata.jvm.deserialization.JvmBytecodeBinaryVersion
+import org.jetbrains.kotlin.metadata.jvm.deserialization.JvmMetadataVersion
+import org.jetbrains.kotlin.name.ClassId
+import org.jetbrains.kotlin.name.FqName
+import org.jetbrains.kotlin.test.KotlinTestUtils
+import java.io.File
+
+class JarKotlinClassCacheTest : TestCase() {
+    private val reads = ArrayList<String>()
+
+    fun testHit() {
+        val cache = JarKotlinClassCache(maxCachedBytes = 10000)
+        val jar = createJar("a.jar")
+
+        val result = cache.read(jar, "A")
+        assertSame(result, cache.read(jar, "A"))
+        cache.read(jar, "B")
+        assertEquals(listOf("A", "B"), reads)
+    }
+
+    fun testInvalidation() {
+        val cache = JarKotlinClassCache(maxCachedBytes = 10000)
+        val jar = createJar("a.jar")
+        cache.read(jar, "A")
+
+        jar.appendText("changed")
+        assertTrue(jar.setLastModified(OLD_TIMESTAMP))
+        cache.read(jar, "A")
+        cache.read(jar, "A")
+        assertEquals(listOf("A", "A"), reads)
+
+        assertTrue(jar.setLastModified(OLD_TIMESTAMP + 10000))
+        cache.read(jar, "A")
+        assertEquals(listOf("A", "A", "A"), reads)
+    }
+
+    fun testRecentlyModifiedJarIsNotCached() {
+        val cache = JarKotlinClassCache(maxCachedBytes = 10000)
+        val jar = createJar("a.jar")
+        assertTrue(jar.setLastModified(System.currentTimeMillis()))
+
+        cache.read(jar, "A")
+        cache.read(jar, "A")
+        assertEquals(listOf("A", "A"), reads)
+    }
+
+    fun testEviction() {
+        // Each class takes the overhead of 200 bytes and 2 bytes per character of its metadata
+        val cache = JarKotlinClassCache(maxCachedBytes = 1000)
+        val jar = createJar("a.jar")
+
+        cache.read(jar, "A", dataLength = 100)
+        cache.read(jar, "B", dataLength = 100)
+        cache.read(jar, "A", dataLength = 100)
+        // A is used more recently than B, so B is evicted
+        cache.read(jar, "C", dataLength = 100)
+        cache.read(jar, "A", dataLength = 100)
+        cache.read(jar, "C", dataLength = 100)
+        assertEquals(listOf("A", "B", "C"), reads)
+        cache.read(jar, "B", dataLength = 100)
+        assertEquals(listOf("A", "B", "C", "B"), reads)
+
+        // Classes bigger than the whole cache aren't cached
+        cache.read(jar, "Big", dataLength = 1000)
+        cache.read(jar, "Big", dataLength = 1000)
+        assertEquals(listOf("A", "B", "C", "B", "Big", "Big"), reads)
+    }
+
+    fun testJavaClassesAreNotCached() {
+        val cache = JarKotlinClassCache(maxCachedBytes = 10000)
+        val jar = createJar("a.jar")
+
+        val read = {
+            reads.add("J")
+            KotlinClassFinder.Result.ClassFileContent(ByteArray(0))
+        }
+        cache.getOrRead(jar, "${jar.path}!/J.class", read)
+        cache.getOrRead(jar, "${jar.path}!/J.class", read)
+        assertEquals(listOf("J", "J"), reads)
+    }
+
+    private fun JarKotlinClassCache.read(jar: File, className: String, dataLength: Int = 10): KotlinClassFinder.Result? =
+        getOrRead(jar, "${jar.path}!/$className.class") {
+            reads.add(className)
+            KotlinClassFinder.Result.KotlinClass(TestKotlinClass(className, dataLength))
+        }
+
+    private fun createJar(name: String): File =
+        File(KotlinTestUtils.tmpDirForTest(this), name).apply {
+            writeText("jar")
+            assertTrue(setLastModified(OLD_TIMESTAMP))
+        }
+
+    private class TestKotlinClass(className: String, dataLength: Int) : KotlinJvmBinaryClass {
+        override val classId: ClassId = ClassId.topLevel(FqName(className))
+
+        override val location: String get() = classId.asString()
+
+        override val classHeader = KotlinClassHeader(
+            KotlinClassHeader.Kind.CLASS, JvmMetadataVersion.INSTANCE, JvmBytecodeBinaryVersion.INSTANCE,
+            arrayOf("d".repeat(dataLength)), null, emptyArray(), null, 0, null
+        )
+
+        override fun loadClassAnnotations(visitor: KotlinJvmBinaryClass.AnnotationVisitor, cachedContents: ByteArray?) {}
+
+        override fun visitMembers(visitor: KotlinJvmBinaryClass.MemberVisitor, cachedContents: ByteArray?) {}
+    }
+
+    companion object {
+        private const val OLD_TIMESTAMP = 1000000000000L
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.cli.jvm
+
+import junit.framework.TestCase
+import org.jetbrains.kotlin.cli.jvm.compiler.JarModuleMappingCache
+import org.jetbrains.kotlin.cli.jvm.compiler.JarModuleMappingCache.JarModule
+import org.jetbrains.kotlin.cli.jvm.compiler.JarModuleMappingCache.LoadedModules
+import org.jetbrains.kotlin.metadata.jvm.deserialization.ModuleMapping
+import org.jetbrains.kotlin.serialization.deserialization.DeserializationConfiguration
+import org.jetbrains.kotlin.test.KotlinTestUtils
+import java.io.File
+
+class JarModuleMappingCacheTest : TestCase() {
+    private val loads = ArrayList<String>()
+
+    fun testHit() {
+        val cache = JarModuleMappingCache(maxCachedBytes = 1000)
+        val jar = createJar("a.jar")
+
+        val modules = cache.load(jar)
+        assertSame(modules, cache.load(jar))
+        assertEquals(listOf("a.jar"), loads)
+
+        // Flags which affect parsing are a part of the key
+        cache.load(jar, SkipMetadataVersionCheck)
+        cache.load(jar, SkipMetadataVersionCheck)
+        assertEquals(listOf("a.jar", "a.jar"), loads)
+    }
+
+    fun testInvalidation() {
+        val cache = JarModuleMappingCache(maxCachedBytes = 1000)
+        val jar = createJar("a.jar")
+        cache.load(jar)
+
+        jar.appendText("changed")
+        assertTrue(jar.setLastModified(OLD_TIMESTAMP))
+        cache.load(jar)
+        cache.load(jar)
+        assertEquals(listOf("a.jar", "a.jar"), loads)
+
+        assertTrue(jar.setLastModified(OLD_TIMESTAMP + 10000))
+        cache.load(jar)
+        assertEquals(listOf("a.jar", "a.jar", "a.jar"), loads)
+    }
+
+    fun testRecentlyModifiedJarIsNotCached() {
+        val cache = JarModuleMappingCache(maxCachedBytes = 1000)
+        val jar = createJar("a.jar")
+        assertTrue(jar.setLastModified(System.currentTimeMillis()))
+
+        // A rewrite of the same size in the same timestamp tick can't be detected, so the mappings aren't reused yet
+        cache.load(jar)
+        cache.load(jar)
+        assertEquals(listOf("a.jar", "a.jar"), loads)
+
+        assertTrue(jar.setLastModified(OLD_TIMESTAMP))
+        cache.load(jar)
+        cache.load(jar)
+        assertEquals(listOf("a.jar", "a.jar", "a.jar"), loads)
+    }
+
+    fun testEviction() {
+        val cache = JarModuleMappingCache(maxCachedBytes = 100)
+        val a = createJar("a.jar")
+        val b = createJar("b.jar")
+        val c = createJar("c.jar")
+
+        cache.load(a, bytes = 40)
+        cache.load(b, bytes = 40)
+        cache.load(a, bytes = 40)
+        // a is used more recently than b, so b is evicted
+        cache.load(c, bytes = 40)
+        assertEquals(listOf("a.jar", "b.jar", "c.jar"), loads)
+
+        cache.load(a, bytes = 40)
+        cache.load(c, bytes = 40)
+        assertEquals(listOf("a.jar", "b.jar", "c.jar"), loads)
+        cache.load(b, bytes = 40)
+        assertEquals(listOf("a.jar", "b.jar", "c.jar", "b.jar"), loads)
+
+        // Modules bigger than the whole cache aren't cached
+        val big = createJar("big.jar")
+        cache.load(big, bytes = 101)
+        cache.load(big, bytes = 101)
+        assertEquals(listOf("a.jar", "b.jar", "c.jar", "b.jar", "big.jar", "big.jar"), loads)
+    }
+
+    fun testNotCacheable() {
+        val cache = JarModuleMappingCache(maxCachedBytes = 1000)
+        val jar = createJar("a.jar")
+
+        cache.load(jar, isCacheable = false)
+        cache.load(jar, isCacheable = false)
+        assertEquals(listOf("a.jar", "a.jar"), loads)
+    }
+
+    private fun JarModuleMappingCache.load(
+        jar: File,
+        configuration: DeserializationConfiguration = DeserializationConfiguration.Default,
+        bytes: Long = 10,
+        isCacheable: Boolean = true
+    ): List<JarModule> =
+        getOrLoad(jar, configuration) {
+            loads.add(jar.name)
+            LoadedModules(listOf(JarModule(jar.nameWithoutExtension, ModuleMapping.EMPTY)), bytes, isCacheable)
+        }
+
+    private fun createJar(name: String): File =
+        File(KotlinTestUtils.tmpDirForTest(this), name).apply {
+            writeText("jar")
+            assertTrue(setLastModified(OLD_TIMESTAMP))
+        }
+
+    private object SkipMetadataVersionCheck : DeserializationConfiguration {
+        override val skipMetadataVersionCheck: Boolean
+            get() = true
+    }
+
+    companion object {
+        private const val OLD_TIMESTAMP = 1000000000000L
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.cli.jvm
+
+import com.intellij.openapi.vfs.StandardFileSystems
+import com.intellij.util.io.URLUtil
+import org.jetbrains.kotlin.cli.jvm.compiler.EnvironmentConfigFiles
+import org.jetbrains.kotlin.cli.jvm.compiler.KotlinCoreEnvironment
+import org.jetbrains.kotlin.cli.jvm.index.JarPackageTable
+import org.jetbrains.kotlin.cli.jvm.index.JarPackageTables
+import org.jetbrains.kotlin.test.ConfigurationKind
+import org.jetbrains.kotlin.test.KotlinTestUtils
+import org.jetbrains.kotlin.test.KotlinTestWithEnvironment
+import org.jetbrains.kotlin.test.TestJdkKind
+import java.io.File
+import java.nio.ByteBuffer
+import java.nio.ByteOrder
+import java.util.jar.JarOutputStream
+import java.util.zip.ZipEntry
+
+class JarPackageTablesTest : KotlinTestWithEnvironment() {
+    override fun createEnvironment(): KotlinCoreEnvironment =
+        KotlinCoreEnvironment.createForTests(
+            testRootDisposable,
+            KotlinTestUtils.newConfiguration(ConfigurationKind.JDK_ONLY, TestJdkKind.MOCK_JDK),
+            EnvironmentConfigFiles.JVM_CONFIG_FILES
+        )
+
+    fun testCentralDirectory() {
+        val table = JarPackageTables.readCentralDirectory(createJar())!!
+        checkTable(table)
+    }
+
+    fun testStoredTables() {
+        val jar = createJar()
+        val cacheDirectory = File(KotlinTestUtils.tmpDirForTest(this), "cache")
+        val root = StandardFileSystems.jar().findFileByPath(jar.path + URLUtil.JAR_SEPARATOR)!!
+
+        checkTable(JarPackageTables(cacheDirectory).getTable(root)!!)
+        assertEquals(1, cacheDirectory.listFiles()!!.size)
+
+        // The table is stored with the size and the timestamp of the jar, so changing the jar invalidates it
+        val lastModified = jar.lastModified()
+        createJar(jar, "other/Other.class")
+        assertTrue(jar.setLastModified(lastModified + 10000))
+        val updated = JarPackageTables(cacheDirectory).getTable(root)!!
+        assertTrue(updated.hasPackage("other"))
+        assertFalse(updated.hasPackage("foo"))
+    }
+
+    fun testCorruptCentralDirectory() {
+        val jar = createJar()
+        val bytes = jar.readBytes()
+        // The name length of the last entry points beyond the end of the central directory
+        val entry = (bytes.size - 4 downTo 0).first { ByteBuffer.wrap(bytes, it, 4).order(ByteOrder.LITTLE_ENDIAN).int == 0x02014b50 }
+        bytes[entry + 28] = 0xFF.toByte()
+        bytes[entry + 29] = 0xFF.toByte()
+        jar.writeBytes(bytes)
+
+        assertNull(JarPackageTables.readCentralDirectory(jar))
+    }
+
+    private fun checkTable(table: JarPackageTable) {
+        assertEquals(setOf("", "META-INF", "foo", "foo/bar", "foo/bar/baz"), table.packages.keys)
+        assertEquals(setOf("Top"), table.packages["foo/bar"])
+        assertTrue(table.mayContainClass("foo/bar", "Top"))
+        assertTrue(table.mayContainClass("foo/bar", "Top\$Nested"))
+        assertFalse(table.mayContainClass("foo/bar", "Other"))
+        assertFalse(table.mayContainClass("foo", "Top"))
+        assertTrue(table.mayContainClass("foo/bar/baz", "Baz"))
+        assertFalse(table.mayContainClass("", "text"))
+    }
+
+    private fun createJar(
+        jar: File = File(KotlinTestUtils.tmpDirForTest(this), "test.jar"),
+        vararg entries: String = arrayOf(
+            "META-INF/MANIFEST.MF", "foo/bar/Top.class", "foo/bar/Top\$Nested.class", "foo/bar/baz/Baz.class", "text.txt"
+        )
+    ): File {
+        JarOutputStream(jar.outputStream()).use { output ->
+            for (entry in entries) {
+                output.putNextEntry(ZipEntry(entry))
+                output.closeEntry()
+            }
+        }
+        return jar
+    }
+}
@@ -0,0 +1,725 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.codegen;
+
+import com.intellij.testFramework.TestDataPath;
+import org.jetbrains.kotlin.test.JUnit3RunnerWithInners;
+import org.jetbrains.kotlin.test.KotlinTestUtils;
+import org.jetbrains.kotlin.test.TargetBackend;
+import org.jetbrains.kotlin.test.TestMetadata;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.util.regex.Pattern;
+
+/** This class is generated by {@link org.jetbrains.kotlin.generators.tests.TestsPackage}. DO NOT MODIFY MANUALLY */
+@SuppressWarnings("all")
+@RunWith(JUnit3RunnerWithInners.class)
+public class ParallelMethodOptimizationBlackBoxCodegenTestGenerated extends AbstractParallelMethodOptimizationBlackBoxCodegenTest {
+    @TestMetadata("compiler/testData/codegen/box/boxingOptimization")
+    @TestDataPath("$PROJECT_ROOT")
+    @RunWith(JUnit3RunnerWithInners.class)
+    public static class BoxingOptimization extends AbstractParallelMethodOptimizationBlackBoxCodegenTest {
+        private void runTest(String testDataFilePath) throws Exception {
+            KotlinTestUtils.runTest(this::doTest, TargetBackend.JVM, testDataFilePath);
+        }
+
+        public void testAllFilesPresentInBoxingOptimization() throws Exception {
+            KotlinTestUtils.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/codegen/box/boxingOptimization"), Pattern.compile("^(.+)\\.kt$"), null, TargetBackend.JVM, true);
+        }
+
+        @TestMetadata("boxedIntegersCmp.kt")
+        public void testBoxedIntegersCmp() throws Exception {
+            runTest("compiler/testData/codegen/box/boxingOptimization/boxedIntegersCmp.kt");
+        }
+
+        @TestMetadata("boxedPrimitivesAreEqual.kt")
+        public void testBoxedPrimitivesAreEqual() throws Exception {
+            runTest("compiler/testData/codegen/box/boxingOptimization/boxedPrimitivesAreEqual.kt");
+        }
+
+        @TestMetadata("boxedRealsCmp.kt")
+        public void testBoxedRealsCmp() throws Exception {
+            runTest("compiler/testData/codegen/box/boxingOptimization/boxedRealsCmp.kt");
+        }
+
+        @TestMetadata("casts.kt")
+        public void testCasts() throws Exception {
+            runTest("compiler/testData/codegen/box/boxingOptimization/casts.kt");
+        }
+
+        @TestMetadata("checkcastAndInstanceOf.kt")
+        public void testCheckcastAndInstanceOf() throws Exception {
+            runTest("compiler/testData/codegen/box/boxingOptimization/checkcastAndInstanceOf.kt");
+        }
+
+        @TestMetadata("explicitEqualsOnDouble.kt")
+        public void testExplicitEqualsOnDouble() throws Exception {
+            runTest("compiler/testData/codegen/box/boxingOptimization/explicitEqualsOnDouble.kt");
+        }
+
+        @TestMetadata("fold.kt")
+        public void testFold() throws Exception {
+            runTest("compiler/testData/codegen/box/boxingOptimization/fold.kt");
+        }
+
+        @TestMetadata("foldRange.kt")
+        public void testFoldRange() throws Exception {
+            runTest("compiler/testData/codegen/box/boxingOptimization/foldRange.kt");
+        }
+
+        @TestMetadata("intCompareTo.kt")
+        public void testIntCompareTo() throws Exception {
+            runTest("compiler/testData/codegen/box/boxingOptimization/intCompareTo.kt");
+        }
+
+        @TestMetadata("kClassEquals.kt")
+        public void testKClassEquals() throws Exception {
+            runTest("compiler/testData/codegen/box/boxingOptimization/kClassEquals.kt");
+        }
+
+        @TestMetadata("kt15871.kt")
+        public void testKt15871() throws Exception {
+            runTest("compiler/testData/codegen/box/boxingOptimization/kt15871.kt");
+        }
+
+        @TestMetadata("kt17748.kt")
+        public void testKt17748() throws Exception {
+            runTest("compiler/testData/codegen/box/boxingOptimization/kt17748.kt");
+        }
+
+        @TestMetadata("kt19767.kt")
+        public void testKt19767() throws Exception {
+            runTest("compiler/testData/codegen/box/boxingOptimization/kt19767.kt");
+        }
+
+        @TestMetadata("kt19767_2.kt")
+        public void testKt19767_2() throws Exception {
+            runTest("compiler/testData/codegen/box/boxingOptimization/kt19767_2.kt");
+        }
+
+        @TestMetadata("kt19767_3.kt")
+        public void testKt19767_3() throws Exception {
+            runTest("compiler/testData/codegen/box/boxingOptimization/kt19767_3.kt");
+        }
+
+        @TestMetadata("kt19767_chain.kt")
+        public void testKt19767_chain() throws Exception {
+            runTest("compiler/testData/codegen/box/boxingOptimization/kt19767_chain.kt");
+        }
+
+        @TestMetadata("kt5493.kt")
+        public void testKt5493() throws Exception {
+            runTest("compiler/testData/codegen/box/boxingOptimization/kt5493.kt");
+        }
+
+        @TestMetadata("kt5588.kt")
+        public void testKt5588() throws Exception {
+            runTest("compiler/testData/codegen/box/boxingOptimization/kt5588.kt");
+        }
+
+        @TestMetadata("kt5844.kt")
+        public void testKt5844() throws Exception {
+            runTest("compiler/testData/codegen/box/boxingOptimization/kt5844.kt");
+        }
+
+        @TestMetadata("kt6047.kt")
+        public void testKt6047() throws Exception {
+            runTest("compiler/testData/codegen/box/boxingOptimization/kt6047.kt");
+        }
+
+        @TestMetadata("kt6842.kt")
+        public void testKt6842() throws Exception {
+            runTest("compiler/testData/codegen/box/boxingOptimization/kt6842.kt");
+        }
+
+        @TestMetadata("maxMinBy.kt")
+        public void testMaxMinBy() throws Exception {
+            runTest("compiler/testData/codegen/box/boxingOptimization/maxMinBy.kt");
+        }
+
+        @TestMetadata("nullCheck.kt")
+        public void testNullCheck() throws Exception {
+            runTest("compiler/testData/codegen/box/boxingOptimization/nullCheck.kt");
+        }
+
+        @TestMetadata("progressions.kt")
+        public void testProgressions() throws Exception {
+            runTest("compiler/testData/codegen/box/boxingOptimization/progressions.kt");
+        }
+
+        @TestMetadata("safeCallWithElvis.kt")
+        public void testSafeCallWithElvis() throws Exception {
+            runTest("compiler/testData/codegen/box/boxingOptimization/safeCallWithElvis.kt");
+        }
+
+        @TestMetadata("simple.kt")
+        public void testSimple() throws Exception {
+            runTest("compiler/testData/codegen/box/boxingOptimization/simple.kt");
+        }
+
+        @TestMetadata("simpleUninitializedMerge.kt")
+        public void testSimpleUninitializedMerge() throws Exception {
+            runTest("compiler/testData/codegen/box/boxingOptimization/simpleUninitializedMerge.kt");
+        }
+
+        @TestMetadata("taintedValues.kt")
+        public void testTaintedValues() throws Exception {
+            runTest("compiler/testData/codegen/box/boxingOptimization/taintedValues.kt");
+        }
+
+        @TestMetadata("taintedValuesBox.kt")
+        public void testTaintedValuesBox() throws Exception {
+            runTest("compiler/testData/codegen/box/boxingOptimization/taintedValuesBox.kt");
+        }
+
+        @TestMetadata("unsafeRemoving.kt")
+        public void testUnsafeRemoving() throws Exception {
+            runTest("compiler/testData/codegen/box/boxingOptimization/unsafeRemoving.kt");
+        }
+
+        @TestMetadata("variables.kt")
+        public void testVariables() throws Exception {
+            runTest("compiler/testData/codegen/box/boxingOptimization/variables.kt");
+        }
+    }
+
+    @TestMetadata("compiler/testData/codegen/box/coroutines/stackUnwinding")
+    @TestDataPath("$PROJECT_ROOT")
+    @RunWith(JUnit3RunnerWithInners.class)
+    public static class StackUnwinding extends AbstractParallelMethodOptimizationBlackBoxCodegenTest {
+        private void runTest(String testDataFilePath) throws Exception {
+            KotlinTestUtils.runTest(this::doTest, TargetBackend.JVM, testDataFilePath);
+        }
+
+        private void runTestWithPackageReplacement(String testDataFilePath, String packageName) throws Exception {
+            KotlinTestUtils.runTest(filePath -> doTestWithCoroutinesPackageReplacement(filePath, packageName), TargetBackend.JVM, testDataFilePath);
+        }
+
+        public void testAllFilesPresentInStackUnwinding() throws Exception {
+            KotlinTestUtils.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/codegen/box/coroutines/stackUnwinding"), Pattern.compile("^(.+)\\.kt$"), null, TargetBackend.JVM, true);
+        }
+
+        @TestMetadata("exception.kt")
+        public void testException_1_2() throws Exception {
+            runTestWithPackageReplacement("compiler/testData/codegen/box/coroutines/stackUnwinding/exception.kt", "kotlin.coroutines.experimental");
+        }
+
+        @TestMetadata("exception.kt")
+        public void testException_1_3() throws Exception {
+            runTestWithPackageReplacement("compiler/testData/codegen/box/coroutines/stackUnwinding/exception.kt", "kotlin.coroutines");
+        }
+
+        @TestMetadata("inlineSuspendFunction.kt")
+        public void testInlineSuspendFunction_1_2() throws Exception {
+            runTestWithPackageReplacement("compiler/testData/codegen/box/coroutines/stackUnwinding/inlineSuspendFunction.kt", "kotlin.coroutines.experimental");
+        }
+
+        @TestMetadata("inlineSuspendFunction.kt")
+        public void testInlineSuspendFunction_1_3() throws Exception {
+            runTestWithPackageReplacement("compiler/testData/codegen/box/coroutines/stackUnwinding/inlineSuspendFunction.kt", "kotlin.coroutines");
+        }
+
+        @TestMetadata("rethrowInFinallyWithSuspension.kt")
+        public void testRethrowInFinallyWithSuspension_1_2() throws Exception {
+            runTestWithPackageReplacement("compiler/testData/codegen/box/coroutines/stackUnwinding/rethrowInFinallyWithSuspension.kt", "kotlin.coroutines.experimental");
+        }
+
+        @TestMetadata("rethrowInFinallyWithSuspension.kt")
+        public void testRethrowInFinallyWithSuspension_1_3() throws Exception {
+            runTestWithPackageReplacement("compiler/testData/codegen/box/coroutines/stackUnwinding/rethrowInFinallyWithSuspension.kt", "kotlin.coroutines");
+        }
+
+        @TestMetadata("rethrowInFinally.kt")
+        public void testRethrowInFinally_1_2() throws Exception {
+            runTestWithPackageReplacement("compiler/testData/codegen/box/coroutines/stackUnwinding/rethrowInFinally.kt", "kotlin.coroutines.experimental");
+        }
+
+        @TestMetadata("rethrowInFinally.kt")
+        public void testRethrowInFinally_1_3() throws Exception {
+            runTestWithPackageReplacement("compiler/testData/codegen/box/coroutines/stackUnwinding/rethrowInFinally.kt", "kotlin.coroutines");
+        }
+
+        @TestMetadata("simple.kt")
+        public void testSimple_1_2() throws Exception {
+            runTestWithPackageReplacement("compiler/testData/codegen/box/coroutines/stackUnwinding/simple.kt", "kotlin.coroutines.experimental");
+        }
+
+        @TestMetadata("simple.kt")
+        public void testSimple_1_3() throws Exception {
+            runTestWithPackageReplacement("compiler/testData/codegen/box/coroutines/stackUnwinding/simple.kt", "kotlin.coroutines");
+        }
+
+        @TestMetadata("suspendInCycle.kt")
+        public void testSuspendInCycle_1_2() throws Exception {
+            runTestWithPackageReplacement("compiler/testData/codegen/box/coroutines/stackUnwinding/suspendInCycle.kt", "kotlin.coroutines.experimental");
+        }
+
+        @TestMetadata("suspendInCycle.kt")
+        public void testSuspendInCycle_1_3() throws Exception {
+            runTestWithPackageReplacement("compiler/testData/codegen/box/coroutines/stackUnwinding/suspendInCycle.kt", "kotlin.coroutines");
+        }
+    }
+
+    @TestMetadata("compiler/testData/codegen/box/coroutines/tailCallOptimizations")
+    @TestDataPath("$PROJECT_ROOT")
+    @RunWith(JUnit3RunnerWithInners.class)
+    public static class TailCallOptimizations extends AbstractParallelMethodOptimizationBlackBoxCodegenTest {
+        private void runTest(String testDataFilePath) throws Exception {
+            KotlinTestUtils.runTest(this::doTest, TargetBackend.JVM, testDataFilePath);
+        }
+
+        private void runTestWithPackageReplacement(String testDataFilePath, String packageName) throws Exception {
+            KotlinTestUtils.runTest(filePath -> doTestWithCoroutinesPackageReplacement(filePath, packageName), TargetBackend.JVM, testDataFilePath);
+        }
+
+        public void testAllFilesPresentInTailCallOptimizations() throws Exception {
+            KotlinTestUtils.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/codegen/box/coroutines/tailCallOptimizations"), Pattern.compile("^(.+)\\.kt$"), null, TargetBackend.JVM, true);
+        }
+
+        @TestMetadata("also.kt")
+        public void testAlso() throws Exception {
+            runTest("compiler/testData/codegen/box/coroutines/tailCallOptimizations/also.kt");
+        }
+
+        @TestMetadata("crossinline.kt")
+        public void testCrossinline_1_2() throws Exception {
+            runTestWithPackageReplacement("compiler/testData/codegen/box/coroutines/tailCallOptimizations/crossinline.kt", "kotlin.coroutines.experimental");
+        }
+
+        @TestMetadata("crossinline.kt")
+        public void testCrossinline_1_3() throws Exception {
+            runTestWithPackageReplacement("compiler/testData/codegen/box/coroutines/tailCallOptimizations/crossinline.kt", "kotlin.coroutines");
+        }
+
+        @TestMetadata("inlineWithStateMachine.kt")
+        public void testInlineWithStateMachine() throws Exception {
+            runTest("compiler/testData/codegen/box/coroutines/tailCallOptimizations/inlineWithStateMachine.kt");
+        }
+
+        @TestMetadata("inlineWithoutStateMachine.kt")
+        public void testInlineWithoutStateMachine_1_2() throws Exception {
+            runTestWithPackageReplacement("compiler/testData/codegen/box/coroutines/tailCallOptimizations/inlineWithoutStateMachine.kt", "kotlin.coroutines.experimental");
+        }
+
+        @TestMetadata("inlineWithoutStateMachine.kt")
+        public void testInlineWithoutStateMachine_1_3() throws Exception {
+            runTestWithPackageReplacement("compiler/testData/codegen/box/coroutines/tailCallOptimizations/inlineWithoutStateMachine.kt", "kotlin.coroutines");
+        }
+
+        @TestMetadata("innerObjectRetransformation.kt")
+        public void testInnerObjectRetransformation_1_2() throws Exception {
+            runTestWithPackageReplacement("compiler/testData/codegen/box/coroutines/tailCallOptimizations/innerObjectRetransformation.kt", "kotlin.coroutines.experimental");
+        }
+
+        @TestMetadata("innerObjectRetransformation.kt")
+        public void testInnerObjectRetransformation_1_3() throws Exception {
+            runTestWithPackageReplacement("compiler/testData/codegen/box/coroutines/tailCallOptimizations/innerObjectRetransformation.kt", "kotlin.coroutines");
+        }
+
+        @TestMetadata("simple.kt")
+        public void testSimple() throws Exception {
+            runTest("compiler/testData/codegen/box/coroutines/tailCallOptimizations/simple.kt");
+        }
+
+        @TestMetadata("tailCallIfReturnUnit.kt")
+        public void testTailCallIfReturnUnit() throws Exception {
+            runTest("compiler/testData/codegen/box/coroutines/tailCallOptimizations/tailCallIfReturnUnit.kt");
+        }
+
+        @TestMetadata("tailCallIntrinsics.kt")
+        public void testTailCallIntrinsics() throws Exception {
+            runTest("compiler/testData/codegen/box/coroutines/tailCallOptimizations/tailCallIntrinsics.kt");
+        }
+
+        @TestMetadata("tailSuspendUnitFun.kt")
+        public void testTailSuspendUnitFun() throws Exception {
+            runTest("compiler/testData/codegen/box/coroutines/tailCallOptimizations/tailSuspendUnitFun.kt");
+        }
+
+        @TestMetadata("tryCatchTailCall.kt")
+        public void testTryCatchTailCall() throws Exception {
+            runTest("compiler/testData/codegen/box/coroutines/tailCallOptimizations/tryCatchTailCall.kt");
+        }
+
+        @TestMetadata("tryCatch.kt")
+        public void testTryCatch_1_2() throws Exception {
+            runTestWithPackageReplacement("compiler/testData/codegen/box/coroutines/tailCallOptimizations/tryCatch.kt", "kotlin.coroutines.experimental");
+        }
+
+        @TestMetadata("tryCatch.kt")
+        public void testTryCatch_1_3() throws Exception {
+            runTestWithPackageReplacement("compiler/testData/codegen/box/coroutines/tailCallOptimizations/tryCatch.kt", "kotlin.coroutines");
+        }
+
+        @TestMetadata("unreachable.kt")
+        public void testUnreachable() throws Exception {
+            runTest("compiler/testData/codegen/box/coroutines/tailCallOptimizations/unreachable.kt");
+        }
+
+        @TestMetadata("whenUnit.kt")
+        public void testWhenUnit() throws Exception {
+            runTest("compiler/testData/codegen/box/coroutines/tailCallOptimizations/whenUnit.kt");
+        }
+
+        @TestMetadata("compiler/testData/codegen/box/coroutines/tailCallOptimizations/unit")
+        @TestDataPath("$PROJECT_ROOT")
+        @RunWith(JUnit3RunnerWithInners.class)
+        public static class Unit extends AbstractParallelMethodOptimizationBlackBoxCodegenTest {
+            private void runTest(String testDataFilePath) throws Exception {
+                KotlinTestUtils.runTest(this::doTest, TargetBackend.JVM, testDataFilePath);
+            }
+
+            public void testAllFilesPresentInUnit() throws Exception {
+                KotlinTestUtils.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/codegen/box/coroutines/tailCallOptimizations/unit"), Pattern.compile("^(.+)\\.kt$"), null, TargetBackend.JVM, true);
+            }
+
+            @TestMetadata("override.kt")
+            public void testOverride() throws Exception {
+                runTest("compiler/testData/codegen/box/coroutines/tailCallOptimizations/unit/override.kt");
+            }
+
+            @TestMetadata("override2.kt")
+            public void testOverride2() throws Exception {
+                runTest("compiler/testData/codegen/box/coroutines/tailCallOptimizations/unit/override2.kt");
+            }
+
+            @TestMetadata("override3.kt")
+            public void testOverride3() throws Exception {
+                runTest("compiler/testData/codegen/box/coroutines/tailCallOptimizations/unit/override3.kt");
+            }
+
+            @TestMetadata("override4.kt")
+            public void testOverride4() throws Exception {
+                runTest("compiler/testData/codegen/box/coroutines/tailCallOptimizations/unit/override4.kt");
+            }
+
+            @TestMetadata("override5.kt")
+            public void testOverride5() throws Exception {
+                runTest("compiler/testData/codegen/box/coroutines/tailCallOptimizations/unit/override5.kt");
+            }
+
+            @TestMetadata("override6.kt")
+            public void testOverride6() throws Exception {
+                runTest("compiler/testData/codegen/box/coroutines/tailCallOptimizations/unit/override6.kt");
+            }
+
+            @TestMetadata("overrideCrossinline.kt")
+            public void testOverrideCrossinline() throws Exception {
+                runTest("compiler/testData/codegen/box/coroutines/tailCallOptimizations/unit/overrideCrossinline.kt");
+            }
+
+            @TestMetadata("overrideOverriden.kt")
+            public void testOverrideOverriden() throws Exception {
+                runTest("compiler/testData/codegen/box/coroutines/tailCallOptimizations/unit/overrideOverriden.kt");
+            }
+
+            @TestMetadata("reflection.kt")
+            public void testReflection() throws Exception {
+                runTest("compiler/testData/codegen/box/coroutines/tailCallOptimizations/unit/reflection.kt");
+            }
+
+            @TestMetadata("simple.kt")
+            public void testSimple() throws Exception {
+                runTest("compiler/testData/codegen/box/coroutines/tailCallOptimizations/unit/simple.kt");
+            }
+        }
+    }
+
+    @TestMetadata("compiler/testData/codegen/box/coroutines/varSpilling")
+    @TestDataPath("$PROJECT_ROOT")
+    @RunWith(JUnit3RunnerWithInners.class)
+    public static class VarSpilling extends AbstractParallelMethodOptimizationBlackBoxCodegenTest {
+        private void runTest(String testDataFilePath) throws Exception {
+            KotlinTestUtils.runTest(this::doTest, TargetBackend.JVM, testDataFilePath);
+        }
+
+        private void runTestWithPackageReplacement(String testDataFilePath, String packageName) throws Exception {
+            KotlinTestUtils.runTest(filePath -> doTestWithCoroutinesPackageReplacement(filePath, packageName), TargetBackend.JVM, testDataFilePath);
+        }
+
+        public void testAllFilesPresentInVarSpilling() throws Exception {
+            KotlinTestUtils.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/codegen/box/coroutines/varSpilling"), Pattern.compile("^(.+)\\.kt$"), null, TargetBackend.JVM, true);
+        }
+
+        @TestMetadata("kt19475.kt")
+        public void testKt19475_1_2() throws Exception {
+            runTestWithPackageReplacement("compiler/testData/codegen/box/coroutines/varSpilling/kt19475.kt", "kotlin.coroutines.experimental");
+        }
+
+        @TestMetadata("kt19475.kt")
+        public void testKt19475_1_3() throws Exception {
+            runTestWithPackageReplacement("compiler/testData/codegen/box/coroutines/varSpilling/kt19475.kt", "kotlin.coroutines");
+        }
+
+        @TestMetadata("nullSpilling.kt")
+        public void testNullSpilling_1_2() throws Exception {
+            runTestWithPackageReplacement("compiler/testData/codegen/box/coroutines/varSpilling/nullSpilling.kt", "kotlin.coroutines.experimental");
+        }
+
+        @TestMetadata("nullSpilling.kt")
+        public void testNullSpilling_1_3() throws Exception {
+            runTestWithPackageReplacement("compiler/testData/codegen/box/coroutines/varSpilling/nullSpilling.kt", "kotlin.coroutines");
+        }
+
+        @TestMetadata("refinedIntTypesAnalysis.kt")
+        public void testRefinedIntTypesAnalysis() throws Exception {
+            runTest("compiler/testData/codegen/box/coroutines/varSpilling/refinedIntTypesAnalysis.kt");
+        }
+    }
+
+    @TestMetadata("compiler/testData/codegen/box/finally")
+    @TestDataPath("$PROJECT_ROOT")
+    @RunWith(JUnit3RunnerWithInners.class)
+    public static class Finally extends AbstractParallelMethodOptimizationBlackBoxCodegenTest {
+        private void runTest(String testDataFilePath) throws Exception {
+            KotlinTestUtils.runTest(this::doTest, TargetBackend.JVM, testDataFilePath);
+        }
+
+        public void testAllFilesPresentInFinally() throws Exception {
+            KotlinTestUtils.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/codegen/box/finally"), Pattern.compile("^(.+)\\.kt$"), null, TargetBackend.JVM, true);
+        }
+
+        @TestMetadata("breakAndOuterFinally.kt")
+        public void testBreakAndOuterFinally() throws Exception {
+            runTest("compiler/testData/codegen/box/finally/breakAndOuterFinally.kt");
+        }
+
+        @TestMetadata("continueAndOuterFinally.kt")
+        public void testContinueAndOuterFinally() throws Exception {
+            runTest("compiler/testData/codegen/box/finally/continueAndOuterFinally.kt");
+        }
+
+        @TestMetadata("finallyAndFinally.kt")
+        public void testFinallyAndFinally() throws Exception {
+            runTest("compiler/testData/codegen/box/finally/finallyAndFinally.kt");
+        }
+
+        @TestMetadata("kt31923_break.kt")
+        public void testKt31923_break() throws Exception {
+            runTest("compiler/testData/codegen/box/finally/kt31923_break.kt");
+        }
+
+        @TestMetadata("kt31923_continue.kt")
+        public void testKt31923_continue() throws Exception {
+            runTest("compiler/testData/codegen/box/finally/kt31923_continue.kt");
+        }
+
+        @TestMetadata("kt31923_return.kt")
+        public void testKt31923_return() throws Exception {
+            runTest("compiler/testData/codegen/box/finally/kt31923_return.kt");
+        }
+
+        @TestMetadata("kt31923_wrong.kt")
+        public void testKt31923_wrong() throws Exception {
+            runTest("compiler/testData/codegen/box/finally/kt31923_wrong.kt");
+        }
+
+        @TestMetadata("kt3549.kt")
+        public void testKt3549() throws Exception {
+            runTest("compiler/testData/codegen/box/finally/kt3549.kt");
+        }
+
+        @TestMetadata("kt3706.kt")
+        public void testKt3706() throws Exception {
+            runTest("compiler/testData/codegen/box/finally/kt3706.kt");
+        }
+
+        @TestMetadata("kt3867.kt")
+        public void testKt3867() throws Exception {
+            runTest("compiler/testData/codegen/box/finally/kt3867.kt");
+        }
+
+        @TestMetadata("kt3874.kt")
+        public void testKt3874() throws Exception {
+            runTest("compiler/testData/codegen/box/finally/kt3874.kt");
+        }
+
+        @TestMetadata("kt3894.kt")
+        public void testKt3894() throws Exception {
+            runTest("compiler/testData/codegen/box/finally/kt3894.kt");
+        }
+
+        @TestMetadata("kt4134.kt")
+        public void testKt4134() throws Exception {
+            runTest("compiler/testData/codegen/box/finally/kt4134.kt");
+        }
+
+        @TestMetadata("loopAndFinally.kt")
+        public void testLoopAndFinally() throws Exception {
+            runTest("compiler/testData/codegen/box/finally/loopAndFinally.kt");
+        }
+
+        @TestMetadata("nestedFinallyAndNonFinallyTry.kt")
+        public void testNestedFinallyAndNonFinallyTry() throws Exception {
+            runTest("compiler/testData/codegen/box/finally/nestedFinallyAndNonFinallyTry.kt");
+        }
+
+        @TestMetadata("nestedFinallyAndNonFinallyTry2.kt")
+        public void testNestedFinallyAndNonFinallyTry2() throws Exception {
+            runTest("compiler/testData/codegen/box/finally/nestedFinallyAndNonFinallyTry2.kt");
+        }
+
+        @TestMetadata("nestedFinallyAndNonFinallyTry3.kt")
+        public void testNestedFinallyAndNonFinallyTry3() throws Exception {
+            runTest("compiler/testData/codegen/box/finally/nestedFinallyAndNonFinallyTry3.kt");
+        }
+
+        @TestMetadata("nestedFinallyAndNonFinallyTry4.kt")
+        public void testNestedFinallyAndNonFinallyTry4() throws Exception {
+            runTest("compiler/testData/codegen/box/finally/nestedFinallyAndNonFinallyTry4.kt");
+        }
+
+        @TestMetadata("notChainCatch.kt")
+        public void testNotChainCatch() throws Exception {
+            runTest("compiler/testData/codegen/box/finally/notChainCatch.kt");
+        }
+
+        @TestMetadata("tryFinally.kt")
+        public void testTryFinally() throws Exception {
+            runTest("compiler/testData/codegen/box/finally/tryFinally.kt");
+        }
+
+        @TestMetadata("tryLoopTry.kt")
+        public void testTryLoopTry() throws Exception {
+            runTest("compiler/testData/codegen/box/finally/tryLoopTry.kt");
+        }
+    }
+
+    @TestMetadata("compiler/testData/codegen/box/nonLocalReturns")
+    @TestDataPath("$PROJECT_ROOT")
+    @RunWith(JUnit3RunnerWithInners.class)
+    public static class NonLocalReturns extends AbstractParallelMethodOptimizationBlackBoxCodegenTest {
+        private void runTest(String testDataFilePath) throws Exception {
+            KotlinTestUtils.runTest(this::doTest, TargetBackend.JVM, testDataFilePath);
+        }
+
+        public void testAllFilesPresentInNonLocalReturns() throws Exception {
+            KotlinTestUtils.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/codegen/box/nonLocalReturns"), Pattern.compile("^(.+)\\.kt$"), null, TargetBackend.JVM, true);
+        }
+
+        @TestMetadata("kt6895.kt")
+        public void testKt6895() throws Exception {
+            runTest("compiler/testData/codegen/box/nonLocalReturns/kt6895.kt");
+        }
+
+        @TestMetadata("kt9644let.kt")
+        public void testKt9644let() throws Exception {
+            runTest("compiler/testData/codegen/box/nonLocalReturns/kt9644let.kt");
+        }
+
+        @TestMetadata("localReturnInsideProperty.kt")
+        public void testLocalReturnInsideProperty() throws Exception {
+            runTest("compiler/testData/codegen/box/nonLocalReturns/localReturnInsideProperty.kt");
+        }
+
+        @TestMetadata("returnInsideTwoLambdas.kt")
+        public void testReturnInsideTwoLambdas() throws Exception {
+            runTest("compiler/testData/codegen/box/nonLocalReturns/returnInsideTwoLambdas.kt");
+        }
+
+        @TestMetadata("use.kt")
+        public void testUse() throws Exception {
+            runTest("compiler/testData/codegen/box/nonLocalReturns/use.kt");
+        }
+
+        @TestMetadata("useWithException.kt")
+        public void testUseWithException() throws Exception {
+            runTest("compiler/testData/codegen/box/nonLocalReturns/useWithException.kt");
+        }
+    }
+
+    @TestMetadata("compiler/testData/codegen/box/nullCheckOptimization")
+    @TestDataPath("$PROJECT_ROOT")
+    @RunWith(JUnit3RunnerWithInners.class)
+    public static class NullCheckOptimization extends AbstractParallelMethodOptimizationBlackBoxCodegenTest {
+        private void runTest(String testDataFilePath) throws Exception {
+            KotlinTestUtils.runTest(this::doTest, TargetBackend.JVM, testDataFilePath);
+        }
+
+        public void testAllFilesPresentInNullCheckOptimization() throws Exception {
+            KotlinTestUtils.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/codegen/box/nullCheckOptimization"), Pattern.compile("^(.+)\\.kt$"), null, TargetBackend.JVM, true);
+        }
+
+        @TestMetadata("exclExclThrowsNpe_1_4.kt")
+        public void testExclExclThrowsNpe_1_4() throws Exception {
+            runTest("compiler/testData/codegen/box/nullCheckOptimization/exclExclThrowsNpe_1_4.kt");
+        }
+
+        @TestMetadata("isNullable.kt")
+        public void testIsNullable() throws Exception {
+            runTest("compiler/testData/codegen/box/nullCheckOptimization/isNullable.kt");
+        }
+
+        @TestMetadata("javaNullCheckThrowsNpe_1_4.kt")
+        public void testJavaNullCheckThrowsNpe_1_4() throws Exception {
+            runTest("compiler/testData/codegen/box/nullCheckOptimization/javaNullCheckThrowsNpe_1_4.kt");
+        }
+
+        @TestMetadata("kt22410.kt")
+        public void testKt22410() throws Exception {
+            runTest("compiler/testData/codegen/box/nullCheckOptimization/kt22410.kt");
+        }
+
+        @TestMetadata("kt7774.kt")
+        public void testKt7774() throws Exception {
+            runTest("compiler/testData/codegen/box/nullCheckOptimization/kt7774.kt");
+        }
+
+        @TestMetadata("parameterNullCheckThrowsNpe_1_4.kt")
+        public void testParameterNullCheckThrowsNpe_1_4() throws Exception {
+            runTest("compiler/testData/codegen/box/nullCheckOptimization/parameterNullCheckThrowsNpe_1_4.kt");
+        }
+
+        @TestMetadata("primitiveCheckWithSideEffect.kt")
+        public void testPrimitiveCheckWithSideEffect() throws Exception {
+            runTest("compiler/testData/codegen/box/nullCheckOptimization/primitiveCheckWithSideEffect.kt");
+        }
+
+        @TestMetadata("trivialInstanceOf.kt")
+        public void testTrivialInstanceOf() throws Exception {
+            runTest("compiler/testData/codegen/box/nullCheckOptimization/trivialInstanceOf.kt");
+        }
+    }
+
+    @TestMetadata("compiler/testData/codegen/box/storeStackBeforeInline")
+    @TestDataPath("$PROJECT_ROOT")
+    @RunWith(JUnit3RunnerWithInners.class)
+    public static class StoreStackBeforeInline extends AbstractParallelMethodOptimizationBlackBoxCodegenTest {
+        private void runTest(String testDataFilePath) throws Exception {
+            KotlinTestUtils.runTest(this::doTest, TargetBackend.JVM, testDataFilePath);
+        }
+
+        public void testAllFilesPresentInStoreStackBeforeInline() throws Exception {
+            KotlinTestUtils.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/codegen/box/storeStackBeforeInline"), Pattern.compile("^(.+)\\.kt$"), null, TargetBackend.JVM, true);
+        }
+
+        @TestMetadata("differentTypes.kt")
+        public void testDifferentTypes() throws Exception {
+            runTest("compiler/testData/codegen/box/storeStackBeforeInline/differentTypes.kt");
+        }
+
+        @TestMetadata("primitiveMerge.kt")
+        public void testPrimitiveMerge() throws Exception {
+            runTest("compiler/testData/codegen/box/storeStackBeforeInline/primitiveMerge.kt");
+        }
+
+        @TestMetadata("simple.kt")
+        public void testSimple() throws Exception {
+            runTest("compiler/testData/codegen/box/storeStackBeforeInline/simple.kt");
+        }
+
+        @TestMetadata("unreachableMarker.kt")
+        public void testUnreachableMarker() throws Exception {
+            runTest("compiler/testData/codegen/box/storeStackBeforeInline/unreachableMarker.kt");
+        }
+
+        @TestMetadata("withLambda.kt")
+        public void testWithLambda() throws Exception {
+            runTest("compiler/testData/codegen/box/storeStackBeforeInline/withLambda.kt");
+        }
+    }
+}
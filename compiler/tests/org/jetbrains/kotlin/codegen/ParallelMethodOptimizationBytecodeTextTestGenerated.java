@@ -0,0 +1,828 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.codegen;
+
+import com.intellij.testFramework.TestDataPath;
+import org.jetbrains.kotlin.test.JUnit3RunnerWithInners;
+import org.jetbrains.kotlin.test.KotlinTestUtils;
+import org.jetbrains.kotlin.test.TargetBackend;
+import org.jetbrains.kotlin.test.TestMetadata;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.util.regex.Pattern;
+
+/** This class is generated by {@link org.jetbrains.kotlin.generators.tests.TestsPackage}. DO NOT MODIFY MANUALLY */
+@SuppressWarnings("all")
+@RunWith(JUnit3RunnerWithInners.class)
+public class ParallelMethodOptimizationBytecodeTextTestGenerated extends AbstractParallelMethodOptimizationBytecodeTextTest {
+    @TestMetadata("compiler/testData/codegen/bytecodeText/boxingOptimization")
+    @TestDataPath("$PROJECT_ROOT")
+    @RunWith(JUnit3RunnerWithInners.class)
+    public static class BoxingOptimization extends AbstractParallelMethodOptimizationBytecodeTextTest {
+        private void runTest(String testDataFilePath) throws Exception {
+            KotlinTestUtils.runTest(this::doTest, TargetBackend.JVM, testDataFilePath);
+        }
+
+        public void testAllFilesPresentInBoxingOptimization() throws Exception {
+            KotlinTestUtils.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/codegen/bytecodeText/boxingOptimization"), Pattern.compile("^(.+)\\.kt$"), null, TargetBackend.JVM, true);
+        }
+
+        @TestMetadata("boxingAndEquals.kt")
+        public void testBoxingAndEquals() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/boxingOptimization/boxingAndEquals.kt");
+        }
+
+        @TestMetadata("casts.kt")
+        public void testCasts() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/boxingOptimization/casts.kt");
+        }
+
+        @TestMetadata("checkcastAndInstanceOf.kt")
+        public void testCheckcastAndInstanceOf() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/boxingOptimization/checkcastAndInstanceOf.kt");
+        }
+
+        @TestMetadata("fold.kt")
+        public void testFold() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/boxingOptimization/fold.kt");
+        }
+
+        @TestMetadata("inlineClassesAndInlinedLambda.kt")
+        public void testInlineClassesAndInlinedLambda() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/boxingOptimization/inlineClassesAndInlinedLambda.kt");
+        }
+
+        @TestMetadata("intCompareTo.kt")
+        public void testIntCompareTo() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/boxingOptimization/intCompareTo.kt");
+        }
+
+        @TestMetadata("kClassInAnnotation.kt")
+        public void testKClassInAnnotation() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/boxingOptimization/kClassInAnnotation.kt");
+        }
+
+        @TestMetadata("kClassInAnnotationEscaping.kt")
+        public void testKClassInAnnotationEscaping() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/boxingOptimization/kClassInAnnotationEscaping.kt");
+        }
+
+        @TestMetadata("kt15862.kt")
+        public void testKt15862() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/boxingOptimization/kt15862.kt");
+        }
+
+        @TestMetadata("kt15862_2.kt")
+        public void testKt15862_2() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/boxingOptimization/kt15862_2.kt");
+        }
+
+        @TestMetadata("kt6842.kt")
+        public void testKt6842() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/boxingOptimization/kt6842.kt");
+        }
+
+        @TestMetadata("kt7224.kt")
+        public void testKt7224() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/boxingOptimization/kt7224.kt");
+        }
+
+        @TestMetadata("maxMinBy.kt")
+        public void testMaxMinBy() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/boxingOptimization/maxMinBy.kt");
+        }
+
+        @TestMetadata("nullCheck.kt")
+        public void testNullCheck() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/boxingOptimization/nullCheck.kt");
+        }
+
+        @TestMetadata("progressions.kt")
+        public void testProgressions() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/boxingOptimization/progressions.kt");
+        }
+
+        @TestMetadata("safeCallToPrimitiveEquality.kt")
+        public void testSafeCallToPrimitiveEquality() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/boxingOptimization/safeCallToPrimitiveEquality.kt");
+        }
+
+        @TestMetadata("safeCallWithElvis.kt")
+        public void testSafeCallWithElvis() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/boxingOptimization/safeCallWithElvis.kt");
+        }
+
+        @TestMetadata("severalInlines.kt")
+        public void testSeveralInlines() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/boxingOptimization/severalInlines.kt");
+        }
+
+        @TestMetadata("simple.kt")
+        public void testSimple() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/boxingOptimization/simple.kt");
+        }
+
+        @TestMetadata("simpleUninitializedMerge.kt")
+        public void testSimpleUninitializedMerge() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/boxingOptimization/simpleUninitializedMerge.kt");
+        }
+
+        @TestMetadata("unsafeRemoving.kt")
+        public void testUnsafeRemoving() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/boxingOptimization/unsafeRemoving.kt");
+        }
+
+        @TestMetadata("unsignedRangeIteratorSpecialization.kt")
+        public void testUnsignedRangeIteratorSpecialization() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/boxingOptimization/unsignedRangeIteratorSpecialization.kt");
+        }
+
+        @TestMetadata("variableClash.kt")
+        public void testVariableClash() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/boxingOptimization/variableClash.kt");
+        }
+
+        @TestMetadata("variables.kt")
+        public void testVariables() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/boxingOptimization/variables.kt");
+        }
+    }
+
+    @TestMetadata("compiler/testData/codegen/bytecodeText/coercionToUnitOptimization")
+    @TestDataPath("$PROJECT_ROOT")
+    @RunWith(JUnit3RunnerWithInners.class)
+    public static class CoercionToUnitOptimization extends AbstractParallelMethodOptimizationBytecodeTextTest {
+        private void runTest(String testDataFilePath) throws Exception {
+            KotlinTestUtils.runTest(this::doTest, TargetBackend.JVM, testDataFilePath);
+        }
+
+        public void testAllFilesPresentInCoercionToUnitOptimization() throws Exception {
+            KotlinTestUtils.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/codegen/bytecodeText/coercionToUnitOptimization"), Pattern.compile("^(.+)\\.kt$"), null, TargetBackend.JVM, true);
+        }
+
+        @TestMetadata("inRangeCheckWithConst.kt")
+        public void testInRangeCheckWithConst() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/coercionToUnitOptimization/inRangeCheckWithConst.kt");
+        }
+
+        @TestMetadata("kt14360.kt")
+        public void testKt14360() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/coercionToUnitOptimization/kt14360.kt");
+        }
+
+        @TestMetadata("largeMethodWithCoercionToUnit.kt")
+        public void testLargeMethodWithCoercionToUnit() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/coercionToUnitOptimization/largeMethodWithCoercionToUnit.kt");
+        }
+
+        @TestMetadata("nopInlineFuns.kt")
+        public void testNopInlineFuns() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/coercionToUnitOptimization/nopInlineFuns.kt");
+        }
+
+        @TestMetadata("returnsUnit.kt")
+        public void testReturnsUnit() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/coercionToUnitOptimization/returnsUnit.kt");
+        }
+
+        @TestMetadata("safeCall.kt")
+        public void testSafeCall() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/coercionToUnitOptimization/safeCall.kt");
+        }
+
+        @TestMetadata("safeCallWithReturnValue.kt")
+        public void testSafeCallWithReturnValue() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/coercionToUnitOptimization/safeCallWithReturnValue.kt");
+        }
+
+        @TestMetadata("safeLet.kt")
+        public void testSafeLet() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/coercionToUnitOptimization/safeLet.kt");
+        }
+
+        @TestMetadata("tryInlined.kt")
+        public void testTryInlined() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/coercionToUnitOptimization/tryInlined.kt");
+        }
+    }
+
+    @TestMetadata("compiler/testData/codegen/bytecodeText/coroutines")
+    @TestDataPath("$PROJECT_ROOT")
+    @RunWith(JUnit3RunnerWithInners.class)
+    public static class Coroutines extends AbstractParallelMethodOptimizationBytecodeTextTest {
+        private void runTest(String testDataFilePath) throws Exception {
+            KotlinTestUtils.runTest(this::doTest, TargetBackend.JVM, testDataFilePath);
+        }
+
+        private void runTestWithPackageReplacement(String testDataFilePath, String packageName) throws Exception {
+            KotlinTestUtils.runTest(filePath -> doTestWithCoroutinesPackageReplacement(filePath, packageName), TargetBackend.JVM, testDataFilePath);
+        }
+
+        public void testAllFilesPresentInCoroutines() throws Exception {
+            KotlinTestUtils.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/codegen/bytecodeText/coroutines"), Pattern.compile("^(.+)\\.kt$"), null, TargetBackend.JVM, true);
+        }
+
+        @TestMetadata("crossinlineSuspendContinuation_1_3.kt")
+        public void testCrossinlineSuspendContinuation_1_3() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/coroutines/crossinlineSuspendContinuation_1_3.kt");
+        }
+
+        @TestMetadata("doNotReassignContinuation.kt")
+        public void testDoNotReassignContinuation() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/coroutines/doNotReassignContinuation.kt");
+        }
+
+        @TestMetadata("returnUnitInLambda.kt")
+        public void testReturnUnitInLambda_1_2() throws Exception {
+            runTestWithPackageReplacement("compiler/testData/codegen/bytecodeText/coroutines/returnUnitInLambda.kt", "kotlin.coroutines.experimental");
+        }
+
+        @TestMetadata("returnUnitInLambda.kt")
+        public void testReturnUnitInLambda_1_3() throws Exception {
+            runTestWithPackageReplacement("compiler/testData/codegen/bytecodeText/coroutines/returnUnitInLambda.kt", "kotlin.coroutines");
+        }
+
+        @TestMetadata("throwOnFailure.kt")
+        public void testThrowOnFailure() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/coroutines/throwOnFailure.kt");
+        }
+
+        @TestMetadata("varValueConflictsWithTable.kt")
+        public void testVarValueConflictsWithTable() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/coroutines/varValueConflictsWithTable.kt");
+        }
+
+        @TestMetadata("varValueConflictsWithTableSameSort.kt")
+        public void testVarValueConflictsWithTableSameSort() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/coroutines/varValueConflictsWithTableSameSort.kt");
+        }
+
+        @TestMetadata("compiler/testData/codegen/bytecodeText/coroutines/debug")
+        @TestDataPath("$PROJECT_ROOT")
+        @RunWith(JUnit3RunnerWithInners.class)
+        public static class Debug extends AbstractParallelMethodOptimizationBytecodeTextTest {
+            private void runTest(String testDataFilePath) throws Exception {
+                KotlinTestUtils.runTest(this::doTest, TargetBackend.JVM, testDataFilePath);
+            }
+
+            public void testAllFilesPresentInDebug() throws Exception {
+                KotlinTestUtils.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/codegen/bytecodeText/coroutines/debug"), Pattern.compile("^(.+)\\.kt$"), null, TargetBackend.JVM, true);
+            }
+
+            @TestMetadata("continuationInLvt.kt")
+            public void testContinuationInLvt() throws Exception {
+                runTest("compiler/testData/codegen/bytecodeText/coroutines/debug/continuationInLvt.kt");
+            }
+
+            @TestMetadata("localVariableCorrectLabel.kt")
+            public void testLocalVariableCorrectLabel() throws Exception {
+                runTest("compiler/testData/codegen/bytecodeText/coroutines/debug/localVariableCorrectLabel.kt");
+            }
+
+            @TestMetadata("probeCoroutineSuspended.kt")
+            public void testProbeCoroutineSuspended() throws Exception {
+                runTest("compiler/testData/codegen/bytecodeText/coroutines/debug/probeCoroutineSuspended.kt");
+            }
+
+            @TestMetadata("thisAndResultInLvt.kt")
+            public void testThisAndResultInLvt() throws Exception {
+                runTest("compiler/testData/codegen/bytecodeText/coroutines/debug/thisAndResultInLvt.kt");
+            }
+        }
+
+        @TestMetadata("compiler/testData/codegen/bytecodeText/coroutines/destructuringInLambda")
+        @TestDataPath("$PROJECT_ROOT")
+        @RunWith(JUnit3RunnerWithInners.class)
+        public static class DestructuringInLambda extends AbstractParallelMethodOptimizationBytecodeTextTest {
+            private void runTest(String testDataFilePath) throws Exception {
+                KotlinTestUtils.runTest(this::doTest, TargetBackend.JVM, testDataFilePath);
+            }
+
+            public void testAllFilesPresentInDestructuringInLambda() throws Exception {
+                KotlinTestUtils.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/codegen/bytecodeText/coroutines/destructuringInLambda"), Pattern.compile("^(.+)\\.kt$"), null, TargetBackend.JVM, true);
+            }
+
+            @TestMetadata("inlineSeparateFiles.kt")
+            public void testInlineSeparateFiles() throws Exception {
+                runTest("compiler/testData/codegen/bytecodeText/coroutines/destructuringInLambda/inlineSeparateFiles.kt");
+            }
+        }
+
+        @TestMetadata("compiler/testData/codegen/bytecodeText/coroutines/intLikeVarSpilling")
+        @TestDataPath("$PROJECT_ROOT")
+        @RunWith(JUnit3RunnerWithInners.class)
+        public static class IntLikeVarSpilling extends AbstractParallelMethodOptimizationBytecodeTextTest {
+            private void runTest(String testDataFilePath) throws Exception {
+                KotlinTestUtils.runTest(this::doTest, TargetBackend.JVM, testDataFilePath);
+            }
+
+            private void runTestWithPackageReplacement(String testDataFilePath, String packageName) throws Exception {
+                KotlinTestUtils.runTest(filePath -> doTestWithCoroutinesPackageReplacement(filePath, packageName), TargetBackend.JVM, testDataFilePath);
+            }
+
+            public void testAllFilesPresentInIntLikeVarSpilling() throws Exception {
+                KotlinTestUtils.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/codegen/bytecodeText/coroutines/intLikeVarSpilling"), Pattern.compile("^(.+)\\.kt$"), null, TargetBackend.JVM, true);
+            }
+
+            @TestMetadata("complicatedMerge.kt")
+            public void testComplicatedMerge_1_2() throws Exception {
+                runTestWithPackageReplacement("compiler/testData/codegen/bytecodeText/coroutines/intLikeVarSpilling/complicatedMerge.kt", "kotlin.coroutines.experimental");
+            }
+
+            @TestMetadata("complicatedMerge.kt")
+            public void testComplicatedMerge_1_3() throws Exception {
+                runTestWithPackageReplacement("compiler/testData/codegen/bytecodeText/coroutines/intLikeVarSpilling/complicatedMerge.kt", "kotlin.coroutines");
+            }
+
+            @TestMetadata("i2bResult.kt")
+            public void testI2bResult_1_2() throws Exception {
+                runTestWithPackageReplacement("compiler/testData/codegen/bytecodeText/coroutines/intLikeVarSpilling/i2bResult.kt", "kotlin.coroutines.experimental");
+            }
+
+            @TestMetadata("i2bResult.kt")
+            public void testI2bResult_1_3() throws Exception {
+                runTestWithPackageReplacement("compiler/testData/codegen/bytecodeText/coroutines/intLikeVarSpilling/i2bResult.kt", "kotlin.coroutines");
+            }
+
+            @TestMetadata("loadFromBooleanArray.kt")
+            public void testLoadFromBooleanArray_1_2() throws Exception {
+                runTestWithPackageReplacement("compiler/testData/codegen/bytecodeText/coroutines/intLikeVarSpilling/loadFromBooleanArray.kt", "kotlin.coroutines.experimental");
+            }
+
+            @TestMetadata("loadFromBooleanArray.kt")
+            public void testLoadFromBooleanArray_1_3() throws Exception {
+                runTestWithPackageReplacement("compiler/testData/codegen/bytecodeText/coroutines/intLikeVarSpilling/loadFromBooleanArray.kt", "kotlin.coroutines");
+            }
+
+            @TestMetadata("loadFromByteArray.kt")
+            public void testLoadFromByteArray_1_2() throws Exception {
+                runTestWithPackageReplacement("compiler/testData/codegen/bytecodeText/coroutines/intLikeVarSpilling/loadFromByteArray.kt", "kotlin.coroutines.experimental");
+            }
+
+            @TestMetadata("loadFromByteArray.kt")
+            public void testLoadFromByteArray_1_3() throws Exception {
+                runTestWithPackageReplacement("compiler/testData/codegen/bytecodeText/coroutines/intLikeVarSpilling/loadFromByteArray.kt", "kotlin.coroutines");
+            }
+
+            @TestMetadata("noVariableInTable.kt")
+            public void testNoVariableInTable_1_2() throws Exception {
+                runTestWithPackageReplacement("compiler/testData/codegen/bytecodeText/coroutines/intLikeVarSpilling/noVariableInTable.kt", "kotlin.coroutines.experimental");
+            }
+
+            @TestMetadata("noVariableInTable.kt")
+            public void testNoVariableInTable_1_3() throws Exception {
+                runTestWithPackageReplacement("compiler/testData/codegen/bytecodeText/coroutines/intLikeVarSpilling/noVariableInTable.kt", "kotlin.coroutines");
+            }
+
+            @TestMetadata("sameIconst1ManyVars.kt")
+            public void testSameIconst1ManyVars_1_2() throws Exception {
+                runTestWithPackageReplacement("compiler/testData/codegen/bytecodeText/coroutines/intLikeVarSpilling/sameIconst1ManyVars.kt", "kotlin.coroutines.experimental");
+            }
+
+            @TestMetadata("sameIconst1ManyVars.kt")
+            public void testSameIconst1ManyVars_1_3() throws Exception {
+                runTestWithPackageReplacement("compiler/testData/codegen/bytecodeText/coroutines/intLikeVarSpilling/sameIconst1ManyVars.kt", "kotlin.coroutines");
+            }
+
+            @TestMetadata("usedInArrayStore.kt")
+            public void testUsedInArrayStore_1_2() throws Exception {
+                runTestWithPackageReplacement("compiler/testData/codegen/bytecodeText/coroutines/intLikeVarSpilling/usedInArrayStore.kt", "kotlin.coroutines.experimental");
+            }
+
+            @TestMetadata("usedInArrayStore.kt")
+            public void testUsedInArrayStore_1_3() throws Exception {
+                runTestWithPackageReplacement("compiler/testData/codegen/bytecodeText/coroutines/intLikeVarSpilling/usedInArrayStore.kt", "kotlin.coroutines");
+            }
+
+            @TestMetadata("usedInMethodCall.kt")
+            public void testUsedInMethodCall_1_2() throws Exception {
+                runTestWithPackageReplacement("compiler/testData/codegen/bytecodeText/coroutines/intLikeVarSpilling/usedInMethodCall.kt", "kotlin.coroutines.experimental");
+            }
+
+            @TestMetadata("usedInMethodCall.kt")
+            public void testUsedInMethodCall_1_3() throws Exception {
+                runTestWithPackageReplacement("compiler/testData/codegen/bytecodeText/coroutines/intLikeVarSpilling/usedInMethodCall.kt", "kotlin.coroutines");
+            }
+
+            @TestMetadata("usedInPutfield.kt")
+            public void testUsedInPutfield_1_2() throws Exception {
+                runTestWithPackageReplacement("compiler/testData/codegen/bytecodeText/coroutines/intLikeVarSpilling/usedInPutfield.kt", "kotlin.coroutines.experimental");
+            }
+
+            @TestMetadata("usedInPutfield.kt")
+            public void testUsedInPutfield_1_3() throws Exception {
+                runTestWithPackageReplacement("compiler/testData/codegen/bytecodeText/coroutines/intLikeVarSpilling/usedInPutfield.kt", "kotlin.coroutines");
+            }
+
+            @TestMetadata("usedInVarStore.kt")
+            public void testUsedInVarStore_1_2() throws Exception {
+                runTestWithPackageReplacement("compiler/testData/codegen/bytecodeText/coroutines/intLikeVarSpilling/usedInVarStore.kt", "kotlin.coroutines.experimental");
+            }
+
+            @TestMetadata("usedInVarStore.kt")
+            public void testUsedInVarStore_1_3() throws Exception {
+                runTestWithPackageReplacement("compiler/testData/codegen/bytecodeText/coroutines/intLikeVarSpilling/usedInVarStore.kt", "kotlin.coroutines");
+            }
+        }
+
+        @TestMetadata("compiler/testData/codegen/bytecodeText/coroutines/stateMachine")
+        @TestDataPath("$PROJECT_ROOT")
+        @RunWith(JUnit3RunnerWithInners.class)
+        public static class StateMachine extends AbstractParallelMethodOptimizationBytecodeTextTest {
+            private void runTest(String testDataFilePath) throws Exception {
+                KotlinTestUtils.runTest(this::doTest, TargetBackend.JVM, testDataFilePath);
+            }
+
+            public void testAllFilesPresentInStateMachine() throws Exception {
+                KotlinTestUtils.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/codegen/bytecodeText/coroutines/stateMachine"), Pattern.compile("^(.+)\\.kt$"), null, TargetBackend.JVM, true);
+            }
+
+            @TestMetadata("kt25893.kt")
+            public void testKt25893() throws Exception {
+                runTest("compiler/testData/codegen/bytecodeText/coroutines/stateMachine/kt25893.kt");
+            }
+
+            @TestMetadata("withTypeParameter.kt")
+            public void testWithTypeParameter() throws Exception {
+                runTest("compiler/testData/codegen/bytecodeText/coroutines/stateMachine/withTypeParameter.kt");
+            }
+        }
+    }
+
+    @TestMetadata("compiler/testData/codegen/bytecodeText/deadCodeElimination")
+    @TestDataPath("$PROJECT_ROOT")
+    @RunWith(JUnit3RunnerWithInners.class)
+    public static class DeadCodeElimination extends AbstractParallelMethodOptimizationBytecodeTextTest {
+        private void runTest(String testDataFilePath) throws Exception {
+            KotlinTestUtils.runTest(this::doTest, TargetBackend.JVM, testDataFilePath);
+        }
+
+        public void testAllFilesPresentInDeadCodeElimination() throws Exception {
+            KotlinTestUtils.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/codegen/bytecodeText/deadCodeElimination"), Pattern.compile("^(.+)\\.kt$"), null, TargetBackend.JVM, true);
+        }
+
+        @TestMetadata("arrayConstructor.kt")
+        public void testArrayConstructor() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/deadCodeElimination/arrayConstructor.kt");
+        }
+
+        @TestMetadata("boxing.kt")
+        public void testBoxing() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/deadCodeElimination/boxing.kt");
+        }
+
+        @TestMetadata("boxingNotOptimizable.kt")
+        public void testBoxingNotOptimizable() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/deadCodeElimination/boxingNotOptimizable.kt");
+        }
+
+        @TestMetadata("emptyVariableRange.kt")
+        public void testEmptyVariableRange() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/deadCodeElimination/emptyVariableRange.kt");
+        }
+
+        @TestMetadata("kt14357.kt")
+        public void testKt14357() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/deadCodeElimination/kt14357.kt");
+        }
+
+        @TestMetadata("lastReturn.kt")
+        public void testLastReturn() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/deadCodeElimination/lastReturn.kt");
+        }
+
+        @TestMetadata("literal.kt")
+        public void testLiteral() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/deadCodeElimination/literal.kt");
+        }
+
+        @TestMetadata("simpleConstructor.kt")
+        public void testSimpleConstructor() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/deadCodeElimination/simpleConstructor.kt");
+        }
+
+        @TestMetadata("simpleConstructorNotRedundant.kt")
+        public void testSimpleConstructorNotRedundant() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/deadCodeElimination/simpleConstructorNotRedundant.kt");
+        }
+
+        @TestMetadata("simpleConstructorNotRedundantNotOptimizable.kt")
+        public void testSimpleConstructorNotRedundantNotOptimizable() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/deadCodeElimination/simpleConstructorNotRedundantNotOptimizable.kt");
+        }
+    }
+
+    @TestMetadata("compiler/testData/codegen/bytecodeText/inline")
+    @TestDataPath("$PROJECT_ROOT")
+    @RunWith(JUnit3RunnerWithInners.class)
+    public static class Inline extends AbstractParallelMethodOptimizationBytecodeTextTest {
+        private void runTest(String testDataFilePath) throws Exception {
+            KotlinTestUtils.runTest(this::doTest, TargetBackend.JVM, testDataFilePath);
+        }
+
+        public void testAllFilesPresentInInline() throws Exception {
+            KotlinTestUtils.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/codegen/bytecodeText/inline"), Pattern.compile("^(.+)\\.kt$"), null, TargetBackend.JVM, true);
+        }
+
+        @TestMetadata("deleteClassOnTransfromation.kt")
+        public void testDeleteClassOnTransfromation() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/inline/deleteClassOnTransfromation.kt");
+        }
+
+        @TestMetadata("finallyMarkers.kt")
+        public void testFinallyMarkers() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/inline/finallyMarkers.kt");
+        }
+
+        @TestMetadata("inlineArgumentSlots.kt")
+        public void testInlineArgumentSlots() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/inline/inlineArgumentSlots.kt");
+        }
+
+        @TestMetadata("inlineReturnsNothing1.kt")
+        public void testInlineReturnsNothing1() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/inline/inlineReturnsNothing1.kt");
+        }
+
+        @TestMetadata("inlineReturnsNothing2.kt")
+        public void testInlineReturnsNothing2() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/inline/inlineReturnsNothing2.kt");
+        }
+
+        @TestMetadata("inlineReturnsNothing3.kt")
+        public void testInlineReturnsNothing3() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/inline/inlineReturnsNothing3.kt");
+        }
+
+        @TestMetadata("inlineSuspendReifiedNoSpilling.kt")
+        public void testInlineSuspendReifiedNoSpilling() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/inline/inlineSuspendReifiedNoSpilling.kt");
+        }
+
+        @TestMetadata("interfaceDefaultMethod.kt")
+        public void testInterfaceDefaultMethod() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/inline/interfaceDefaultMethod.kt");
+        }
+
+        @TestMetadata("linenumberForOneParametersArgumentCall.kt")
+        public void testLinenumberForOneParametersArgumentCall() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/inline/linenumberForOneParametersArgumentCall.kt");
+        }
+
+        @TestMetadata("noSynAccessor.kt")
+        public void testNoSynAccessor() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/inline/noSynAccessor.kt");
+        }
+
+        @TestMetadata("noSynAccessorToDirectFieldAccess.kt")
+        public void testNoSynAccessorToDirectFieldAccess() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/inline/noSynAccessorToDirectFieldAccess.kt");
+        }
+
+        @TestMetadata("noSynAccessorToSuper.kt")
+        public void testNoSynAccessorToSuper() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/inline/noSynAccessorToSuper.kt");
+        }
+
+        @TestMetadata("notSplitedExceptionTable.kt")
+        public void testNotSplitedExceptionTable() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/inline/notSplitedExceptionTable.kt");
+        }
+
+        @TestMetadata("reifiedSafeAsWithMutable.kt")
+        public void testReifiedSafeAsWithMutable() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/inline/reifiedSafeAsWithMutable.kt");
+        }
+
+        @TestMetadata("remappedLocalVar.kt")
+        public void testRemappedLocalVar() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/inline/remappedLocalVar.kt");
+        }
+
+        @TestMetadata("removedFinallyMarkers.kt")
+        public void testRemovedFinallyMarkers() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/inline/removedFinallyMarkers.kt");
+        }
+
+        @TestMetadata("specialEnumFunction.kt")
+        public void testSpecialEnumFunction() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/inline/specialEnumFunction.kt");
+        }
+
+        @TestMetadata("splitedExceptionTable.kt")
+        public void testSplitedExceptionTable() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/inline/splitedExceptionTable.kt");
+        }
+
+        @TestMetadata("whenMappingOnCallSite.kt")
+        public void testWhenMappingOnCallSite() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/inline/whenMappingOnCallSite.kt");
+        }
+
+        @TestMetadata("compiler/testData/codegen/bytecodeText/inline/property")
+        @TestDataPath("$PROJECT_ROOT")
+        @RunWith(JUnit3RunnerWithInners.class)
+        public static class Property extends AbstractParallelMethodOptimizationBytecodeTextTest {
+            private void runTest(String testDataFilePath) throws Exception {
+                KotlinTestUtils.runTest(this::doTest, TargetBackend.JVM, testDataFilePath);
+            }
+
+            public void testAllFilesPresentInProperty() throws Exception {
+                KotlinTestUtils.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/codegen/bytecodeText/inline/property"), Pattern.compile("^(.+)\\.kt$"), null, TargetBackend.JVM, true);
+            }
+
+            @TestMetadata("simple.kt")
+            public void testSimple() throws Exception {
+                runTest("compiler/testData/codegen/bytecodeText/inline/property/simple.kt");
+            }
+        }
+    }
+
+    @TestMetadata("compiler/testData/codegen/bytecodeText/nullCheckOptimization")
+    @TestDataPath("$PROJECT_ROOT")
+    @RunWith(JUnit3RunnerWithInners.class)
+    public static class NullCheckOptimization extends AbstractParallelMethodOptimizationBytecodeTextTest {
+        private void runTest(String testDataFilePath) throws Exception {
+            KotlinTestUtils.runTest(this::doTest, TargetBackend.JVM, testDataFilePath);
+        }
+
+        public void testAllFilesPresentInNullCheckOptimization() throws Exception {
+            KotlinTestUtils.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/codegen/bytecodeText/nullCheckOptimization"), Pattern.compile("^(.+)\\.kt$"), null, TargetBackend.JVM, true);
+        }
+
+        @TestMetadata("alreadyCheckedForIs.kt")
+        public void testAlreadyCheckedForIs() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/nullCheckOptimization/alreadyCheckedForIs.kt");
+        }
+
+        @TestMetadata("alreadyCheckedForNull.kt")
+        public void testAlreadyCheckedForNull() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/nullCheckOptimization/alreadyCheckedForNull.kt");
+        }
+
+        @TestMetadata("deterministicNotNullChecks.kt")
+        public void testDeterministicNotNullChecks() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/nullCheckOptimization/deterministicNotNullChecks.kt");
+        }
+
+        @TestMetadata("expressionValueIsNotNull.kt")
+        public void testExpressionValueIsNotNull() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/nullCheckOptimization/expressionValueIsNotNull.kt");
+        }
+
+        @TestMetadata("expressionValueIsNotNullAfterExclExcl.kt")
+        public void testExpressionValueIsNotNullAfterExclExcl() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/nullCheckOptimization/expressionValueIsNotNullAfterExclExcl.kt");
+        }
+
+        @TestMetadata("expressionValueIsNotNullTwice.kt")
+        public void testExpressionValueIsNotNullTwice() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/nullCheckOptimization/expressionValueIsNotNullTwice.kt");
+        }
+
+        @TestMetadata("ifNullEqualsNull.kt")
+        public void testIfNullEqualsNull() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/nullCheckOptimization/ifNullEqualsNull.kt");
+        }
+
+        @TestMetadata("ifNullEqualsNullInline.kt")
+        public void testIfNullEqualsNullInline() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/nullCheckOptimization/ifNullEqualsNullInline.kt");
+        }
+
+        @TestMetadata("ifUnitEqualsNull.kt")
+        public void testIfUnitEqualsNull() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/nullCheckOptimization/ifUnitEqualsNull.kt");
+        }
+
+        @TestMetadata("ifUnitEqualsNullInline.kt")
+        public void testIfUnitEqualsNullInline() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/nullCheckOptimization/ifUnitEqualsNullInline.kt");
+        }
+
+        @TestMetadata("kt12839.kt")
+        public void testKt12839() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/nullCheckOptimization/kt12839.kt");
+        }
+
+        @TestMetadata("multipleExclExcl_1_4.kt")
+        public void testMultipleExclExcl_1_4() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/nullCheckOptimization/multipleExclExcl_1_4.kt");
+        }
+
+        @TestMetadata("notNullAsNotNullable.kt")
+        public void testNotNullAsNotNullable() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/nullCheckOptimization/notNullAsNotNullable.kt");
+        }
+
+        @TestMetadata("notNullExpressionValueTwice_1_4.kt")
+        public void testNotNullExpressionValueTwice_1_4() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/nullCheckOptimization/notNullExpressionValueTwice_1_4.kt");
+        }
+
+        @TestMetadata("nullCheckAfterExclExcl_1_4.kt")
+        public void testNullCheckAfterExclExcl_1_4() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/nullCheckOptimization/nullCheckAfterExclExcl_1_4.kt");
+        }
+
+        @TestMetadata("primitiveCheck.kt")
+        public void testPrimitiveCheck() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/nullCheckOptimization/primitiveCheck.kt");
+        }
+
+        @TestMetadata("redundantSafeCall.kt")
+        public void testRedundantSafeCall() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/nullCheckOptimization/redundantSafeCall.kt");
+        }
+
+        @TestMetadata("redundantSafeCall_1_4.kt")
+        public void testRedundantSafeCall_1_4() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/nullCheckOptimization/redundantSafeCall_1_4.kt");
+        }
+
+        @TestMetadata("reifiedIs.kt")
+        public void testReifiedIs() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/nullCheckOptimization/reifiedIs.kt");
+        }
+
+        @TestMetadata("reifiedNullIs.kt")
+        public void testReifiedNullIs() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/nullCheckOptimization/reifiedNullIs.kt");
+        }
+
+        @TestMetadata("trivialInstanceOf.kt")
+        public void testTrivialInstanceOf() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/nullCheckOptimization/trivialInstanceOf.kt");
+        }
+
+        @TestMetadata("compiler/testData/codegen/bytecodeText/nullCheckOptimization/localLateinit")
+        @TestDataPath("$PROJECT_ROOT")
+        @RunWith(JUnit3RunnerWithInners.class)
+        public static class LocalLateinit extends AbstractParallelMethodOptimizationBytecodeTextTest {
+            private void runTest(String testDataFilePath) throws Exception {
+                KotlinTestUtils.runTest(this::doTest, TargetBackend.JVM, testDataFilePath);
+            }
+
+            public void testAllFilesPresentInLocalLateinit() throws Exception {
+                KotlinTestUtils.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/codegen/bytecodeText/nullCheckOptimization/localLateinit"), Pattern.compile("^(.+)\\.kt$"), null, TargetBackend.JVM, true);
+            }
+
+            @TestMetadata("checkedAlways.kt")
+            public void testCheckedAlways() throws Exception {
+                runTest("compiler/testData/codegen/bytecodeText/nullCheckOptimization/localLateinit/checkedAlways.kt");
+            }
+
+            @TestMetadata("checkedOnce.kt")
+            public void testCheckedOnce() throws Exception {
+                runTest("compiler/testData/codegen/bytecodeText/nullCheckOptimization/localLateinit/checkedOnce.kt");
+            }
+
+            @TestMetadata("initialized.kt")
+            public void testInitialized() throws Exception {
+                runTest("compiler/testData/codegen/bytecodeText/nullCheckOptimization/localLateinit/initialized.kt");
+            }
+        }
+    }
+
+    @TestMetadata("compiler/testData/codegen/bytecodeText/storeStackBeforeInline")
+    @TestDataPath("$PROJECT_ROOT")
+    @RunWith(JUnit3RunnerWithInners.class)
+    public static class StoreStackBeforeInline extends AbstractParallelMethodOptimizationBytecodeTextTest {
+        private void runTest(String testDataFilePath) throws Exception {
+            KotlinTestUtils.runTest(this::doTest, TargetBackend.JVM, testDataFilePath);
+        }
+
+        public void testAllFilesPresentInStoreStackBeforeInline() throws Exception {
+            KotlinTestUtils.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/codegen/bytecodeText/storeStackBeforeInline"), Pattern.compile("^(.+)\\.kt$"), null, TargetBackend.JVM, true);
+        }
+
+        @TestMetadata("differentTypes.kt")
+        public void testDifferentTypes() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/storeStackBeforeInline/differentTypes.kt");
+        }
+
+        @TestMetadata("primitiveMerge.kt")
+        public void testPrimitiveMerge() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/storeStackBeforeInline/primitiveMerge.kt");
+        }
+
+        @TestMetadata("simple.kt")
+        public void testSimple() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/storeStackBeforeInline/simple.kt");
+        }
+
+        @TestMetadata("unreachableMarker.kt")
+        public void testUnreachableMarker() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/storeStackBeforeInline/unreachableMarker.kt");
+        }
+
+        @TestMetadata("withLambda.kt")
+        public void testWithLambda() throws Exception {
+            runTest("compiler/testData/codegen/bytecodeText/storeStackBeforeInline/withLambda.kt");
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.codegen
+
+import org.jetbrains.kotlin.config.JVMConfigurationKeys
+import org.jetbrains.kotlin.test.ConfigurationKind
+import org.jetbrains.kotlin.test.KotlinTestUtils
+import java.io.File
+
+class PersistentInlineFunctionCacheTest : CodegenTestCase() {
+    fun testSameClassFilesAsWithoutCache() {
+        createEnvironmentWithMockJdkAndIdeaAnnotations(ConfigurationKind.ALL)
+        loadText(
+            """
+                fun collections(list: List<String?>): Map<Int, List<String>> =
+                    list.filterNotNull().map { it.trim() }.filter { it.isNotEmpty() }.groupBy { it.length }
+
+                fun strings(s: String) = buildString {
+                    repeat(3) { append(s.takeWhile { it != ' ' }) }
+                }
+
+                fun <T> lazyValue(f: () -> T) = lazy { synchronized(f) { f() } }
+            """
+        )
+
+        val cacheDirectory = KotlinTestUtils.tmpDirForTest(this)
+        val expected = compile(null)
+        val withEmptyCache = compile(cacheDirectory)
+        assertTrue("Cache directory is empty", cacheDirectory.listFiles().orEmpty().isNotEmpty())
+        val withFilledCache = compile(cacheDirectory)
+
+        for (actual in listOf(withEmptyCache, withFilledCache)) {
+            assertEquals(expected.keys, actual.keys)
+            for ((path, bytes) in expected) {
+                assertTrue("Class file differs: $path", bytes.contentEquals(actual.getValue(path)))
+            }
+        }
+    }
+
+    private fun compile(cacheDirectory: File?): Map<String, ByteArray> {
+        val configuration = myEnvironment.configuration.copy()
+        cacheDirectory?.let { configuration.put(JVMConfigurationKeys.INLINE_FUNCTION_CACHE_DIRECTORY, it) }
+        val state = GenerationUtils.compileFiles(
+            myFiles.psiFiles, configuration, ClassBuilderFactories.BINARIES, myEnvironment::createPackagePartProvider
+        )
+        return state.factory.asList().associate { it.relativePath to it.asByteArray() }
+    }
+}
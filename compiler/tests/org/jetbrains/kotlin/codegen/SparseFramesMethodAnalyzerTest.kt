@@ -0,0 +1,81 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.codegen
+
+import org.jetbrains.kotlin.codegen.optimization.common.MethodAnalyzer
+import org.jetbrains.kotlin.codegen.optimization.common.OptimizationBasicInterpreter
+import org.jetbrains.kotlin.codegen.optimization.nullCheck.NullabilityInterpreter
+import org.jetbrains.kotlin.test.ConfigurationKind
+import org.jetbrains.org.objectweb.asm.ClassReader
+import org.jetbrains.org.objectweb.asm.tree.ClassNode
+
+class SparseFramesMethodAnalyzerTest : CodegenTestCase() {
+    fun testSparseFramesAreSameAsDenseFrames() {
+        createEnvironmentWithMockJdkAndIdeaAnnotations(ConfigurationKind.ALL)
+        loadText(
+            """
+                class A(var x: Int?) {
+                    fun loops(list: List<String>): Int {
+                        var result = 0
+                        for (s in list) {
+                            if (s.isEmpty()) continue
+                            var i = 0
+                            while (i < s.length) {
+                                if (s[i] == '!') break
+                                result += i++
+                            }
+                        }
+                        return result
+                    }
+
+                    fun exceptions(s: String?): String {
+                        try {
+                            return s!!.substring(1)
+                        } catch (e: IndexOutOfBoundsException) {
+                            return "index"
+                        } catch (e: Exception) {
+                            throw IllegalStateException(e)
+                        } finally {
+                            x = null
+                        }
+                    }
+
+                    fun switches(a: Any?, i: Int): Any? = when (i) {
+                        0 -> a
+                        1, 2 -> when (a) {
+                            is String -> a.length
+                            is Int -> a + (x ?: 0)
+                            else -> null
+                        }
+                        100 -> listOf(a, i).map { it.toString() }
+                        else -> throw AssertionError(i)
+                    }
+                }
+            """
+        )
+
+        val classFileFactory = generateClassesInFile()
+        // Interpreters used with sparse frames by FixStackAnalyzer and RedundantNullCheckMethodTransformer
+        val interpreters = listOf(OptimizationBasicInterpreter(), NullabilityInterpreter(classFileFactory.generationState))
+        for (outputFile in classFileFactory.asList()) {
+            if (!outputFile.relativePath.endsWith(".class")) continue
+            val classNode = ClassNode()
+            ClassReader(outputFile.asByteArray()).accept(classNode, ClassReader.SKIP_FRAMES)
+            for (method in classNode.methods) {
+                for (interpreter in interpreters) {
+                    val dense = MethodAnalyzer(classNode.name, method, interpreter).apply { analyze() }
+                    val sparse = MethodAnalyzer(classNode.name, method, interpreter, sparseFrames = true).apply { analyze() }
+
+                    val expected = dense.allFrames.map { it?.toString() }
+                    assertEquals("${classNode.name}.${method.name}", expected, sparse.allFrames.map { it?.toString() })
+                    // Frames requested in reverse order are recomputed from the block entries
+                    val recomputedInReverseOrder = expected.indices.reversed().map { sparse.getFrame(it)?.toString() }.reversed()
+                    assertEquals("${classNode.name}.${method.name}", expected, recomputedInReverseOrder)
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,306 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.codegen.ir;
+
+import com.intellij.testFramework.TestDataPath;
+import org.jetbrains.kotlin.test.JUnit3RunnerWithInners;
+import org.jetbrains.kotlin.test.KotlinTestUtils;
+import org.jetbrains.kotlin.test.TargetBackend;
+import org.jetbrains.kotlin.test.TestMetadata;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.util.regex.Pattern;
+
+/** This class is generated by {@link org.jetbrains.kotlin.generators.tests.TestsPackage}. DO NOT MODIFY MANUALLY */
+@SuppressWarnings("all")
+@RunWith(JUnit3RunnerWithInners.class)
+public class FirLightTreeBlackBoxCodegenTestGenerated extends AbstractFirLightTreeBlackBoxCodegenTest {
+    @TestMetadata("compiler/testData/codegen/box/jvmName")
+    @TestDataPath("$PROJECT_ROOT")
+    @RunWith(JUnit3RunnerWithInners.class)
+    public static class JvmName extends AbstractFirLightTreeBlackBoxCodegenTest {
+        private void runTest(String testDataFilePath) throws Exception {
+            KotlinTestUtils.runTestWithCustomIgnoreDirective(this::doTest, TargetBackend.JVM_IR, testDataFilePath, "// IGNORE_BACKEND_FIR: ");
+        }
+
+        public void testAllFilesPresentInJvmName() throws Exception {
+            KotlinTestUtils.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/codegen/box/jvmName"), Pattern.compile("^(.+)\\.kt$"), null, TargetBackend.JVM_IR, true);
+        }
+
+        @TestMetadata("annotationProperties.kt")
+        public void testAnnotationProperties() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmName/annotationProperties.kt");
+        }
+
+        @TestMetadata("callableReference.kt")
+        public void testCallableReference() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmName/callableReference.kt");
+        }
+
+        @TestMetadata("clashingErasure.kt")
+        public void testClashingErasure() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmName/clashingErasure.kt");
+        }
+
+        @TestMetadata("classMembers.kt")
+        public void testClassMembers() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmName/classMembers.kt");
+        }
+
+        @TestMetadata("fakeJvmNameInJava.kt")
+        public void testFakeJvmNameInJava() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmName/fakeJvmNameInJava.kt");
+        }
+
+        @TestMetadata("functionName.kt")
+        public void testFunctionName() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmName/functionName.kt");
+        }
+
+        @TestMetadata("functionWithDefault.kt")
+        public void testFunctionWithDefault() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmName/functionWithDefault.kt");
+        }
+
+        @TestMetadata("loadJvmName.kt")
+        public void testLoadJvmName() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmName/loadJvmName.kt");
+        }
+
+        @TestMetadata("multifileClass.kt")
+        public void testMultifileClass() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmName/multifileClass.kt");
+        }
+
+        @TestMetadata("multifileClassWithLocalClass.kt")
+        public void testMultifileClassWithLocalClass() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmName/multifileClassWithLocalClass.kt");
+        }
+
+        @TestMetadata("multifileClassWithLocalGeneric.kt")
+        public void testMultifileClassWithLocalGeneric() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmName/multifileClassWithLocalGeneric.kt");
+        }
+
+        @TestMetadata("propertyAccessorsUseSite.kt")
+        public void testPropertyAccessorsUseSite() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmName/propertyAccessorsUseSite.kt");
+        }
+
+        @TestMetadata("propertyName.kt")
+        public void testPropertyName() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmName/propertyName.kt");
+        }
+
+        @TestMetadata("propertySyntheticMethod.kt")
+        public void testPropertySyntheticMethod() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmName/propertySyntheticMethod.kt");
+        }
+
+        @TestMetadata("renamedFileClass.kt")
+        public void testRenamedFileClass() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmName/renamedFileClass.kt");
+        }
+
+        @TestMetadata("compiler/testData/codegen/box/jvmName/fileFacades")
+        @TestDataPath("$PROJECT_ROOT")
+        @RunWith(JUnit3RunnerWithInners.class)
+        public static class FileFacades extends AbstractFirLightTreeBlackBoxCodegenTest {
+            private void runTest(String testDataFilePath) throws Exception {
+                KotlinTestUtils.runTestWithCustomIgnoreDirective(this::doTest, TargetBackend.JVM_IR, testDataFilePath, "// IGNORE_BACKEND_FIR: ");
+            }
+
+            public void testAllFilesPresentInFileFacades() throws Exception {
+                KotlinTestUtils.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/codegen/box/jvmName/fileFacades"), Pattern.compile("^(.+)\\.kt$"), null, TargetBackend.JVM_IR, true);
+            }
+
+            @TestMetadata("differentFiles.kt")
+            public void testDifferentFiles() throws Exception {
+                runTest("compiler/testData/codegen/box/jvmName/fileFacades/differentFiles.kt");
+            }
+
+            @TestMetadata("javaAnnotationOnFileFacade.kt")
+            public void testJavaAnnotationOnFileFacade() throws Exception {
+                runTest("compiler/testData/codegen/box/jvmName/fileFacades/javaAnnotationOnFileFacade.kt");
+            }
+
+            @TestMetadata("simple.kt")
+            public void testSimple() throws Exception {
+                runTest("compiler/testData/codegen/box/jvmName/fileFacades/simple.kt");
+            }
+        }
+    }
+
+    @TestMetadata("compiler/testData/codegen/box/jvmPackageName")
+    @TestDataPath("$PROJECT_ROOT")
+    @RunWith(JUnit3RunnerWithInners.class)
+    public static class JvmPackageName extends AbstractFirLightTreeBlackBoxCodegenTest {
+        private void runTest(String testDataFilePath) throws Exception {
+            KotlinTestUtils.runTestWithCustomIgnoreDirective(this::doTest, TargetBackend.JVM_IR, testDataFilePath, "// IGNORE_BACKEND_FIR: ");
+        }
+
+        public void testAllFilesPresentInJvmPackageName() throws Exception {
+            KotlinTestUtils.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/codegen/box/jvmPackageName"), Pattern.compile("^(.+)\\.kt$"), null, TargetBackend.JVM_IR, true);
+        }
+
+        @TestMetadata("metadataField.kt")
+        public void testMetadataField() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmPackageName/metadataField.kt");
+        }
+
+        @TestMetadata("multifileClass.kt")
+        public void testMultifileClass() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmPackageName/multifileClass.kt");
+        }
+
+        @TestMetadata("rootPackage.kt")
+        public void testRootPackage() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmPackageName/rootPackage.kt");
+        }
+
+        @TestMetadata("simple.kt")
+        public void testSimple() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmPackageName/simple.kt");
+        }
+
+        @TestMetadata("withJvmName.kt")
+        public void testWithJvmName() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmPackageName/withJvmName.kt");
+        }
+    }
+
+    @TestMetadata("compiler/testData/codegen/box/multifileClasses")
+    @TestDataPath("$PROJECT_ROOT")
+    @RunWith(JUnit3RunnerWithInners.class)
+    public static class MultifileClasses extends AbstractFirLightTreeBlackBoxCodegenTest {
+        private void runTest(String testDataFilePath) throws Exception {
+            KotlinTestUtils.runTestWithCustomIgnoreDirective(this::doTest, TargetBackend.JVM_IR, testDataFilePath, "// IGNORE_BACKEND_FIR: ");
+        }
+
+        public void testAllFilesPresentInMultifileClasses() throws Exception {
+            KotlinTestUtils.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/codegen/box/multifileClasses"), Pattern.compile("^(.+)\\.kt$"), null, TargetBackend.JVM_IR, true);
+        }
+
+        @TestMetadata("callMultifileClassMemberFromOtherPackage.kt")
+        public void testCallMultifileClassMemberFromOtherPackage() throws Exception {
+            runTest("compiler/testData/codegen/box/multifileClasses/callMultifileClassMemberFromOtherPackage.kt");
+        }
+
+        @TestMetadata("callsToMultifileClassFromOtherPackage.kt")
+        public void testCallsToMultifileClassFromOtherPackage() throws Exception {
+            runTest("compiler/testData/codegen/box/multifileClasses/callsToMultifileClassFromOtherPackage.kt");
+        }
+
+        @TestMetadata("constPropertyReferenceFromMultifileClass.kt")
+        public void testConstPropertyReferenceFromMultifileClass() throws Exception {
+            runTest("compiler/testData/codegen/box/multifileClasses/constPropertyReferenceFromMultifileClass.kt");
+        }
+
+        @TestMetadata("genericProperty.kt")
+        public void testGenericProperty() throws Exception {
+            runTest("compiler/testData/codegen/box/multifileClasses/genericProperty.kt");
+        }
+
+        @TestMetadata("inlineMultifileClassMemberFromOtherPackage.kt")
+        public void testInlineMultifileClassMemberFromOtherPackage() throws Exception {
+            runTest("compiler/testData/codegen/box/multifileClasses/inlineMultifileClassMemberFromOtherPackage.kt");
+        }
+
+        @TestMetadata("kt16077.kt")
+        public void testKt16077() throws Exception {
+            runTest("compiler/testData/codegen/box/multifileClasses/kt16077.kt");
+        }
+
+        @TestMetadata("multifileClassPartsInitialization.kt")
+        public void testMultifileClassPartsInitialization() throws Exception {
+            runTest("compiler/testData/codegen/box/multifileClasses/multifileClassPartsInitialization.kt");
+        }
+
+        @TestMetadata("multifileClassWith2Files.kt")
+        public void testMultifileClassWith2Files() throws Exception {
+            runTest("compiler/testData/codegen/box/multifileClasses/multifileClassWith2Files.kt");
+        }
+
+        @TestMetadata("multifileClassWithCrossCall.kt")
+        public void testMultifileClassWithCrossCall() throws Exception {
+            runTest("compiler/testData/codegen/box/multifileClasses/multifileClassWithCrossCall.kt");
+        }
+
+        @TestMetadata("multifileClassWithPrivate.kt")
+        public void testMultifileClassWithPrivate() throws Exception {
+            runTest("compiler/testData/codegen/box/multifileClasses/multifileClassWithPrivate.kt");
+        }
+
+        @TestMetadata("privateConstVal.kt")
+        public void testPrivateConstVal() throws Exception {
+            runTest("compiler/testData/codegen/box/multifileClasses/privateConstVal.kt");
+        }
+
+        @TestMetadata("samePartNameDifferentFacades.kt")
+        public void testSamePartNameDifferentFacades() throws Exception {
+            runTest("compiler/testData/codegen/box/multifileClasses/samePartNameDifferentFacades.kt");
+        }
+
+        @TestMetadata("sealedClassHierarchy.kt")
+        public void testSealedClassHierarchy() throws Exception {
+            runTest("compiler/testData/codegen/box/multifileClasses/sealedClassHierarchy.kt");
+        }
+
+        @TestMetadata("compiler/testData/codegen/box/multifileClasses/optimized")
+        @TestDataPath("$PROJECT_ROOT")
+        @RunWith(JUnit3RunnerWithInners.class)
+        public static class Optimized extends AbstractFirLightTreeBlackBoxCodegenTest {
+            private void runTest(String testDataFilePath) throws Exception {
+                KotlinTestUtils.runTestWithCustomIgnoreDirective(this::doTest, TargetBackend.JVM_IR, testDataFilePath, "// IGNORE_BACKEND_FIR: ");
+            }
+
+            public void testAllFilesPresentInOptimized() throws Exception {
+                KotlinTestUtils.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/codegen/box/multifileClasses/optimized"), Pattern.compile("^(.+)\\.kt$"), null, TargetBackend.JVM_IR, true);
+            }
+
+            @TestMetadata("callInInlineLambda.kt")
+            public void testCallInInlineLambda() throws Exception {
+                runTest("compiler/testData/codegen/box/multifileClasses/optimized/callInInlineLambda.kt");
+            }
+
+            @TestMetadata("callableRefToConstVal.kt")
+            public void testCallableRefToConstVal() throws Exception {
+                runTest("compiler/testData/codegen/box/multifileClasses/optimized/callableRefToConstVal.kt");
+            }
+
+            @TestMetadata("callableRefToFun.kt")
+            public void testCallableRefToFun() throws Exception {
+                runTest("compiler/testData/codegen/box/multifileClasses/optimized/callableRefToFun.kt");
+            }
+
+            @TestMetadata("callableRefToInternalConstValInline.kt")
+            public void testCallableRefToInternalConstValInline() throws Exception {
+                runTest("compiler/testData/codegen/box/multifileClasses/optimized/callableRefToInternalConstValInline.kt");
+            }
+
+            @TestMetadata("callableRefToPrivateConstVal.kt")
+            public void testCallableRefToPrivateConstVal() throws Exception {
+                runTest("compiler/testData/codegen/box/multifileClasses/optimized/callableRefToPrivateConstVal.kt");
+            }
+
+            @TestMetadata("calls.kt")
+            public void testCalls() throws Exception {
+                runTest("compiler/testData/codegen/box/multifileClasses/optimized/calls.kt");
+            }
+
+            @TestMetadata("internalFunction.kt")
+            public void testInternalFunction() throws Exception {
+                runTest("compiler/testData/codegen/box/multifileClasses/optimized/internalFunction.kt");
+            }
+
+            @TestMetadata("overlappingFuns.kt")
+            public void testOverlappingFuns() throws Exception {
+                runTest("compiler/testData/codegen/box/multifileClasses/optimized/overlappingFuns.kt");
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.codegen.ir
+
+import com.intellij.psi.impl.source.PsiFileImpl
+import org.jetbrains.kotlin.cli.common.config.addKotlinSourceRoot
+import org.jetbrains.kotlin.cli.jvm.compiler.EnvironmentConfigFiles
+import org.jetbrains.kotlin.cli.jvm.compiler.KotlinCoreEnvironment
+import org.jetbrains.kotlin.codegen.GenerationUtils
+import org.jetbrains.kotlin.config.CommonConfigurationKeys
+import org.jetbrains.kotlin.config.JVMConfigurationKeys
+import org.jetbrains.kotlin.test.ConfigurationKind
+import org.jetbrains.kotlin.test.KotlinTestUtils
+import org.jetbrains.kotlin.test.TestCaseWithTmpdir
+import org.jetbrains.kotlin.test.TestJdkKind
+import org.jetbrains.org.objectweb.asm.ClassReader
+import org.jetbrains.org.objectweb.asm.ClassVisitor
+import org.jetbrains.org.objectweb.asm.Label
+import org.jetbrains.org.objectweb.asm.MethodVisitor
+import org.jetbrains.org.objectweb.asm.Opcodes
+import java.io.File
+
+class FirLightTreeCompilationTest : TestCaseWithTmpdir() {
+    fun testSyntaxTreesAreNotBuilt() {
+        val environment = createEnvironment(useLightTree = true)
+        val files = environment.getSourceFiles()
+        GenerationUtils.compileFiles(files, environment)
+
+        for (file in files) {
+            assertNull("Syntax tree of ${file.name} is built", (file as PsiFileImpl).treeElement)
+        }
+    }
+
+    fun testSameLineNumbersAsWithPsi() {
+        val expected = compileAndReadLineNumbers(useLightTree = false)
+        val actual = compileAndReadLineNumbers(useLightTree = true)
+
+        assertEquals(expected.keys, actual.keys)
+        assertTrue("No line numbers in A.foo", actual.getValue("test/A.foo").isNotEmpty())
+        for ((method, lines) in expected) {
+            assertEquals("Line numbers of $method", lines, actual.getValue(method))
+        }
+    }
+
+    private fun createEnvironment(useLightTree: Boolean): KotlinCoreEnvironment {
+        val sourceFile = File(tmpdir, "source.kt").apply { if (!exists()) writeText(SOURCE) }
+        val configuration = KotlinTestUtils.newConfiguration(ConfigurationKind.JDK_ONLY, TestJdkKind.MOCK_JDK).apply {
+            put(CommonConfigurationKeys.USE_FIR, true)
+            put(JVMConfigurationKeys.IR, true)
+            put(JVMConfigurationKeys.USE_LIGHT_TREE, useLightTree)
+            addKotlinSourceRoot(sourceFile.path)
+        }
+        return KotlinCoreEnvironment.createForTests(testRootDisposable, configuration, EnvironmentConfigFiles.JVM_CONFIG_FILES)
+    }
+
+    // Distinct line numbers of each method, by the name of its class and its own name
+    private fun compileAndReadLineNumbers(useLightTree: Boolean): Map<String, Set<Int>> {
+        val environment = createEnvironment(useLightTree)
+        val state = GenerationUtils.compileFiles(environment.getSourceFiles(), environment)
+
+        val result = sortedMapOf<String, MutableSet<Int>>()
+        for (outputFile in state.factory.asList()) {
+            if (!outputFile.relativePath.endsWith(".class")) continue
+            ClassReader(outputFile.asByteArray()).accept(object : ClassVisitor(Opcodes.API_VERSION) {
+                private lateinit var className: String
+
+                override fun visit(
+                    version: Int, access: Int, name: String, signature: String?, superName: String?, interfaces: Array<String>?
+                ) {
+                    className = name
+                }
+
+                override fun visitMethod(
+                    access: Int, name: String, desc: String, signature: String?, exceptions: Array<String>?
+                ): MethodVisitor {
+                    val lines = result.getOrPut("$className.$name") { sortedSetOf() }
+                    return object : MethodVisitor(Opcodes.API_VERSION) {
+                        override fun visitLineNumber(line: Int, start: Label) {
+                            lines += line
+                        }
+                    }
+                }
+            }, ClassReader.SKIP_FRAMES)
+        }
+        return result
+    }
+
+    private companion object {
+        // Function bodies and lambdas are parsed into light trees of their own, their offsets are shifted to the file
+        val SOURCE = """
+            package test
+
+            // A comment before the class
+            class A(val x: Int) {
+                fun foo(y: Int): Int {
+                    var s = x
+                    while (s < y) {
+                        s += 2
+                    }
+                    return when {
+                        s > 10 -> bar(s)
+                        else -> s
+                    }
+                }
+
+                /** KDoc before the function */
+                fun bar(z: Int) =
+                    z * 2
+            }
+
+            fun baz(a: A): Int {
+                val f = { y: Int ->
+                    a.foo(y)
+                }
+                return f(3)
+            }
+        """.trimIndent()
+    }
+}
@@ -0,0 +1,730 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.codegen.ir;
+
+import com.intellij.testFramework.TestDataPath;
+import org.jetbrains.kotlin.test.JUnit3RunnerWithInners;
+import org.jetbrains.kotlin.test.KotlinTestUtils;
+import org.jetbrains.kotlin.test.TargetBackend;
+import org.jetbrains.kotlin.test.TestMetadata;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.util.regex.Pattern;
+
+/** This class is generated by {@link org.jetbrains.kotlin.generators.tests.TestsPackage}. DO NOT MODIFY MANUALLY */
+@SuppressWarnings("all")
+@RunWith(JUnit3RunnerWithInners.class)
+public class IrParallelBlackBoxCodegenTestGenerated extends AbstractIrParallelBlackBoxCodegenTest {
+    @TestMetadata("compiler/testData/codegen/box/coroutines/multiModule")
+    @TestDataPath("$PROJECT_ROOT")
+    @RunWith(JUnit3RunnerWithInners.class)
+    public static class MultiModule extends AbstractIrParallelBlackBoxCodegenTest {
+        private void runTest(String testDataFilePath) throws Exception {
+            KotlinTestUtils.runTest(this::doTest, TargetBackend.JVM_IR, testDataFilePath);
+        }
+
+        private void runTestWithPackageReplacement(String testDataFilePath, String packageName) throws Exception {
+            KotlinTestUtils.runTest(filePath -> doTestWithCoroutinesPackageReplacement(filePath, packageName), TargetBackend.JVM_IR, testDataFilePath);
+        }
+
+        public void testAllFilesPresentInMultiModule() throws Exception {
+            KotlinTestUtils.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/codegen/box/coroutines/multiModule"), Pattern.compile("^(.+)\\.kt$"), null, TargetBackend.JVM_IR, true);
+        }
+
+        @TestMetadata("inlineCrossModule.kt")
+        public void testInlineCrossModule_1_3() throws Exception {
+            runTestWithPackageReplacement("compiler/testData/codegen/box/coroutines/multiModule/inlineCrossModule.kt", "kotlin.coroutines");
+        }
+
+        @TestMetadata("inlineFunctionWithOptionalParam.kt")
+        public void testInlineFunctionWithOptionalParam_1_3() throws Exception {
+            runTestWithPackageReplacement("compiler/testData/codegen/box/coroutines/multiModule/inlineFunctionWithOptionalParam.kt", "kotlin.coroutines");
+        }
+
+        @TestMetadata("inlineMultiModuleOverride.kt")
+        public void testInlineMultiModuleOverride_1_3() throws Exception {
+            runTestWithPackageReplacement("compiler/testData/codegen/box/coroutines/multiModule/inlineMultiModuleOverride.kt", "kotlin.coroutines");
+        }
+
+        @TestMetadata("inlineMultiModuleWithController.kt")
+        public void testInlineMultiModuleWithController_1_3() throws Exception {
+            runTestWithPackageReplacement("compiler/testData/codegen/box/coroutines/multiModule/inlineMultiModuleWithController.kt", "kotlin.coroutines");
+        }
+
+        @TestMetadata("inlineMultiModuleWithInnerInlining.kt")
+        public void testInlineMultiModuleWithInnerInlining_1_3() throws Exception {
+            runTestWithPackageReplacement("compiler/testData/codegen/box/coroutines/multiModule/inlineMultiModuleWithInnerInlining.kt", "kotlin.coroutines");
+        }
+
+        @TestMetadata("inlineMultiModule.kt")
+        public void testInlineMultiModule_1_3() throws Exception {
+            runTestWithPackageReplacement("compiler/testData/codegen/box/coroutines/multiModule/inlineMultiModule.kt", "kotlin.coroutines");
+        }
+
+        @TestMetadata("inlineTailCall.kt")
+        public void testInlineTailCall_1_3() throws Exception {
+            runTestWithPackageReplacement("compiler/testData/codegen/box/coroutines/multiModule/inlineTailCall.kt", "kotlin.coroutines");
+        }
+
+        @TestMetadata("inlineWithJava.kt")
+        public void testInlineWithJava() throws Exception {
+            runTest("compiler/testData/codegen/box/coroutines/multiModule/inlineWithJava.kt");
+        }
+
+        @TestMetadata("simple.kt")
+        public void testSimple_1_3() throws Exception {
+            runTestWithPackageReplacement("compiler/testData/codegen/box/coroutines/multiModule/simple.kt", "kotlin.coroutines");
+        }
+    }
+
+    @TestMetadata("compiler/testData/codegen/box/jvmPackageName")
+    @TestDataPath("$PROJECT_ROOT")
+    @RunWith(JUnit3RunnerWithInners.class)
+    public static class JvmPackageName extends AbstractIrParallelBlackBoxCodegenTest {
+        private void runTest(String testDataFilePath) throws Exception {
+            KotlinTestUtils.runTest(this::doTest, TargetBackend.JVM_IR, testDataFilePath);
+        }
+
+        public void testAllFilesPresentInJvmPackageName() throws Exception {
+            KotlinTestUtils.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/codegen/box/jvmPackageName"), Pattern.compile("^(.+)\\.kt$"), null, TargetBackend.JVM_IR, true);
+        }
+
+        @TestMetadata("metadataField.kt")
+        public void testMetadataField() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmPackageName/metadataField.kt");
+        }
+
+        @TestMetadata("multifileClass.kt")
+        public void testMultifileClass() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmPackageName/multifileClass.kt");
+        }
+
+        @TestMetadata("rootPackage.kt")
+        public void testRootPackage() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmPackageName/rootPackage.kt");
+        }
+
+        @TestMetadata("simple.kt")
+        public void testSimple() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmPackageName/simple.kt");
+        }
+
+        @TestMetadata("withJvmName.kt")
+        public void testWithJvmName() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmPackageName/withJvmName.kt");
+        }
+    }
+
+    @TestMetadata("compiler/testData/codegen/box/jvmStatic")
+    @TestDataPath("$PROJECT_ROOT")
+    @RunWith(JUnit3RunnerWithInners.class)
+    public static class JvmStatic extends AbstractIrParallelBlackBoxCodegenTest {
+        private void runTest(String testDataFilePath) throws Exception {
+            KotlinTestUtils.runTest(this::doTest, TargetBackend.JVM_IR, testDataFilePath);
+        }
+
+        public void testAllFilesPresentInJvmStatic() throws Exception {
+            KotlinTestUtils.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/codegen/box/jvmStatic"), Pattern.compile("^(.+)\\.kt$"), null, TargetBackend.JVM_IR, true);
+        }
+
+        @TestMetadata("annotations.kt")
+        public void testAnnotations() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmStatic/annotations.kt");
+        }
+
+        @TestMetadata("closure.kt")
+        public void testClosure() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmStatic/closure.kt");
+        }
+
+        @TestMetadata("companionObject.kt")
+        public void testCompanionObject() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmStatic/companionObject.kt");
+        }
+
+        @TestMetadata("convention.kt")
+        public void testConvention() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmStatic/convention.kt");
+        }
+
+        @TestMetadata("default.kt")
+        public void testDefault() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmStatic/default.kt");
+        }
+
+        @TestMetadata("defaultCrossFile.kt")
+        public void testDefaultCrossFile() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmStatic/defaultCrossFile.kt");
+        }
+
+        @TestMetadata("enumCompanion.kt")
+        public void testEnumCompanion() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmStatic/enumCompanion.kt");
+        }
+
+        @TestMetadata("explicitObject.kt")
+        public void testExplicitObject() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmStatic/explicitObject.kt");
+        }
+
+        @TestMetadata("funAccess.kt")
+        public void testFunAccess() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmStatic/funAccess.kt");
+        }
+
+        @TestMetadata("importStaticMemberFromObject.kt")
+        public void testImportStaticMemberFromObject() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmStatic/importStaticMemberFromObject.kt");
+        }
+
+        @TestMetadata("inline.kt")
+        public void testInline() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmStatic/inline.kt");
+        }
+
+        @TestMetadata("inlinePropertyAccessors.kt")
+        public void testInlinePropertyAccessors() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmStatic/inlinePropertyAccessors.kt");
+        }
+
+        @TestMetadata("interfaceCompanion.kt")
+        public void testInterfaceCompanion() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmStatic/interfaceCompanion.kt");
+        }
+
+        @TestMetadata("kt21246.kt")
+        public void testKt21246() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmStatic/kt21246.kt");
+        }
+
+        @TestMetadata("kt21246a.kt")
+        public void testKt21246a() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmStatic/kt21246a.kt");
+        }
+
+        @TestMetadata("kt9897_static.kt")
+        public void testKt9897_static() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmStatic/kt9897_static.kt");
+        }
+
+        @TestMetadata("object.kt")
+        public void testObject() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmStatic/object.kt");
+        }
+
+        @TestMetadata("postfixInc.kt")
+        public void testPostfixInc() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmStatic/postfixInc.kt");
+        }
+
+        @TestMetadata("prefixInc.kt")
+        public void testPrefixInc() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmStatic/prefixInc.kt");
+        }
+
+        @TestMetadata("privateMethod.kt")
+        public void testPrivateMethod() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmStatic/privateMethod.kt");
+        }
+
+        @TestMetadata("privateSetter.kt")
+        public void testPrivateSetter() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmStatic/privateSetter.kt");
+        }
+
+        @TestMetadata("propertyAccess.kt")
+        public void testPropertyAccess() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmStatic/propertyAccess.kt");
+        }
+
+        @TestMetadata("propertyAccessorsCompanion.kt")
+        public void testPropertyAccessorsCompanion() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmStatic/propertyAccessorsCompanion.kt");
+        }
+
+        @TestMetadata("propertyAccessorsObject.kt")
+        public void testPropertyAccessorsObject() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmStatic/propertyAccessorsObject.kt");
+        }
+
+        @TestMetadata("propertyAsDefault.kt")
+        public void testPropertyAsDefault() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmStatic/propertyAsDefault.kt");
+        }
+
+        @TestMetadata("propertyGetterDelegatesToAnother.kt")
+        public void testPropertyGetterDelegatesToAnother() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmStatic/propertyGetterDelegatesToAnother.kt");
+        }
+
+        @TestMetadata("simple.kt")
+        public void testSimple() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmStatic/simple.kt");
+        }
+
+        @TestMetadata("syntheticAccessor.kt")
+        public void testSyntheticAccessor() throws Exception {
+            runTest("compiler/testData/codegen/box/jvmStatic/syntheticAccessor.kt");
+        }
+    }
+
+    @TestMetadata("compiler/testData/codegen/box/multifileClasses")
+    @TestDataPath("$PROJECT_ROOT")
+    @RunWith(JUnit3RunnerWithInners.class)
+    public static class MultifileClasses extends AbstractIrParallelBlackBoxCodegenTest {
+        private void runTest(String testDataFilePath) throws Exception {
+            KotlinTestUtils.runTest(this::doTest, TargetBackend.JVM_IR, testDataFilePath);
+        }
+
+        public void testAllFilesPresentInMultifileClasses() throws Exception {
+            KotlinTestUtils.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/codegen/box/multifileClasses"), Pattern.compile("^(.+)\\.kt$"), null, TargetBackend.JVM_IR, true);
+        }
+
+        @TestMetadata("callMultifileClassMemberFromOtherPackage.kt")
+        public void testCallMultifileClassMemberFromOtherPackage() throws Exception {
+            runTest("compiler/testData/codegen/box/multifileClasses/callMultifileClassMemberFromOtherPackage.kt");
+        }
+
+        @TestMetadata("callsToMultifileClassFromOtherPackage.kt")
+        public void testCallsToMultifileClassFromOtherPackage() throws Exception {
+            runTest("compiler/testData/codegen/box/multifileClasses/callsToMultifileClassFromOtherPackage.kt");
+        }
+
+        @TestMetadata("constPropertyReferenceFromMultifileClass.kt")
+        public void testConstPropertyReferenceFromMultifileClass() throws Exception {
+            runTest("compiler/testData/codegen/box/multifileClasses/constPropertyReferenceFromMultifileClass.kt");
+        }
+
+        @TestMetadata("genericProperty.kt")
+        public void testGenericProperty() throws Exception {
+            runTest("compiler/testData/codegen/box/multifileClasses/genericProperty.kt");
+        }
+
+        @TestMetadata("inlineMultifileClassMemberFromOtherPackage.kt")
+        public void testInlineMultifileClassMemberFromOtherPackage() throws Exception {
+            runTest("compiler/testData/codegen/box/multifileClasses/inlineMultifileClassMemberFromOtherPackage.kt");
+        }
+
+        @TestMetadata("kt16077.kt")
+        public void testKt16077() throws Exception {
+            runTest("compiler/testData/codegen/box/multifileClasses/kt16077.kt");
+        }
+
+        @TestMetadata("multifileClassPartsInitialization.kt")
+        public void testMultifileClassPartsInitialization() throws Exception {
+            runTest("compiler/testData/codegen/box/multifileClasses/multifileClassPartsInitialization.kt");
+        }
+
+        @TestMetadata("multifileClassWith2Files.kt")
+        public void testMultifileClassWith2Files() throws Exception {
+            runTest("compiler/testData/codegen/box/multifileClasses/multifileClassWith2Files.kt");
+        }
+
+        @TestMetadata("multifileClassWithCrossCall.kt")
+        public void testMultifileClassWithCrossCall() throws Exception {
+            runTest("compiler/testData/codegen/box/multifileClasses/multifileClassWithCrossCall.kt");
+        }
+
+        @TestMetadata("multifileClassWithPrivate.kt")
+        public void testMultifileClassWithPrivate() throws Exception {
+            runTest("compiler/testData/codegen/box/multifileClasses/multifileClassWithPrivate.kt");
+        }
+
+        @TestMetadata("privateConstVal.kt")
+        public void testPrivateConstVal() throws Exception {
+            runTest("compiler/testData/codegen/box/multifileClasses/privateConstVal.kt");
+        }
+
+        @TestMetadata("samePartNameDifferentFacades.kt")
+        public void testSamePartNameDifferentFacades() throws Exception {
+            runTest("compiler/testData/codegen/box/multifileClasses/samePartNameDifferentFacades.kt");
+        }
+
+        @TestMetadata("sealedClassHierarchy.kt")
+        public void testSealedClassHierarchy() throws Exception {
+            runTest("compiler/testData/codegen/box/multifileClasses/sealedClassHierarchy.kt");
+        }
+
+        @TestMetadata("compiler/testData/codegen/box/multifileClasses/optimized")
+        @TestDataPath("$PROJECT_ROOT")
+        @RunWith(JUnit3RunnerWithInners.class)
+        public static class Optimized extends AbstractIrParallelBlackBoxCodegenTest {
+            private void runTest(String testDataFilePath) throws Exception {
+                KotlinTestUtils.runTest(this::doTest, TargetBackend.JVM_IR, testDataFilePath);
+            }
+
+            public void testAllFilesPresentInOptimized() throws Exception {
+                KotlinTestUtils.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/codegen/box/multifileClasses/optimized"), Pattern.compile("^(.+)\\.kt$"), null, TargetBackend.JVM_IR, true);
+            }
+
+            @TestMetadata("callInInlineLambda.kt")
+            public void testCallInInlineLambda() throws Exception {
+                runTest("compiler/testData/codegen/box/multifileClasses/optimized/callInInlineLambda.kt");
+            }
+
+            @TestMetadata("callableRefToConstVal.kt")
+            public void testCallableRefToConstVal() throws Exception {
+                runTest("compiler/testData/codegen/box/multifileClasses/optimized/callableRefToConstVal.kt");
+            }
+
+            @TestMetadata("callableRefToFun.kt")
+            public void testCallableRefToFun() throws Exception {
+                runTest("compiler/testData/codegen/box/multifileClasses/optimized/callableRefToFun.kt");
+            }
+
+            @TestMetadata("callableRefToInternalConstValInline.kt")
+            public void testCallableRefToInternalConstValInline() throws Exception {
+                runTest("compiler/testData/codegen/box/multifileClasses/optimized/callableRefToInternalConstValInline.kt");
+            }
+
+            @TestMetadata("callableRefToPrivateConstVal.kt")
+            public void testCallableRefToPrivateConstVal() throws Exception {
+                runTest("compiler/testData/codegen/box/multifileClasses/optimized/callableRefToPrivateConstVal.kt");
+            }
+
+            @TestMetadata("calls.kt")
+            public void testCalls() throws Exception {
+                runTest("compiler/testData/codegen/box/multifileClasses/optimized/calls.kt");
+            }
+
+            @TestMetadata("internalFunction.kt")
+            public void testInternalFunction() throws Exception {
+                runTest("compiler/testData/codegen/box/multifileClasses/optimized/internalFunction.kt");
+            }
+
+            @TestMetadata("overlappingFuns.kt")
+            public void testOverlappingFuns() throws Exception {
+                runTest("compiler/testData/codegen/box/multifileClasses/optimized/overlappingFuns.kt");
+            }
+        }
+    }
+
+    @TestMetadata("compiler/testData/codegen/box/properties/lateinit")
+    @TestDataPath("$PROJECT_ROOT")
+    @RunWith(JUnit3RunnerWithInners.class)
+    public static class Lateinit extends AbstractIrParallelBlackBoxCodegenTest {
+        private void runTest(String testDataFilePath) throws Exception {
+            KotlinTestUtils.runTest(this::doTest, TargetBackend.JVM_IR, testDataFilePath);
+        }
+
+        @TestMetadata("accessor.kt")
+        public void testAccessor() throws Exception {
+            runTest("compiler/testData/codegen/box/properties/lateinit/accessor.kt");
+        }
+
+        @TestMetadata("accessorException.kt")
+        public void testAccessorException() throws Exception {
+            runTest("compiler/testData/codegen/box/properties/lateinit/accessorException.kt");
+        }
+
+        @TestMetadata("accessorExceptionPublic.kt")
+        public void testAccessorExceptionPublic() throws Exception {
+            runTest("compiler/testData/codegen/box/properties/lateinit/accessorExceptionPublic.kt");
+        }
+
+        public void testAllFilesPresentInLateinit() throws Exception {
+            KotlinTestUtils.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/codegen/box/properties/lateinit"), Pattern.compile("^(.+)\\.kt$"), null, TargetBackend.JVM_IR, true);
+        }
+
+        @TestMetadata("exceptionField.kt")
+        public void testExceptionField() throws Exception {
+            runTest("compiler/testData/codegen/box/properties/lateinit/exceptionField.kt");
+        }
+
+        @TestMetadata("exceptionGetter.kt")
+        public void testExceptionGetter() throws Exception {
+            runTest("compiler/testData/codegen/box/properties/lateinit/exceptionGetter.kt");
+        }
+
+        @TestMetadata("nameClash.kt")
+        public void testNameClash() throws Exception {
+            runTest("compiler/testData/codegen/box/properties/lateinit/nameClash.kt");
+        }
+
+        @TestMetadata("override.kt")
+        public void testOverride() throws Exception {
+            runTest("compiler/testData/codegen/box/properties/lateinit/override.kt");
+        }
+
+        @TestMetadata("overrideException.kt")
+        public void testOverrideException() throws Exception {
+            runTest("compiler/testData/codegen/box/properties/lateinit/overrideException.kt");
+        }
+
+        @TestMetadata("privateSetter.kt")
+        public void testPrivateSetter() throws Exception {
+            runTest("compiler/testData/codegen/box/properties/lateinit/privateSetter.kt");
+        }
+
+        @TestMetadata("privateSetterFromLambda.kt")
+        public void testPrivateSetterFromLambda() throws Exception {
+            runTest("compiler/testData/codegen/box/properties/lateinit/privateSetterFromLambda.kt");
+        }
+
+        @TestMetadata("privateSetterViaSubclass.kt")
+        public void testPrivateSetterViaSubclass() throws Exception {
+            runTest("compiler/testData/codegen/box/properties/lateinit/privateSetterViaSubclass.kt");
+        }
+
+        @TestMetadata("simpleVar.kt")
+        public void testSimpleVar() throws Exception {
+            runTest("compiler/testData/codegen/box/properties/lateinit/simpleVar.kt");
+        }
+
+        @TestMetadata("visibility.kt")
+        public void testVisibility() throws Exception {
+            runTest("compiler/testData/codegen/box/properties/lateinit/visibility.kt");
+        }
+
+        @TestMetadata("compiler/testData/codegen/box/properties/lateinit/isInitializedAndDeinitialize")
+        @TestDataPath("$PROJECT_ROOT")
+        @RunWith(JUnit3RunnerWithInners.class)
+        public static class IsInitializedAndDeinitialize extends AbstractIrParallelBlackBoxCodegenTest {
+            private void runTest(String testDataFilePath) throws Exception {
+                KotlinTestUtils.runTest(this::doTest, TargetBackend.JVM_IR, testDataFilePath);
+            }
+
+            public void testAllFilesPresentInIsInitializedAndDeinitialize() throws Exception {
+                KotlinTestUtils.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/codegen/box/properties/lateinit/isInitializedAndDeinitialize"), Pattern.compile("^(.+)\\.kt$"), null, TargetBackend.JVM_IR, true);
+            }
+
+            @TestMetadata("companionObjectField.kt")
+            public void testCompanionObjectField() throws Exception {
+                runTest("compiler/testData/codegen/box/properties/lateinit/isInitializedAndDeinitialize/companionObjectField.kt");
+            }
+
+            @TestMetadata("emptyLhs.kt")
+            public void testEmptyLhs() throws Exception {
+                runTest("compiler/testData/codegen/box/properties/lateinit/isInitializedAndDeinitialize/emptyLhs.kt");
+            }
+
+            @TestMetadata("innerSubclass.kt")
+            public void testInnerSubclass() throws Exception {
+                runTest("compiler/testData/codegen/box/properties/lateinit/isInitializedAndDeinitialize/innerSubclass.kt");
+            }
+
+            @TestMetadata("isInitializedMultiFile.kt")
+            public void testIsInitializedMultiFile() throws Exception {
+                runTest("compiler/testData/codegen/box/properties/lateinit/isInitializedAndDeinitialize/isInitializedMultiFile.kt");
+            }
+
+            @TestMetadata("nonInlineLambda.kt")
+            public void testNonInlineLambda() throws Exception {
+                runTest("compiler/testData/codegen/box/properties/lateinit/isInitializedAndDeinitialize/nonInlineLambda.kt");
+            }
+
+            @TestMetadata("propertyImportedFromObject.kt")
+            public void testPropertyImportedFromObject() throws Exception {
+                runTest("compiler/testData/codegen/box/properties/lateinit/isInitializedAndDeinitialize/propertyImportedFromObject.kt");
+            }
+
+            @TestMetadata("sideEffects.kt")
+            public void testSideEffects() throws Exception {
+                runTest("compiler/testData/codegen/box/properties/lateinit/isInitializedAndDeinitialize/sideEffects.kt");
+            }
+
+            @TestMetadata("simpleIsInitialized.kt")
+            public void testSimpleIsInitialized() throws Exception {
+                runTest("compiler/testData/codegen/box/properties/lateinit/isInitializedAndDeinitialize/simpleIsInitialized.kt");
+            }
+
+            @TestMetadata("topLevelProperty.kt")
+            public void testTopLevelProperty() throws Exception {
+                runTest("compiler/testData/codegen/box/properties/lateinit/isInitializedAndDeinitialize/topLevelProperty.kt");
+            }
+        }
+
+        @TestMetadata("compiler/testData/codegen/box/properties/lateinit/local")
+        @TestDataPath("$PROJECT_ROOT")
+        @RunWith(JUnit3RunnerWithInners.class)
+        public static class Local extends AbstractIrParallelBlackBoxCodegenTest {
+            private void runTest(String testDataFilePath) throws Exception {
+                KotlinTestUtils.runTest(this::doTest, TargetBackend.JVM_IR, testDataFilePath);
+            }
+
+            public void testAllFilesPresentInLocal() throws Exception {
+                KotlinTestUtils.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/codegen/box/properties/lateinit/local"), Pattern.compile("^(.+)\\.kt$"), null, TargetBackend.JVM_IR, true);
+            }
+
+            @TestMetadata("capturedLocalLateinit.kt")
+            public void testCapturedLocalLateinit() throws Exception {
+                runTest("compiler/testData/codegen/box/properties/lateinit/local/capturedLocalLateinit.kt");
+            }
+
+            @TestMetadata("kt23260.kt")
+            public void testKt23260() throws Exception {
+                runTest("compiler/testData/codegen/box/properties/lateinit/local/kt23260.kt");
+            }
+
+            @TestMetadata("localLateinit.kt")
+            public void testLocalLateinit() throws Exception {
+                runTest("compiler/testData/codegen/box/properties/lateinit/local/localLateinit.kt");
+            }
+
+            @TestMetadata("uninitializedCapturedMemberAccess.kt")
+            public void testUninitializedCapturedMemberAccess() throws Exception {
+                runTest("compiler/testData/codegen/box/properties/lateinit/local/uninitializedCapturedMemberAccess.kt");
+            }
+
+            @TestMetadata("uninitializedCapturedRead.kt")
+            public void testUninitializedCapturedRead() throws Exception {
+                runTest("compiler/testData/codegen/box/properties/lateinit/local/uninitializedCapturedRead.kt");
+            }
+
+            @TestMetadata("uninitializedMemberAccess.kt")
+            public void testUninitializedMemberAccess() throws Exception {
+                runTest("compiler/testData/codegen/box/properties/lateinit/local/uninitializedMemberAccess.kt");
+            }
+
+            @TestMetadata("uninitializedRead.kt")
+            public void testUninitializedRead() throws Exception {
+                runTest("compiler/testData/codegen/box/properties/lateinit/local/uninitializedRead.kt");
+            }
+        }
+
+        @TestMetadata("compiler/testData/codegen/box/properties/lateinit/topLevel")
+        @TestDataPath("$PROJECT_ROOT")
+        @RunWith(JUnit3RunnerWithInners.class)
+        public static class TopLevel extends AbstractIrParallelBlackBoxCodegenTest {
+            private void runTest(String testDataFilePath) throws Exception {
+                KotlinTestUtils.runTest(this::doTest, TargetBackend.JVM_IR, testDataFilePath);
+            }
+
+            @TestMetadata("accessorException.kt")
+            public void testAccessorException() throws Exception {
+                runTest("compiler/testData/codegen/box/properties/lateinit/topLevel/accessorException.kt");
+            }
+
+            @TestMetadata("accessorForTopLevelLateinit.kt")
+            public void testAccessorForTopLevelLateinit() throws Exception {
+                runTest("compiler/testData/codegen/box/properties/lateinit/topLevel/accessorForTopLevelLateinit.kt");
+            }
+
+            public void testAllFilesPresentInTopLevel() throws Exception {
+                KotlinTestUtils.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/codegen/box/properties/lateinit/topLevel"), Pattern.compile("^(.+)\\.kt$"), null, TargetBackend.JVM_IR, true);
+            }
+
+            @TestMetadata("topLevelLateinit.kt")
+            public void testTopLevelLateinit() throws Exception {
+                runTest("compiler/testData/codegen/box/properties/lateinit/topLevel/topLevelLateinit.kt");
+            }
+
+            @TestMetadata("uninitializedMemberAccess.kt")
+            public void testUninitializedMemberAccess() throws Exception {
+                runTest("compiler/testData/codegen/box/properties/lateinit/topLevel/uninitializedMemberAccess.kt");
+            }
+
+            @TestMetadata("uninitializedRead.kt")
+            public void testUninitializedRead() throws Exception {
+                runTest("compiler/testData/codegen/box/properties/lateinit/topLevel/uninitializedRead.kt");
+            }
+        }
+    }
+
+    @TestMetadata("compiler/testData/codegen/box/syntheticAccessors")
+    @TestDataPath("$PROJECT_ROOT")
+    @RunWith(JUnit3RunnerWithInners.class)
+    public static class SyntheticAccessors extends AbstractIrParallelBlackBoxCodegenTest {
+        private void runTest(String testDataFilePath) throws Exception {
+            KotlinTestUtils.runTest(this::doTest, TargetBackend.JVM_IR, testDataFilePath);
+        }
+
+        @TestMetadata("accessorForGenericConstructor.kt")
+        public void testAccessorForGenericConstructor() throws Exception {
+            runTest("compiler/testData/codegen/box/syntheticAccessors/accessorForGenericConstructor.kt");
+        }
+
+        @TestMetadata("accessorForGenericMethod.kt")
+        public void testAccessorForGenericMethod() throws Exception {
+            runTest("compiler/testData/codegen/box/syntheticAccessors/accessorForGenericMethod.kt");
+        }
+
+        @TestMetadata("accessorForGenericMethodWithDefaults.kt")
+        public void testAccessorForGenericMethodWithDefaults() throws Exception {
+            runTest("compiler/testData/codegen/box/syntheticAccessors/accessorForGenericMethodWithDefaults.kt");
+        }
+
+        @TestMetadata("accessorForProtected.kt")
+        public void testAccessorForProtected() throws Exception {
+            runTest("compiler/testData/codegen/box/syntheticAccessors/accessorForProtected.kt");
+        }
+
+        @TestMetadata("accessorForProtectedInvokeVirtual.kt")
+        public void testAccessorForProtectedInvokeVirtual() throws Exception {
+            runTest("compiler/testData/codegen/box/syntheticAccessors/accessorForProtectedInvokeVirtual.kt");
+        }
+
+        public void testAllFilesPresentInSyntheticAccessors() throws Exception {
+            KotlinTestUtils.assertAllTestsPresentByMetadataWithExcluded(this.getClass(), new File("compiler/testData/codegen/box/syntheticAccessors"), Pattern.compile("^(.+)\\.kt$"), null, TargetBackend.JVM_IR, true);
+        }
+
+        @TestMetadata("inline.kt")
+        public void testInline() throws Exception {
+            runTest("compiler/testData/codegen/box/syntheticAccessors/inline.kt");
+        }
+
+        @TestMetadata("inlineInOtherClass.kt")
+        public void testInlineInOtherClass() throws Exception {
+            runTest("compiler/testData/codegen/box/syntheticAccessors/inlineInOtherClass.kt");
+        }
+
+        @TestMetadata("jvmField.kt")
+        public void testJvmField() throws Exception {
+            runTest("compiler/testData/codegen/box/syntheticAccessors/jvmField.kt");
+        }
+
+        @TestMetadata("jvmNameForAccessors.kt")
+        public void testJvmNameForAccessors() throws Exception {
+            runTest("compiler/testData/codegen/box/syntheticAccessors/jvmNameForAccessors.kt");
+        }
+
+        @TestMetadata("kt10047.kt")
+        public void testKt10047() throws Exception {
+            runTest("compiler/testData/codegen/box/syntheticAccessors/kt10047.kt");
+        }
+
+        @TestMetadata("kt21258_indirect.kt")
+        public void testKt21258_indirect() throws Exception {
+            runTest("compiler/testData/codegen/box/syntheticAccessors/kt21258_indirect.kt");
+        }
+
+        @TestMetadata("kt21258_simple.kt")
+        public void testKt21258_simple() throws Exception {
+            runTest("compiler/testData/codegen/box/syntheticAccessors/kt21258_simple.kt");
+        }
+
+        @TestMetadata("kt9717.kt")
+        public void testKt9717() throws Exception {
+            runTest("compiler/testData/codegen/box/syntheticAccessors/kt9717.kt");
+        }
+
+        @TestMetadata("kt9717DifferentPackages.kt")
+        public void testKt9717DifferentPackages() throws Exception {
+            runTest("compiler/testData/codegen/box/syntheticAccessors/kt9717DifferentPackages.kt");
+        }
+
+        @TestMetadata("kt9958.kt")
+        public void testKt9958() throws Exception {
+            runTest("compiler/testData/codegen/box/syntheticAccessors/kt9958.kt");
+        }
+
+        @TestMetadata("kt9958Interface.kt")
+        public void testKt9958Interface() throws Exception {
+            runTest("compiler/testData/codegen/box/syntheticAccessors/kt9958Interface.kt");
+        }
+
+        @TestMetadata("protectedFromLambda.kt")
+        public void testProtectedFromLambda() throws Exception {
+            runTest("compiler/testData/codegen/box/syntheticAccessors/protectedFromLambda.kt");
+        }
+
+        @TestMetadata("syntheticAccessorNames.kt")
+        public void testSyntheticAccessorNames() throws Exception {
+            runTest("compiler/testData/codegen/box/syntheticAccessors/syntheticAccessorNames.kt");
+        }
+    }
+}
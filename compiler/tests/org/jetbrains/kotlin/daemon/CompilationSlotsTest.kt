@@ -0,0 +1,88 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.daemon
+
+import junit.framework.TestCase
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.logging.Logger
+import kotlin.concurrent.thread
+
+class CompilationSlotsTest : TestCase() {
+    private val jarCacheClearings = AtomicInteger()
+    private val log = Logger.getLogger(CompilationSlotsTest::class.java.name)
+
+    fun testMaxParallelCompilations() {
+        val slots = CompilationSlots(2, log) { jarCacheClearings.incrementAndGet() }
+        slots.startCompilation()
+        slots.startCompilation()
+        assertEquals(2, slots.activeCompilationsCount)
+
+        val started = CountDownLatch(1)
+        val waiting = thread {
+            slots.startCompilation()
+            started.countDown()
+        }
+        assertFalse("The third compilation should wait for a free slot", started.await(SHORT_WAIT_MS, TimeUnit.MILLISECONDS))
+        assertEquals(2, slots.activeCompilationsCount)
+
+        slots.finishCompilation()
+        assertTrue("The third compilation should start when another one finishes", started.await(LONG_WAIT_MS, TimeUnit.MILLISECONDS))
+        waiting.join()
+        assertEquals(2, slots.activeCompilationsCount)
+
+        slots.finishCompilation()
+        slots.finishCompilation()
+        assertEquals(0, slots.activeCompilationsCount)
+        assertEquals(0, jarCacheClearings.get())
+    }
+
+    fun testJarCacheIsClearedWhenNoCompilationIsRunning() {
+        val slots = CompilationSlots(2, log) { jarCacheClearings.incrementAndGet() }
+        slots.clearJarCacheWhenIdle()
+        assertEquals(1, jarCacheClearings.get())
+
+        slots.startCompilation()
+        slots.startCompilation()
+        slots.clearJarCacheWhenIdle()
+        assertEquals(1, jarCacheClearings.get())
+
+        slots.finishCompilation()
+        assertEquals(1, jarCacheClearings.get())
+
+        slots.finishCompilation()
+        assertEquals(2, jarCacheClearings.get())
+    }
+
+    fun testPendingJarCacheClearingIsNotPostponedByNewCompilations() {
+        val slots = CompilationSlots(4, log) { jarCacheClearings.incrementAndGet() }
+        slots.startCompilation()
+        slots.clearJarCacheWhenIdle()
+
+        val clearingsBeforeStart = AtomicInteger(-1)
+        val started = CountDownLatch(1)
+        val waiting = thread {
+            slots.startCompilation()
+            clearingsBeforeStart.set(jarCacheClearings.get())
+            started.countDown()
+        }
+        assertFalse("A new compilation should wait for the pending clearing", started.await(SHORT_WAIT_MS, TimeUnit.MILLISECONDS))
+
+        slots.finishCompilation()
+        assertTrue(started.await(LONG_WAIT_MS, TimeUnit.MILLISECONDS))
+        waiting.join()
+        assertEquals(1, clearingsBeforeStart.get())
+
+        slots.finishCompilation()
+        assertEquals(1, jarCacheClearings.get())
+    }
+
+    companion object {
+        private const val SHORT_WAIT_MS = 200L
+        private const val LONG_WAIT_MS = 10000L
+    }
+}
@@ -246,6 +246,24 @@ class CompilerDaemonTest : KotlinIntegrationTestBase() {
         }
     }
 
+    fun testDaemonOptionsParsingMaxParallelCompilations() {
+        val backupOptions = System.getProperty(COMPILE_DAEMON_OPTIONS_PROPERTY)
+        try {
+            System.setProperty(COMPILE_DAEMON_OPTIONS_PROPERTY, "maxParallelCompilations=3")
+            val opts = configureDaemonOptions(DaemonOptions(shutdownDelayMilliseconds = 1))
+            assertEquals(3, opts.maxParallelCompilations)
+            assertEquals(3, opts.maxParallelCompilationsOrDefault)
+            assertTrue("maxParallelCompilations=3" in opts.mappers.flatMap { it.toArgs(prefix = "") })
+
+            val defaultOpts = DaemonOptions()
+            assertEquals(Runtime.getRuntime().availableProcessors(), defaultOpts.maxParallelCompilationsOrDefault)
+            assertTrue(defaultOpts.mappers.flatMap { it.toArgs(prefix = "") }.none { it.startsWith("maxParallelCompilations") })
+        }
+        finally {
+            restoreSystemProperty(COMPILE_DAEMON_OPTIONS_PROPERTY, backupOptions)
+        }
+    }
+
     fun testDaemonInstancesSimple() {
         withFlagFile(getTestName(true), ".alive") { flagFile ->
             val daemonOptions = makeTestDaemonOptions(getTestName(true))
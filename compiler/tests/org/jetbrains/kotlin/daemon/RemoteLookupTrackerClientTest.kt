@@ -0,0 +1,163 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.daemon
+
+import junit.framework.TestCase
+import org.jetbrains.kotlin.daemon.RemoteLookupTrackerClient.Companion.BATCH_SIZE
+import org.jetbrains.kotlin.daemon.common.CompilerCallbackServicesFacade
+import org.jetbrains.kotlin.daemon.common.LookupBatch
+import org.jetbrains.kotlin.incremental.components.LookupInfo
+import org.jetbrains.kotlin.incremental.components.Position
+import org.jetbrains.kotlin.incremental.components.ScopeKind
+import java.lang.reflect.InvocationHandler
+import java.lang.reflect.Method
+import java.lang.reflect.Proxy
+import java.rmi.RemoteException
+import java.rmi.ServerException
+import java.rmi.UnmarshalException
+
+class RemoteLookupTrackerClientTest : TestCase() {
+    fun testLookupsAreSentInBatches() {
+        val client = TestClient(requiresPosition = true)
+        val tracker = RemoteLookupTrackerClient(client.facade, client.eventManager)
+
+        val expected = lookups(count = 2 * BATCH_SIZE + 1)
+        expected.forEach { tracker.record(it) }
+        client.eventManager.fireCompilationFinished()
+
+        assertEquals(expected, client.lookups)
+        assertEquals(listOf(BATCH_SIZE, BATCH_SIZE, 1), client.batches.map { it.records.size / it.recordSize })
+        // Every string is sent only once
+        assertEquals(expected.flatMap { listOf(it.filePath, it.scopeFqName, it.name) }.toSet().size, client.batches.sumBy { it.newStrings.size })
+
+        // The next compilation starts a new table of strings
+        client.clear()
+        tracker.record(expected.first())
+        client.eventManager.fireCompilationFinished()
+
+        assertEquals(listOf(expected.first()), client.lookups)
+        assertEquals(0, client.batches.single().firstStringIndex)
+    }
+
+    fun testLookupsWithoutPositionsAreSentOnce() {
+        val client = TestClient(requiresPosition = false)
+        val tracker = RemoteLookupTrackerClient(client.facade, client.eventManager)
+
+        tracker.record("a.kt", Position(1, 1), "foo", ScopeKind.PACKAGE, "bar")
+        tracker.record("a.kt", Position(2, 2), "foo", ScopeKind.CLASSIFIER, "bar")
+        tracker.record("b.kt", Position(1, 1), "foo", ScopeKind.PACKAGE, "bar")
+        client.eventManager.fireCompilationFinished()
+
+        assertEquals(
+            listOf(
+                LookupInfo("a.kt", Position.NO_POSITION, "foo", ScopeKind.CLASSIFIER, "bar"),
+                LookupInfo("b.kt", Position.NO_POSITION, "foo", ScopeKind.CLASSIFIER, "bar")
+            ),
+            client.lookups
+        )
+    }
+
+    fun testClientWithoutBatches() {
+        val client = TestClient(requiresPosition = true, supportsBatches = false)
+        val tracker = RemoteLookupTrackerClient(client.facade, client.eventManager)
+
+        val expected = lookups(count = BATCH_SIZE + 1)
+        expected.forEach { tracker.record(it) }
+        client.eventManager.fireCompilationFinished()
+
+        assertEquals(expected, client.lookups)
+        assertTrue(client.batches.isEmpty())
+
+        // The next compilation decodes its strings from the start as well
+        client.clear()
+        tracker.record(expected.last())
+        client.eventManager.fireCompilationFinished()
+
+        assertEquals(listOf(expected.last()), client.lookups)
+    }
+
+    fun testSendErrorIsRethrown() {
+        val client = TestClient(requiresPosition = true)
+        val tracker = RemoteLookupTrackerClient(client.facade, client.eventManager)
+
+        client.isBroken = true
+        lookups(count = BATCH_SIZE + 1).forEach { tracker.record(it) }
+        try {
+            client.eventManager.fireCompilationFinished()
+            fail("The error of sending lookups is expected to be rethrown")
+        } catch (e: RemoteException) {
+            assertEquals(TestClient.ERROR_MESSAGE, e.message)
+        }
+
+        // The error doesn't affect the next compilation
+        client.isBroken = false
+        val expected = lookups(count = 1)
+        expected.forEach { tracker.record(it) }
+        client.eventManager.fireCompilationFinished()
+
+        assertEquals(expected, client.lookups)
+    }
+
+    private fun lookups(count: Int): List<LookupInfo> =
+        (0 until count).map { LookupInfo("File${it % 10}.kt", Position(it, it % 80), "scope${it % 100}", ScopeKind.PACKAGE, "name$it") }
+
+    private fun RemoteLookupTrackerClient.record(lookup: LookupInfo) {
+        record(lookup.filePath, lookup.position, lookup.scopeFqName, lookup.scopeKind, lookup.name)
+    }
+
+    private class TestClient(val requiresPosition: Boolean, val supportsBatches: Boolean = true) : InvocationHandler {
+        val eventManager = EventManagerImpl()
+
+        val facade = Proxy.newProxyInstance(
+            CompilerCallbackServicesFacade::class.java.classLoader, arrayOf(CompilerCallbackServicesFacade::class.java), this
+        ) as CompilerCallbackServicesFacade
+
+        val lookups = ArrayList<LookupInfo>()
+        val batches = ArrayList<LookupBatch>()
+        private val strings = ArrayList<String>()
+
+        @Volatile
+        var isBroken = false
+
+        fun clear() {
+            lookups.clear()
+            batches.clear()
+        }
+
+        @Synchronized
+        override fun invoke(proxy: Any, method: Method, args: Array<out Any?>?): Any? {
+            when (method.name) {
+                "lookupTracker_isDoNothing" -> return false
+                "lookupTracker_requiresPosition" -> return requiresPosition
+                "lookupTracker_recordBatch" -> {
+                    // This is what RMI reports when the client doesn't know the method
+                    if (!supportsBatches) throw ServerException("", UnmarshalException("unrecognized method hash"))
+                    if (isBroken) throw RemoteException(ERROR_MESSAGE)
+
+                    val batch = args!!.single() as LookupBatch
+                    if (batch.firstStringIndex == 0) strings.clear()
+                    strings.addAll(batch.newStrings)
+                    batch.forEachLookup(strings) { filePath, position, scopeFqName, scopeKind, name ->
+                        lookups.add(LookupInfo(filePath, position, scopeFqName, scopeKind, name))
+                    }
+                    batches.add(batch)
+                }
+                "lookupTracker_record" -> {
+                    if (isBroken) throw RemoteException(ERROR_MESSAGE)
+
+                    @Suppress("UNCHECKED_CAST")
+                    lookups.addAll(args!!.single() as Collection<LookupInfo>)
+                }
+                else -> throw UnsupportedOperationException(method.name)
+            }
+            return null
+        }
+
+        companion object {
+            const val ERROR_MESSAGE = "Connection is lost"
+        }
+    }
+}
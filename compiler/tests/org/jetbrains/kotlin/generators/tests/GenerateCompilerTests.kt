@@ -173,6 +173,18 @@ fun main(args: Array<String>) {
             model("codegen/box", targetBackend = TargetBackend.JVM)
         }
 
+        testClass<AbstractParallelMethodOptimizationBlackBoxCodegenTest> {
+            // Tests of the method optimizations, inlining and coroutine state machines, which change method bodies the most
+            model("codegen/box/boxingOptimization", targetBackend = TargetBackend.JVM)
+            model("codegen/box/coroutines/stackUnwinding", targetBackend = TargetBackend.JVM)
+            model("codegen/box/coroutines/tailCallOptimizations", targetBackend = TargetBackend.JVM)
+            model("codegen/box/coroutines/varSpilling", targetBackend = TargetBackend.JVM)
+            model("codegen/box/finally", targetBackend = TargetBackend.JVM)
+            model("codegen/box/nonLocalReturns", targetBackend = TargetBackend.JVM)
+            model("codegen/box/nullCheckOptimization", targetBackend = TargetBackend.JVM)
+            model("codegen/box/storeStackBeforeInline", targetBackend = TargetBackend.JVM)
+        }
+
         testClass<AbstractLightAnalysisModeTest> {
             // "ranges/stepped" is excluded because it contains hundreds of generated tests and only have a box() method.
             // There isn't much to be gained from running light analysis tests on them.
@@ -207,6 +219,16 @@ fun main(args: Array<String>) {
             model("codegen/bytecodeText", targetBackend = TargetBackend.JVM)
         }
 
+        testClass<AbstractParallelMethodOptimizationBytecodeTextTest> {
+            model("codegen/bytecodeText/boxingOptimization", targetBackend = TargetBackend.JVM)
+            model("codegen/bytecodeText/coercionToUnitOptimization", targetBackend = TargetBackend.JVM)
+            model("codegen/bytecodeText/coroutines", targetBackend = TargetBackend.JVM)
+            model("codegen/bytecodeText/deadCodeElimination", targetBackend = TargetBackend.JVM)
+            model("codegen/bytecodeText/inline", targetBackend = TargetBackend.JVM)
+            model("codegen/bytecodeText/nullCheckOptimization", targetBackend = TargetBackend.JVM)
+            model("codegen/bytecodeText/storeStackBeforeInline", targetBackend = TargetBackend.JVM)
+        }
+
         testClass<AbstractIrTextTestCase> {
             model("ir/irText")
         }
@@ -313,6 +335,10 @@ fun main(args: Array<String>) {
             model("compileKotlinAgainstKotlin")
         }
 
+        testClass<AbstractLazyMemberDeserializationCompileKotlinAgainstKotlinTest> {
+            model("compileKotlinAgainstKotlin")
+        }
+
         testClass<AbstractDescriptorRendererTest> {
             model("renderer")
         }
@@ -407,6 +433,16 @@ fun main(args: Array<String>) {
             model("codegen/box", targetBackend = TargetBackend.JVM_IR, excludeDirs = listOf("oldLanguageVersions"))
         }
 
+        testClass<AbstractIrParallelBlackBoxCodegenTest> {
+            // Tests which have several files and declarations used or patched across files
+            model("codegen/box/coroutines/multiModule", targetBackend = TargetBackend.JVM_IR)
+            model("codegen/box/jvmPackageName", targetBackend = TargetBackend.JVM_IR)
+            model("codegen/box/jvmStatic", targetBackend = TargetBackend.JVM_IR)
+            model("codegen/box/multifileClasses", targetBackend = TargetBackend.JVM_IR)
+            model("codegen/box/properties/lateinit", targetBackend = TargetBackend.JVM_IR)
+            model("codegen/box/syntheticAccessors", targetBackend = TargetBackend.JVM_IR)
+        }
+
         testClass<AbstractIrBlackBoxAgainstJavaCodegenTest> {
             model("codegen/boxAgainstJava", targetBackend = TargetBackend.JVM_IR)
         }
@@ -498,6 +534,13 @@ fun main(args: Array<String>) {
         testClass<AbstractFirBlackBoxCodegenTest> {
             model("codegen/box", targetBackend = TargetBackend.JVM_IR, excludeDirs = listOf("oldLanguageVersions"))
         }
+
+        // File classes of light tree FIR files are named after their IR annotations, see FileClassLowering
+        testClass<AbstractFirLightTreeBlackBoxCodegenTest> {
+            model("codegen/box/jvmName", targetBackend = TargetBackend.JVM_IR)
+            model("codegen/box/jvmPackageName", targetBackend = TargetBackend.JVM_IR)
+            model("codegen/box/multifileClasses", targetBackend = TargetBackend.JVM_IR)
+        }
     }
 
     testGroup(
@@ -544,6 +587,10 @@ fun main(args: Array<String>) {
             model("resolve/stdlib", pattern = KT_WITHOUT_DOTS_IN_NAME, excludeDirs = listOf("contracts"))
         }
 
+        testClass<AbstractFirParallelResolveTest> {
+            model("resolve/stdlib", pattern = KT_WITHOUT_DOTS_IN_NAME, excludeDirs = listOf("contracts"))
+        }
+
         testClass<AbstractFirDiagnosticsWithCfgAndStdlibTest> {
             model("resolve/stdlib/contracts", pattern = KT_WITHOUT_DOTS_IN_NAME)
         }
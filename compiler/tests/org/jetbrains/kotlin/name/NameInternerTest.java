@@ -0,0 +1,74 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.name;
+
+import kotlin.text.StringsKt;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+public class NameInternerTest {
+    @Test
+    public void equalNamesAreShared() {
+        NameInterner interner = new NameInterner();
+
+        Name name = interner.intern(Name.identifier("foo"));
+        Assert.assertSame(name, interner.intern(Name.identifier("foo")));
+        Assert.assertNotSame(name, interner.intern(Name.identifier("bar")));
+        Assert.assertNotSame(name, interner.intern(Name.special("<foo>")));
+
+        FqName fqName = interner.intern(new FqName("org.jetbrains.kotlin"));
+        Assert.assertSame(fqName, interner.intern(new FqName("org.jetbrains").child(Name.identifier("kotlin"))));
+        Assert.assertNotSame(fqName, interner.intern(new FqName("org.jetbrains")));
+    }
+
+    @Test
+    public void factoriesInternNamesWhenEnabled() throws Exception {
+        String backup = System.getProperty(NameInterner.ENABLED_PROPERTY);
+        System.setProperty(NameInterner.ENABLED_PROPERTY, "true");
+        // The property is read once, so the names are loaded again by a separate class loader
+        URL[] classpath = {
+                Name.class.getProtectionDomain().getCodeSource().getLocation(),
+                org.jetbrains.kotlin.utils.StringsKt.class.getProtectionDomain().getCodeSource().getLocation(),
+                StringsKt.class.getProtectionDomain().getCodeSource().getLocation()
+        };
+        try (URLClassLoader classLoader = new URLClassLoader(classpath, null)) {
+            Class<?> nameClass = classLoader.loadClass(Name.class.getName());
+            Class<?> fqNameClass = classLoader.loadClass(FqName.class.getName());
+            Class<?> classIdClass = classLoader.loadClass(ClassId.class.getName());
+
+            Method identifier = nameClass.getMethod("identifier", String.class);
+            Assert.assertSame(identifier.invoke(null, "foo"), identifier.invoke(null, "foo"));
+
+            Method topLevel = fqNameClass.getMethod("topLevel", nameClass);
+            Method child = fqNameClass.getMethod("child", nameClass);
+            Object kotlin = topLevel.invoke(null, identifier.invoke(null, "kotlin"));
+            Object collections = child.invoke(kotlin, identifier.invoke(null, "collections"));
+            Assert.assertSame(collections, child.invoke(topLevel.invoke(null, identifier.invoke(null, "kotlin")), identifier.invoke(null, "collections")));
+
+            Method fromString = classIdClass.getMethod("fromString", String.class);
+            Method getPackageFqName = classIdClass.getMethod("getPackageFqName");
+            Method getRelativeClassName = classIdClass.getMethod("getRelativeClassName");
+            Method asSingleFqName = classIdClass.getMethod("asSingleFqName");
+            Object entry = fromString.invoke(null, "kotlin/collections/Map.Entry");
+            Object otherEntry = fromString.invoke(null, "kotlin/collections/Map.Entry");
+            Assert.assertSame(collections, getPackageFqName.invoke(entry));
+            Assert.assertSame(getRelativeClassName.invoke(entry), getRelativeClassName.invoke(otherEntry));
+            Assert.assertSame(asSingleFqName.invoke(entry), asSingleFqName.invoke(otherEntry));
+        }
+        finally {
+            if (backup == null) {
+                System.clearProperty(NameInterner.ENABLED_PROPERTY);
+            }
+            else {
+                System.setProperty(NameInterner.ENABLED_PROPERTY, backup);
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.serialization.jvm
+
+import org.jetbrains.kotlin.metadata.ProtoBuf
+import org.jetbrains.kotlin.metadata.deserialization.NameResolver
+import org.jetbrains.kotlin.metadata.jvm.deserialization.JvmProtoBufUtil
+import org.jetbrains.kotlin.protobuf.MessageLite
+import org.jetbrains.kotlin.test.testFramework.KtUsefulTestCase
+
+class SerializedMembersTest : KtUsefulTestCase() {
+    private fun metadataOf(className: String): Metadata = Class.forName(className).getAnnotation(Metadata::class.java)
+
+    fun testClass() {
+        val metadata = metadataOf("kotlin.text.Regex")
+        val (nameResolver, classProto) = JvmProtoBufUtil.readClassDataFrom(metadata.data1, metadata.data2)
+        val (_, strippedProto, members) = JvmProtoBufUtil.readClassDataWithSerializedMembersFrom(metadata.data1, metadata.data2)
+
+        assertBytesEqual(classProto.toBuilder().clearFunction().clearProperty().clearTypeAlias().build(), strippedProto)
+        assertMembersEqual(nameResolver, classProto.functionList, ProtoBuf.Function::getName, members.functionNames) {
+            members.getFunctions(listOf(it), JvmProtoBufUtil.EXTENSION_REGISTRY)
+        }
+        assertMembersEqual(nameResolver, classProto.propertyList, ProtoBuf.Property::getName, members.propertyNames) {
+            members.getProperties(listOf(it), JvmProtoBufUtil.EXTENSION_REGISTRY)
+        }
+    }
+
+    fun testPackage() {
+        val metadata = metadataOf("kotlin.collections.CollectionsKt___CollectionsKt")
+        val (nameResolver, packageProto) = JvmProtoBufUtil.readPackageDataFrom(metadata.data1, metadata.data2)
+        val (_, strippedProto, members) = JvmProtoBufUtil.readPackageDataWithSerializedMembersFrom(metadata.data1, metadata.data2)
+
+        assertBytesEqual(packageProto.toBuilder().clearFunction().clearProperty().clearTypeAlias().build(), strippedProto)
+        assertMembersEqual(nameResolver, packageProto.functionList, ProtoBuf.Function::getName, members.functionNames) {
+            members.getFunctions(listOf(it), JvmProtoBufUtil.EXTENSION_REGISTRY)
+        }
+        assertMembersEqual(nameResolver, packageProto.propertyList, ProtoBuf.Property::getName, members.propertyNames) {
+            members.getProperties(listOf(it), JvmProtoBufUtil.EXTENSION_REGISTRY)
+        }
+    }
+
+    fun testMembersOfSeveralNamesAreInSerializedOrder() {
+        val metadata = metadataOf("kotlin.collections.CollectionsKt___CollectionsKt")
+        val (_, packageProto) = JvmProtoBufUtil.readPackageDataFrom(metadata.data1, metadata.data2)
+        val (_, _, members) = JvmProtoBufUtil.readPackageDataWithSerializedMembersFrom(metadata.data1, metadata.data2)
+
+        val functions = members.getFunctions(members.functionNames.reversed(), JvmProtoBufUtil.EXTENSION_REGISTRY)
+        assertEquals(packageProto.functionCount, functions.size)
+        for ((expectedProto, actualProto) in packageProto.functionList.zip(functions)) {
+            assertBytesEqual(expectedProto, actualProto)
+        }
+    }
+
+    private fun assertBytesEqual(expected: MessageLite, actual: MessageLite) {
+        assertTrue(expected.toByteArray().contentEquals(actual.toByteArray()))
+    }
+
+    private fun <M : MessageLite> assertMembersEqual(
+        nameResolver: NameResolver,
+        expected: List<M>,
+        getName: (M) -> Int,
+        actualNames: Set<Int>,
+        parse: (Int) -> List<M>
+    ) {
+        val expectedByName = expected.groupBy(getName)
+        assertEquals(expectedByName.keys, actualNames)
+
+        for ((name, protos) in expectedByName) {
+            val actual = parse(name)
+            assertEquals(nameResolver.getString(name), protos.size, actual.size)
+            for ((expectedProto, actualProto) in protos.zip(actual)) {
+                assertBytesEqual(expectedProto, actualProto)
+            }
+        }
+    }
+}
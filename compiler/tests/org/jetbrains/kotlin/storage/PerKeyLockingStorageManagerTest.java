@@ -0,0 +1,188 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class PerKeyLockingStorageManagerTest extends StorageManagerTest {
+    private static final int TIMEOUT_SECONDS = 30;
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @Override
+    protected StorageManager createStorageManager() {
+        return new PerKeyLockingStorageManager("PerKeyLockingStorageManagerTest");
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        executor.shutdownNow();
+        super.tearDown();
+    }
+
+    public void testConcurrentCallsComputeOnce() throws Exception {
+        StorageManager m = createStorageManager();
+        AtomicInteger counter = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        NotNullLazyValue<String> value = m.createLazyValue(() -> {
+            counter.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "ok";
+        });
+
+        List<Future<String>> results = new ArrayList<>();
+        results.add(executor.submit(value::invoke));
+        await(started);
+        for (int i = 0; i < 4; i++) {
+            results.add(executor.submit(value::invoke));
+        }
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertEquals("ok", result.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        }
+        assertEquals(1, counter.get());
+    }
+
+    public void testIndependentValuesAreComputedConcurrently() throws Exception {
+        StorageManager m = createStorageManager();
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        NotNullLazyValue<String> first = m.createLazyValue(() -> {
+            await(barrier);
+            return "first";
+        });
+        NotNullLazyValue<String> second = m.createLazyValue(() -> {
+            await(barrier);
+            return "second";
+        });
+
+        Future<String> firstResult = executor.submit(first::invoke);
+        Future<String> secondResult = executor.submit(second::invoke);
+
+        assertEquals("first", firstResult.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals("second", secondResult.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    public void testIndependentKeysAreComputedConcurrently() throws Exception {
+        StorageManager m = createStorageManager();
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        MemoizedFunctionToNotNull<String, String> f = m.createMemoizedFunction(s -> {
+            await(barrier);
+            return s + "!";
+        });
+
+        Future<String> firstResult = executor.submit(() -> f.invoke("a"));
+        Future<String> secondResult = executor.submit(() -> f.invoke("b"));
+
+        assertEquals("a!", firstResult.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals("b!", secondResult.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    public void testCrossThreadCycleIsReportedAsRecursion() throws Exception {
+        StorageManager m = createStorageManager();
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        AtomicInteger calls = new AtomicInteger();
+        class C {
+            NotNullLazyValue<String> x = m.createRecursionTolerantLazyValue(() -> {
+                if (calls.incrementAndGet() <= 2) await(barrier);
+                return "x" + this.y.invoke();
+            }, "-");
+            NotNullLazyValue<String> y = m.createRecursionTolerantLazyValue(() -> {
+                if (calls.incrementAndGet() <= 2) await(barrier);
+                return "y" + x.invoke();
+            }, "-");
+        }
+
+        C c = new C();
+        Future<String> xResult = executor.submit(c.x::invoke);
+        Future<String> yResult = executor.submit(c.y::invoke);
+
+        String x = xResult.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        String y = yResult.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        // Depending on which thread closes the cycle first, one or both of them get the recursion-tolerant value
+        assertTrue("Unexpected values: " + x + ", " + y,
+                   (x.equals("xy-") && y.equals("y-")) || (x.equals("x-") && y.equals("yx-")) || (x.equals("x-") && y.equals("y-")));
+
+        // Values of the thread which closed the cycle aren't stored, the stored ones are the same as computed by a single thread
+        String storedX = c.x.invoke();
+        String storedY = c.y.invoke();
+        assertTrue("Unexpected stored values: " + storedX + ", " + storedY,
+                   (storedX.equals("xy-") && storedY.equals("y-")) || (storedX.equals("x-") && storedY.equals("yx-")));
+    }
+
+    public void testCrossThreadCycleInMemoizedFunctionIsNotStored() throws Exception {
+        StorageManager m = createStorageManager();
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        AtomicInteger calls = new AtomicInteger();
+        AtomicReference<MemoizedFunctionToNotNull<String, String>> self = new AtomicReference<>();
+        MemoizedFunctionToNotNull<String, String> f = m.createMemoizedFunction(s -> {
+            if (calls.incrementAndGet() <= 2) await(barrier);
+            try {
+                return s + self.get().invoke(s.equals("a") ? "b" : "a");
+            }
+            catch (AssertionError e) {
+                return s + "-";
+            }
+        });
+        self.set(f);
+
+        Future<String> aResult = executor.submit(() -> f.invoke("a"));
+        Future<String> bResult = executor.submit(() -> f.invoke("b"));
+        aResult.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        bResult.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        String storedA = f.invoke("a");
+        String storedB = f.invoke("b");
+        assertTrue("Unexpected stored values: " + storedA + ", " + storedB,
+                   (storedA.equals("ab-") && storedB.equals("b-")) || (storedA.equals("a-") && storedB.equals("ba-")));
+    }
+
+    public void testComputeLockIsReleasedWhileWaiting() throws Exception {
+        StorageManager m = createStorageManager();
+        NotNullLazyValue<String> value = m.createLazyValue(() -> m.compute(() -> "ok"));
+
+        CountDownLatch computing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        NotNullLazyValue<String> slow = m.createLazyValue(() -> {
+            computing.countDown();
+            await(release);
+            return value.invoke();
+        });
+
+        Future<String> slowResult = executor.submit(slow::invoke);
+        await(computing);
+        // Holds the compute() lock and waits for `slow`, which needs the same lock to finish
+        Future<String> result = executor.submit(() -> m.compute(slow::invoke));
+        release.countDown();
+
+        assertEquals("ok", slowResult.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals("ok", result.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS)) throw new IllegalStateException("Timed out");
+        }
+        catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+        catch (InterruptedException | BrokenBarrierException | TimeoutException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package org.jetbrains.kotlin.library
 import org.jetbrains.kotlin.konan.file.File
 import org.jetbrains.kotlin.konan.properties.Properties
 import org.jetbrains.kotlin.konan.properties.propertyList
+import java.nio.ByteBuffer
 
 const val KLIB_PROPERTY_ABI_VERSION = "abi_version"
 const val KLIB_PROPERTY_COMPILER_VERSION = "compiler_version"
@@ -44,6 +45,13 @@ interface IrLibrary {
     fun body(index: Int, fileIndex: Int): ByteArray
     fun file(index: Int): ByteArray
     fun fileCount(): Int
+
+    // The following return the same data as the functions above, but implementations may avoid copying it,
+    // e.g. by returning a slice of a memory-mapped file. The returned buffers are read-only.
+    fun irDeclarationBuffer(index: Long, fileIndex: Int): ByteBuffer = ByteBuffer.wrap(irDeclaration(index, fileIndex))
+    fun symbolBuffer(index: Int, fileIndex: Int): ByteBuffer = ByteBuffer.wrap(symbol(index, fileIndex))
+    fun typeBuffer(index: Int, fileIndex: Int): ByteBuffer = ByteBuffer.wrap(type(index, fileIndex))
+    fun bodyBuffer(index: Int, fileIndex: Int): ByteBuffer = ByteBuffer.wrap(body(index, fileIndex))
 }
 
 val BaseKotlinLibrary.uniqueName: String
@@ -6,6 +6,7 @@
 package org.jetbrains.kotlin.library.impl
 
 import org.jetbrains.kotlin.konan.file.File
+import java.io.InputStream
 import java.nio.ByteBuffer
 import java.nio.channels.FileChannel
 
@@ -25,13 +26,11 @@ class IrArrayReader(file: File) {
         }
     }
 
-    fun tableItemBytes(id: Int): ByteArray {
+    fun tableItemBytes(id: Int): ByteArray = tableItemBuffer(id).toByteArray()
+
+    fun tableItemBuffer(id: Int): ByteBuffer {
         val offset = indexToOffset[id]
-        val size = indexToOffset[id + 1] - offset
-        val result = ByteArray(size)
-        buffer.position(offset)
-        buffer.get(result, 0, size)
-        return result
+        return buffer.readOnlySlice(offset, indexToOffset[id + 1] - offset)
     }
 }
 
@@ -57,31 +56,32 @@ class IrMultiArrayReader(file: File) {
         indexToOffset = readOffsets(0)
     }
 
-    fun tableItemBytes(id: Int): ByteArray {
+    fun entryCount() = indexToOffset.size - 1
+
+    fun entryCount(row: Int) = columnOffsets(row).size - 1
+
+    fun tableItemBytes(id: Int): ByteArray = tableItemBuffer(id).toByteArray()
+
+    fun tableItemBuffer(id: Int): ByteBuffer {
         val offset = indexToOffset[id]
-        val size = indexToOffset[id + 1] - offset
-        val result = ByteArray(size)
-        buffer.position(offset)
-        buffer.get(result, 0, size)
-        return result
+        return buffer.readOnlySlice(offset, indexToOffset[id + 1] - offset)
     }
 
-    fun tableItemBytes(row: Int, column: Int): ByteArray {
-        val rowOffset = indexToOffset[row]
+    fun tableItemBytes(row: Int, column: Int): ByteArray = tableItemBuffer(row, column).toByteArray()
 
-        val collumnOffsets = indexIndexToOffset.getOrPut(row) {
-            readOffsets(rowOffset)
-        }
+    fun tableItemBuffer(row: Int, column: Int): ByteBuffer {
+        val collumnOffsets = columnOffsets(row)
 
         val dataOffset = collumnOffsets[column]
         val dataSize = collumnOffsets[column + 1] - dataOffset
-        val result = ByteArray(dataSize)
 
-        buffer.position(rowOffset + dataOffset)
-        buffer.get(result, 0, dataSize)
-
-        return result
+        return buffer.readOnlySlice(indexToOffset[row] + dataOffset, dataSize)
     }
+
+    private fun columnOffsets(row: Int): IntArray =
+        indexIndexToOffset.getOrPut(row) {
+            readOffsets(indexToOffset[row])
+        }
 }
 
 abstract class IrMultiTableReader<K>(file: File, private val keyReader: ByteBuffer.() -> K) {
@@ -123,7 +123,9 @@ abstract class IrMultiTableReader<K>(file: File, private val keyReader: ByteBuff
         return result
     }
 
-    fun tableItemBytes(row: Int, id: K): ByteArray {
+    fun tableItemBytes(row: Int, id: K): ByteArray = tableItemBuffer(row, id).toByteArray()
+
+    fun tableItemBuffer(row: Int, id: K): ByteBuffer {
 
         val rowOffset = indexToOffset[row]
 
@@ -134,10 +136,7 @@ abstract class IrMultiTableReader<K>(file: File, private val keyReader: ByteBuff
         val coordinates = indexToMap[id] ?: error("No coordinates found for $id")
         val offset = coordinates.first
         val size = coordinates.second
-        val result = ByteArray(size)
-        buffer.position(rowOffset + offset)
-        buffer.get(result, 0, size)
-        return result
+        return buffer.readOnlySlice(rowOffset + offset, size)
     }
 }
 
@@ -156,15 +155,54 @@ abstract class IrTableReader<K>(file: File, keyReader: ByteBuffer.() -> K) {
         }
     }
 
-    fun tableItemBytes(id: K): ByteArray {
+    fun tableItemBytes(id: K): ByteArray = tableItemBuffer(id).toByteArray()
+
+    fun tableItemBuffer(id: K): ByteBuffer {
         val coordinates = indexToOffset[id] ?: error("No coordinates found for $id")
         val offset = coordinates.first
         val size = coordinates.second
-        val result = ByteArray(size)
-        buffer.position(offset)
-        buffer.get(result, 0, size)
-        return result
+        return buffer.readOnlySlice(offset, size)
+    }
+}
+
+// Returns a read-only view of the given part of the buffer, which doesn't copy the data and doesn't depend on the buffer position.
+// Slices of a memory-mapped file are themselves mapped, so they keep the file mapped while they're reachable.
+private fun ByteBuffer.readOnlySlice(offset: Int, size: Int): ByteBuffer {
+    val result = asReadOnlyBuffer()
+    result.position(offset)
+    result.limit(offset + size)
+    return result.slice()
+}
+
+private fun ByteBuffer.toByteArray(): ByteArray {
+    val result = ByteArray(remaining())
+    get(result)
+    return result
+}
+
+/**
+ * An input stream reading the remaining bytes of the [buffer], which lets parsers consume a slice of a memory-mapped file
+ * without copying it into a byte array first.
+ */
+class ByteBufferInputStream(private val buffer: ByteBuffer) : InputStream() {
+    override fun read(): Int =
+        if (buffer.hasRemaining()) buffer.get().toInt() and 0xFF else -1
+
+    override fun read(b: ByteArray, off: Int, len: Int): Int {
+        if (len == 0) return 0
+        if (!buffer.hasRemaining()) return -1
+        val count = minOf(len, buffer.remaining())
+        buffer.get(b, off, count)
+        return count
     }
+
+    override fun skip(n: Long): Long {
+        val count = minOf(n, buffer.remaining().toLong()).coerceAtLeast(0).toInt()
+        buffer.position(buffer.position() + count)
+        return count.toLong()
+    }
+
+    override fun available(): Int = buffer.remaining()
 }
 
 class IndexIrTableReader(file: File) : IrTableReader<Long>(file, { long })
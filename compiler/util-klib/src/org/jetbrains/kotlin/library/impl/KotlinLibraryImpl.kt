@@ -20,6 +20,7 @@ import org.jetbrains.kotlin.konan.file.File
 import org.jetbrains.kotlin.library.*
 import org.jetbrains.kotlin.konan.properties.Properties
 import org.jetbrains.kotlin.konan.properties.loadProperties
+import java.nio.ByteBuffer
 
 open class BaseKotlinLibraryImpl(
     val access: BaseLibraryAccess<KotlinLibraryLayout>,
@@ -96,6 +97,14 @@ class IrMonoliticLibraryImpl(_access: IrLibraryAccess<IrKotlinLibraryLayout>) :
 
     override fun file(index: Int) = files.tableItemBytes(index)
 
+    override fun irDeclarationBuffer(index: Long, fileIndex: Int) = combinedDeclarations.tableItemBuffer(fileIndex, DeclarationId(index))
+
+    override fun symbolBuffer(index: Int, fileIndex: Int) = symbols.tableItemBuffer(fileIndex, index)
+
+    override fun typeBuffer(index: Int, fileIndex: Int) = types.tableItemBuffer(fileIndex, index)
+
+    override fun bodyBuffer(index: Int, fileIndex: Int) = bodies.tableItemBuffer(fileIndex, index)
+
     private fun loadIrDeclaration(index: Long, fileIndex: Int) =
         combinedDeclarations.tableItemBytes(fileIndex, DeclarationId(index))
 
@@ -145,59 +154,76 @@ class IrPerFileLibraryImpl(_access: IrLibraryAccess<IrKotlinLibraryLayout>) : Ir
     }
 
     private val fileToDeclarationMap = mutableMapOf<Int, DeclarationIrTableReader>()
-    override fun irDeclaration(index: Long, fileIndex: Int): ByteArray {
-        val dataReader = fileToDeclarationMap.getOrPut(fileIndex) {
+    private fun declarationReader(fileIndex: Int) =
+        fileToDeclarationMap.getOrPut(fileIndex) {
             val fileDirectory = directories[fileIndex]
             DeclarationIrTableReader(access.realFiles {
                 it.irDeclarations(fileDirectory)
             })
         }
-        return dataReader.tableItemBytes(DeclarationId(index))
-    }
+
+    override fun irDeclaration(index: Long, fileIndex: Int): ByteArray =
+        declarationReader(fileIndex).tableItemBytes(DeclarationId(index))
+
+    override fun irDeclarationBuffer(index: Long, fileIndex: Int): ByteBuffer =
+        declarationReader(fileIndex).tableItemBuffer(DeclarationId(index))
 
     private val fileToSymbolMap = mutableMapOf<Int, IrArrayReader>()
-    override fun symbol(index: Int, fileIndex: Int): ByteArray {
-        val dataReader = fileToSymbolMap.getOrPut(fileIndex) {
+    private fun symbolReader(fileIndex: Int) =
+        fileToSymbolMap.getOrPut(fileIndex) {
             val fileDirectory = directories[fileIndex]
             IrArrayReader(access.realFiles {
                 it.irSymbols(fileDirectory)
             })
         }
-        return dataReader.tableItemBytes(index)
-    }
+
+    override fun symbol(index: Int, fileIndex: Int): ByteArray =
+        symbolReader(fileIndex).tableItemBytes(index)
+
+    override fun symbolBuffer(index: Int, fileIndex: Int): ByteBuffer =
+        symbolReader(fileIndex).tableItemBuffer(index)
 
     private val fileToTypeMap = mutableMapOf<Int, IrArrayReader>()
-    override fun type(index: Int, fileIndex: Int): ByteArray {
-        val dataReader = fileToTypeMap.getOrPut(fileIndex) {
+    private fun typeReader(fileIndex: Int) =
+        fileToTypeMap.getOrPut(fileIndex) {
             val fileDirectory = directories[fileIndex]
             IrArrayReader(access.realFiles {
                 it.irTypes(fileDirectory)
             })
         }
-        return dataReader.tableItemBytes(index)
-    }
+
+    override fun type(index: Int, fileIndex: Int): ByteArray =
+        typeReader(fileIndex).tableItemBytes(index)
+
+    override fun typeBuffer(index: Int, fileIndex: Int): ByteBuffer =
+        typeReader(fileIndex).tableItemBuffer(index)
 
     private val fileToStringMap = mutableMapOf<Int, IrArrayReader>()
-    override fun string(index: Int, fileIndex: Int): ByteArray {
-        val dataReader = fileToStringMap.getOrPut(fileIndex) {
+    private fun stringReader(fileIndex: Int) =
+        fileToStringMap.getOrPut(fileIndex) {
             val fileDirectory = directories[fileIndex]
             IrArrayReader(access.realFiles {
                 it.irStrings(fileDirectory)
             })
         }
-        return dataReader.tableItemBytes(index)
-    }
+
+    override fun string(index: Int, fileIndex: Int): ByteArray =
+        stringReader(fileIndex).tableItemBytes(index)
 
     private val fileToBodyMap = mutableMapOf<Int, IrArrayReader>()
-    override fun body(index: Int, fileIndex: Int): ByteArray {
-        val dataReader = fileToBodyMap.getOrPut(fileIndex) {
+    private fun bodyReader(fileIndex: Int) =
+        fileToBodyMap.getOrPut(fileIndex) {
             val fileDirectory = directories[fileIndex]
             IrArrayReader(access.realFiles {
                 it.irBodies(fileDirectory)
             })
         }
-        return dataReader.tableItemBytes(index)
-    }
+
+    override fun body(index: Int, fileIndex: Int): ByteArray =
+        bodyReader(fileIndex).tableItemBytes(index)
+
+    override fun bodyBuffer(index: Int, fileIndex: Int): ByteBuffer =
+        bodyReader(fileIndex).tableItemBuffer(index)
 
     override fun file(index: Int): ByteArray {
         return access.realFiles {
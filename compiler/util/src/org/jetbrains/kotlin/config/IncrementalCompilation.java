@@ -16,6 +16,7 @@
 
 package org.jetbrains.kotlin.config;
 
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.TestOnly;
 
 import java.util.List;
@@ -24,14 +25,51 @@ public class IncrementalCompilation {
     public static final String INCREMENTAL_COMPILATION_JVM_PROPERTY = "kotlin.incremental.compilation";
     public static final String INCREMENTAL_COMPILATION_JS_PROPERTY = "kotlin.incremental.compilation.js";
 
+    // Values for the compilation running in the current thread (and the threads it starts), overriding the system properties.
+    // Used when several compilations run concurrently in one process, e.g. in the compile daemon
+    private static final ThreadLocal<Boolean> isEnabledForJvmInThread = new InheritableThreadLocal<>();
+    private static final ThreadLocal<Boolean> isEnabledForJsInThread = new InheritableThreadLocal<>();
+
     public static boolean isEnabledForJvm() {
+        Boolean isEnabledInThread = isEnabledForJvmInThread.get();
+        if (isEnabledInThread != null) return isEnabledInThread;
         return "true".equals(System.getProperty(INCREMENTAL_COMPILATION_JVM_PROPERTY));
     }
 
     public static boolean isEnabledForJs() {
+        Boolean isEnabledInThread = isEnabledForJsInThread.get();
+        if (isEnabledInThread != null) return isEnabledInThread;
         return "true".equals(System.getProperty(INCREMENTAL_COMPILATION_JS_PROPERTY));
     }
 
+    @Nullable
+    public static Boolean getIsEnabledForJvmInThread() {
+        return isEnabledForJvmInThread.get();
+    }
+
+    public static void setIsEnabledForJvmInThread(@Nullable Boolean value) {
+        if (value == null) {
+            isEnabledForJvmInThread.remove();
+        }
+        else {
+            isEnabledForJvmInThread.set(value);
+        }
+    }
+
+    @Nullable
+    public static Boolean getIsEnabledForJsInThread() {
+        return isEnabledForJsInThread.get();
+    }
+
+    public static void setIsEnabledForJsInThread(@Nullable Boolean value) {
+        if (value == null) {
+            isEnabledForJsInThread.remove();
+        }
+        else {
+            isEnabledForJsInThread.set(value);
+        }
+    }
+
     @TestOnly
     public static void setIsEnabledForJvm(boolean value) {
         System.setProperty(INCREMENTAL_COMPILATION_JVM_PROPERTY, String.valueOf(value));
@@ -17,6 +17,9 @@
 package org.jetbrains.kotlin.utils.fileUtils
 
 import java.io.File
+import java.io.IOException
+import java.nio.file.Files
+import java.nio.file.StandardCopyOption
 
 fun File.withReplacedExtensionOrNull(oldExt: String, newExt: String): File? {
     if (name.endsWith(oldExt)) {
@@ -47,4 +50,26 @@ fun File.descendantRelativeTo(base: File): File {
     } else {
         this
     }
-}
\ No newline at end of file
+}
+
+/**
+ * Writes this file with [write], which is given a temporary file in the same directory. The temporary file is then atomically moved
+ * to this one, so that other threads and processes never see a partially written file.
+ *
+ * Returns `false` if the file couldn't be written.
+ */
+fun File.writeAtomically(write: (File) -> Unit): Boolean {
+    var temp: File? = null
+    try {
+        parentFile.mkdirs()
+        temp = File.createTempFile(name.padEnd(3, '_'), ".tmp", parentFile)
+        write(temp)
+        Files.move(temp.toPath(), toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE)
+        temp = null
+        return true
+    } catch (e: IOException) {
+        return false
+    } finally {
+        temp?.delete()
+    }
+}
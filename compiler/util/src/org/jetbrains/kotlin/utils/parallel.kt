@@ -0,0 +1,51 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.utils
+
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.Executors
+
+/**
+ * Applies [transform] to [items] on at most [threads] threads, and passes the results to [consume] on the calling thread in the order
+ * of [items], each one as soon as it's ready, so that the result doesn't depend on the number of threads.
+ *
+ * An exception thrown by [transform] is rethrown on the calling thread when its item is reached, the remaining tasks are cancelled.
+ * With a single thread or item, everything is done on the calling thread.
+ */
+fun <T, R> processInParallel(items: List<T>, threads: Int, transform: (T) -> R, consume: (T, R) -> Unit) {
+    if (threads <= 1 || items.size <= 1) {
+        for (item in items) {
+            consume(item, transform(item))
+        }
+        return
+    }
+
+    val executor = Executors.newFixedThreadPool(minOf(threads, items.size))
+    try {
+        val tasks = items.map { item -> executor.submit(Callable { transform(item) }) }
+        for ((item, task) in items.zip(tasks)) {
+            val result = try {
+                task.get()
+            } catch (e: ExecutionException) {
+                throw e.cause ?: e
+            }
+            consume(item, result)
+        }
+    } finally {
+        executor.shutdownNow()
+    }
+}
+
+fun <T, R> mapInParallel(items: List<T>, threads: Int, transform: (T) -> R): List<R> {
+    val results = ArrayList<R>(items.size)
+    processInParallel(items, threads, transform) { _, result -> results.add(result) }
+    return results
+}
+
+fun <T> forEachInParallel(items: List<T>, threads: Int, action: (T) -> Unit) {
+    processInParallel(items, threads, action) { _, _ -> }
+}
@@ -44,4 +44,4 @@ private fun position(str: CharSequence, offset: Int): String {
     return "(line: $line)"
 }
 
-
+fun ByteArray.toHexString(): String = joinToString("") { "%02x".format(it) }
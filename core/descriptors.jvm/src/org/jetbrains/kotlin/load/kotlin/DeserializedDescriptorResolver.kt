@@ -19,6 +19,7 @@ package org.jetbrains.kotlin.load.kotlin
 import org.jetbrains.kotlin.descriptors.ClassDescriptor
 import org.jetbrains.kotlin.descriptors.PackageFragmentDescriptor
 import org.jetbrains.kotlin.load.kotlin.header.KotlinClassHeader
+import org.jetbrains.kotlin.metadata.deserialization.SerializedMembers
 import org.jetbrains.kotlin.metadata.jvm.deserialization.JvmMetadataVersion
 import org.jetbrains.kotlin.metadata.jvm.deserialization.JvmProtoBufUtil
 import org.jetbrains.kotlin.protobuf.InvalidProtocolBufferException
@@ -41,6 +42,9 @@ class DeserializedDescriptorResolver {
     private val skipMetadataVersionCheck: Boolean
         get() = components.configuration.skipMetadataVersionCheck
 
+    private val lazyMemberDeserialization: Boolean
+        get() = components.configuration.lazyMemberDeserialization
+
     fun resolveClass(kotlinClass: KotlinJvmBinaryClass): ClassDescriptor? {
         val classData = readClassData(kotlinClass) ?: return null
         return components.classDeserializer.deserializeClass(kotlinClass.classId, classData)
@@ -49,24 +53,26 @@ class DeserializedDescriptorResolver {
     internal fun readClassData(kotlinClass: KotlinJvmBinaryClass): ClassData? {
         val data = readData(kotlinClass, KOTLIN_CLASS) ?: return null
         val strings = kotlinClass.classHeader.strings ?: return null
-        val (nameResolver, classProto) = parseProto(kotlinClass) {
-            JvmProtoBufUtil.readClassDataFrom(data, strings)
+        val (nameResolver, classProto, serializedMembers) = parseProto(kotlinClass) {
+            if (lazyMemberDeserialization) JvmProtoBufUtil.readClassDataWithSerializedMembersFrom(data, strings)
+            else JvmProtoBufUtil.readClassDataFrom(data, strings).withoutSerializedMembers()
         } ?: return null
         val source = KotlinJvmBinarySourceElement(kotlinClass, kotlinClass.incompatibility, kotlinClass.isPreReleaseInvisible)
-        return ClassData(nameResolver, classProto, kotlinClass.classHeader.metadataVersion, source)
+        return ClassData(nameResolver, classProto, kotlinClass.classHeader.metadataVersion, source, serializedMembers)
     }
 
     fun createKotlinPackagePartScope(descriptor: PackageFragmentDescriptor, kotlinClass: KotlinJvmBinaryClass): MemberScope? {
         val data = readData(kotlinClass, KOTLIN_FILE_FACADE_OR_MULTIFILE_CLASS_PART) ?: return null
         val strings = kotlinClass.classHeader.strings ?: return null
-        val (nameResolver, packageProto) = parseProto(kotlinClass) {
-            JvmProtoBufUtil.readPackageDataFrom(data, strings)
+        val (nameResolver, packageProto, serializedMembers) = parseProto(kotlinClass) {
+            if (lazyMemberDeserialization) JvmProtoBufUtil.readPackageDataWithSerializedMembersFrom(data, strings)
+            else JvmProtoBufUtil.readPackageDataFrom(data, strings).withoutSerializedMembers()
         } ?: return null
         val source = JvmPackagePartSource(
             kotlinClass, packageProto, nameResolver, kotlinClass.incompatibility, kotlinClass.isPreReleaseInvisible
         )
         return DeserializedPackageMemberScope(
-            descriptor, packageProto, nameResolver, kotlinClass.classHeader.metadataVersion, source, components
+            descriptor, packageProto, nameResolver, kotlinClass.classHeader.metadataVersion, source, components, serializedMembers
         ) {
             // All classes are included into Java scope
             emptyList()
@@ -99,6 +105,8 @@ class DeserializedDescriptorResolver {
         return (header.data ?: header.incompatibleData)?.takeIf { header.kind in expectedKinds }
     }
 
+    private fun <N, P> Pair<N, P>.withoutSerializedMembers(): Triple<N, P, SerializedMembers?> = Triple(first, second, null)
+
     private inline fun <T : Any> parseProto(klass: KotlinJvmBinaryClass, block: () -> T): T? =
         try {
             try {
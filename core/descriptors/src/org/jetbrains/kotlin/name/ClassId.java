@@ -88,7 +88,7 @@ public final class ClassId {
     @NotNull
     public FqName asSingleFqName() {
         if (packageFqName.isRoot()) return relativeClassName;
-        return new FqName(packageFqName.asString() + "." + relativeClassName.asString());
+        return NameInterner.internIfEnabled(new FqName(packageFqName.asString() + "." + relativeClassName.asString()));
     }
 
     public boolean startsWith(@NotNull Name segment) {
@@ -107,7 +107,9 @@ public final class ClassId {
     public static ClassId fromString(@NotNull String string, boolean isLocal) {
         String packageName = StringsKt.substringBeforeLast(string, '/', "").replace('/', '.');
         String className = StringsKt.substringAfterLast(string, '/', string);
-        return new ClassId(new FqName(packageName), new FqName(className), isLocal);
+        return new ClassId(
+                NameInterner.internIfEnabled(new FqName(packageName)), NameInterner.internIfEnabled(new FqName(className)), isLocal
+        );
     }
 
     /**
@@ -25,7 +25,7 @@ public final class FqName {
 
     @NotNull
     public static FqName fromSegments(@NotNull List<String> names) {
-        return new FqName(StringsKt.join(names, "."));
+        return NameInterner.internIfEnabled(new FqName(StringsKt.join(names, ".")));
     }
 
     public static final FqName ROOT = new FqName("");
@@ -73,14 +73,14 @@ public final class FqName {
             throw new IllegalStateException("root");
         }
 
-        parent = new FqName(fqName.parent());
+        parent = NameInterner.internIfEnabled(new FqName(fqName.parent()));
 
         return parent;
     }
 
     @NotNull
     public FqName child(@NotNull Name name) {
-        return new FqName(fqName.child(name), this);
+        return NameInterner.internIfEnabled(new FqName(fqName.child(name), this));
     }
 
     @NotNull
@@ -104,7 +104,7 @@ public final class FqName {
 
     @NotNull
     public static FqName topLevel(@NotNull Name shortName) {
-        return new FqName(FqNameUnsafe.topLevel(shortName));
+        return NameInterner.internIfEnabled(new FqName(FqNameUnsafe.topLevel(shortName)));
     }
 
     @Override
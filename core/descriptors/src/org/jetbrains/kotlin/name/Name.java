@@ -52,7 +52,7 @@ public final class Name implements Comparable<Name> {
 
     @NotNull
     public static Name identifier(@NotNull String name) {
-        return new Name(name, false);
+        return NameInterner.internIfEnabled(new Name(name, false));
     }
 
     public static boolean isValidIdentifier(@NotNull String name) {
@@ -72,7 +72,7 @@ public final class Name implements Comparable<Name> {
         if (!name.startsWith("<")) {
             throw new IllegalArgumentException("special name must start with '<': " + name);
         }
-        return new Name(name, true);
+        return NameInterner.internIfEnabled(new Name(name, true));
     }
 
     @NotNull
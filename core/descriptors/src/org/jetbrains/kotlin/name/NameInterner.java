@@ -0,0 +1,59 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.name;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.ref.WeakReference;
+import java.util.WeakHashMap;
+
+/**
+ * Keeps one instance of equal names, so that names created by parsing, deserialization, IR linking etc. don't duplicate each other
+ * in memory and are compared by identity in maps (see the identity checks in {@code equals} of {@link Name} and {@link FqName}).
+ *
+ * Interning of names created by factory methods of {@link Name} and {@link FqName}, and of names in {@link ClassId}s created from strings,
+ * is enabled by the {@link #ENABLED_PROPERTY} system property. The public constructor of {@link FqName} always creates a new instance.
+ * Interned names are referenced weakly and are collected once they are not used.
+ */
+public final class NameInterner {
+    public static final String ENABLED_PROPERTY = "kotlin.names.interning";
+
+    private static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+    private static final NameInterner INSTANCE = new NameInterner();
+
+    // Synchronized separately, the number of segments must be a power of two
+    private static final int SEGMENT_COUNT = 64;
+
+    private final WeakHashMap<Object, WeakReference<Object>>[] segments;
+
+    @SuppressWarnings("unchecked")
+    public NameInterner() {
+        segments = new WeakHashMap[SEGMENT_COUNT];
+        for (int i = 0; i < SEGMENT_COUNT; i++) {
+            segments[i] = new WeakHashMap<Object, WeakReference<Object>>();
+        }
+    }
+
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public <T> T intern(@NotNull T value) {
+        int hash = value.hashCode();
+        WeakHashMap<Object, WeakReference<Object>> segment = segments[(hash ^ (hash >>> 16)) & (SEGMENT_COUNT - 1)];
+        synchronized (segment) {
+            WeakReference<Object> reference = segment.get(value);
+            Object interned = reference != null ? reference.get() : null;
+            if (interned != null) return (T) interned;
+
+            segment.put(value, new WeakReference<Object>(value));
+            return value;
+        }
+    }
+
+    @NotNull
+    static <T> T internIfEnabled(@NotNull T value) {
+        return ENABLED ? INSTANCE.intern(value) : value;
+    }
+}
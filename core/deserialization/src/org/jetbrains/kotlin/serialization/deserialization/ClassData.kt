@@ -9,10 +9,13 @@ import org.jetbrains.kotlin.descriptors.SourceElement
 import org.jetbrains.kotlin.metadata.ProtoBuf
 import org.jetbrains.kotlin.metadata.deserialization.BinaryVersion
 import org.jetbrains.kotlin.metadata.deserialization.NameResolver
+import org.jetbrains.kotlin.metadata.deserialization.SerializedMembers
 
 data class ClassData(
     val nameResolver: NameResolver,
     val classProto: ProtoBuf.Class,
     val metadataVersion: BinaryVersion,
-    val sourceElement: SourceElement
+    val sourceElement: SourceElement,
+    // If not null, members of the class are read from it rather than from [classProto]
+    val serializedMembers: SerializedMembers? = null
 )
@@ -39,7 +39,7 @@ class ClassDeserializer(private val components: DeserializationComponents) {
         }
         if (classId in BLACK_LIST) return null
 
-        val (nameResolver, classProto, metadataVersion, sourceElement) = key.classData
+        val (nameResolver, classProto, metadataVersion, sourceElement, serializedMembers) = key.classData
             ?: components.classDataFinder.findClassData(classId)
             ?: return null
 
@@ -65,7 +65,7 @@ class ClassDeserializer(private val components: DeserializationComponents) {
             )
         }
 
-        return DeserializedClassDescriptor(outerContext, classProto, nameResolver, metadataVersion, sourceElement)
+        return DeserializedClassDescriptor(outerContext, classProto, nameResolver, metadataVersion, sourceElement, serializedMembers)
     }
 
     private class ClassKey(val classId: ClassId, val classData: ClassData?) {
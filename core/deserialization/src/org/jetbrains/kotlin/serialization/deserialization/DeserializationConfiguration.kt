@@ -24,5 +24,9 @@ interface DeserializationConfiguration {
     val releaseCoroutines: Boolean
         get() = false
 
+    // Members of classes and packages are kept serialized and parsed on the first lookup, where the metadata format supports it
+    val lazyMemberDeserialization: Boolean
+        get() = false
+
     object Default : DeserializationConfiguration
 }
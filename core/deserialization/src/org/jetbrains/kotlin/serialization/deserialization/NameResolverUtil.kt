@@ -5,13 +5,21 @@
 
 package org.jetbrains.kotlin.serialization.deserialization
 
+import org.jetbrains.kotlin.metadata.deserialization.CachingNameResolver
 import org.jetbrains.kotlin.metadata.deserialization.NameResolver
 import org.jetbrains.kotlin.name.ClassId
 import org.jetbrains.kotlin.name.Name
 
-fun NameResolver.getClassId(index: Int): ClassId {
-    return ClassId.fromString(getQualifiedClassName(index), isLocalClassName(index))
-}
+fun NameResolver.getClassId(index: Int): ClassId =
+    if (this is CachingNameResolver) classIdCache.getOrPut(index) { createClassId(index) } as ClassId
+    else createClassId(index)
 
 fun NameResolver.getName(index: Int): Name =
+    if (this is CachingNameResolver) nameCache.getOrPut(index) { createName(index) } as Name
+    else createName(index)
+
+private fun NameResolver.createClassId(index: Int): ClassId =
+    ClassId.fromString(getQualifiedClassName(index), isLocalClassName(index))
+
+private fun NameResolver.createName(index: Int): Name =
     Name.guessByFirstCharacter(getString(index))
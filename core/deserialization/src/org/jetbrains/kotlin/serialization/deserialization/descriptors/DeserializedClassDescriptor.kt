@@ -37,7 +37,8 @@ class DeserializedClassDescriptor(
     val classProto: ProtoBuf.Class,
     nameResolver: NameResolver,
     val metadataVersion: BinaryVersion,
-    private val sourceElement: SourceElement
+    private val sourceElement: SourceElement,
+    private val serializedMembers: SerializedMembers? = null
 ) : AbstractClassDescriptor(
     outerContext.storageManager,
     nameResolver.getClassId(classProto.fqName).shortClassName
@@ -217,7 +218,7 @@ class DeserializedClassDescriptor(
     }
 
     private inner class DeserializedClassMemberScope(private val kotlinTypeRefiner: KotlinTypeRefiner) : DeserializedMemberScope(
-        c, classProto.functionList, classProto.propertyList, classProto.typeAliasList,
+        c, classProto.functionList, classProto.propertyList, classProto.typeAliasList, serializedMembers,
         classProto.nestedClassNameList.map(c.nameResolver::getName).let { { it } } // workaround KT-13454
     ) {
         private val classDescriptor: DeserializedClassDescriptor get() = this@DeserializedClassDescriptor
@@ -357,6 +358,10 @@ class DeserializedClassDescriptor(
                 }
             }
 
+            if (serializedMembers != null) {
+                return (serializedMembers.functionNames + serializedMembers.propertyNames).mapTo(result) { c.nameResolver.getName(it) }
+            }
+
             return classProto.functionList.mapTo(result) { c.nameResolver.getName(it.name) } +
                     classProto.propertyList.mapTo(result) { c.nameResolver.getName(it.name) }
         }
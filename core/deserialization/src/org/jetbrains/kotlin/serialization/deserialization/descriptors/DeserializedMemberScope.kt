@@ -19,6 +19,7 @@ package org.jetbrains.kotlin.serialization.deserialization.descriptors
 import org.jetbrains.kotlin.descriptors.*
 import org.jetbrains.kotlin.incremental.components.LookupLocation
 import org.jetbrains.kotlin.metadata.ProtoBuf
+import org.jetbrains.kotlin.metadata.deserialization.SerializedMembers
 import org.jetbrains.kotlin.name.ClassId
 import org.jetbrains.kotlin.name.Name
 import org.jetbrains.kotlin.protobuf.AbstractMessageLite
@@ -42,25 +43,13 @@ abstract class DeserializedMemberScope protected constructor(
     functionList: Collection<ProtoBuf.Function>,
     propertyList: Collection<ProtoBuf.Property>,
     typeAliasList: Collection<ProtoBuf.TypeAlias>,
+    serializedMembers: SerializedMembers?,
     classNames: () -> Collection<Name>
 ) : MemberScopeImpl() {
 
-    private val functionProtosBytes = functionList.groupByName { it.name }.packToByteArray()
-
-    private val propertyProtosBytes = propertyList.groupByName { it.name }.packToByteArray()
-
-    private val typeAliasBytes =
-        if (c.components.configuration.typeAliasesAllowed)
-            typeAliasList.groupByName { it.name }.packToByteArray()
-        else
-            emptyMap()
-
-    private fun Map<Name, Collection<AbstractMessageLite>>.packToByteArray(): Map<Name, ByteArray> =
-        mapValues { entry ->
-            val byteArrayOutputStream = ByteArrayOutputStream()
-            entry.value.map { proto -> proto.writeDelimitedTo(byteArrayOutputStream) }
-            byteArrayOutputStream.toByteArray()
-        }
+    private val impl: Implementation =
+        if (serializedMembers != null) SerializedMembersImplementation(serializedMembers)
+        else PackedImplementation(functionList, propertyList, typeAliasList)
 
     private val functions =
         c.storageManager.createMemoizedFunction<Name, Collection<SimpleFunctionDescriptor>> { computeFunctions(it) }
@@ -70,14 +59,14 @@ abstract class DeserializedMemberScope protected constructor(
         c.storageManager.createMemoizedFunctionWithNullableValues<Name, TypeAliasDescriptor> { createTypeAlias(it) }
 
     private val functionNamesLazy by c.storageManager.createLazyValue {
-        functionProtosBytes.keys + getNonDeclaredFunctionNames()
+        impl.functionNames + getNonDeclaredFunctionNames()
     }
 
     private val variableNamesLazy by c.storageManager.createLazyValue {
-        propertyProtosBytes.keys + getNonDeclaredVariableNames()
+        impl.variableNames + getNonDeclaredVariableNames()
     }
 
-    private val typeAliasNames: Set<Name> get() = typeAliasBytes.keys
+    private val typeAliasNames: Set<Name> get() = impl.typeAliasNames
 
     internal val classNames by c.storageManager.createLazyValue { classNames().toSet() }
 
@@ -89,37 +78,13 @@ abstract class DeserializedMemberScope protected constructor(
         return name !in functionNamesLazy && name !in variableNamesLazy && name !in classNames && name !in typeAliasNames
     }
 
-    private inline fun <M : MessageLite> Collection<M>.groupByName(
-        getNameIndex: (M) -> Int
-    ) = groupBy { c.nameResolver.getName(getNameIndex(it)) }
-
     private fun computeFunctions(name: Name) =
         computeDescriptors(
-            name,
-            functionProtosBytes,
-            ProtoBuf.Function.PARSER,
+            impl.getFunctionProtos(name),
             { c.memberDeserializer.loadFunction(it) },
             { computeNonDeclaredFunctions(name, it) }
         )
 
-    private inline fun <M : MessageLite, D : DeclarationDescriptor> computeDescriptors(
-        name: Name,
-        bytesByName: Map<Name, ByteArray>,
-        parser: Parser<M>,
-        factory: (M) -> D,
-        computeNonDeclared: (MutableCollection<D>) -> Unit
-    ): Collection<D> =
-        computeDescriptors(
-            bytesByName[name]?.let {
-                val inputStream = ByteArrayInputStream(it)
-                generateSequence {
-                    parser.parseDelimitedFrom(inputStream, c.components.extensionRegistryLite)
-                }.toList()
-            } ?: emptyList(),
-            factory,
-            computeNonDeclared
-        )
-
     private inline fun <M : MessageLite, D : DeclarationDescriptor> computeDescriptors(
         protos: Collection<M>,
         factory: (M) -> D,
@@ -141,9 +106,7 @@ abstract class DeserializedMemberScope protected constructor(
 
     private fun computeProperties(name: Name) =
         computeDescriptors(
-            name,
-            propertyProtosBytes,
-            ProtoBuf.Property.PARSER,
+            impl.getPropertyProtos(name),
             { c.memberDeserializer.loadProperty(it) },
             { computeNonDeclaredProperties(name, it) }
         )
@@ -152,11 +115,7 @@ abstract class DeserializedMemberScope protected constructor(
     }
 
     private fun createTypeAlias(name: Name): TypeAliasDescriptor? {
-        val byteArray = typeAliasBytes[name] ?: return null
-        val proto =
-            ProtoBuf.TypeAlias.parseDelimitedFrom(
-                ByteArrayInputStream(byteArray), c.components.extensionRegistryLite
-            ) ?: return null
+        val proto = impl.getTypeAliasProto(name) ?: return null
         return c.memberDeserializer.loadTypeAlias(proto)
     }
 
@@ -268,4 +227,95 @@ abstract class DeserializedMemberScope protected constructor(
         p.popIndent()
         p.println("}")
     }
+
+    private interface Implementation {
+        val functionNames: Set<Name>
+        val variableNames: Set<Name>
+        val typeAliasNames: Set<Name>
+
+        fun getFunctionProtos(name: Name): Collection<ProtoBuf.Function>
+        fun getPropertyProtos(name: Name): Collection<ProtoBuf.Property>
+        fun getTypeAliasProto(name: Name): ProtoBuf.TypeAlias?
+    }
+
+    // Members of each name are serialized into a byte array when the scope is created, and parsed back when they are looked up
+    private inner class PackedImplementation(
+        functionList: Collection<ProtoBuf.Function>,
+        propertyList: Collection<ProtoBuf.Property>,
+        typeAliasList: Collection<ProtoBuf.TypeAlias>
+    ) : Implementation {
+        private val functionProtosBytes = functionList.groupByName { it.name }.packToByteArray()
+
+        private val propertyProtosBytes = propertyList.groupByName { it.name }.packToByteArray()
+
+        private val typeAliasBytes =
+            if (c.components.configuration.typeAliasesAllowed)
+                typeAliasList.groupByName { it.name }.packToByteArray()
+            else
+                emptyMap()
+
+        private fun Map<Name, Collection<AbstractMessageLite>>.packToByteArray(): Map<Name, ByteArray> =
+            mapValues { entry ->
+                val byteArrayOutputStream = ByteArrayOutputStream()
+                entry.value.map { proto -> proto.writeDelimitedTo(byteArrayOutputStream) }
+                byteArrayOutputStream.toByteArray()
+            }
+
+        private inline fun <M : MessageLite> Collection<M>.groupByName(
+            getNameIndex: (M) -> Int
+        ) = groupBy { c.nameResolver.getName(getNameIndex(it)) }
+
+        override val functionNames: Set<Name> get() = functionProtosBytes.keys
+        override val variableNames: Set<Name> get() = propertyProtosBytes.keys
+        override val typeAliasNames: Set<Name> get() = typeAliasBytes.keys
+
+        override fun getFunctionProtos(name: Name): Collection<ProtoBuf.Function> =
+            parseProtos(functionProtosBytes[name], ProtoBuf.Function.PARSER)
+
+        override fun getPropertyProtos(name: Name): Collection<ProtoBuf.Property> =
+            parseProtos(propertyProtosBytes[name], ProtoBuf.Property.PARSER)
+
+        override fun getTypeAliasProto(name: Name): ProtoBuf.TypeAlias? {
+            val byteArray = typeAliasBytes[name] ?: return null
+            return ProtoBuf.TypeAlias.parseDelimitedFrom(ByteArrayInputStream(byteArray), c.components.extensionRegistryLite)
+        }
+
+        private fun <M : MessageLite> parseProtos(bytes: ByteArray?, parser: Parser<M>): Collection<M> {
+            if (bytes == null) return emptyList()
+            val inputStream = ByteArrayInputStream(bytes)
+            return generateSequence {
+                parser.parseDelimitedFrom(inputStream, c.components.extensionRegistryLite)
+            }.toList()
+        }
+    }
+
+    // Members are left serialized in the metadata of the class or package, and parsed only when they are looked up
+    private inner class SerializedMembersImplementation(private val members: SerializedMembers) : Implementation {
+        private val functionNameIndices = members.functionNames.groupByName()
+
+        private val propertyNameIndices = members.propertyNames.groupByName()
+
+        private val typeAliasNameIndices =
+            if (c.components.configuration.typeAliasesAllowed)
+                members.typeAliasNames.groupByName()
+            else
+                emptyMap()
+
+        // Several indices in the string table may contain the same name
+        private fun Collection<Int>.groupByName(): Map<Name, List<Int>> = groupBy { c.nameResolver.getName(it) }
+
+        override val functionNames: Set<Name> get() = functionNameIndices.keys
+        override val variableNames: Set<Name> get() = propertyNameIndices.keys
+        override val typeAliasNames: Set<Name> get() = typeAliasNameIndices.keys
+
+        // Members of all indices of the name are parsed in the order they were serialized in, as by PackedImplementation
+        override fun getFunctionProtos(name: Name): Collection<ProtoBuf.Function> =
+            members.getFunctions(functionNameIndices[name].orEmpty(), c.components.extensionRegistryLite)
+
+        override fun getPropertyProtos(name: Name): Collection<ProtoBuf.Property> =
+            members.getProperties(propertyNameIndices[name].orEmpty(), c.components.extensionRegistryLite)
+
+        override fun getTypeAliasProto(name: Name): ProtoBuf.TypeAlias? =
+            members.getTypeAliases(typeAliasNameIndices[name].orEmpty(), c.components.extensionRegistryLite).firstOrNull()
+    }
 }
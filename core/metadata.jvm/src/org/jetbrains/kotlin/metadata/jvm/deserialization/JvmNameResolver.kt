@@ -5,7 +5,8 @@
 
 package org.jetbrains.kotlin.metadata.jvm.deserialization
 
-import org.jetbrains.kotlin.metadata.deserialization.NameResolver
+import org.jetbrains.kotlin.metadata.deserialization.CachingNameResolver
+import org.jetbrains.kotlin.metadata.deserialization.NameResolverCache
 import org.jetbrains.kotlin.metadata.jvm.JvmProtoBuf
 import org.jetbrains.kotlin.metadata.jvm.JvmProtoBuf.StringTableTypes.Record
 import org.jetbrains.kotlin.metadata.jvm.JvmProtoBuf.StringTableTypes.Record.Operation.*
@@ -13,7 +14,7 @@ import org.jetbrains.kotlin.metadata.jvm.JvmProtoBuf.StringTableTypes.Record.Ope
 class JvmNameResolver(
     val types: JvmProtoBuf.StringTableTypes,
     val strings: Array<String>
-) : NameResolver {
+) : CachingNameResolver {
     private val localNameIndices = types.localNameList.run { if (isEmpty()) emptySet() else toSet() }
 
     // Here we expand the 'range' field of the Record message for simplicity to a list of records
@@ -28,7 +29,15 @@ class JvmNameResolver(
         this.trimToSize()
     }
 
-    override fun getString(index: Int): String {
+    private val decodedStrings = NameResolverCache<String>(records.size)
+
+    override val classIdCache = NameResolverCache<Any>(records.size)
+
+    override val nameCache = NameResolverCache<Any>(records.size)
+
+    override fun getString(index: Int): String = decodedStrings.getOrPut(index) { decodeString(index) }
+
+    private fun decodeString(index: Int): String {
         val record = records[index]
 
         var string = when {
@@ -42,6 +42,34 @@ object JvmProtoBufUtil {
         return Pair(input.readNameResolver(strings), ProtoBuf.Package.parseFrom(input, EXTENSION_REGISTRY))
     }
 
+    /**
+     * Same as [readClassDataFrom] and [readPackageDataFrom], but functions, properties and type aliases are left serialized
+     * in the returned [SerializedMembers] rather than read into the class or package.
+     */
+    @JvmStatic
+    fun readClassDataWithSerializedMembersFrom(
+        data: Array<String>,
+        strings: Array<String>
+    ): Triple<JvmNameResolver, ProtoBuf.Class, SerializedMembers> {
+        val bytes = BitEncoding.decodeBytes(data)
+        val input = ByteArrayInputStream(bytes)
+        val nameResolver = input.readNameResolver(strings)
+        val (classProto, members) = SerializedMembers.readClass(bytes, bytes.size - input.available(), EXTENSION_REGISTRY)
+        return Triple(nameResolver, classProto, members)
+    }
+
+    @JvmStatic
+    fun readPackageDataWithSerializedMembersFrom(
+        data: Array<String>,
+        strings: Array<String>
+    ): Triple<JvmNameResolver, ProtoBuf.Package, SerializedMembers> {
+        val bytes = BitEncoding.decodeBytes(data)
+        val input = ByteArrayInputStream(bytes)
+        val nameResolver = input.readNameResolver(strings)
+        val (packageProto, members) = SerializedMembers.readPackage(bytes, bytes.size - input.available(), EXTENSION_REGISTRY)
+        return Triple(nameResolver, packageProto, members)
+    }
+
     @JvmStatic
     fun readFunctionDataFrom(data: Array<String>, strings: Array<String>): Pair<JvmNameResolver, ProtoBuf.Function> {
         val input = ByteArrayInputStream(BitEncoding.decodeBytes(data))
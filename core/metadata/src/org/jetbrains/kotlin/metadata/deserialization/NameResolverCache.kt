@@ -0,0 +1,39 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.metadata.deserialization
+
+/**
+ * Values computed from names of a [NameResolver], by index of the name. The array for them is allocated on the first access.
+ *
+ * Accesses are not synchronized, so a value may be computed more than once by concurrent threads. Values should be immutable
+ * (with final fields), so that they are safely published to other threads.
+ */
+class NameResolverCache<T : Any>(@PublishedApi internal val size: Int) {
+    @PublishedApi
+    @Volatile
+    internal var values: Array<Any?>? = null
+
+    @Suppress("UNCHECKED_CAST")
+    inline fun getOrPut(index: Int, compute: () -> T): T {
+        if (index < 0 || index >= size) return compute()
+
+        val array = values ?: arrayOfNulls<Any?>(size).also { values = it }
+        (array[index] as T?)?.let { return it }
+        return compute().also { array[index] = it }
+    }
+}
+
+/**
+ * Name resolver which caches objects created from its names by the code that can't be referenced from here, e.g. `ClassId`s and `Name`s
+ * in NameResolverUtil.kt.
+ */
+interface CachingNameResolver : NameResolver {
+    // By qualified class name index
+    val classIdCache: NameResolverCache<Any>
+
+    // By string index
+    val nameCache: NameResolverCache<Any>
+}
@@ -12,13 +12,19 @@ import java.util.*
 class NameResolverImpl(
     private val strings: ProtoBuf.StringTable,
     private val qualifiedNames: ProtoBuf.QualifiedNameTable
-) : NameResolver {
+) : CachingNameResolver {
+    private val qualifiedClassNames = NameResolverCache<String>(qualifiedNames.qualifiedNameCount)
+
+    override val classIdCache = NameResolverCache<Any>(qualifiedNames.qualifiedNameCount)
+
+    override val nameCache = NameResolverCache<Any>(strings.stringCount)
+
     override fun getString(index: Int): String = strings.getString(index)
 
-    override fun getQualifiedClassName(index: Int): String {
+    override fun getQualifiedClassName(index: Int): String = qualifiedClassNames.getOrPut(index) {
         val (packageFqNameSegments, relativeClassNameSegments) = traverseIds(index)
         val className = relativeClassNameSegments.joinToString(".")
-        return if (packageFqNameSegments.isEmpty()) className
+        if (packageFqNameSegments.isEmpty()) className
         else packageFqNameSegments.joinToString("/") + "/$className"
     }
 
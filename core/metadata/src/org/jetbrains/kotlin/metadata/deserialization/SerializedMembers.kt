@@ -0,0 +1,139 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.metadata.deserialization
+
+import org.jetbrains.kotlin.metadata.ProtoBuf
+import org.jetbrains.kotlin.protobuf.*
+import java.io.ByteArrayOutputStream
+
+/**
+ * Functions, properties and type aliases of a class or a package, left serialized in the bytes of its metadata and grouped by indices
+ * of their names, so that only the members which are looked up are parsed.
+ *
+ * Created by [readClass] and [readPackage], which parse the rest of the class or package message. Members of each name are parsed
+ * in the order they were serialized in.
+ */
+class SerializedMembers private constructor(private val bytes: ByteArray) {
+    // Offsets and lengths of the members in [bytes], by name index
+    private val functions = LinkedHashMap<Int, IntArray>()
+    private val properties = LinkedHashMap<Int, IntArray>()
+    private val typeAliases = LinkedHashMap<Int, IntArray>()
+
+    val functionNames: Set<Int> get() = functions.keys
+    val propertyNames: Set<Int> get() = properties.keys
+    val typeAliasNames: Set<Int> get() = typeAliases.keys
+
+    // Members with any of [names], which may be different indices of the same string, in the order they were serialized in
+    fun getFunctions(names: Collection<Int>, extensionRegistry: ExtensionRegistryLite): List<ProtoBuf.Function> =
+        parse(slicesOf(functions, names), ProtoBuf.Function.PARSER, extensionRegistry)
+
+    fun getProperties(names: Collection<Int>, extensionRegistry: ExtensionRegistryLite): List<ProtoBuf.Property> =
+        parse(slicesOf(properties, names), ProtoBuf.Property.PARSER, extensionRegistry)
+
+    fun getTypeAliases(names: Collection<Int>, extensionRegistry: ExtensionRegistryLite): List<ProtoBuf.TypeAlias> =
+        parse(slicesOf(typeAliases, names), ProtoBuf.TypeAlias.PARSER, extensionRegistry)
+
+    private fun slicesOf(members: Map<Int, IntArray>, names: Collection<Int>): IntArray? {
+        if (names.size == 1) return members[names.first()]
+
+        val slices = names.mapNotNull { members[it] }
+        if (slices.size <= 1) return slices.firstOrNull()
+
+        // Slices of each name are sorted by offset already, they are merged in the order of offsets
+        val starts = slices.flatMap { slice -> (slice.indices step 2).map { slice[it] to slice[it + 1] } }.sortedBy { it.first }
+        val result = IntArray(starts.size * 2)
+        starts.forEachIndexed { i, (start, length) ->
+            result[2 * i] = start
+            result[2 * i + 1] = length
+        }
+        return result
+    }
+
+    private fun <M : MessageLite> parse(slices: IntArray?, parser: Parser<M>, extensionRegistry: ExtensionRegistryLite): List<M> {
+        if (slices == null) return emptyList()
+        return (slices.indices step 2).map { i ->
+            parser.parseFrom(CodedInputStream.newInstance(bytes, slices[i], slices[i + 1]), extensionRegistry)
+        }
+    }
+
+    // Collects members of the message which starts at [offset] and lasts until the end of [bytes], returns the rest of its fields
+    private fun read(offset: Int, functionField: Int, propertyField: Int, typeAliasField: Int): ByteArray {
+        val input = CodedInputStream.newInstance(bytes, offset, bytes.size - offset)
+        val rest = ByteArrayOutputStream(bytes.size - offset)
+        val output = CodedOutputStream.newInstance(rest)
+
+        while (true) {
+            val tag = input.readTag()
+            if (tag == 0) break
+
+            val members = when (WireFormat.getTagFieldNumber(tag)) {
+                functionField -> functions
+                propertyField -> properties
+                typeAliasField -> typeAliases
+                else -> null
+            }
+            if (members == null || tag and TAG_TYPE_MASK != WireFormat.WIRETYPE_LENGTH_DELIMITED) {
+                input.skipField(tag, output)
+                continue
+            }
+
+            val length = input.readRawVarint32()
+            val start = offset + input.totalBytesRead
+            input.skipRawBytes(length)
+
+            val name = readName(start, length)
+            val slice = intArrayOf(start, length)
+            members[name] = members[name]?.plus(slice) ?: slice
+        }
+
+        output.flush()
+        return rest.toByteArray()
+    }
+
+    private fun readName(offset: Int, length: Int): Int {
+        val input = CodedInputStream.newInstance(bytes, offset, length)
+        while (true) {
+            val tag = input.readTag()
+            if (tag == 0) throw InvalidProtocolBufferException("Member without a name in the metadata")
+            if (tag == NAME_TAG) return input.readInt32()
+            input.skipField(tag)
+        }
+    }
+
+    companion object {
+        private const val TAG_TYPE_MASK = 7
+
+        // The name has the same field number in Function, Property and TypeAlias
+        private const val NAME_TAG = (ProtoBuf.Function.NAME_FIELD_NUMBER shl 3) or WireFormat.WIRETYPE_VARINT
+
+        /**
+         * Reads a [ProtoBuf.Class] without its functions, properties and type aliases from [bytes] starting at [offset],
+         * the members are returned serialized.
+         */
+        @JvmStatic
+        fun readClass(bytes: ByteArray, offset: Int, extensionRegistry: ExtensionRegistryLite): Pair<ProtoBuf.Class, SerializedMembers> {
+            val members = SerializedMembers(bytes)
+            val rest = members.read(
+                offset, ProtoBuf.Class.FUNCTION_FIELD_NUMBER, ProtoBuf.Class.PROPERTY_FIELD_NUMBER, ProtoBuf.Class.TYPE_ALIAS_FIELD_NUMBER
+            )
+            return Pair(ProtoBuf.Class.parseFrom(rest, extensionRegistry), members)
+        }
+
+        /**
+         * Reads a [ProtoBuf.Package] without its functions, properties and type aliases from [bytes] starting at [offset],
+         * the members are returned serialized.
+         */
+        @JvmStatic
+        fun readPackage(bytes: ByteArray, offset: Int, extensionRegistry: ExtensionRegistryLite): Pair<ProtoBuf.Package, SerializedMembers> {
+            val members = SerializedMembers(bytes)
+            val rest = members.read(
+                offset,
+                ProtoBuf.Package.FUNCTION_FIELD_NUMBER, ProtoBuf.Package.PROPERTY_FIELD_NUMBER, ProtoBuf.Package.TYPE_ALIAS_FIELD_NUMBER
+            )
+            return Pair(ProtoBuf.Package.parseFrom(rest, extensionRegistry), members)
+        }
+    }
+}
@@ -69,10 +69,10 @@ public class LockBasedStorageManager implements StorageManager {
     }
 
     protected final Lock lock;
-    private final ExceptionHandlingStrategy exceptionHandlingStrategy;
+    final ExceptionHandlingStrategy exceptionHandlingStrategy;
     private final String debugText;
 
-    private LockBasedStorageManager(
+    protected LockBasedStorageManager(
             @NotNull String debugText,
             @NotNull ExceptionHandlingStrategy exceptionHandlingStrategy,
             @NotNull Lock lock
@@ -252,7 +252,7 @@ public class LockBasedStorageManager implements StorageManager {
     }
 
     @NotNull
-    private static <K> ConcurrentMap<K, Object> createConcurrentHashMap() {
+    static <K> ConcurrentMap<K, Object> createConcurrentHashMap() {
         // memory optimization: fewer segments and entries stored
         return new ConcurrentHashMap<K, Object>(3, 1, 2);
     }
@@ -262,7 +262,7 @@ public class LockBasedStorageManager implements StorageManager {
         throw sanitizeStackTrace(new IllegalStateException("Recursive call in a lazy value under " + this));
     }
 
-    private static class RecursionDetectedResult<T> {
+    static class RecursionDetectedResult<T> {
 
         @NotNull
         public static <T> RecursionDetectedResult<T> value(T value) {
@@ -591,7 +591,7 @@ public class LockBasedStorageManager implements StorageManager {
     }
 
     @NotNull
-    private static <T extends Throwable> T sanitizeStackTrace(@NotNull T throwable) {
+    static <T extends Throwable> T sanitizeStackTrace(@NotNull T throwable) {
         StackTraceElement[] stackTrace = throwable.getStackTrace();
         int size = stackTrace.length;
 
@@ -663,9 +663,9 @@ public class LockBasedStorageManager implements StorageManager {
     }
 
     // equals and hashCode use only key
-    private static class KeyWithComputation<K, V> {
+    static class KeyWithComputation<K, V> {
         private final K key;
-        private final Function0<? extends V> computation;
+        final Function0<? extends V> computation;
 
         public KeyWithComputation(K key, Function0<? extends V> computation) {
             this.key = key;
@@ -0,0 +1,703 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.storage;
+
+import kotlin.Unit;
+import kotlin.jvm.functions.Function0;
+import kotlin.jvm.functions.Function1;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.kotlin.utils.ExceptionUtilsKt;
+import org.jetbrains.kotlin.utils.WrappedValues;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A storage manager which guards every lazy value and every key of a memoized function with its own lock instead of one lock
+ * shared by all computations, so that independent values can be computed concurrently from several threads.
+ *
+ * The contracts of {@link LockBasedStorageManager} are preserved: every value is computed at most once, exceptions are stored
+ * and rethrown through the {@link ExceptionHandlingStrategy}, and recursion is reported through the same callbacks.
+ *
+ * A thread which needs a value currently computed by another thread waits for it. If waiting would close a cycle
+ * (thread A computes X and waits for Y, while thread B computes Y and requests X), the computations depend on each other,
+ * which in a single-threaded mode would be a recursive call; the thread closing the cycle then gets the recursion handling
+ * of the requested value instead of a deadlock.
+ *
+ * Which thread closes such a cycle depends on scheduling, so the values computed by that thread while it was in the cycle
+ * (i.e. by all computations it was running at that moment) aren't stored: they are returned to their callers, and the next call
+ * computes them again. The threads waiting for them compute them themselves, the same way as a single thread would. Results
+ * stored elsewhere by the callers (e.g. in other caches) may still depend on the recursion handling of the cycle.
+ *
+ * {@link #compute} sections are still mutually exclusive, but the global lock is released while a thread waits for a value
+ * computed by another thread.
+ */
+public class PerKeyLockingStorageManager extends LockBasedStorageManager {
+    @NotNull
+    public static PerKeyLockingStorageManager create(
+            @NotNull String debugText,
+            @NotNull ExceptionHandlingStrategy exceptionHandlingStrategy
+    ) {
+        return new PerKeyLockingStorageManager(
+                debugText, exceptionHandlingStrategy, new ReentrantLock(), new ConcurrentHashMap<Thread, Computation>(),
+                new RunningComputations()
+        );
+    }
+
+    private final ReentrantLock computeLock;
+
+    // Which computation each blocked thread is waiting for, used to detect cycles between threads
+    private final ConcurrentMap<Thread, Computation> waitingFor;
+
+    // Computations run by the current thread, the innermost one is the last
+    private final RunningComputations runningComputations;
+
+    private PerKeyLockingStorageManager(
+            @NotNull String debugText,
+            @NotNull ExceptionHandlingStrategy exceptionHandlingStrategy,
+            @NotNull ReentrantLock computeLock,
+            @NotNull ConcurrentMap<Thread, Computation> waitingFor,
+            @NotNull RunningComputations runningComputations
+    ) {
+        super(debugText, exceptionHandlingStrategy, computeLock);
+        this.computeLock = computeLock;
+        this.waitingFor = waitingFor;
+        this.runningComputations = runningComputations;
+    }
+
+    public PerKeyLockingStorageManager(String debugText) {
+        this(debugText, ExceptionHandlingStrategy.THROW, new ReentrantLock(), new ConcurrentHashMap<Thread, Computation>(),
+             new RunningComputations());
+    }
+
+    @Override
+    public LockBasedStorageManager replaceExceptionHandling(
+            @NotNull String debugText, @NotNull ExceptionHandlingStrategy exceptionHandlingStrategy
+    ) {
+        return new PerKeyLockingStorageManager(debugText, exceptionHandlingStrategy, computeLock, waitingFor, runningComputations);
+    }
+
+    @NotNull
+    @Override
+    public <K, V> MemoizedFunctionToNotNull<K, V> createMemoizedFunction(
+            @NotNull Function1<? super K, ? extends V> compute,
+            @NotNull ConcurrentMap<K, Object> map
+    ) {
+        return new PerKeyMemoizedFunctionToNotNull<K, V>(this, map, compute);
+    }
+
+    @NotNull
+    @Override
+    public <K, V> MemoizedFunctionToNullable<K, V> createMemoizedFunctionWithNullableValues(
+            @NotNull Function1<? super K, ? extends V> compute,
+            @NotNull ConcurrentMap<K, Object> map
+    ) {
+        return new PerKeyMemoizedFunction<K, V>(this, map, compute);
+    }
+
+    @NotNull
+    @Override
+    public <T> NotNullLazyValue<T> createLazyValue(@NotNull Function0<? extends T> computable) {
+        return new PerKeyNotNullLazyValue<T>(this, computable);
+    }
+
+    @NotNull
+    @Override
+    public <T> NotNullLazyValue<T> createLazyValue(
+            @NotNull Function0<? extends T> computable,
+            @NotNull final Function1<? super Boolean, ? extends T> onRecursiveCall
+    ) {
+        return new PerKeyNotNullLazyValue<T>(this, computable) {
+            @NotNull
+            @Override
+            protected RecursionDetectedResult<T> recursionDetected(boolean firstTime) {
+                return RecursionDetectedResult.value(onRecursiveCall.invoke(firstTime));
+            }
+        };
+    }
+
+    @NotNull
+    @Override
+    public <T> NotNullLazyValue<T> createRecursionTolerantLazyValue(
+            @NotNull Function0<? extends T> computable, @NotNull final T onRecursiveCall
+    ) {
+        return new PerKeyNotNullLazyValue<T>(this, computable) {
+            @NotNull
+            @Override
+            protected RecursionDetectedResult<T> recursionDetected(boolean firstTime) {
+                return RecursionDetectedResult.value(onRecursiveCall);
+            }
+
+            @Override
+            protected String presentableName() {
+                return "RecursionTolerantLazyValue";
+            }
+        };
+    }
+
+    @NotNull
+    @Override
+    public <T> NotNullLazyValue<T> createLazyValueWithPostCompute(
+            @NotNull Function0<? extends T> computable,
+            final Function1<? super Boolean, ? extends T> onRecursiveCall,
+            @NotNull final Function1<? super T, Unit> postCompute
+    ) {
+        return new PerKeyNotNullLazyValueWithPostCompute<T>(this, computable) {
+            @NotNull
+            @Override
+            protected RecursionDetectedResult<T> recursionDetected(boolean firstTime) {
+                if (onRecursiveCall == null) {
+                    return super.recursionDetected(firstTime);
+                }
+                return RecursionDetectedResult.value(onRecursiveCall.invoke(firstTime));
+            }
+
+            @Override
+            protected void doPostCompute(@NotNull T value) {
+                postCompute.invoke(value);
+            }
+
+            @Override
+            protected String presentableName() {
+                return "PerKeyNotNullLazyValueWithPostCompute";
+            }
+        };
+    }
+
+    @NotNull
+    @Override
+    public <T> NullableLazyValue<T> createNullableLazyValue(@NotNull Function0<? extends T> computable) {
+        return new PerKeyLazyValue<T>(this, computable);
+    }
+
+    @NotNull
+    @Override
+    public <T> NullableLazyValue<T> createRecursionTolerantNullableLazyValue(@NotNull Function0<? extends T> computable, final T onRecursiveCall) {
+        return new PerKeyLazyValue<T>(this, computable) {
+            @NotNull
+            @Override
+            protected RecursionDetectedResult<T> recursionDetected(boolean firstTime) {
+                return RecursionDetectedResult.value(onRecursiveCall);
+            }
+
+            @Override
+            protected String presentableName() {
+                return "RecursionTolerantNullableLazyValue";
+            }
+        };
+    }
+
+    @NotNull
+    @Override
+    public <T> NullableLazyValue<T> createNullableLazyValueWithPostCompute(
+            @NotNull Function0<? extends T> computable, @NotNull final Function1<? super T, Unit> postCompute
+    ) {
+        return new PerKeyLazyValueWithPostCompute<T>(this, computable) {
+            @Override
+            protected void doPostCompute(T value) {
+                postCompute.invoke(value);
+            }
+
+            @Override
+            protected String presentableName() {
+                return "NullableLazyValueWithPostCompute";
+            }
+        };
+    }
+
+    @NotNull
+    @Override
+    public <K, V> CacheWithNullableValues<K, V> createCacheWithNullableValues() {
+        return new PerKeyCacheWithNullableValues<K, V>(
+                this, LockBasedStorageManager.<KeyWithComputation<K, V>>createConcurrentHashMap());
+    }
+
+    @NotNull
+    @Override
+    public <K, V> CacheWithNotNullValues<K, V> createCacheWithNotNullValues() {
+        return new PerKeyCacheWithNotNullValues<K, V>(
+                this, LockBasedStorageManager.<KeyWithComputation<K, V>>createConcurrentHashMap());
+    }
+
+    /**
+     * Waits until the given computation owned by another thread is finished.
+     *
+     * @return {@code true} if waiting would result in a deadlock, i.e. the owner of the computation (transitively) waits
+     *         for the current thread; nothing is waited for in this case, and the values computed by the current thread
+     *         at the moment aren't going to be stored
+     */
+    private boolean awaitOrDetectCycle(@NotNull Computation computation) {
+        Thread current = Thread.currentThread();
+        // Registration happens-before the check, so out of two threads closing a cycle simultaneously at least one sees it
+        waitingFor.put(current, computation);
+        try {
+            if (leadsToThread(computation, current)) {
+                for (Computation running : runningComputations.get()) {
+                    running.dependsOnCycle = true;
+                }
+                return true;
+            }
+
+            // Never block while holding the compute() lock: the owner of the computation may need it to make progress
+            int holdCount = computeLock.getHoldCount();
+            for (int i = 0; i < holdCount; i++) {
+                computeLock.unlock();
+            }
+            try {
+                computation.await();
+            }
+            finally {
+                for (int i = 0; i < holdCount; i++) {
+                    computeLock.lock();
+                }
+            }
+            return false;
+        }
+        finally {
+            waitingFor.remove(current);
+        }
+    }
+
+    private void enter(@NotNull Computation computation) {
+        runningComputations.get().add(computation);
+    }
+
+    private void exit() {
+        List<Computation> computations = runningComputations.get();
+        computations.remove(computations.size() - 1);
+    }
+
+    private static final class RunningComputations extends ThreadLocal<List<Computation>> {
+        @Override
+        protected List<Computation> initialValue() {
+            return new ArrayList<Computation>();
+        }
+    }
+
+    private boolean leadsToThread(@NotNull Computation computation, @NotNull Thread thread) {
+        Computation next = computation;
+        // Waiting chains can only be cyclic if they lead back to the given thread, the bound protects against stale entries
+        for (int i = 0; next != null && i <= waitingFor.size(); i++) {
+            if (next.owner == thread) return true;
+            next = waitingFor.get(next.owner);
+        }
+        return false;
+    }
+
+    /**
+     * A marker stored instead of a value while it's being computed, other threads wait on it for the computation to finish.
+     */
+    private static final class Computation {
+        private final Thread owner = Thread.currentThread();
+        private volatile boolean recursionDetected = false;
+        // Accessed only by the owner, set if the computation depends on recursion handling of a cycle between threads
+        private boolean dependsOnCycle = false;
+        private boolean finished = false;
+
+        synchronized void finish() {
+            finished = true;
+            notifyAll();
+        }
+
+        synchronized void await() {
+            boolean interrupted = false;
+            while (!finished) {
+                try {
+                    wait();
+                }
+                catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "COMPUTING in " + owner.getName();
+        }
+    }
+
+    private enum NotValue {
+        NOT_COMPUTED,
+        RECURSION_WAS_DETECTED
+    }
+
+    private static class PerKeyLazyValue<T> implements NullableLazyValue<T> {
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<PerKeyLazyValue, Object> VALUE_UPDATER =
+                AtomicReferenceFieldUpdater.newUpdater(PerKeyLazyValue.class, Object.class, "value");
+
+        private final PerKeyLockingStorageManager storageManager;
+        private final Function0<? extends T> computable;
+
+        @Nullable
+        private volatile Object value = NotValue.NOT_COMPUTED;
+
+        public PerKeyLazyValue(@NotNull PerKeyLockingStorageManager storageManager, @NotNull Function0<? extends T> computable) {
+            this.storageManager = storageManager;
+            this.computable = computable;
+        }
+
+        @Override
+        public boolean isComputed() {
+            Object _value = value;
+            return _value != NotValue.NOT_COMPUTED && !(_value instanceof Computation);
+        }
+
+        @Override
+        public boolean isComputing() {
+            return value instanceof Computation;
+        }
+
+        @Override
+        public T invoke() {
+            while (true) {
+                Object _value = value;
+                if (!(_value instanceof NotValue) && !(_value instanceof Computation)) return WrappedValues.unescapeThrowable(_value);
+
+                if (_value instanceof Computation) {
+                    Computation computation = (Computation) _value;
+                    if (computation.owner != Thread.currentThread()) {
+                        if (!storageManager.awaitOrDetectCycle(computation)) {
+                            // The other thread has finished, re-read the value
+                            continue;
+                        }
+
+                        // The computation of the other thread isn't affected, it's going to store its value as usual
+                        RecursionDetectedResult<T> result = recursionDetected(/*firstTime = */ true);
+                        if (!result.isFallThrough()) {
+                            return result.getValue();
+                        }
+                        return computable.invoke();
+                    }
+
+                    boolean firstTime = !computation.recursionDetected;
+                    computation.recursionDetected = true;
+                    RecursionDetectedResult<T> result = recursionDetected(firstTime);
+                    if (!result.isFallThrough()) {
+                        return result.getValue();
+                    }
+                    return computeValue(computation);
+                }
+
+                if (_value == NotValue.RECURSION_WAS_DETECTED) {
+                    RecursionDetectedResult<T> result = recursionDetected(/*firstTime = */ false);
+                    if (!result.isFallThrough()) {
+                        return result.getValue();
+                    }
+                }
+
+                Computation computation = new Computation();
+                if (!VALUE_UPDATER.compareAndSet(this, _value, computation)) continue;
+
+                storageManager.enter(computation);
+                try {
+                    return computeValue(computation);
+                }
+                finally {
+                    storageManager.exit();
+                    computation.finish();
+                }
+            }
+        }
+
+        private T computeValue(@NotNull Computation computation) {
+            try {
+                T typedValue = computable.invoke();
+
+                // Don't publish computed value till post compute is finished as it may cause a race condition
+                // if post compute modifies value internals.
+                postCompute(typedValue);
+
+                value = computation.dependsOnCycle ? NotValue.NOT_COMPUTED : typedValue;
+                return typedValue;
+            }
+            catch (Throwable throwable) {
+                if (ExceptionUtilsKt.isProcessCanceledException(throwable)) {
+                    value = NotValue.NOT_COMPUTED;
+                    //noinspection ConstantConditions
+                    throw (RuntimeException)throwable;
+                }
+                if (computation.dependsOnCycle) {
+                    value = NotValue.NOT_COMPUTED;
+                    throw storageManager.exceptionHandlingStrategy.handleException(throwable);
+                }
+
+                // Store only if it's a genuine result, not something thrown through recursionDetected()
+                value = computation.recursionDetected ? NotValue.RECURSION_WAS_DETECTED : WrappedValues.escapeThrowable(throwable);
+                throw storageManager.exceptionHandlingStrategy.handleException(throwable);
+            }
+        }
+
+        /**
+         * @param firstTime {@code true} when recursion has been just detected, {@code false} otherwise
+         * @return a value to be returned on a recursive call or subsequent calls
+         */
+        @NotNull
+        protected RecursionDetectedResult<T> recursionDetected(boolean firstTime) {
+            return storageManager.recursionDetectedDefault();
+        }
+
+        protected void postCompute(T value) {
+            // Default post compute implementation doesn't publish the value till it is finished
+        }
+
+        @NotNull
+        public String renderDebugInformation() {
+            return presentableName() + ", storageManager=" + storageManager;
+        }
+
+        protected String presentableName() {
+            return this.getClass().getName();
+        }
+    }
+
+    /**
+     * Computed value has an early publication and accessible from the same thread while executing a post-compute lambda.
+     * For other threads value will be accessible only after post-compute lambda is finished.
+     */
+    private static abstract class PerKeyLazyValueWithPostCompute<T> extends PerKeyLazyValue<T> {
+        @Nullable
+        private volatile SingleThreadValue<T> valuePostCompute = null;
+
+        public PerKeyLazyValueWithPostCompute(
+                @NotNull PerKeyLockingStorageManager storageManager,
+                @NotNull Function0<? extends T> computable
+        ) {
+            super(storageManager, computable);
+        }
+
+        @Override
+        public T invoke() {
+            SingleThreadValue<T> postComputeCache = valuePostCompute;
+            if (postComputeCache != null && postComputeCache.hasValue()) {
+                return postComputeCache.getValue();
+            }
+
+            return super.invoke();
+        }
+
+        // Doing something in post-compute helps prevent infinite recursion
+        @Override
+        protected final void postCompute(T value) {
+            // Protected from rewrites in other threads because only the owner of the computation executes it
+            valuePostCompute = new SingleThreadValue<T>(value);
+            try {
+                doPostCompute(value);
+            } finally {
+                valuePostCompute = null;
+            }
+        }
+
+        protected abstract void doPostCompute(T value);
+    }
+
+    private static abstract class PerKeyNotNullLazyValueWithPostCompute<T> extends PerKeyLazyValueWithPostCompute<T>
+            implements NotNullLazyValue<T> {
+        public PerKeyNotNullLazyValueWithPostCompute(
+                @NotNull PerKeyLockingStorageManager storageManager,
+                @NotNull Function0<? extends T> computable
+        ) {
+            super(storageManager, computable);
+        }
+
+        @Override
+        @NotNull
+        public T invoke() {
+            T result = super.invoke();
+            assert result != null : "compute() returned null";
+            return result;
+        }
+    }
+
+    private static class PerKeyNotNullLazyValue<T> extends PerKeyLazyValue<T> implements NotNullLazyValue<T> {
+        public PerKeyNotNullLazyValue(@NotNull PerKeyLockingStorageManager storageManager, @NotNull Function0<? extends T> computable) {
+            super(storageManager, computable);
+        }
+
+        @Override
+        @NotNull
+        public T invoke() {
+            T result = super.invoke();
+            assert result != null : "compute() returned null";
+            return result;
+        }
+    }
+
+    private static class PerKeyMemoizedFunction<K, V> implements MemoizedFunctionToNullable<K, V> {
+        private final PerKeyLockingStorageManager storageManager;
+        private final ConcurrentMap<K, Object> cache;
+        private final Function1<? super K, ? extends V> compute;
+
+        public PerKeyMemoizedFunction(
+                @NotNull PerKeyLockingStorageManager storageManager,
+                @NotNull ConcurrentMap<K, Object> map,
+                @NotNull Function1<? super K, ? extends V> compute
+        ) {
+            this.storageManager = storageManager;
+            this.cache = map;
+            this.compute = compute;
+        }
+
+        @Override
+        @Nullable
+        public V invoke(K input) {
+            while (true) {
+                Object value = cache.get(input);
+                if (value != null && !(value instanceof Computation)) return WrappedValues.unescapeExceptionOrNull(value);
+
+                if (value != null) {
+                    Computation computation = (Computation) value;
+                    if (computation.owner == Thread.currentThread() || storageManager.awaitOrDetectCycle(computation)) {
+                        throw recursionDetected(input);
+                    }
+                    continue;
+                }
+
+                Computation computation = new Computation();
+                if (cache.putIfAbsent(input, computation) != null) continue;
+
+                storageManager.enter(computation);
+                try {
+                    return computeValue(input, computation);
+                }
+                finally {
+                    storageManager.exit();
+                    computation.finish();
+                }
+            }
+        }
+
+        private V computeValue(K input, @NotNull Computation computation) {
+            V typedValue;
+            try {
+                typedValue = compute.invoke(input);
+            }
+            catch (Throwable throwable) {
+                if (ExceptionUtilsKt.isProcessCanceledException(throwable)) {
+                    cache.remove(input, computation);
+                    //noinspection ConstantConditions
+                    throw (RuntimeException)throwable;
+                }
+                if (computation.dependsOnCycle) {
+                    cache.remove(input, computation);
+                    throw storageManager.exceptionHandlingStrategy.handleException(throwable);
+                }
+
+                Object escapedThrowable = WrappedValues.escapeThrowable(throwable);
+                Object published = publish(input, computation, escapedThrowable);
+                if (published != escapedThrowable) {
+                    // Someone else has already stored a result for the key (possible if the map doesn't retain values strongly)
+                    return WrappedValues.unescapeExceptionOrNull(published);
+                }
+                throw storageManager.exceptionHandlingStrategy.handleException(throwable);
+            }
+
+            if (computation.dependsOnCycle) {
+                cache.remove(input, computation);
+                return typedValue;
+            }
+            return WrappedValues.unescapeExceptionOrNull(publish(input, computation, WrappedValues.escapeNull(typedValue)));
+        }
+
+        /**
+         * @return the value which is eventually stored for the key: the given one, or the one stored by another thread if
+         *         the computation marker was evicted from the map while the value was being computed
+         */
+        @NotNull
+        private Object publish(K input, @NotNull Computation computation, @NotNull Object value) {
+            if (cache.replace(input, computation, value)) return value;
+
+            Object oldValue = cache.putIfAbsent(input, value);
+            if (oldValue == null || oldValue instanceof Computation) {
+                cache.put(input, value);
+                return value;
+            }
+            return oldValue;
+        }
+
+        @NotNull
+        private AssertionError recursionDetected(K input) {
+            return sanitizeStackTrace(
+                    new AssertionError("Recursion detected on input: " + input + " under " + storageManager)
+            );
+        }
+
+        @Override
+        public boolean isComputed(K key) {
+            Object value = cache.get(key);
+            return value != null && !(value instanceof Computation);
+        }
+
+        protected PerKeyLockingStorageManager getStorageManager() {
+            return storageManager;
+        }
+    }
+
+    private static class PerKeyMemoizedFunctionToNotNull<K, V> extends PerKeyMemoizedFunction<K, V> implements MemoizedFunctionToNotNull<K, V> {
+        public PerKeyMemoizedFunctionToNotNull(
+                @NotNull PerKeyLockingStorageManager storageManager, @NotNull ConcurrentMap<K, Object> map,
+                @NotNull Function1<? super K, ? extends V> compute
+        ) {
+            super(storageManager, map, compute);
+        }
+
+        @NotNull
+        @Override
+        public V invoke(K input) {
+            V result = super.invoke(input);
+            assert result != null : "compute() returned null under " + getStorageManager();
+            return result;
+        }
+    }
+
+    private static class PerKeyCacheWithNullableValues<K, V> extends PerKeyMemoizedFunction<KeyWithComputation<K, V>, V>
+            implements CacheWithNullableValues<K, V> {
+        private PerKeyCacheWithNullableValues(
+                @NotNull PerKeyLockingStorageManager storageManager,
+                @NotNull ConcurrentMap<KeyWithComputation<K, V>, Object> map
+        ) {
+            super(storageManager, map, new Function1<KeyWithComputation<K, V>, V>() {
+                @Override
+                public V invoke(KeyWithComputation<K, V> computation) {
+                    return computation.computation.invoke();
+                }
+            });
+        }
+
+        @Nullable
+        @Override
+        public V computeIfAbsent(K key, @NotNull Function0<? extends V> computation) {
+            return invoke(new KeyWithComputation<K, V>(key, computation));
+        }
+    }
+
+    private static class PerKeyCacheWithNotNullValues<K, V> extends PerKeyCacheWithNullableValues<K, V>
+            implements CacheWithNotNullValues<K, V> {
+        private PerKeyCacheWithNotNullValues(
+                @NotNull PerKeyLockingStorageManager storageManager,
+                @NotNull ConcurrentMap<KeyWithComputation<K, V>, Object> map
+        ) {
+            super(storageManager, map);
+        }
+
+        @NotNull
+        @Override
+        public V computeIfAbsent(K key, @NotNull Function0<? extends V> computation) {
+            V result = super.computeIfAbsent(key, computation);
+            assert result != null : "computeIfAbsent() returned null under " + getStorageManager();
+            return result;
+        }
+    }
+}
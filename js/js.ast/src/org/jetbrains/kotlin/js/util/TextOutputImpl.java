@@ -4,15 +4,23 @@
 
 package org.jetbrains.kotlin.js.util;
 
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.Arrays;
 
 public class TextOutputImpl implements TextOutput {
     private final boolean compact;
     private int identLevel = 0;
     private final static int indentGranularity = 2;
+    private final static int FLUSH_THRESHOLD = 8192;
     private char[][] indents = new char[][] {new char[0]};
     private boolean justNewlined;
     private final StringBuilder out;
+    @Nullable
+    private final Writer writer;
     private int position = 0;
     private int line = 0;
     private int column = 0;
@@ -26,10 +34,31 @@ public class TextOutputImpl implements TextOutput {
     }
 
     public TextOutputImpl(boolean compact) {
+        this(compact, null);
+    }
+
+    /**
+     * If {@code writer} is not null, the text is written to it line by line instead of being kept in memory,
+     * so that {@link #toString()} returns only the text which isn't flushed yet. Call {@link #flush()} after the last line.
+     */
+    public TextOutputImpl(boolean compact, @Nullable Writer writer) {
         this.compact = compact;
+        this.writer = writer;
         out = new StringBuilder();
     }
 
+    public void flush() {
+        if (writer == null) return;
+        try {
+            writer.append(out);
+            writer.flush();
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        out.setLength(0);
+    }
+
     @Override
     public String toString() {
         return out.toString();
@@ -76,6 +105,9 @@ public class TextOutputImpl implements TextOutput {
         line++;
         column = 0;
         justNewlined = true;
+        if (writer != null && out.length() >= FLUSH_THRESHOLD) {
+            flush();
+        }
     }
 
     @Override
@@ -8,6 +8,7 @@ dependencies {
     compile(project(":compiler:util"))
     compile(project(":js:js.ast"))
     compile(project(":js:js.translator"))
+    compile(project(":js:js.serializer"))
     compileOnly(intellijCoreDep()) { includeJars("intellij-core") }
 }
 
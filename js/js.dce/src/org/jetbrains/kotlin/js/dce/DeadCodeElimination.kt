@@ -19,10 +19,7 @@ package org.jetbrains.kotlin.js.dce
 import com.google.gwt.dev.js.rhino.CodePosition
 import com.google.gwt.dev.js.rhino.ErrorReporter
 import org.jetbrains.kotlin.js.backend.JsToStringGenerationVisitor
-import org.jetbrains.kotlin.js.backend.ast.JsBlock
-import org.jetbrains.kotlin.js.backend.ast.JsGlobalBlock
-import org.jetbrains.kotlin.js.backend.ast.JsNode
-import org.jetbrains.kotlin.js.backend.ast.JsProgram
+import org.jetbrains.kotlin.js.backend.ast.*
 import org.jetbrains.kotlin.js.dce.Context.Node
 import org.jetbrains.kotlin.js.facade.SourceMapBuilderConsumer
 import org.jetbrains.kotlin.js.inline.util.collectDefinedNames
@@ -35,8 +32,8 @@ import org.jetbrains.kotlin.js.parser.sourcemaps.SourceMapSuccess
 import org.jetbrains.kotlin.js.sourceMap.SourceFilePathResolver
 import org.jetbrains.kotlin.js.sourceMap.SourceMap3Builder
 import org.jetbrains.kotlin.js.util.TextOutputImpl
+import org.jetbrains.kotlin.utils.mapInParallel
 import java.io.File
-import java.io.InputStreamReader
 
 class DeadCodeElimination(private val logConsumer: (DCELogLevel, String) -> Unit) {
     val moduleMapping = mutableMapOf<JsBlock, String>()
@@ -46,6 +43,11 @@ class DeadCodeElimination(private val logConsumer: (DCELogLevel, String) -> Unit
         private set
 
     fun apply(root: JsNode) {
+        Eliminator(analyze(root)).accept(root)
+    }
+
+    // Finds declarations reachable from [root] and [reachableNames], an [Eliminator] then removes the rest of them
+    private fun analyze(root: JsNode): AnalysisResult {
         val context = Context()
 
         val topLevelVars = collectDefinedNames(root)
@@ -68,78 +70,129 @@ class DeadCodeElimination(private val logConsumer: (DCELogLevel, String) -> Unit
         }
         reachableNodes = usageFinder.reachableNodes
 
-        Eliminator(analyzer.analysisResult).accept(root)
+        return analyzer.analysisResult
     }
 
     companion object {
+        /**
+         * Files are parsed and written in [threads] parallel threads, the analysis of the whole program is done in the current one.
+         *
+         * If [cache] is given, statements parsed from the files and summaries of the outputs are stored in it, so that the files
+         * which haven't changed since the previous run are deserialized instead of being parsed, and aren't written again
+         * if the same declarations are eliminated from them.
+         */
         fun run(
                 inputFiles: Collection<InputFile>,
                 rootReachableNames: Set<String>,
+                threads: Int = 1,
+                cache: DeadCodeEliminationCache? = null,
                 logConsumer: (DCELogLevel, String) -> Unit
         ): DeadCodeEliminationResult {
             val program = JsProgram()
-            val dce = DeadCodeElimination(logConsumer)
+            val log = if (threads > 1) synchronizedLog(logConsumer) else logConsumer
+            val dce = DeadCodeElimination(log)
+
+            val files = inputFiles.toList()
+            val parsedFiles = mapInParallel(files, threads) { file -> parseFile(file, program, cache, log) }
+            if (parsedFiles.any { it == null }) return DeadCodeEliminationResult(emptySet(), DeadCodeEliminationStatus.FAILED)
 
-            var hasErrors = false
-            val blocks = inputFiles.map { file ->
+            val blocks = files.zip(parsedFiles).map { (file, parsedFile) ->
                 val block = JsGlobalBlock()
-                val code = file.resource.reader().let { InputStreamReader(it, "UTF-8") }.use { it.readText() }
-                val statements = parse(code, Reporter(file.resource.name, logConsumer), program.scope, file.resource.name) ?: run {
-                    hasErrors = true
-                    return@map block
-                }
-                val sourceMapParse = file.sourceMapResource
-                        ?.let { SourceMapParser.parse(InputStreamReader(it.reader(), "UTF-8").readText()) }
-                when (sourceMapParse) {
-                    is SourceMapError -> {
-                        logConsumer(
-                                DCELogLevel.WARN,
-                                "Error parsing source map file ${file.sourceMapResource}: ${sourceMapParse.message}")
-                    }
-                    is SourceMapSuccess -> {
-                        val sourceMap = sourceMapParse.value
-                        val remapper = SourceMapLocationRemapper(sourceMap)
-                        statements.forEach { remapper.remap(it) }
-                    }
-                }
-                block.statements += statements
+                block.statements += parsedFile!!.statements
                 file.moduleName?.let { dce.moduleMapping[block] = it }
                 block
             }
 
-            if (hasErrors) return DeadCodeEliminationResult(emptySet(), DeadCodeEliminationStatus.FAILED)
-
             program.globalBlock.statements += blocks
             program.globalBlock.fixForwardNameReferences()
 
             dce.reachableNames += rootReachableNames
-            dce.apply(program.globalBlock)
+            val analysisResult = dce.analyze(program.globalBlock)
+            val eliminators = blocks.map { block -> Eliminator(analysisResult).also { it.accept(block) } }
+
+            mapInParallel(files.indices.toList(), threads) { i ->
+                val file = files[i]
+                val inputHash = parsedFiles[i]!!.inputHash
+                if (cache == null || inputHash == null) {
+                    writeFile(file, blocks[i])
+                } else if (!cache.isOutputUpToDate(file, inputHash, eliminators[i])) {
+                    writeFile(file, blocks[i])
+                    cache.saveOutput(file, inputHash, eliminators[i])
+                }
+            }
 
-            for ((file, block) in inputFiles.zip(blocks)) {
-                val sourceMapFile = File(file.outputPath + ".map")
-                val textOutput = TextOutputImpl()
-                val sourceMapBuilder = SourceMap3Builder(File(file.outputPath), textOutput, "")
+            return DeadCodeEliminationResult(dce.reachableNodes, DeadCodeEliminationStatus.OK)
+        }
 
-                val inputFile = File(file.resource.name)
-                val sourceBaseDir = if (inputFile.exists()) inputFile.parentFile else File(".")
+        private class ParsedFile(val statements: List<JsStatement>, val inputHash: String?)
 
-                val sourcePathResolver = SourceFilePathResolver(emptyList(), File(file.outputPath).parentFile)
-                val consumer = SourceMapBuilderConsumer(sourceBaseDir, sourceMapBuilder, sourcePathResolver, true, true)
-                block.accept(JsToStringGenerationVisitor(textOutput, consumer))
-                val sourceMapContent = sourceMapBuilder.build()
-                sourceMapBuilder.addLink()
+        // Each file is parsed in its own scope, names of different files are bound later by fixForwardNameReferences
+        private fun parseFile(
+                file: InputFile,
+                program: JsProgram,
+                cache: DeadCodeEliminationCache?,
+                logConsumer: (DCELogLevel, String) -> Unit
+        ): ParsedFile? {
+            val codeBytes = file.resource.reader().use { it.readBytes() }
+            val sourceMapBytes = file.sourceMapResource?.let { resource -> resource.reader().use { it.readBytes() } }
+
+            val inputHash = cache?.let { DeadCodeEliminationCache.hash(codeBytes, sourceMapBytes) }
+            if (cache != null && inputHash != null) {
+                cache.loadStatements(file, inputHash, program)?.let { return ParsedFile(it, inputHash) }
+            }
 
-                with(File(file.outputPath)) {
-                    parentFile.mkdirs()
-                    writeText(textOutput.toString())
+            val code = String(codeBytes, Charsets.UTF_8)
+            val scope = JsObjectScope(JsRootScope(program), "Global")
+            val statements = parse(code, Reporter(file.resource.name, logConsumer), scope, file.resource.name) ?: return null
+            val sourceMapParse = sourceMapBytes?.let { SourceMapParser.parse(String(it, Charsets.UTF_8)) }
+            when (sourceMapParse) {
+                is SourceMapError -> {
+                    logConsumer(
+                            DCELogLevel.WARN,
+                            "Error parsing source map file ${file.sourceMapResource}: ${sourceMapParse.message}")
                 }
+                is SourceMapSuccess -> {
+                    val sourceMap = sourceMapParse.value
+                    val remapper = SourceMapLocationRemapper(sourceMap)
+                    statements.forEach { remapper.remap(it) }
+                }
+            }
 
-                if (file.sourceMapResource != null) {
-                    sourceMapFile.writeText(sourceMapContent)
+            if (cache != null && inputHash != null) {
+                cache.saveStatements(file, inputHash, statements)
+            }
+            return ParsedFile(statements, inputHash)
+        }
+
+        // Code and source map are written while they are generated, so that the whole output isn't kept in memory
+        private fun writeFile(file: InputFile, block: JsGlobalBlock) {
+            val outputFile = File(file.outputPath)
+            outputFile.parentFile.mkdirs()
+
+            val inputFile = File(file.resource.name)
+            val sourceBaseDir = if (inputFile.exists()) inputFile.parentFile else File(".")
+            val sourcePathResolver = SourceFilePathResolver(emptyList(), outputFile.parentFile)
+
+            outputFile.bufferedWriter().use { writer ->
+                val sourceMapWriter = if (file.sourceMapResource != null) File(file.outputPath + ".map").bufferedWriter() else null
+                sourceMapWriter.use {
+                    val textOutput = TextOutputImpl(false, writer)
+                    val sourceMapBuilder = SourceMap3Builder(outputFile, textOutput, "", sourceMapWriter)
+                    val consumer = SourceMapBuilderConsumer(sourceBaseDir, sourceMapBuilder, sourcePathResolver, true, true)
+                    block.accept(JsToStringGenerationVisitor(textOutput, consumer))
+
+                    if (sourceMapWriter != null) {
+                        sourceMapBuilder.finish()
+                    }
+                    sourceMapBuilder.addLink()
+                    textOutput.flush()
                 }
             }
+        }
 
-            return DeadCodeEliminationResult(dce.reachableNodes, DeadCodeEliminationStatus.OK)
+        private fun synchronizedLog(logConsumer: (DCELogLevel, String) -> Unit): (DCELogLevel, String) -> Unit {
+            val lock = Any()
+            return { level, message -> synchronized(lock) { logConsumer(level, message) } }
         }
 
         private class Reporter(private val fileName: String, private val logConsumer: (DCELogLevel, String) -> Unit) : ErrorReporter {
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.js.dce
+
+import org.jetbrains.kotlin.js.backend.ast.*
+import org.jetbrains.kotlin.serialization.js.ast.JsAstDeserializer
+import org.jetbrains.kotlin.serialization.js.ast.JsAstSerializer
+import org.jetbrains.kotlin.utils.fileUtils.writeAtomically
+import org.jetbrains.kotlin.utils.strings.toHexString
+import java.io.*
+import java.nio.ByteBuffer
+import java.security.MessageDigest
+import java.util.*
+
+/**
+ * Storage of the incremental mode of [DeadCodeElimination.run] in [directory], so that unchanged input files are neither parsed
+ * nor written again by later runs.
+ *
+ * For each input file it keeps the statements parsed from the file and remapped with its source map, serialized as a JS AST
+ * chunk, and a summary of its last output: the nodes removed from it (see [Eliminator.removedNodes]) and the size and
+ * the modification time of the written files. Entries are identified by the output paths and reused only if the input hash
+ * (see [hash]) is the same.
+ */
+class DeadCodeEliminationCache(private val directory: File) {
+    fun loadStatements(file: InputFile, inputHash: String, program: JsProgram): List<JsStatement>? {
+        try {
+            DataInputStream(BufferedInputStream(FileInputStream(storageFile(file, AST_EXTENSION)))).use { input ->
+                if (!input.readHeader(file, inputHash)) return null
+                val sources = HashMap<String, String>()
+                repeat(input.readInt()) {
+                    sources[input.readUTF()] = String(ByteArray(input.readInt()).also(input::readFully), Charsets.UTF_8)
+                }
+                val statements = JsAstDeserializer(program, emptyList()).deserialize(input).declarationBlock.statements
+                if (sources.isNotEmpty()) {
+                    statements.forEach { embedSources(it, sources) }
+                }
+                return statements
+            }
+        } catch (e: IOException) {
+            return null
+        }
+    }
+
+    fun saveStatements(file: InputFile, inputHash: String, statements: List<JsStatement>) {
+        val fragment = JsProgramFragment(JsRootScope(JsProgram()), "")
+        fragment.declarationBlock.statements += statements
+        val sources = collectEmbeddedSources(statements)
+
+        write(storageFile(file, AST_EXTENSION)) { output ->
+            output.writeHeader(file, inputHash)
+            output.writeInt(sources.size)
+            for ((path, content) in sources) {
+                val bytes = content.toByteArray(Charsets.UTF_8)
+                output.writeUTF(path)
+                output.writeInt(bytes.size)
+                output.write(bytes)
+            }
+            JsAstSerializer(null) { it.path }.serialize(fragment, output)
+        }
+    }
+
+    // Returns true if the files written for [file] by an earlier run are the same as [eliminator] is going to produce now
+    fun isOutputUpToDate(file: InputFile, inputHash: String, eliminator: Eliminator): Boolean {
+        try {
+            DataInputStream(BufferedInputStream(FileInputStream(storageFile(file, OUTPUT_EXTENSION)))).use { input ->
+                if (!input.readHeader(file, inputHash)) return false
+                if (input.readInt() != eliminator.visitedNodes) return false
+                val removedNodes = BitSet.valueOf(LongArray(input.readInt()) { input.readLong() })
+                if (removedNodes != eliminator.removedNodes) return false
+
+                val outputFile = File(file.outputPath)
+                if (input.readLong() != outputFile.length() || input.readLong() != outputFile.lastModified()) return false
+                if (file.sourceMapResource != null) {
+                    val sourceMapFile = File(file.outputPath + ".map")
+                    if (input.readLong() != sourceMapFile.length() || input.readLong() != sourceMapFile.lastModified()) return false
+                }
+                return true
+            }
+        } catch (e: IOException) {
+            return false
+        }
+    }
+
+    fun saveOutput(file: InputFile, inputHash: String, eliminator: Eliminator) {
+        write(storageFile(file, OUTPUT_EXTENSION)) { output ->
+            output.writeHeader(file, inputHash)
+            output.writeInt(eliminator.visitedNodes)
+            val removedNodes = eliminator.removedNodes.toLongArray()
+            output.writeInt(removedNodes.size)
+            removedNodes.forEach(output::writeLong)
+
+            val outputFile = File(file.outputPath)
+            output.writeLong(outputFile.length())
+            output.writeLong(outputFile.lastModified())
+            if (file.sourceMapResource != null) {
+                val sourceMapFile = File(file.outputPath + ".map")
+                output.writeLong(sourceMapFile.length())
+                output.writeLong(sourceMapFile.lastModified())
+            }
+        }
+    }
+
+    private fun storageFile(file: InputFile, extension: String): File = File(directory, sha1(file.outputPath.toByteArray()) + extension)
+
+    private fun DataInputStream.readHeader(file: InputFile, inputHash: String): Boolean =
+        readInt() == FORMAT_VERSION && readUTF() == file.resource.name && readUTF() == inputHash
+
+    private fun DataOutputStream.writeHeader(file: InputFile, inputHash: String) {
+        writeInt(FORMAT_VERSION)
+        writeUTF(file.resource.name)
+        writeUTF(inputHash)
+    }
+
+    private fun write(file: File, writeContent: (DataOutputStream) -> Unit) {
+        // If it's not written, the file is going to be processed from scratch next time
+        file.writeAtomically { temp ->
+            DataOutputStream(BufferedOutputStream(FileOutputStream(temp))).use(writeContent)
+        }
+    }
+
+    // Contents of the original sources embedded into the input source map, which the serialized AST doesn't keep
+    private fun collectEmbeddedSources(statements: List<JsStatement>): Map<String, String> {
+        val sources = LinkedHashMap<String, String>()
+        val visitor = object : RecursiveJsVisitor() {
+            override fun visitElement(node: JsNode) {
+                val location = node.source as? JsLocationWithEmbeddedSource
+                if (location != null && location.file !in sources) {
+                    location.sourceProvider()?.use { sources[location.file] = it.readText() }
+                }
+                super.visitElement(node)
+            }
+        }
+        statements.forEach { it.accept(visitor) }
+        return sources
+    }
+
+    private fun embedSources(statement: JsStatement, sources: Map<String, String>) {
+        statement.accept(object : RecursiveJsVisitor() {
+            override fun visitElement(node: JsNode) {
+                val location = node.source as? JsLocation
+                if (location != null) {
+                    sources[location.file]?.let { content ->
+                        node.source = JsLocationWithEmbeddedSource(location, null) { StringReader(content) }
+                    }
+                }
+                super.visitElement(node)
+            }
+        })
+    }
+
+    companion object {
+        private const val FORMAT_VERSION = 1
+        private const val AST_EXTENSION = ".ast"
+        private const val OUTPUT_EXTENSION = ".output"
+
+        /**
+         * Identifies the contents of an input file, given the bytes of its code and of its source map, if any.
+         */
+        fun hash(code: ByteArray, sourceMap: ByteArray?): String {
+            val digest = MessageDigest.getInstance("SHA-1")
+            digest.update(ByteBuffer.allocate(4).putInt(code.size).array())
+            digest.update(code)
+            sourceMap?.let(digest::update)
+            return digest.digest().toHexString()
+        }
+
+        private fun sha1(value: ByteArray): String =
+            MessageDigest.getInstance("SHA-1").digest(value).toHexString()
+    }
+}
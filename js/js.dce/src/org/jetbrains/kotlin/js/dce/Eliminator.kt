@@ -17,8 +17,18 @@
 package org.jetbrains.kotlin.js.dce
 
 import org.jetbrains.kotlin.js.backend.ast.*
+import java.util.*
 
 class Eliminator(private val analysisResult: AnalysisResult) : JsVisitorWithContextImpl() {
+    /**
+     * Indices of the removed declarations and statements among [visitedNodes] ones, in the order of visiting. Two eliminators
+     * visiting equal ASTs produce equal outputs if they removed the same nodes.
+     */
+    val removedNodes = BitSet()
+
+    var visitedNodes = 0
+        private set
+
     override fun visit(x: JsVars.JsVar, ctx: JsContext<*>): Boolean = removeIfNecessary(x, ctx)
 
     override fun visit(x: JsExpressionStatement, ctx: JsContext<*>): Boolean = removeIfNecessary(x, ctx)
@@ -26,12 +36,15 @@ class Eliminator(private val analysisResult: AnalysisResult) : JsVisitorWithCont
     override fun visit(x: JsReturn, ctx: JsContext<*>): Boolean = removeIfNecessary(x, ctx)
 
     private fun removeIfNecessary(x: JsNode, ctx: JsContext<*>): Boolean {
+        val index = visitedNodes++
         if (x in analysisResult.astNodesToEliminate) {
+            removedNodes.set(index)
             ctx.removeMe()
             return false
         }
         val node = analysisResult.nodeMap[x]?.original
         return if (!isUsed(node)) {
+            removedNodes.set(index)
             ctx.removeMe()
             false
         }
@@ -87,25 +87,7 @@ data class JsonString(val value: String) : JsonNode() {
     override fun write(writer: Writer) {
         writer.append('"')
         for (c in value) {
-            when (c) {
-                '\\' -> writer.append("\\\\")
-                '"' -> writer.append("\\\"")
-                '\r' -> writer.append("\\r")
-                '\n' -> writer.append("\\n")
-                '\t' -> writer.append("\\t")
-                '\b' -> writer.append("\\b")
-                '\u000C' -> writer.append("\\f")
-                in ' '..126.toChar() -> writer.append(c)
-                else -> {
-                    writer.append("\\u")
-                    var shift = 16
-                    repeat(4) {
-                        shift -= 4
-                        val digit = (c.toInt() ushr shift) and 0xF
-                        writer.append(if (digit < 10) (digit + '0'.toInt()).toChar() else (digit - 10 + 'a'.toInt()).toChar())
-                    }
-                }
-            }
+            writeEscaped(c, writer)
         }
         writer.append('"')
     }
@@ -113,6 +95,44 @@ data class JsonString(val value: String) : JsonNode() {
     override fun toString(): String = super.toString()
 }
 
+/**
+ * Writes the text of [content] to [writer] as a JSON string literal, without reading the whole text into memory.
+ */
+fun writeJsonString(content: Reader, writer: Writer) {
+    writer.append('"')
+    val buffer = CharArray(8192)
+    while (true) {
+        val count = content.read(buffer)
+        if (count < 0) break
+        for (i in 0 until count) {
+            writeEscaped(buffer[i], writer)
+        }
+    }
+    writer.append('"')
+}
+
+private fun writeEscaped(c: Char, writer: Writer) {
+    when (c) {
+        '\\' -> writer.append("\\\\")
+        '"' -> writer.append("\\\"")
+        '\r' -> writer.append("\\r")
+        '\n' -> writer.append("\\n")
+        '\t' -> writer.append("\\t")
+        '\b' -> writer.append("\\b")
+        '\u000C' -> writer.append("\\f")
+        in ' '..126.toChar() -> writer.append(c)
+        else -> {
+            writer.append("\\u")
+            var shift = 16
+            repeat(4) {
+                shift -= 4
+                val digit = (c.toInt() ushr shift) and 0xF
+                writer.append(if (digit < 10) (digit + '0'.toInt()).toChar() else (digit - 10 + 'a'.toInt()).toChar())
+            }
+        }
+    }
+}
+
 data class JsonNumber(val value: Double) : JsonNode() {
     override fun write(writer: Writer) {
         if (value.toLong().toDouble() == value) {
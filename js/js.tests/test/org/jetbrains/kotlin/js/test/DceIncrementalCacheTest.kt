@@ -0,0 +1,108 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.js.test
+
+import junit.framework.TestCase
+import org.jetbrains.kotlin.js.dce.*
+import org.jetbrains.kotlin.test.KotlinTestUtils
+import java.io.File
+
+class DceIncrementalCacheTest : TestCase() {
+    private lateinit var workDir: File
+    private lateinit var inputDir: File
+
+    override fun setUp() {
+        super.setUp()
+        workDir = KotlinTestUtils.tmpDirForTest(this)
+        inputDir = File(workDir, "src")
+        File(TEST_DATA_DIR, "withSourceMap.js").copyTo(File(inputDir, "withSourceMap.js"))
+        File(TEST_DATA_DIR, "simple.js").copyTo(File(inputDir, "simple.js"))
+
+        // Sources embedded into the input source map aren't kept by the serialized AST, the cache restores them separately
+        val sourceMap = File(TEST_DATA_DIR, "withSourceMap.js.map").readText()
+        val embeddedSource = "\"" + SAMPLE_KT_CONTENT.replace("\n", "\\n") + "\""
+        File(inputDir, "withSourceMap.js.map").writeText(sourceMap.replace("\"sourcesContent\":[null]", "\"sourcesContent\":[$embeddedSource]"))
+    }
+
+    fun testSameOutputFromCache() {
+        val expected = runDce("expected")
+        assertTrue(expected.getValue("withSourceMap.js.map").contains(SAMPLE_KT_CONTENT.replace("\n", "\\n")))
+
+        val cache = DeadCodeEliminationCache(File(workDir, "cache"))
+        assertEquals(expected, runDce("out", cache = cache))
+
+        // The files are rendered again from the statements stored by the previous run
+        File(workDir, "out").deleteRecursively()
+        assertEquals(expected, runDce("out", cache = cache))
+        assertEquals(expected, runDce("out", cache = cache))
+    }
+
+    fun testUpToDateOutputIsNotWritten() {
+        val cache = DeadCodeEliminationCache(File(workDir, "cache"))
+        runDce("out", cache = cache)
+
+        // A change of the same size which keeps the modification time isn't noticed, which shows that the file isn't written again
+        val tampered = tamper(File(workDir, "out/simple.js"))
+        runDce("out", cache = cache)
+        assertEquals(tampered, File(workDir, "out/simple.js").readText())
+    }
+
+    fun testChangedInput() {
+        val cache = DeadCodeEliminationCache(File(workDir, "cache"))
+        runDce("out", cache = cache)
+        val tampered = tamper(File(workDir, "out/withSourceMap.js"))
+
+        File(inputDir, "simple.js").appendText("\nconsole.log(foo());")
+        val expected = runDce("expected")
+        val actual = runDce("out", cache = cache)
+
+        assertEquals(expected.getValue("simple.js"), actual.getValue("simple.js"))
+        // Outputs of unchanged files are still reused
+        assertEquals(tampered, actual.getValue("withSourceMap.js"))
+        assertEquals(expected.getValue("withSourceMap.js.map"), actual.getValue("withSourceMap.js.map"))
+    }
+
+    fun testThreads() {
+        val expected = runDce("expected")
+        assertEquals(expected, runDce("parallel", threads = 4))
+        assertEquals(expected, runDce("parallelWithCache", threads = 4, cache = DeadCodeEliminationCache(File(workDir, "cache"))))
+    }
+
+    private fun runDce(outputDirName: String, threads: Int = 1, cache: DeadCodeEliminationCache? = null): Map<String, String> {
+        val outputDir = File(workDir, outputDirName)
+        val inputFiles = listOf("withSourceMap.js", "simple.js").map { name ->
+            val file = File(inputDir, name)
+            val sourceMap = File(file.path + ".map")
+            InputFile(
+                InputResource.file(file.path), if (sourceMap.exists()) InputResource.file(sourceMap.path) else null,
+                File(outputDir, name).path
+            )
+        }
+
+        val result = DeadCodeElimination.run(inputFiles, emptySet(), threads, cache) { level, message ->
+            if (level == DCELogLevel.ERROR) fail(message)
+        }
+        assertEquals(DeadCodeEliminationStatus.OK, result.status)
+
+        return outputDir.walk().filter { it.isFile }.associate { it.relativeTo(outputDir).path to it.readText() }
+    }
+
+    // Changes the file without changing its size and modification time, returns the new content
+    private fun tamper(file: File): String {
+        val lastModified = file.lastModified()
+        val content = file.readText().replace("function", "FUNCTION")
+        assertFalse(content == file.readText())
+        file.writeText(content)
+        assertTrue(file.setLastModified(lastModified))
+        return content
+    }
+
+    companion object {
+        private const val TEST_DATA_DIR = "compiler/testData/cli/js-dce"
+
+        private const val SAMPLE_KT_CONTENT = "fun foo() {\n    println(42)\n}\n"
+    }
+}
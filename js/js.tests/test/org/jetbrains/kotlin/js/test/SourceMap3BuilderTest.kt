@@ -0,0 +1,88 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.js.test
+
+import com.google.gwt.dev.js.rhino.CodePosition
+import com.google.gwt.dev.js.rhino.ErrorReporter
+import junit.framework.TestCase
+import org.jetbrains.kotlin.js.backend.JsToStringGenerationVisitor
+import org.jetbrains.kotlin.js.backend.ast.*
+import org.jetbrains.kotlin.js.facade.SourceMapBuilderConsumer
+import org.jetbrains.kotlin.js.parser.parse
+import org.jetbrains.kotlin.js.parser.sourcemaps.*
+import org.jetbrains.kotlin.js.sourceMap.SourceFilePathResolver
+import org.jetbrains.kotlin.js.sourceMap.SourceMap3Builder
+import org.jetbrains.kotlin.js.util.TextOutputImpl
+import org.jetbrains.kotlin.test.KotlinTestUtils
+import java.io.File
+import java.io.StringWriter
+
+class SourceMap3BuilderTest : TestCase() {
+    // The streaming mode flushes mappings while the code is generated, so it must not flush the ones startMapping can still roll back
+    fun testStreamingOutputIsTheSameAsBuilt() {
+        val outputDir = KotlinTestUtils.tmpDirForTest(this)
+        val outputFile = File(outputDir, "withSourceMap.js")
+        val block = parseDceInput()
+
+        val textOutput = TextOutputImpl()
+        val sourceMapBuilder = SourceMap3Builder(outputFile, textOutput, "")
+        block.accept(JsToStringGenerationVisitor(textOutput, consumer(sourceMapBuilder, outputDir)))
+        val expectedSourceMap = sourceMapBuilder.build()
+        sourceMapBuilder.addLink()
+
+        val codeWriter = StringWriter()
+        val sourceMapWriter = StringWriter()
+        val streamingTextOutput = TextOutputImpl(false, codeWriter)
+        val streamingSourceMapBuilder = SourceMap3Builder(outputFile, streamingTextOutput, "", sourceMapWriter)
+        block.accept(JsToStringGenerationVisitor(streamingTextOutput, consumer(streamingSourceMapBuilder, outputDir)))
+        streamingSourceMapBuilder.finish()
+        streamingSourceMapBuilder.addLink()
+        streamingTextOutput.flush()
+
+        assertEquals(textOutput.toString(), codeWriter.toString())
+        // Properties are written in a different order
+        assertEquals(parseJson(expectedSourceMap), parseJson(sourceMapWriter.toString()))
+        assertTrue(expectedSourceMap.contains(JsonString(EMBEDDED_SOURCE).toString()))
+    }
+
+    // Copies of the input of the withSourceMap DCE CLI test, remapped with its source map, as the DCE does.
+    // The copies make the mappings long enough to be flushed several times.
+    private fun parseDceInput(): JsGlobalBlock {
+        val code = File(TEST_DATA_DIR, "withSourceMap.js").readText()
+        val sourceMapContent = File(TEST_DATA_DIR, "withSourceMap.js.map").readText()
+            .replace("\"sourcesContent\":[null]", "\"sourcesContent\":[${JsonString(EMBEDDED_SOURCE)}]")
+        val sourceMap = (SourceMapParser.parse(sourceMapContent) as SourceMapSuccess).value
+
+        val program = JsProgram()
+        val block = JsGlobalBlock()
+        repeat(COPIES) {
+            val scope = JsObjectScope(JsRootScope(program), "Global")
+            val statements = parse(code, FailingReporter, scope, "withSourceMap.js")!!
+            val remapper = SourceMapLocationRemapper(sourceMap)
+            statements.forEach { remapper.remap(it) }
+            block.statements += statements
+        }
+        return block
+    }
+
+    private fun consumer(sourceMapBuilder: SourceMap3Builder, outputDir: File) =
+        SourceMapBuilderConsumer(File(TEST_DATA_DIR), sourceMapBuilder, SourceFilePathResolver(emptyList(), outputDir), true, true)
+
+    private object FailingReporter : ErrorReporter {
+        override fun warning(message: String, startPosition: CodePosition, endPosition: CodePosition) {}
+
+        override fun error(message: String, startPosition: CodePosition, endPosition: CodePosition) {
+            fail(message)
+        }
+    }
+
+    companion object {
+        private const val TEST_DATA_DIR = "compiler/testData/cli/js-dce"
+        private const val COPIES = 200
+
+        private const val EMBEDDED_SOURCE = "fun foo() {\n    println(\"foo\\té\")\n}\n"
+    }
+}
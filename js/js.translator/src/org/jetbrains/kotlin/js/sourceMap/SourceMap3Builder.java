@@ -25,7 +25,10 @@ import org.jetbrains.kotlin.js.parser.sourcemaps.*;
 import org.jetbrains.kotlin.js.util.TextOutput;
 
 import java.io.File;
+import java.io.IOException;
 import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Supplier;
@@ -35,6 +38,9 @@ public class SourceMap3Builder implements SourceMapBuilder {
     private final File generatedFile;
     private final TextOutput textOutput;
     private final String pathPrefix;
+    @Nullable
+    private final Writer output;
+    private boolean headerWritten;
 
     private final TObjectIntHashMap<SourceKey> sources = new TObjectIntHashMap<SourceKey>() {
         @Override
@@ -58,9 +64,20 @@ public class SourceMap3Builder implements SourceMapBuilder {
     private boolean currentMappingIsEmpty = true;
 
     public SourceMap3Builder(File generatedFile, TextOutput textOutput, String pathPrefix) {
+        this(generatedFile, textOutput, pathPrefix, null);
+    }
+
+    /**
+     * If {@code output} is not null, the source map is written to it while the code is generated instead of being built
+     * by {@link #build()}: mappings are flushed to the output as soon as they can't change anymore, so that only the mappings
+     * of the current segment are kept in memory. Call {@link #finish()} after the code is generated to write the rest of the map,
+     * the output isn't closed. Lines can be skipped at the beginning only until the first mappings are flushed.
+     */
+    public SourceMap3Builder(File generatedFile, TextOutput textOutput, String pathPrefix, @Nullable Writer output) {
         this.generatedFile = generatedFile;
         this.textOutput = textOutput;
         this.pathPrefix = pathPrefix;
+        this.output = output;
     }
 
     @Override
@@ -70,6 +87,9 @@ public class SourceMap3Builder implements SourceMapBuilder {
 
     @Override
     public String build() {
+        if (output != null) {
+            throw new IllegalStateException("Source map is written to the output, use finish() instead");
+        }
         @SuppressWarnings("unchecked")
         JsonObject json = new JsonObject();
         json.getProperties().put("version", new JsonNumber(3));
@@ -98,6 +118,54 @@ public class SourceMap3Builder implements SourceMapBuilder {
         json.getProperties().put("sourcesContent", array);
     }
 
+    /**
+     * Writes the remaining mappings, the sources and their content to the output given to the constructor.
+     */
+    public void finish() throws IOException {
+        if (output == null) {
+            throw new IllegalStateException("Source map has no output, use build() instead");
+        }
+        flushMappings();
+
+        output.append("\",\"sources\":[");
+        for (int i = 0; i < orderedSources.size(); i++) {
+            if (i > 0) output.append(',');
+            new JsonString(pathPrefix + orderedSources.get(i)).write(output);
+        }
+
+        output.append("],\"sourcesContent\":[");
+        for (int i = 0; i < orderedSourceContentSuppliers.size(); i++) {
+            if (i > 0) output.append(',');
+            Reader reader = orderedSourceContentSuppliers.get(i).get();
+            if (reader != null) {
+                try {
+                    JSONKt.writeJsonString(reader, output);
+                }
+                finally {
+                    reader.close();
+                }
+            }
+            else {
+                output.append("null");
+            }
+        }
+
+        output.append("],\"names\":[]}");
+        output.flush();
+    }
+
+    private void flushMappings() throws IOException {
+        assert output != null;
+        if (!headerWritten) {
+            output.append("{\"version\":3,\"file\":");
+            new JsonString(generatedFile.getName()).write(output);
+            output.append(",\"mappings\":\"");
+            headerWritten = true;
+        }
+        output.append(out);
+        out.setLength(0);
+    }
+
     @Override
     public void newLine() {
         out.append(';');
@@ -106,6 +174,9 @@ public class SourceMap3Builder implements SourceMapBuilder {
 
     @Override
     public void skipLinesAtBeginning(int count) {
+        if (headerWritten) {
+            throw new IllegalStateException("Mappings are already written to the output");
+        }
         out.insert(0, StringUtil.repeatSymbol(';', count));
     }
 
@@ -169,6 +240,16 @@ public class SourceMap3Builder implements SourceMapBuilder {
         }
 
         if (columnDiff > 0 || newGroupStarted) {
+            // The previous segments can't be rolled back anymore
+            if (output != null && out.length() >= FLUSH_THRESHOLD) {
+                try {
+                    flushMappings();
+                }
+                catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+
             Base64VLQ.encode(out, columnDiff);
             previousGeneratedColumn = textOutput.getColumn();
 
@@ -192,6 +273,8 @@ public class SourceMap3Builder implements SourceMapBuilder {
         textOutput.print(".map\n");
     }
 
+    private static final int FLUSH_THRESHOLD = 4096;
+
     private static final class Base64VLQ {
         // A Base64 VLQ digit can represent 5 bits, so it is base-32.
         private static final int VLQ_BASE_SHIFT = 5;
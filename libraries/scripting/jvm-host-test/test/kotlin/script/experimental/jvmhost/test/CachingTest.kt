@@ -13,6 +13,11 @@ import java.io.File
 import java.io.ObjectInputStream
 import java.io.ObjectOutputStream
 import java.security.MessageDigest
+import java.util.concurrent.Callable
+import java.util.concurrent.Executors
+import java.util.jar.Attributes
+import java.util.jar.JarOutputStream
+import java.util.jar.Manifest
 import kotlin.script.experimental.api.*
 import kotlin.script.experimental.host.toScriptSource
 import kotlin.script.experimental.host.with
@@ -21,6 +26,7 @@ import kotlin.script.experimental.jvm.impl.KJvmCompiledScript
 import kotlin.script.experimental.jvm.util.KotlinJars
 import kotlin.script.experimental.jvmhost.BasicJvmScriptingHost
 import kotlin.script.experimental.jvmhost.CompiledScriptJarsCache
+import kotlin.script.experimental.jvmhost.CompiledScriptLruCache
 import kotlin.script.experimental.jvmhost.JvmScriptCompiler
 
 class CachingTest : TestCase() {
@@ -95,6 +101,139 @@ class CachingTest : TestCase() {
         }
     }
 
+    @Test
+    fun testLruCache() {
+        val cache = TestCompiledScriptLruCache(10)
+        checkWithCache(cache, simpleScript, simpleScriptExpectedOutput)
+        Assert.assertEquals(2, cache.memoryHits)
+    }
+
+    @Test
+    fun testLruCacheDefinesClassesOnce() {
+        val cache = CompiledScriptLruCache(10)
+        val compilationConfiguration = compileWithCache(cache, simpleScript).compilationConfiguration
+        val cachedScript = cache.get(simpleScript.toScriptSource(), compilationConfiguration)!!
+        val scriptClass = runBlocking { cachedScript.getClass(null) }.valueOrThrow()
+        Assert.assertSame(scriptClass.java, runBlocking { cachedScript.getClass(null) }.valueOrThrow().java)
+    }
+
+    @Test
+    fun testLruCacheWithJars() {
+        withTempDir("scriptingTestLruCache") { cacheDir ->
+            val cache = TestCompiledScriptLruCache(10, cacheDir)
+            checkWithCache(cache, simpleScript, simpleScriptExpectedOutput)
+            Assert.assertEquals(1, cacheDir.listFiles()!!.count { it.extension == "jar" })
+
+            // a new cache, e.g. of another process, loads the script from the jar and keeps it in memory
+            val newCache = TestCompiledScriptLruCache(10, cacheDir)
+            val compilationConfiguration = compileWithCache(newCache, simpleScript).compilationConfiguration
+            Assert.assertEquals(0, newCache.storedScripts)
+            Assert.assertEquals(1, newCache.jarHits)
+            Assert.assertNotNull(newCache.get(simpleScript.toScriptSource(), compilationConfiguration))
+            Assert.assertEquals(1, newCache.memoryHits)
+        }
+    }
+
+    @Test
+    fun testLruCacheEviction() {
+        withTempDir("scriptingTestLruCache") { cacheDir ->
+            val cache = TestCompiledScriptLruCache(1, cacheDir)
+            val compilationConfiguration = compileWithCache(cache, simpleScript).compilationConfiguration
+            compileWithCache(cache, "val y = 2")
+            Assert.assertEquals(2, cache.storedScripts)
+            Assert.assertEquals(1, cache.size)
+            Assert.assertEquals(1, cache.evictions)
+
+            val evictedScript = cache.get(simpleScript.toScriptSource(), compilationConfiguration)
+            Assert.assertNotNull(evictedScript)
+            Assert.assertEquals(1, cache.jarHits)
+            Assert.assertEquals(2, cache.evictions)
+
+            val output = captureOut {
+                runBlocking {
+                    BasicJvmScriptEvaluator()(evictedScript!!).throwOnFailure()
+                }
+            }.lines()
+            Assert.assertEquals(simpleScriptExpectedOutput, output)
+        }
+    }
+
+    @Test
+    fun testLruCacheMisses() {
+        withTempDir("scriptingTestLruCache") { cacheDir ->
+            val cache = TestCompiledScriptLruCache(10, cacheDir)
+            val compilationConfiguration = compileWithCache(cache, simpleScript).compilationConfiguration
+            Assert.assertEquals(1, cache.misses)
+
+            val otherScript = "val y = 2".toScriptSource()
+            Assert.assertNull(cache.get(otherScript, compilationConfiguration))
+            Assert.assertEquals(2, cache.misses)
+
+            // a jar which isn't written by the cache, e.g. by an incompatible version, is a miss too
+            val jar = File(cacheDir, CompiledScriptLruCache.scriptKey(otherScript, compilationConfiguration) + ".jar")
+            val manifest = Manifest().apply {
+                mainAttributes[Attributes.Name.MANIFEST_VERSION] = "1.0"
+                mainAttributes[Attributes.Name.MAIN_CLASS] = "Y"
+            }
+            JarOutputStream(jar.outputStream(), manifest).close()
+            Assert.assertNull(cache.get(otherScript, compilationConfiguration))
+            Assert.assertEquals(3, cache.misses)
+
+            jar.writeText("not a jar")
+            Assert.assertNull(cache.get(otherScript, compilationConfiguration))
+            Assert.assertEquals(4, cache.misses)
+            Assert.assertEquals(0, cache.jarHits)
+        }
+    }
+
+    @Test
+    fun testLruCacheConcurrentAccess() {
+        withTempDir("scriptingTestLruCache") { cacheDir ->
+            val compilationCache = CompiledScriptLruCache(10)
+            val scripts = listOf("val x = 1", "val y = 2", "val z = 3").map { it.toScriptSource() to compileWithCache(compilationCache, it) }
+
+            // the cache can hold fewer scripts than are used, so that they are evicted and loaded from the jars meanwhile
+            val cache = CompiledScriptLruCache(2, jarsDir = cacheDir)
+            val executor = Executors.newFixedThreadPool(4)
+            try {
+                val tasks = (0 until 100).map { i ->
+                    executor.submit(Callable {
+                        val (source, compiledScript) = scripts[i % scripts.size]
+                        if (cache.get(source, compiledScript.compilationConfiguration) == null) {
+                            cache.store(compiledScript, source, compiledScript.compilationConfiguration)
+                        }
+                    })
+                }
+                tasks.forEach { it.get() }
+            } finally {
+                executor.shutdownNow()
+            }
+
+            Assert.assertEquals(100, cache.memoryHits + cache.jarHits + cache.misses)
+            Assert.assertEquals(2, cache.size)
+            for ((source, compiledScript) in scripts) {
+                val cachedScript = cache.get(source, compiledScript.compilationConfiguration)
+                Assert.assertNotNull(cachedScript)
+                runBlocking { cachedScript!!.getClass(null) }.valueOrThrow()
+            }
+        }
+    }
+
+    private fun compileWithCache(cache: CompiledJvmScriptsCache, script: String): CompiledScript<*> {
+        val hostConfiguration = defaultJvmScriptingHostConfiguration.with {
+            jvm {
+                baseClassLoader.replaceOnlyDefault(null)
+                compilationCache(cache)
+            }
+        }
+        val scriptCompilationConfiguration = ScriptCompilationConfiguration().with {
+            updateClasspath(KotlinJars.kotlinScriptStandardJarsWithReflect)
+        }
+        return runBlocking {
+            JvmScriptCompiler(hostConfiguration)(script.toScriptSource(), scriptCompilationConfiguration).valueOrThrow()
+        }
+    }
+
     private fun checkWithCache(
         cache: ScriptingCacheWithCounters, script: String, expectedOutput: List<String>,
         configurationBuilder: ScriptCompilationConfiguration.Builder.() -> Unit = {}
@@ -238,6 +377,27 @@ class TestCompiledScriptJarsCache(val baseDir: File) : CompiledScriptJarsCache(
         private set
 }
 
+class TestCompiledScriptLruCache(maxEntries: Int, jarsDir: File? = null) :
+    CompiledScriptLruCache(maxEntries, jarsDir = jarsDir), ScriptingCacheWithCounters
+{
+    override fun get(script: SourceCode, scriptCompilationConfiguration: ScriptCompilationConfiguration): CompiledScript<*>? =
+        super.get(script, scriptCompilationConfiguration)?.also { retrievedScripts++ }
+
+    override fun store(
+        compiledScript: CompiledScript<*>,
+        script: SourceCode,
+        scriptCompilationConfiguration: ScriptCompilationConfiguration
+    ) {
+        super.store(compiledScript, script, scriptCompilationConfiguration).also { storedScripts++ }
+    }
+
+    override var storedScripts: Int = 0
+        private set
+
+    override var retrievedScripts: Int = 0
+        private set
+}
+
 internal fun uniqueScriptHash(script: SourceCode, scriptCompilationConfiguration: ScriptCompilationConfiguration): String {
     val digestWrapper = MessageDigest.getInstance("MD5")
     digestWrapper.update(script.text.toByteArray())
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package kotlin.script.experimental.jvmhost
+
+import org.jetbrains.kotlin.scripting.compiler.plugin.impl.KJvmCompiledModuleInMemory
+import org.jetbrains.kotlin.utils.fileUtils.writeAtomically
+import org.jetbrains.kotlin.utils.strings.toHexString
+import java.io.File
+import java.io.IOException
+import java.net.URLClassLoader
+import java.security.MessageDigest
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.jar.JarFile
+import kotlin.script.experimental.api.*
+import kotlin.script.experimental.host.ScriptingHostConfiguration
+import kotlin.script.experimental.jvm.CompiledJvmScriptsCache
+import kotlin.script.experimental.jvm.JvmDependency
+import kotlin.script.experimental.jvm.baseClassLoader
+import kotlin.script.experimental.jvm.impl.KJvmCompiledModuleFromClassLoader
+import kotlin.script.experimental.jvm.impl.KJvmCompiledScript
+import kotlin.script.experimental.jvm.impl.KOTLIN_SCRIPT_METADATA_PATH
+import kotlin.script.experimental.jvm.impl.createScriptFromClassLoader
+import kotlin.script.experimental.jvm.jvm
+
+/**
+ * Bounded cache of compiled scripts, keyed by the hash of the script text and of the non-transient part of its compilation
+ * configuration (see [scriptKey]).
+ *
+ * The first level keeps up to [maxEntries] compiled scripts in memory, with at most [maxMemorySize] bytes of their classes
+ * (uncompressed), least recently used scripts are evicted first. Cached scripts keep their class loader, so that classes of a script
+ * which stays in memory are defined only once. If [jarsDir] is specified, compiled scripts are also saved there as jars, which are
+ * loaded when the script isn't in memory (e.g. by another process); least recently used jars are removed when their total size
+ * exceeds [maxJarsSize].
+ *
+ * The cache can be used by several threads and processes at once, jars are written to temporary files and then moved.
+ */
+open class CompiledScriptLruCache(
+    val maxEntries: Int,
+    val maxMemorySize: Long = Long.MAX_VALUE,
+    val jarsDir: File? = null,
+    val maxJarsSize: Long = Long.MAX_VALUE
+) : CompiledJvmScriptsCache {
+
+    init {
+        require(maxEntries > 0) { "Invalid maximum number of cached scripts: $maxEntries, a positive integer is expected" }
+    }
+
+    private class Entry(val script: CompiledScript<*>, val size: Long)
+
+    // Access order, the eldest entry is the least recently used one
+    private val entries = LinkedHashMap<String, Entry>(16, 0.75f, true)
+    private var memorySize = 0L
+    private val jarsLock = Any()
+
+    private val _memoryHits = AtomicInteger()
+    private val _jarHits = AtomicInteger()
+    private val _misses = AtomicInteger()
+    private val _evictions = AtomicInteger()
+
+    val memoryHits: Int get() = _memoryHits.get()
+    val jarHits: Int get() = _jarHits.get()
+    val misses: Int get() = _misses.get()
+
+    /**
+     * Number of scripts evicted from memory, removed jars aren't counted.
+     */
+    val evictions: Int get() = _evictions.get()
+
+    val size: Int get() = synchronized(entries) { entries.size }
+
+    override fun get(script: SourceCode, scriptCompilationConfiguration: ScriptCompilationConfiguration): CompiledScript<*>? {
+        val key = scriptKey(script, scriptCompilationConfiguration)
+        synchronized(entries) { entries[key] }?.let {
+            _memoryHits.incrementAndGet()
+            return it.script
+        }
+
+        val jar = jarsDir?.let { File(it, "$key.jar") }
+        val loaded = jar?.let { loadJar(it, scriptCompilationConfiguration) }
+        if (jar == null || loaded == null) {
+            _misses.incrementAndGet()
+            return null
+        }
+
+        _jarHits.incrementAndGet()
+        // Other threads could load the same jar meanwhile, only the first loaded script is kept
+        return synchronized(entries) {
+            entries[key]?.script ?: loaded.script.also { put(key, loaded) }
+        }
+    }
+
+    override fun store(
+        compiledScript: CompiledScript<*>,
+        script: SourceCode,
+        scriptCompilationConfiguration: ScriptCompilationConfiguration
+    ) {
+        val key = scriptKey(script, scriptCompilationConfiguration)
+        val module = (compiledScript as? KJvmCompiledScript<*>)?.compiledModule as? KJvmCompiledModuleInMemory
+        if (module == null) {
+            synchronized(entries) { put(key, Entry(compiledScript, 0L)) }
+            return
+        }
+
+        compiledScript as KJvmCompiledScript<*>
+        if (jarsDir != null) {
+            saveJar(compiledScript, File(jarsDir, "$key.jar"))
+        }
+
+        // The classes are defined once by the class loader of the cached script rather than by each evaluation, as for loaded jars
+        val classLoader = module.createClassLoader(createParentClassLoader(compiledScript, scriptCompilationConfiguration))
+        val cachedScript = with(compiledScript) {
+            KJvmCompiledScript<Any>(
+                sourceLocationId, compilationConfiguration, scriptClassFQName, resultField, otherScripts,
+                KJvmCompiledModuleFromClassLoader(classLoader)
+            )
+        }
+        val size = module.compilerOutputFiles.values.map { it.size.toLong() }.sum()
+        synchronized(entries) { put(key, Entry(cachedScript, size)) }
+    }
+
+    fun clear() {
+        synchronized(entries) {
+            entries.clear()
+            memorySize = 0
+        }
+    }
+
+    // Should be called under the lock of [entries]
+    private fun put(key: String, entry: Entry) {
+        entries.put(key, entry)?.let { memorySize -= it.size }
+        memorySize += entry.size
+
+        val iterator = entries.values.iterator()
+        // The last added entry is kept even if it's bigger than [maxMemorySize]
+        while (entries.size > 1 && (entries.size > maxEntries || memorySize > maxMemorySize)) {
+            memorySize -= iterator.next().size
+            iterator.remove()
+            _evictions.incrementAndGet()
+        }
+    }
+
+    private fun loadJar(jar: File, scriptCompilationConfiguration: ScriptCompilationConfiguration): Entry? {
+        var size = 0L
+        val className = try {
+            JarFile(jar).use { jarFile ->
+                // The uncompressed size of the classes, as for stored scripts
+                for (entry in jarFile.entries()) {
+                    if (entry.name != JarFile.MANIFEST_NAME && !entry.name.startsWith(KOTLIN_SCRIPT_METADATA_PATH)) {
+                        size += maxOf(entry.size, 0L)
+                    }
+                }
+                jarFile.manifest?.mainAttributes?.getValue("Main-Class")
+            }
+        } catch (e: IOException) {
+            // The jar doesn't exist or is removed by another process
+            null
+        } ?: return null
+
+        // The jar becomes the most recently used one
+        jar.setLastModified(System.currentTimeMillis())
+
+        val classLoader = URLClassLoader(arrayOf(jar.toURI().toURL()), baseClassLoader(scriptCompilationConfiguration))
+        return try {
+            Entry(createScriptFromClassLoader(className, classLoader), size)
+        } catch (e: IllegalArgumentException) {
+            // The jar has no script metadata, e.g. it isn't written by this cache
+            classLoader.close()
+            null
+        } catch (e: IOException) {
+            // The jar is removed by another process, or its metadata is written by an incompatible version
+            classLoader.close()
+            null
+        }
+    }
+
+    private fun baseClassLoader(scriptCompilationConfiguration: ScriptCompilationConfiguration): ClassLoader? =
+        scriptCompilationConfiguration[ScriptCompilationConfiguration.hostConfiguration]?.get(ScriptingHostConfiguration.jvm.baseClassLoader)
+
+    // Loads the dependencies of the script, as the Class-Path of its jar does
+    private fun createParentClassLoader(
+        compiledScript: KJvmCompiledScript<*>,
+        scriptCompilationConfiguration: ScriptCompilationConfiguration
+    ): ClassLoader? {
+        val baseClassLoader = baseClassLoader(scriptCompilationConfiguration)
+        val dependencies = compiledScript.compilationConfiguration[ScriptCompilationConfiguration.dependencies]
+            ?.filterIsInstance<JvmDependency>()
+            ?.flatMap { it.classpath }
+            .orEmpty()
+        return if (dependencies.isEmpty()) baseClassLoader
+        else URLClassLoader(dependencies.map { it.toURI().toURL() }.toTypedArray(), baseClassLoader)
+    }
+
+    private fun saveJar(compiledScript: KJvmCompiledScript<*>, jar: File) {
+        // If it's not written, the script is going to be compiled again when it's evicted from memory
+        jar.writeAtomically { temp -> compiledScript.saveToJar(temp) }
+
+        if (maxJarsSize != Long.MAX_VALUE) {
+            synchronized(jarsLock) { removeLeastRecentlyUsedJars(jar.parentFile) }
+        }
+    }
+
+    private fun removeLeastRecentlyUsedJars(dir: File) {
+        val jars = dir.listFiles { file -> file.isFile && file.extension == "jar" } ?: return
+        var jarsSize = jars.map { it.length() }.sum()
+        for (jar in jars.sortedBy { it.lastModified() }) {
+            if (jarsSize <= maxJarsSize) break
+            val length = jar.length()
+            // Jars opened by class loaders can't be removed on Windows, they're removed by later calls
+            if (jar.delete()) {
+                jarsSize -= length
+            }
+        }
+    }
+
+    companion object {
+        /**
+         * Identifies the script and its compilation configuration, only the properties which aren't transient are taken into account.
+         */
+        fun scriptKey(script: SourceCode, scriptCompilationConfiguration: ScriptCompilationConfiguration): String {
+            val digest = MessageDigest.getInstance("SHA-1")
+            digest.update(script.text.toByteArray())
+            scriptCompilationConfiguration.notTransientData.entries
+                .sortedBy { it.key.name }
+                .forEach {
+                    digest.update(it.key.name.toByteArray())
+                    digest.update(it.value.toString().toByteArray())
+                }
+            return digest.digest().toHexString()
+        }
+    }
+}
@@ -189,6 +189,7 @@ private class KaptExecution @Inject constructor(
             classesOutputDir,
             stubsOutputDir,
             stubsOutputDir, // sic!
+            null,
 
             processingClasspath,
             processors,
@@ -198,7 +199,8 @@ private class KaptExecution @Inject constructor(
 
             flags,
             mode,
-            detectMemoryLeaksMode
+            detectMemoryLeaksMode,
+            1
         )
     }
 
@@ -25,6 +25,7 @@ class KaptOptions(
     val classesOutputDir: File,
     val stubsOutputDir: File,
     val incrementalDataOutputDir: File?,
+    val stubsCache: File?,
 
     val processingClasspath: List<File>,
     val processors: List<String>,
@@ -35,7 +36,8 @@ class KaptOptions(
     val flags: KaptFlags,
 
     val mode: AptMode,
-    val detectMemoryLeaks: DetectMemoryLeaksMode
+    val detectMemoryLeaks: DetectMemoryLeaksMode,
+    val stubGenerationThreads: Int
 ) : KaptFlags {
     override fun get(flag: KaptFlag) = flags[flag]
 
@@ -53,6 +55,7 @@ class KaptOptions(
         var classesOutputDir: File? = null
         var stubsOutputDir: File? = null
         var incrementalDataOutputDir: File? = null
+        var stubsCache: File? = null
 
         val processingClasspath: MutableList<File> = mutableListOf()
         val processors: MutableList<String> = mutableListOf()
@@ -67,6 +70,7 @@ class KaptOptions(
 
         var mode: AptMode = AptMode.WITH_COMPILATION
         var detectMemoryLeaks: DetectMemoryLeaksMode = DetectMemoryLeaksMode.DEFAULT
+        var stubGenerationThreads: Int = 1
 
         fun build(): KaptOptions {
             val sourcesOutputDir = this.sourcesOutputDir ?: error("'sourcesOutputDir' must be set")
@@ -76,9 +80,9 @@ class KaptOptions(
             return KaptOptions(
                 projectBaseDir, compileClasspath, javaSourceRoots,
                 changedFiles, compiledSources, incrementalCache, classpathChanges,
-                sourcesOutputDir, classesOutputDir, stubsOutputDir, incrementalDataOutputDir,
+                sourcesOutputDir, classesOutputDir, stubsOutputDir, incrementalDataOutputDir, stubsCache,
                 processingClasspath, processors, processingOptions, javacOptions, KaptFlags.fromSet(flags),
-                mode, detectMemoryLeaks
+                mode, detectMemoryLeaks, stubGenerationThreads
             )
         }
     }
@@ -182,6 +186,8 @@ fun KaptOptions.logString(additionalInfo: String = "") = buildString {
     appendln("Class files output directory: $classesOutputDir")
     appendln("Stubs output directory: $stubsOutputDir")
     appendln("Incremental data output directory: $incrementalDataOutputDir")
+    appendln("Stubs cache directory: $stubsCache")
+    appendln("Stub generation threads: $stubGenerationThreads")
 
     appendln("Annotation processing classpath: " + processingClasspath.joinToString())
     appendln("Annotation processors: " + processors.joinToString())
@@ -5,10 +5,11 @@
 
 package org.jetbrains.kotlin.kapt3.base.incremental
 
+import java.io.DataInputStream
+import java.io.DataOutputStream
 import java.io.File
-import java.io.Serializable
 
-class IncrementalAptCache : Serializable {
+class IncrementalAptCache {
 
     private val aggregatingGenerated: MutableSet<File> = mutableSetOf()
     private val isolatingMapping: MutableMap<File, File> = mutableMapOf()
@@ -84,4 +85,27 @@ class IncrementalAptCache : Serializable {
         aggregatingGenerated.clear()
         isolatingMapping.clear()
     }
+
+    fun writeTo(output: DataOutputStream) {
+        output.writeBoolean(isIncremental)
+        output.writeInt(aggregatingGenerated.size)
+        aggregatingGenerated.forEach { output.writeUTF(it.path) }
+        output.writeInt(isolatingMapping.size)
+        for ((generated, source) in isolatingMapping) {
+            output.writeUTF(generated.path)
+            output.writeUTF(source.path)
+        }
+        output.writeInt(aggregatingClaimedAnnotations.size)
+        aggregatingClaimedAnnotations.forEach(output::writeUTF)
+    }
+
+    companion object {
+        /** Reads the cache written by [writeTo]. */
+        fun readFrom(input: DataInputStream): IncrementalAptCache = IncrementalAptCache().apply {
+            isIncremental = input.readBoolean()
+            repeat(input.readInt()) { aggregatingGenerated.add(File(input.readUTF())) }
+            repeat(input.readInt()) { isolatingMapping[File(input.readUTF())] = File(input.readUTF()) }
+            repeat(input.readInt()) { aggregatingClaimedAnnotations.add(input.readUTF()) }
+        }
+    }
 }
\ No newline at end of file
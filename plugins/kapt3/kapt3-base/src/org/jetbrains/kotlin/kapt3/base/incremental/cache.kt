@@ -7,7 +7,6 @@ package org.jetbrains.kotlin.kapt3.base.incremental
 
 import java.io.*
 
-// TODO(gavra): switch away from Java serialization
 class JavaClassCacheManager(val file: File) : Closeable {
 
     private val javaCacheFile = file.resolve("java-cache.bin")
@@ -68,8 +67,8 @@ class JavaClassCacheManager(val file: File) : Closeable {
 
         return if (aptCacheFile.exists()) {
             try {
-                ObjectInputStream(BufferedInputStream(aptCacheFile.inputStream())).use {
-                    it.readObject() as IncrementalAptCache
+                DataInputStream(BufferedInputStream(aptCacheFile.inputStream())).use {
+                    if (it.readInt() == FORMAT_VERSION) IncrementalAptCache.readFrom(it) else IncrementalAptCache()
                 }
             } catch (e: Throwable) {
                 // cache corrupt
@@ -83,8 +82,8 @@ class JavaClassCacheManager(val file: File) : Closeable {
     private fun maybeGetJavaCacheFromFile(): JavaClassCache {
         return if (javaCacheFile.exists()) {
             try {
-                ObjectInputStream(BufferedInputStream(javaCacheFile.inputStream())).use {
-                    it.readObject() as JavaClassCache
+                DataInputStream(BufferedInputStream(javaCacheFile.inputStream())).use {
+                    if (it.readInt() == FORMAT_VERSION) JavaClassCache.readFrom(it) else JavaClassCache()
                 }
             } catch (e: Throwable) {
                 JavaClassCache()
@@ -100,21 +99,28 @@ class JavaClassCacheManager(val file: File) : Closeable {
         with(javaCacheFile) {
             delete()
             parentFile.mkdirs()
-            ObjectOutputStream(BufferedOutputStream(outputStream())).use {
-                it.writeObject(javaCache)
+            DataOutputStream(BufferedOutputStream(outputStream())).use {
+                it.writeInt(FORMAT_VERSION)
+                javaCache.writeTo(it)
             }
         }
 
         with(aptCacheFile) {
             delete()
             parentFile.mkdirs()
-            ObjectOutputStream(BufferedOutputStream(outputStream())).use {
-                it.writeObject(aptCache)
+            DataOutputStream(BufferedOutputStream(outputStream())).use {
+                it.writeInt(FORMAT_VERSION)
+                aptCache.writeTo(it)
             }
         }
 
         closed = true
     }
+
+    private companion object {
+        // Caches written in another format (e.g. with Java serialization by older versions) are discarded
+        const val FORMAT_VERSION = 1
+    }
 }
 
 sealed class SourcesToReprocess {
@@ -5,28 +5,26 @@
 
 package org.jetbrains.kotlin.kapt3.base.incremental
 
+import java.io.DataInputStream
+import java.io.DataOutputStream
 import java.io.File
-import java.io.ObjectInputStream
-import java.io.ObjectOutputStream
-import java.io.Serializable
 import java.lang.IllegalArgumentException
 import java.net.URI
 import java.util.regex.Pattern
 
-class JavaClassCache() : Serializable {
+class JavaClassCache() {
+    /** Structures added in this run. */
     private var sourceCache = mutableMapOf<URI, SourceFileStructure>()
 
+    /** Structures stored by the previous run, they are decoded only when needed. */
+    private var storedSources: StoredSourceStructures? = null
+
     /** Record these separately because we only need to know where each generated type is coming from. */
     private var generatedTypes = mutableMapOf<File, MutableList<String>>()
 
-    /** Map from types to files they are mentioned in. */
-    @Transient
-    private var dependencyCache = mutableMapOf<String, MutableSet<URI>>()
-    @Transient
-    private var nonTransitiveCache = mutableMapOf<String, MutableSet<URI>>()
-
     fun addSourceStructure(sourceStructure: SourceFileStructure) {
         sourceCache[sourceStructure.sourceFile] = sourceStructure
+        storedSources?.remove(sourceStructure.sourceFile)
     }
 
     fun addGeneratedType(type: String, generatedFile: File) {
@@ -39,39 +37,15 @@ class JavaClassCache() : Serializable {
         return files.mapNotNull { generatedTypes.remove(it) }.flatten().toSet()
     }
 
-    private fun readObject(input: ObjectInputStream) {
-        @Suppress("UNCHECKED_CAST")
-        sourceCache = input.readObject() as MutableMap<URI, SourceFileStructure>
-        @Suppress("UNCHECKED_CAST")
-        generatedTypes = input.readObject() as MutableMap<File, MutableList<String>>
-
-        dependencyCache = HashMap(sourceCache.size * 4)
-        for (sourceInfo in sourceCache.values) {
-            for (mentionedType in sourceInfo.getMentionedTypes()) {
-                val dependants = dependencyCache[mentionedType] ?: mutableSetOf()
-                dependants.add(sourceInfo.sourceFile)
-                dependencyCache[mentionedType] = dependants
-            }
-            // Treat referred constants as ABI dependencies until we start supporting per-constant classpath updates.
-            for (mentionedConstants in sourceInfo.getMentionedConstants().keys) {
-                val dependants = dependencyCache[mentionedConstants] ?: mutableSetOf()
-                dependants.add(sourceInfo.sourceFile)
-                dependencyCache[mentionedConstants] = dependants
-            }
-        }
-        nonTransitiveCache = HashMap(sourceCache.size * 2)
-        for (sourceInfo in sourceCache.values) {
-            for (privateType in sourceInfo.getPrivateTypes()) {
-                val dependants = nonTransitiveCache[privateType] ?: mutableSetOf()
-                dependants.add(sourceInfo.sourceFile)
-                nonTransitiveCache[privateType] = dependants
-            }
-        }
-    }
+    fun writeTo(output: DataOutputStream) {
+        StoredSourceStructures.write(output, storedSources, sourceCache.values)
 
-    private fun writeObject(output: ObjectOutputStream) {
-        output.writeObject(sourceCache)
-        output.writeObject(generatedTypes)
+        output.writeInt(generatedTypes.size)
+        for ((file, types) in generatedTypes) {
+            output.writeUTF(file.path)
+            output.writeInt(types.size)
+            types.forEach(output::writeUTF)
+        }
     }
 
     fun isAlreadyProcessed(sourceFile: URI): Boolean {
@@ -85,7 +59,7 @@ class JavaClassCache() : Serializable {
         }
         return try {
             val fileFromUri = File(sourceFile)
-            sourceCache.containsKey(sourceFile) || generatedTypes.containsKey(fileFromUri)
+            sourceCache.containsKey(sourceFile) || storedSources?.contains(sourceFile) == true || generatedTypes.containsKey(fileFromUri)
         } catch (e: IllegalArgumentException) {
             // unable to create File instance, avoid processing these files
             true
@@ -93,7 +67,14 @@ class JavaClassCache() : Serializable {
     }
 
     /** Used for testing only. */
-    internal fun getStructure(sourceFile: File) = sourceCache[sourceFile.toURI()]
+    internal fun getStructure(sourceFile: File): SourceFileStructure? =
+        sourceFile.toURI().let { sourceCache[it] ?: storedSources?.get(it) }
+
+    private fun removeStructure(sourceFile: URI): SourceFileStructure? {
+        val structure = sourceCache.remove(sourceFile) ?: storedSources?.get(sourceFile)
+        storedSources?.remove(sourceFile)
+        return structure
+    }
 
     /**
      * Invalidate cache entries for the specified files, and any files that depend on the changed ones. It returns the set of files that
@@ -104,12 +85,9 @@ class JavaClassCache() : Serializable {
         var currentDirtyFiles = changes.sourceChanges.map { it.toURI() }.toMutableSet()
 
         for (classpathFqName in changes.dirtyFqNamesFromClasspath) {
-            nonTransitiveCache[classpathFqName]?.let {
-                allDirtyFiles.addAll(it)
-            }
-
-            dependencyCache[classpathFqName]?.let {
-                currentDirtyFiles.addAll(it)
+            storedSources?.let {
+                allDirtyFiles.addAll(it.getNonTransitiveDependants(classpathFqName))
+                currentDirtyFiles.addAll(it.getDependants(classpathFqName))
             }
         }
 
@@ -121,17 +99,14 @@ class JavaClassCache() : Serializable {
             for (dirtyFile in currentDirtyFiles) {
                 allDirtyFiles.add(dirtyFile)
 
-                val structure = sourceCache.remove(dirtyFile) ?: continue
+                val structure = removeStructure(dirtyFile) ?: continue
                 val dirtyTypes = structure.getDeclaredTypes()
                 allDirtyTypes.addAll(dirtyTypes)
 
-                dirtyTypes.forEach { type ->
-                    nonTransitiveCache[type]?.let {
-                        allDirtyFiles.addAll(it)
-                    }
-
-                    dependencyCache[type]?.let {
-                        nextRound.addAll(it)
+                storedSources?.let { stored ->
+                    dirtyTypes.forEach { type ->
+                        allDirtyFiles.addAll(stored.getNonTransitiveDependants(type))
+                        nextRound.addAll(stored.getDependants(type))
                     }
                 }
             }
@@ -168,9 +143,18 @@ class JavaClassCache() : Serializable {
                 toReprocess.add(cacheEntry.key)
             }
         }
+        storedSources?.let { stored ->
+            // Stored structures are looked up by the annotations, without decoding them
+            for (annotation in stored.annotations) {
+                if (matchesAnyPattern(annotation)) {
+                    toReprocess.addAll(stored.getAnnotatedWith(annotation))
+                }
+            }
+        }
 
         toReprocess.forEach {
             sourceCache.remove(it)
+            storedSources?.remove(it)
         }
 
         return toReprocess.map { File(it) }.toSet()
@@ -178,8 +162,21 @@ class JavaClassCache() : Serializable {
 
     internal fun invalidateAll() {
         sourceCache.clear()
+        storedSources = null
         generatedTypes.clear()
     }
+
+    companion object {
+        /** Reads the cache written by [writeTo]. */
+        fun readFrom(input: DataInputStream): JavaClassCache = JavaClassCache().apply {
+            storedSources = StoredSourceStructures.read(input)
+
+            repeat(input.readInt()) {
+                val file = File(input.readUTF())
+                generatedTypes[file] = MutableList(input.readInt()) { input.readUTF() }
+            }
+        }
+    }
 }
 
 
@@ -187,7 +184,7 @@ private val IGNORE_TYPES = { name: String -> name == "java.lang.Object" }
 
 class SourceFileStructure(
     val sourceFile: URI
-) : Serializable {
+) {
 
     private val declaredTypes: MutableSet<String> = mutableSetOf()
 
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.kapt3.base.incremental
+
+import java.io.ByteArrayInputStream
+import java.io.ByteArrayOutputStream
+import java.io.DataInputStream
+import java.io.DataOutputStream
+import java.net.URI
+import java.util.*
+
+/**
+ * Structures of source files stored by an earlier run in a binary format.
+ *
+ * Names of types, annotations and constants are interned in a table and referred to by their indices. Each structure is a record
+ * which is kept encoded until it's needed, loading reads only the indices of records by the types they depend on and by the annotations
+ * they mention. Records which aren't removed are written back as is, with the same string table, and only the new structures are
+ * encoded (see [write]). Strings of the removed records stay in the table until more records are removed than kept, then the whole
+ * storage is encoded again.
+ */
+internal class StoredSourceStructures private constructor(
+    private val strings: List<String>,
+    private val uris: Array<URI>,
+    private val records: Array<ByteArray>,
+    // Records by the types mentioned in them, including the classes of mentioned constants
+    private val dependants: Map<String, IntArray>,
+    // Records by the types mentioned in them as private types
+    private val nonTransitiveDependants: Map<String, IntArray>,
+    // Records by the annotations mentioned in them
+    private val annotated: Map<String, IntArray>,
+    // Records removed since the storage was encoded from scratch
+    private val staleRecords: Int
+) {
+    private val indices = HashMap<URI, Int>(uris.size * 2).apply {
+        uris.forEachIndexed { index, uri -> put(uri, index) }
+    }
+
+    private val removed = BitSet(uris.size)
+
+    val annotations: Set<String> get() = annotated.keys
+
+    operator fun contains(sourceFile: URI): Boolean = indexOf(sourceFile) >= 0
+
+    operator fun get(sourceFile: URI): SourceFileStructure? = indexOf(sourceFile).takeIf { it >= 0 }?.let(::decode)
+
+    fun remove(sourceFile: URI) {
+        val index = indexOf(sourceFile)
+        if (index >= 0) removed.set(index)
+    }
+
+    fun getDependants(type: String): List<URI> = filterRemoved(dependants[type])
+
+    fun getNonTransitiveDependants(type: String): List<URI> = filterRemoved(nonTransitiveDependants[type])
+
+    fun getAnnotatedWith(annotation: String): List<URI> = filterRemoved(annotated[annotation])
+
+    private fun indexOf(sourceFile: URI): Int {
+        val index = indices[sourceFile] ?: return -1
+        return if (removed[index]) -1 else index
+    }
+
+    private fun filterRemoved(records: IntArray?): List<URI> {
+        if (records == null) return emptyList()
+        return records.filter { !removed[it] }.map { uris[it] }
+    }
+
+    private fun decode(index: Int): SourceFileStructure {
+        val input = DataInputStream(ByteArrayInputStream(records[index]))
+        return SourceFileStructure(uris[index]).apply {
+            // Constants go first, as they are added only for types which aren't declared in the file
+            repeat(input.readInt()) {
+                val containingClass = strings[input.readInt()]
+                repeat(input.readInt()) { addMentionedConstant(containingClass, strings[input.readInt()]) }
+            }
+            input.readStrings { addDeclaredType(it) }
+            input.readStrings { addMentionedType(it) }
+            input.readStrings { addPrivateType(it) }
+            input.readStrings { addMentionedAnnotations(it) }
+        }
+    }
+
+    private inline fun DataInputStream.readStrings(add: (String) -> Unit) {
+        repeat(readInt()) { add(strings[readInt()]) }
+    }
+
+    private class StringTable(initial: List<String>) {
+        val strings = ArrayList(initial)
+        private val indices = HashMap<String, Int>(initial.size * 2).apply {
+            initial.forEachIndexed { index, string -> put(string, index) }
+        }
+
+        fun indexOf(string: String): Int = indices.getOrPut(string) {
+            strings.add(string)
+            strings.size - 1
+        }
+    }
+
+    // Records of the written storage, with the indices of strings in the new table
+    private class RecordsBuilder(val table: StringTable) {
+        val uris = ArrayList<URI>()
+        val records = ArrayList<ByteArray>()
+        val dependants = LinkedHashMap<Int, MutableList<Int>>()
+        val nonTransitiveDependants = LinkedHashMap<Int, MutableList<Int>>()
+        val annotated = LinkedHashMap<Int, MutableList<Int>>()
+
+        fun add(sourceFile: URI, record: ByteArray): Int {
+            uris.add(sourceFile)
+            records.add(record)
+            return records.size - 1
+        }
+
+        fun add(structure: SourceFileStructure) {
+            val bytes = ByteArrayOutputStream()
+            DataOutputStream(bytes).use { output ->
+                val constants = structure.getMentionedConstants()
+                output.writeInt(constants.size)
+                for ((containingClass, names) in constants) {
+                    output.writeInt(table.indexOf(containingClass))
+                    output.writeStrings(names)
+                }
+                output.writeStrings(structure.getDeclaredTypes())
+                output.writeStrings(structure.getMentionedTypes())
+                output.writeStrings(structure.getPrivateTypes())
+                output.writeStrings(structure.getMentionedAnnotations())
+            }
+
+            val record = add(structure.sourceFile, bytes.toByteArray())
+            structure.getMentionedTypes().forEach { addTo(dependants, it, record) }
+            // Treat referred constants as ABI dependencies until we start supporting per-constant classpath updates.
+            structure.getMentionedConstants().keys.forEach { addTo(dependants, it, record) }
+            structure.getPrivateTypes().forEach { addTo(nonTransitiveDependants, it, record) }
+            structure.getMentionedAnnotations().forEach { addTo(annotated, it, record) }
+        }
+
+        fun addTo(index: MutableMap<Int, MutableList<Int>>, string: String, record: Int) {
+            val records = index.getOrPut(table.indexOf(string)) { ArrayList(1) }
+            // A type can be both mentioned and a class of constants
+            if (records.lastOrNull() != record) records.add(record)
+        }
+
+        private fun DataOutputStream.writeStrings(strings: Collection<String>) {
+            writeInt(strings.size)
+            strings.forEach { writeInt(table.indexOf(it)) }
+        }
+    }
+
+    companion object {
+        fun read(input: DataInputStream): StoredSourceStructures {
+            val staleRecords = input.readInt()
+            val strings = List(input.readInt()) { input.readUTF() }
+            val size = input.readInt()
+            val uris = arrayOfNulls<URI>(size)
+            val records = arrayOfNulls<ByteArray>(size)
+            for (i in 0 until size) {
+                uris[i] = URI(input.readUTF())
+                records[i] = ByteArray(input.readInt()).also(input::readFully)
+            }
+
+            @Suppress("UNCHECKED_CAST")
+            return StoredSourceStructures(
+                strings, uris as Array<URI>, records as Array<ByteArray>,
+                readIndex(input, strings), readIndex(input, strings), readIndex(input, strings),
+                staleRecords
+            )
+        }
+
+        /**
+         * Writes the structures which are left in [stored] and [added] structures, the latter replace the stored ones
+         * of the same source files.
+         */
+        fun write(output: DataOutputStream, stored: StoredSourceStructures?, added: Collection<SourceFileStructure>) {
+            val removedRecords = stored?.let { it.staleRecords + it.removed.cardinality() } ?: 0
+            val keptRecords = stored?.let { it.uris.size - it.removed.cardinality() } ?: 0
+            val fromScratch = stored == null || removedRecords > keptRecords
+
+            val builder = RecordsBuilder(StringTable(if (fromScratch || stored == null) emptyList() else stored.strings))
+            if (stored != null) {
+                if (fromScratch) {
+                    for (i in stored.uris.indices) {
+                        if (!stored.removed[i]) builder.add(stored.decode(i))
+                    }
+                } else {
+                    stored.copyTo(builder)
+                }
+            }
+            added.forEach(builder::add)
+
+            output.writeInt(if (fromScratch) 0 else removedRecords)
+            output.writeInt(builder.table.strings.size)
+            builder.table.strings.forEach(output::writeUTF)
+            output.writeInt(builder.records.size)
+            for (i in builder.records.indices) {
+                output.writeUTF(builder.uris[i].toString())
+                output.writeInt(builder.records[i].size)
+                output.write(builder.records[i])
+            }
+            writeIndex(output, builder.dependants)
+            writeIndex(output, builder.nonTransitiveDependants)
+            writeIndex(output, builder.annotated)
+        }
+
+        // Copies the records which aren't removed, the string table of [builder] starts with the strings of this storage
+        private fun StoredSourceStructures.copyTo(builder: RecordsBuilder) {
+            val newIndices = IntArray(uris.size) { -1 }
+            for (i in uris.indices) {
+                if (!removed[i]) newIndices[i] = builder.add(uris[i], records[i])
+            }
+
+            fun copyIndex(from: Map<String, IntArray>, to: MutableMap<Int, MutableList<Int>>) {
+                for ((string, records) in from) {
+                    for (record in records) {
+                        if (newIndices[record] >= 0) builder.addTo(to, string, newIndices[record])
+                    }
+                }
+            }
+            copyIndex(dependants, builder.dependants)
+            copyIndex(nonTransitiveDependants, builder.nonTransitiveDependants)
+            copyIndex(annotated, builder.annotated)
+        }
+
+        private fun readIndex(input: DataInputStream, strings: List<String>): Map<String, IntArray> {
+            val size = input.readInt()
+            val index = HashMap<String, IntArray>(size * 2)
+            repeat(size) {
+                val string = strings[input.readInt()]
+                index[string] = IntArray(input.readInt()) { input.readInt() }
+            }
+            return index
+        }
+
+        private fun writeIndex(output: DataOutputStream, index: Map<Int, List<Int>>) {
+            output.writeInt(index.size)
+            for ((string, records) in index) {
+                output.writeInt(string)
+                output.writeInt(records.size)
+                records.forEach(output::writeInt)
+            }
+        }
+    }
+}
@@ -187,6 +187,66 @@ class JavaClassCacheManagerTest {
         assertEquals(setOf(File("Annotated3.java").absoluteFile), cache.javaCache.invalidateEntriesAnnotatedWith(setOf("*")))
     }
 
+    @Test
+    fun testStructuresAfterInvalidation() {
+        SourceFileStructure(File("Constants.java").toURI()).also {
+            it.addDeclaredType("test.Constants")
+            cache.javaCache.addSourceStructure(it)
+        }
+        SourceFileStructure(File("Src.java").toURI()).also {
+            it.addDeclaredType("test.Src")
+            it.addMentionedType("test.Mentioned")
+            it.addPrivateType("test.Private")
+            it.addMentionedAnnotations("test.Annotation")
+            it.addMentionedConstant("test.Constants", "CONST")
+            cache.javaCache.addSourceStructure(it)
+        }
+        SourceFileStructure(File("Unrelated.java").toURI()).also {
+            it.addDeclaredType("test.Unrelated")
+            cache.javaCache.addSourceStructure(it)
+        }
+        prepareForIncremental()
+
+        // Stored structures of the unchanged files are kept as is
+        cache.invalidateAndGetDirtyFiles(listOf(File("Unrelated.java")), emptyList())
+        SourceFileStructure(File("Unrelated.java").toURI()).also {
+            it.addDeclaredType("test.Unrelated")
+            it.addMentionedType("test.Src")
+            cache.javaCache.addSourceStructure(it)
+        }
+        prepareForIncremental()
+        assertSrcStructure()
+        assertEquals(setOf("test.Src"), cache.javaCache.getStructure(File("Unrelated.java"))!!.getMentionedTypes())
+
+        // More structures are removed than kept, so that the cache is written from scratch
+        val dirtyFiles = cache.invalidateAndGetDirtyFiles(listOf(File("Constants.java")), emptyList()) as SourcesToReprocess.Incremental
+        assertEquals(
+            listOf(File("Constants.java"), File("Src.java"), File("Unrelated.java")).map { it.absoluteFile },
+            dirtyFiles.toReprocess
+        )
+        SourceFileStructure(File("Src.java").toURI()).also {
+            it.addDeclaredType("test.Src")
+            it.addMentionedType("test.Mentioned")
+            it.addPrivateType("test.Private")
+            it.addMentionedAnnotations("test.Annotation")
+            it.addMentionedConstant("test.Constants", "CONST")
+            cache.javaCache.addSourceStructure(it)
+        }
+        prepareForIncremental()
+        assertSrcStructure()
+        assertEquals(null, cache.javaCache.getStructure(File("Constants.java")))
+        assertEquals(setOf(File("Src.java").absoluteFile), cache.javaCache.invalidateEntriesAnnotatedWith(setOf("test.*")))
+    }
+
+    private fun assertSrcStructure() {
+        val structure = cache.javaCache.getStructure(File("Src.java"))!!
+        assertEquals(setOf("test.Src"), structure.getDeclaredTypes())
+        assertEquals(setOf("test.Mentioned"), structure.getMentionedTypes())
+        assertEquals(setOf("test.Private"), structure.getPrivateTypes())
+        assertEquals(setOf("test.Annotation"), structure.getMentionedAnnotations())
+        assertEquals(mapOf("test.Constants" to setOf("CONST")), structure.getMentionedConstants())
+    }
+
     private fun prepareForIncremental() {
         cache.close()
         cache = JavaClassCacheManager(cacheDir)
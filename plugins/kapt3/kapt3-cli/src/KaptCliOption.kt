@@ -70,6 +70,20 @@ enum class KaptCliOption(
 
     INCREMENTAL_DATA_OUTPUT_DIR_OPTION("incrementalData", "<path>", "Output path for incremental data"),
 
+    STUBS_CACHE_OPTION(
+        "stubsCache",
+        "<path>",
+        "Cache directory for Java stubs, stubs of the classes which are not changed since the previous run are reused",
+        cliToolOption = CliToolOption("-Kapt-stubs-cache", VALUE)
+    ),
+
+    STUB_GENERATION_THREADS_OPTION(
+        "stubGenerationThreads",
+        "<N>",
+        "Number of threads writing Java stubs, 0 for the number of available processors",
+        cliToolOption = CliToolOption("-Kapt-stub-generation-threads", VALUE)
+    ),
+
     CHANGED_FILES(
         "changedFile",
         "<path>",
@@ -20,8 +20,6 @@ import com.intellij.openapi.project.Project
 import com.sun.tools.javac.code.Flags
 import com.sun.tools.javac.tree.JCTree
 import com.sun.tools.javac.tree.Pretty
-import com.sun.tools.javac.tree.TreeMaker
-import com.sun.tools.javac.util.Context
 import org.jetbrains.kotlin.analyzer.AnalysisResult
 import org.jetbrains.kotlin.backend.common.output.OutputFile
 import org.jetbrains.kotlin.base.kapt3.AptMode.APT_ONLY
@@ -56,12 +54,14 @@ import org.jetbrains.kotlin.kapt3.base.util.isJava11OrLater
 import org.jetbrains.kotlin.kapt3.diagnostic.KaptError
 import org.jetbrains.kotlin.kapt3.stubs.ClassFileToSourceStubConverter
 import org.jetbrains.kotlin.kapt3.stubs.ClassFileToSourceStubConverter.KaptStub
+import org.jetbrains.kotlin.kapt3.stubs.KaptStubsCache
 import org.jetbrains.kotlin.kapt3.util.MessageCollectorBackedKaptLogger
 import org.jetbrains.kotlin.modules.TargetId
 import org.jetbrains.kotlin.psi.KtFile
 import org.jetbrains.kotlin.resolve.BindingContext
 import org.jetbrains.kotlin.resolve.BindingTrace
 import org.jetbrains.kotlin.resolve.jvm.extensions.PartialAnalysisHandlerExtension
+import org.jetbrains.kotlin.utils.forEachInParallel
 import org.jetbrains.kotlin.utils.kapt.MemoryLeakDetector
 import java.io.File
 import java.io.StringWriter
@@ -286,7 +286,8 @@ abstract class AbstractKapt3Extension(
     }
 
     private fun generateKotlinSourceStubs(kaptContext: KaptContextForStubGeneration) {
-        val converter = ClassFileToSourceStubConverter(kaptContext, generateNonExistentClass = true)
+        val stubsCache = options.stubsCache?.let { KaptStubsCache(it, options.stubsOutputDir) }
+        val converter = ClassFileToSourceStubConverter(kaptContext, generateNonExistentClass = true, stubsCache = stubsCache)
 
         val (stubGenerationTime, kaptStubs) = measureTimeMillis {
             converter.convert()
@@ -294,13 +295,21 @@ abstract class AbstractKapt3Extension(
 
         logger.info { "Java stub generation took $stubGenerationTime ms" }
         logger.info { "Stubs for Kotlin classes: " + kaptStubs.joinToString { it.file.sourcefile.name } }
+        if (stubsCache != null) {
+            logger.info { "Reused stubs for Kotlin classes: " + converter.reusedStubs.values.joinToString { it.name } }
+        }
 
         saveStubs(kaptContext, kaptStubs)
+        stubsCache?.save()
         saveIncrementalData(kaptContext, logger.messageCollector, converter)
     }
 
+    /**
+     * Writes [stubs] on [KaptOptions.stubGenerationThreads] threads. The trees of the stubs are only read when they are printed,
+     * so that they can be printed in parallel.
+     */
     protected open fun saveStubs(kaptContext: KaptContext, stubs: List<KaptStub>) {
-        for (kaptStub in stubs) {
+        forEachInParallel(stubs, options.stubGenerationThreads) { kaptStub ->
             val stub = kaptStub.file
             val className = (stub.defs.first { it is JCTree.JCClassDecl } as JCTree.JCClassDecl).simpleName.toString()
 
@@ -309,7 +318,7 @@ abstract class AbstractKapt3Extension(
             packageDir.mkdirs()
 
             val sourceFile = File(packageDir, "$className.java")
-            sourceFile.writeText(stub.prettyPrint(kaptContext.context))
+            sourceFile.writeText(stub.prettyPrint())
 
             kaptStub.writeMetadataIfNeeded(forSource = sourceFile)
         }
@@ -326,9 +335,10 @@ abstract class AbstractKapt3Extension(
         kaptContext.generationState.factory.writeAll(
             incrementalDataOutputDir,
             if (!reportOutputFiles) null else fun(file: OutputFile, sources: List<File>, output: File) {
-                val stubFileObject = converter.bindings[file.relativePath.substringBeforeLast(".class", missingDelimiterValue = "")]
-                if (stubFileObject != null) {
-                    val stubFile = File(options.stubsOutputDir, stubFileObject.name)
+                val className = file.relativePath.substringBeforeLast(".class", missingDelimiterValue = "")
+                val stubFile = converter.bindings[className]?.let { File(options.stubsOutputDir, it.name) }
+                    ?: converter.reusedStubs[className]
+                if (stubFile != null) {
                     val lineMappingsFile = File(stubFile.parentFile, stubFile.nameWithoutExtension + KAPT_METADATA_EXTENSION)
 
                     for (outputFile in listOf(stubFile, lineMappingsFile)) {
@@ -346,11 +356,12 @@ abstract class AbstractKapt3Extension(
     protected abstract fun loadProcessors(): LoadedProcessors
 }
 
-internal fun JCTree.prettyPrint(context: Context): String {
-    return StringWriter().apply { PrettyWithWorkarounds(context, this, false).printStat(this@prettyPrint) }.toString()
+internal fun JCTree.prettyPrint(): String {
+    return StringWriter().apply { PrettyWithWorkarounds(this, false).printStat(this@prettyPrint) }.toString()
 }
 
-private class PrettyWithWorkarounds(private val context: Context, val out: Writer, sourceOutput: Boolean) : Pretty(out, sourceOutput) {
+// Doesn't use the javac context, so that stubs can be printed in parallel
+private class PrettyWithWorkarounds(val out: Writer, sourceOutput: Boolean) : Pretty(out, sourceOutput) {
     companion object {
         private const val ENUM = Flags.ENUM.toLong()
     }
@@ -362,7 +373,7 @@ private class PrettyWithWorkarounds(private val context: Context, val out: Write
     override fun visitVarDef(tree: JCTree.JCVariableDecl) {
         if ((tree.mods.flags and ENUM) != 0L) {
             // Pretty does not print annotations for enum values for some reason
-            printExpr(TreeMaker.instance(context).Modifiers(0, tree.mods.annotations))
+            printAnnotations(tree.mods.annotations)
 
             if (isJava11OrLater()) {
                 // Print enums fully, there is an issue when using Pretty in JDK 11.
@@ -96,6 +96,8 @@ class Kapt3CommandLineProcessor : CommandLineProcessor {
             CLASS_OUTPUT_DIR_OPTION -> classesOutputDir = File(value)
             STUBS_OUTPUT_DIR_OPTION -> stubsOutputDir = File(value)
             INCREMENTAL_DATA_OUTPUT_DIR_OPTION -> incrementalDataOutputDir = File(value)
+            STUBS_CACHE_OPTION -> stubsCache = File(value)
+            STUB_GENERATION_THREADS_OPTION -> stubGenerationThreads = parseThreads(value)
 
             CHANGED_FILES -> changedFiles.add(File(value))
             COMPILED_SOURCES_DIR -> compiledSources.addAll(value.split(File.pathSeparator).map { File(it) })
@@ -129,6 +131,12 @@ class Kapt3CommandLineProcessor : CommandLineProcessor {
         }
     }
 
+    private fun parseThreads(value: String): Int {
+        val threads = value.toIntOrNull()?.takeIf { it >= 0 }
+            ?: throw CliOptionProcessingException("Invalid number of stub generation threads: $value, a non-negative integer is expected")
+        return if (threads == 0) Runtime.getRuntime().availableProcessors() else threads
+    }
+
     private fun decodeMap(options: String): Map<String, String> {
         if (options.isEmpty()) {
             return emptyMap()
@@ -27,6 +27,7 @@ import kotlinx.kapt.KaptIgnored
 import org.jetbrains.kotlin.base.kapt3.KaptFlag
 import org.jetbrains.kotlin.codegen.coroutines.CONTINUATION_PARAMETER_NAME
 import org.jetbrains.kotlin.codegen.needsExperimentalCoroutinesWrapper
+import org.jetbrains.kotlin.config.KotlinCompilerVersion
 import org.jetbrains.kotlin.config.LanguageFeature
 import org.jetbrains.kotlin.config.LanguageVersionSettingsImpl
 import org.jetbrains.kotlin.descriptors.*
@@ -41,6 +42,7 @@ import org.jetbrains.kotlin.kapt3.base.pairedListToMap
 import org.jetbrains.kotlin.kapt3.base.plus
 import org.jetbrains.kotlin.kapt3.base.stubs.KaptStubLineInformation
 import org.jetbrains.kotlin.kapt3.base.util.TopLevelJava9Aware
+import org.jetbrains.kotlin.kapt3.base.util.isJava11OrLater
 import org.jetbrains.kotlin.kapt3.javac.KaptJavaFileObject
 import org.jetbrains.kotlin.kapt3.javac.KaptTreeMaker
 import org.jetbrains.kotlin.kapt3.stubs.ErrorTypeCorrector.TypeKind.METHOD_PARAMETER_TYPE
@@ -66,14 +68,25 @@ import org.jetbrains.kotlin.resolve.source.PsiSourceElement
 import org.jetbrains.kotlin.types.ErrorUtils
 import org.jetbrains.kotlin.types.KotlinType
 import org.jetbrains.kotlin.types.isError
+import org.jetbrains.kotlin.utils.strings.toHexString
+import org.jetbrains.org.objectweb.asm.ClassWriter
 import org.jetbrains.org.objectweb.asm.Opcodes
 import org.jetbrains.org.objectweb.asm.Type
 import org.jetbrains.org.objectweb.asm.tree.*
 import java.io.File
+import java.security.MessageDigest
 import javax.lang.model.element.ElementKind
 import com.sun.tools.javac.util.List as JavacList
 
-class ClassFileToSourceStubConverter(val kaptContext: KaptContextForStubGeneration, val generateNonExistentClass: Boolean) {
+/**
+ * Converts the compiled classes to Java stubs. If [stubsCache] is given, classes which snapshots are the same as in the previous run
+ * aren't converted, their stubs are reused (see [reusedStubs]).
+ */
+class ClassFileToSourceStubConverter(
+    val kaptContext: KaptContextForStubGeneration,
+    val generateNonExistentClass: Boolean,
+    private val stubsCache: KaptStubsCache? = null
+) {
     private companion object {
         private const val VISIBILITY_MODIFIERS = (Opcodes.ACC_PUBLIC or Opcodes.ACC_PRIVATE or Opcodes.ACC_PROTECTED).toLong()
         private const val MODALITY_MODIFIERS = (Opcodes.ACC_FINAL or Opcodes.ACC_ABSTRACT).toLong()
@@ -114,6 +127,16 @@ class ClassFileToSourceStubConverter(val kaptContext: KaptContextForStubGenerati
     val bindings: Map<String, KaptJavaFileObject>
         get() = mutableBindings
 
+    private val mutableReusedStubs = mutableMapOf<String, File>()
+
+    /** Stub files of the classes which weren't converted, by the internal names of the classes. */
+    val reusedStubs: Map<String, File>
+        get() = mutableReusedStubs
+
+    private val classesByFile by lazy { kaptContext.compiledClasses.groupBy { kaptContext.origins[it]?.element?.containingFile } }
+
+    private val snapshots = mutableMapOf<KtFile, String>()
+
     private val typeMapper
         get() = kaptContext.generationState.typeMapper
 
@@ -179,6 +202,15 @@ class ClassFileToSourceStubConverter(val kaptContext: KaptContextForStubGenerati
         // Nested classes will be processed during the outer classes conversion
         if ((descriptor as? ClassDescriptor)?.isNested == true) return null
 
+        val snapshot = if (stubsCache != null) getSnapshot(ktFile) else null
+        if (snapshot != null) {
+            val stubFile = stubsCache?.getStub(clazz.name, snapshot)
+            if (stubFile != null) {
+                mutableReusedStubs[clazz.name] = stubFile
+                return null
+            }
+        }
+
         val lineMappings = KaptLineMappingCollector(kaptContext)
 
         val packageName = ktFile.packageFqName.asString()
@@ -203,6 +235,7 @@ class ClassFileToSourceStubConverter(val kaptContext: KaptContextForStubGenerati
         KaptJavaFileObject(topLevel, classDeclaration).apply {
             topLevel.sourcefile = this
             mutableBindings[clazz.name] = this
+            if (snapshot != null) stubsCache?.put(clazz.name, snapshot, name)
         }
 
         postProcess(topLevel)
@@ -210,6 +243,25 @@ class ClassFileToSourceStubConverter(val kaptContext: KaptContextForStubGenerati
         return KaptStub(topLevel, lineMappings.serialize())
     }
 
+    /**
+     * Stubs of the classes from [ktFile] depend on its text (KDoc comments, imports and line mappings) and on the signatures of
+     * the classes compiled from it, which contain the types from other files and the values of constants.
+     */
+    private fun getSnapshot(ktFile: KtFile): String = snapshots.getOrPut(ktFile) {
+        val digest = MessageDigest.getInstance("SHA-1")
+        digest.update(KotlinCompilerVersion.VERSION.toByteArray())
+        digest.update(KaptFlag.values().filter { kaptContext.options[it] }.joinToString().toByteArray())
+        // Enum values are printed differently on JDK 11+
+        digest.update(isJava11OrLater().toString().toByteArray())
+        digest.update(ktFile.text.toByteArray())
+        for (clazz in classesByFile[ktFile].orEmpty().sortedBy { it.name }) {
+            val writer = ClassWriter(0)
+            clazz.accept(writer)
+            digest.update(writer.toByteArray())
+        }
+        digest.digest().toHexString()
+    }
+
     private fun postProcess(topLevel: JCCompilationUnit) {
         topLevel.accept(object : TreeScanner() {
             override fun visitClassDef(clazz: JCClassDecl) {
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.kapt3.stubs
+
+import org.jetbrains.kotlin.kapt3.base.stubs.KaptStubLineInformation.Companion.KAPT_METADATA_EXTENSION
+import org.jetbrains.kotlin.utils.fileUtils.writeAtomically
+import java.io.*
+
+/**
+ * Snapshots of the classes which stubs were written to [stubsOutputDir] by previous runs, stored in [directory].
+ *
+ * A stub is reused by [ClassFileToSourceStubConverter] if the snapshot of its class is the same and the stub and its line mappings
+ * are still in the output directory. Entries of the classes which aren't compiled in the current run are kept.
+ */
+class KaptStubsCache(private val directory: File, private val stubsOutputDir: File) {
+    private class Entry(val snapshot: String, val stubPath: String)
+
+    private val entries: MutableMap<String, Entry> = load()
+
+    fun getStub(className: String, snapshot: String): File? {
+        val entry = entries[className]?.takeIf { it.snapshot == snapshot } ?: return null
+        val stubFile = File(stubsOutputDir, entry.stubPath)
+        val lineMappingsFile = File(stubFile.parentFile, stubFile.nameWithoutExtension + KAPT_METADATA_EXTENSION)
+        return stubFile.takeIf { it.isFile && lineMappingsFile.isFile }
+    }
+
+    /**
+     * Records the snapshot of a class which stub is going to be written to [stubPath], relative to the stubs output directory.
+     */
+    fun put(className: String, snapshot: String, stubPath: String) {
+        entries[className] = Entry(snapshot, stubPath)
+    }
+
+    fun save() {
+        // If it's not written, all stubs are going to be generated next time
+        File(directory, CACHE_FILE_NAME).writeAtomically { temp ->
+            DataOutputStream(BufferedOutputStream(FileOutputStream(temp))).use { output ->
+                output.writeInt(FORMAT_VERSION)
+                output.writeInt(entries.size)
+                for ((className, entry) in entries) {
+                    output.writeUTF(className)
+                    output.writeUTF(entry.snapshot)
+                    output.writeUTF(entry.stubPath)
+                }
+            }
+        }
+    }
+
+    private fun load(): MutableMap<String, Entry> {
+        val entries = LinkedHashMap<String, Entry>()
+        try {
+            DataInputStream(BufferedInputStream(FileInputStream(File(directory, CACHE_FILE_NAME)))).use { input ->
+                if (input.readInt() != FORMAT_VERSION) return entries
+                repeat(input.readInt()) {
+                    entries[input.readUTF()] = Entry(input.readUTF(), input.readUTF())
+                }
+            }
+        } catch (e: IOException) {
+            entries.clear()
+        }
+        return entries
+    }
+
+    private companion object {
+        const val FORMAT_VERSION = 1
+        const val CACHE_FILE_NAME = "stubs-cache.bin"
+    }
+}
@@ -19,11 +19,15 @@ package org.jetbrains.kotlin.kapt3.test
 import com.intellij.openapi.util.text.StringUtil
 import org.jetbrains.kotlin.base.kapt3.DetectMemoryLeaksMode
 import org.jetbrains.kotlin.base.kapt3.KaptOptions
+import org.jetbrains.kotlin.cli.common.messages.CompilerMessageLocation
+import org.jetbrains.kotlin.cli.common.messages.CompilerMessageSeverity
 import org.jetbrains.kotlin.cli.common.messages.MessageCollector
+import org.jetbrains.kotlin.cli.common.messages.OutputMessageUtil
 import org.jetbrains.kotlin.codegen.ClassBuilderMode
 import org.jetbrains.kotlin.codegen.CodegenTestCase
 import org.jetbrains.kotlin.codegen.GenerationUtils
 import org.jetbrains.kotlin.codegen.OriginCollectingClassBuilderFactory
+import org.jetbrains.kotlin.config.CommonConfigurationKeys
 import org.jetbrains.kotlin.config.CompilerConfiguration
 import org.jetbrains.kotlin.kapt3.AbstractKapt3Extension
 import org.jetbrains.kotlin.kapt3.KaptContextForStubGeneration
@@ -64,12 +68,25 @@ abstract class AbstractKotlinKapt3IntegrationTest : CodegenTestCase() {
 
     private var mutableOptions: Map<String, String>? = null
 
+    // See KaptOptions.stubGenerationThreads
+    protected var stubGenerationThreads = 1
+
+    // If set, stubs are cached in this directory, and all runs of the test write them to the same output directory
+    protected var stubsCacheDir: File? = null
+
     override fun tearDown() {
         _processors = null
         mutableOptions = null
+        stubGenerationThreads = 1
+        stubsCacheDir = null
         super.tearDown()
     }
 
+    override fun updateConfiguration(configuration: CompilerConfiguration) {
+        super.updateConfiguration(configuration)
+        configuration.put(CommonConfigurationKeys.REPORT_OUTPUT_FILES, true)
+    }
+
     protected open fun test(
         name: String,
         vararg supportedAnnotations: String,
@@ -140,7 +157,9 @@ abstract class AbstractKotlinKapt3IntegrationTest : CodegenTestCase() {
 
             sourcesOutputDir = Files.createTempDirectory("kaptRunner").toFile()
             classesOutputDir = sourcesOutputDir
-            stubsOutputDir = Files.createTempDirectory("kaptStubs").toFile()
+            stubsOutputDir = stubsCacheDir?.let { File(it, "stubs").apply { mkdirs() } } ?: Files.createTempDirectory("kaptStubs").toFile()
+            stubsCache = stubsCacheDir?.let { File(it, "cache") }
+            stubGenerationThreads = this@AbstractKotlinKapt3IntegrationTest.stubGenerationThreads
             incrementalDataOutputDir = Files.createTempDirectory("kaptIncrementalData").toFile()
 
             mutableOptions?.let { processingOptions.putAll(it) }
@@ -173,20 +192,21 @@ abstract class AbstractKotlinKapt3IntegrationTest : CodegenTestCase() {
     ) {
         internal var savedStubs: String? = null
         internal var savedBindings: Map<String, KaptJavaFileObject>? = null
+        internal var savedReusedStubs: Map<String, File>? = null
+        internal val reportedOutputs = ArrayList<File>()
+
+        private var printedStubs: List<String>? = null
 
         override fun loadProcessors() = LoadedProcessors(
             processors.map { IncrementalProcessor(it, DeclaredProcType.NON_INCREMENTAL, logger) },
             Kapt3ExtensionForTests::class.java.classLoader)
 
         override fun saveStubs(kaptContext: KaptContext, stubs: List<KaptStub>) {
-            if (this.savedStubs != null) {
+            if (this.printedStubs != null) {
                 error("Stubs are already saved")
             }
 
-            this.savedStubs = stubs
-                .map { it.file.prettyPrint(kaptContext.context) }
-                .sorted()
-                .joinToString(AbstractKotlinKapt3Test.FILE_SEPARATOR)
+            this.printedStubs = stubs.map { it.file.prettyPrint() }
 
             super.saveStubs(kaptContext, stubs)
         }
@@ -201,8 +221,24 @@ abstract class AbstractKotlinKapt3IntegrationTest : CodegenTestCase() {
             }
 
             this.savedBindings = converter.bindings
+            this.savedReusedStubs = converter.reusedStubs
+
+            // Stubs reused from the previous run aren't passed to saveStubs
+            this.savedStubs = (printedStubs.orEmpty() + converter.reusedStubs.values.map { it.readText() })
+                .sorted()
+                .joinToString(AbstractKotlinKapt3Test.FILE_SEPARATOR)
+
+            val outputsCollector = object : MessageCollector by messageCollector {
+                override fun report(severity: CompilerMessageSeverity, message: String, location: CompilerMessageLocation?) {
+                    if (severity == CompilerMessageSeverity.OUTPUT) {
+                        OutputMessageUtil.parseOutputMessage(message)?.outputFile?.let { reportedOutputs += it }
+                    } else {
+                        messageCollector.report(severity, message, location)
+                    }
+                }
+            }
 
-            super.saveIncrementalData(kaptContext, messageCollector, converter)
+            super.saveIncrementalData(kaptContext, outputsCollector, converter)
         }
     }
 }
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2010-2020 JetBrains s.r.o. and Kotlin Programming Language contributors.
+ * Use of this source code is governed by the Apache 2.0 license that can be found in the license/LICENSE.txt file.
+ */
+
+package org.jetbrains.kotlin.kapt3.test
+
+import org.jetbrains.kotlin.base.kapt3.KaptFlag
+import org.jetbrains.kotlin.kapt3.KaptContextForStubGeneration
+import org.jetbrains.kotlin.kapt3.prettyPrint
+import org.jetbrains.kotlin.kapt3.stubs.ClassFileToSourceStubConverter
+import org.jetbrains.kotlin.kapt3.stubs.KaptStubsCache
+import org.jetbrains.kotlin.test.KotlinTestUtils
+import java.io.File
+
+class KaptStubsCacheTest : AbstractKotlinKapt3Test() {
+    private lateinit var workDir: File
+    private lateinit var stubsOutputDir: File
+
+    private var convertedClasses: Set<String> = emptySet()
+    private var reusedStubs: Map<String, File> = emptyMap()
+
+    override fun setUp() {
+        super.setUp()
+        workDir = KotlinTestUtils.tmpDirForTest(this)
+        stubsOutputDir = File(workDir, "stubs")
+    }
+
+    fun testReusedStubs() {
+        generateStubs(SOURCE)
+        assertEquals(ALL_CLASSES, convertedClasses)
+        assertEquals(emptySet<String>(), reusedStubs.keys)
+        val stubs = readStubs()
+
+        generateStubs(SOURCE)
+        assertEquals(emptySet<String>(), convertedClasses)
+        assertEquals(ALL_CLASSES, reusedStubs.keys)
+        assertEquals(File(stubsOutputDir, "test/A.java"), reusedStubs["test/A"])
+        assertEquals(stubs, readStubs())
+    }
+
+    fun testEditedFile() {
+        generateStubs(SOURCE)
+
+        // Only the stubs of the classes from the edited file are generated again
+        generateStubs(SOURCE.replace("class B(val a: A)", "class B(val a: A, val x: Int)"))
+        assertEquals(setOf("test/B"), convertedClasses)
+        assertEquals(setOf("test/A", "test/E"), reusedStubs.keys)
+        assertTrue(File(stubsOutputDir, "test/B.java").readText().contains("int x"))
+    }
+
+    fun testChangedFlags() {
+        generateStubs(SOURCE)
+
+        kaptFlags.add(KaptFlag.CORRECT_ERROR_TYPES)
+        generateStubs(SOURCE)
+        assertEquals(ALL_CLASSES, convertedClasses)
+    }
+
+    fun testMissingStubFiles() {
+        generateStubs(SOURCE)
+
+        assertTrue(File(stubsOutputDir, "test/A.java").delete())
+        assertTrue(File(stubsOutputDir, "test/E.kapt_metadata").delete())
+        generateStubs(SOURCE)
+        assertEquals(setOf("test/A", "test/E"), convertedClasses)
+        assertEquals(setOf("test/B"), reusedStubs.keys)
+        assertTrue(File(stubsOutputDir, "test/A.java").exists())
+        assertTrue(File(stubsOutputDir, "test/E.kapt_metadata").exists())
+    }
+
+    // Compiles the source in a new environment, and writes the stubs the way Kapt3Extension does
+    private fun generateStubs(source: String) {
+        val sourceFile = File(workDir, "source.kt").apply { writeText(source) }
+        myFiles = null
+        myEnvironment = null
+        doTest(sourceFile.path)
+    }
+
+    override fun check(kaptContext: KaptContextForStubGeneration, javaFiles: List<File>, txtFile: File, wholeFile: File) {
+        val stubsCache = KaptStubsCache(File(workDir, "cache"), stubsOutputDir)
+        val converter = ClassFileToSourceStubConverter(kaptContext, generateNonExistentClass = false, stubsCache = stubsCache)
+
+        for (stub in converter.convert()) {
+            val stubFile = File(stubsOutputDir, stub.file.sourcefile.name)
+            stubFile.parentFile.mkdirs()
+            stubFile.writeText(stub.file.prettyPrint())
+            stub.writeMetadataIfNeeded(forSource = stubFile)
+        }
+        stubsCache.save()
+
+        convertedClasses = converter.bindings.keys
+        reusedStubs = converter.reusedStubs
+    }
+
+    private fun readStubs(): Map<String, String> =
+        stubsOutputDir.walk().filter { it.isFile }.associate { it.relativeTo(stubsOutputDir).path to it.readText() }
+
+    private companion object {
+        val ALL_CLASSES = setOf("test/A", "test/E", "test/B")
+
+        val SOURCE = """
+            // FILE: a.kt
+            package test
+
+            /** KDoc comment. */
+            class A {
+                fun a(): String = ""
+            }
+
+            enum class E {
+                X, Y
+            }
+
+            // FILE: b.kt
+            package test
+
+            class B(val a: A)
+        """.trimIndent()
+    }
+}
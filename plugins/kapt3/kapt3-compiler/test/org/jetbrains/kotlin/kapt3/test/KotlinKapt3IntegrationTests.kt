@@ -18,6 +18,7 @@ package org.jetbrains.kotlin.kapt3.test
 
 import org.jetbrains.kotlin.kapt3.javac.KaptJavaFileObject
 import org.jetbrains.kotlin.resolve.jvm.extensions.AnalysisHandlerExtension
+import org.jetbrains.kotlin.test.KotlinTestUtils
 import org.jetbrains.kotlin.utils.addToStdlib.firstIsInstance
 import org.junit.Test
 import org.junit.runner.JUnitCore
@@ -93,10 +94,45 @@ class KotlinKapt3IntegrationTests : AbstractKotlinKapt3IntegrationTest(), Custom
         }
     }
 
+    @Test
+    fun testStubsWrittenInParallel() {
+        stubGenerationThreads = 4
+        bindingsTest("Simple") { stubsOutputDir, _, _ ->
+            // Stubs printed on the worker threads are the same as the ones printed on the main thread
+            val writtenStubs = stubsOutputDir.walk().filter { it.extension == "java" }.map { it.readText() }.sorted()
+            assertEquals(kaptExtension.savedStubs, writtenStubs.joinToString(AbstractKotlinKapt3Test.FILE_SEPARATOR))
+
+            for (className in listOf("test/Simple", "test/MyAnnotation", "test/EnumClass", "test/EnumClass2")) {
+                assert(File(stubsOutputDir, "$className.kapt_metadata").exists())
+            }
+        }
+    }
+
+    @Test
+    fun testReusedStubs() {
+        stubsCacheDir = KotlinTestUtils.tmpDirForTest(this)
+
+        // Writes the stubs and the cache, the second run reuses them
+        super.test("Simple", "test.MyAnnotation", options = emptyMap()) { _, _, _ -> }
+        myFiles = null
+        myEnvironment = null
+
+        bindingsTest("Simple") { stubsOutputDir, _, bindings ->
+            val stubFile = File(stubsOutputDir, "test/Simple.java")
+            assert(bindings.none { it.key == "test/Simple" })
+            assertEquals(stubFile, kaptExtension.savedReusedStubs!!["test/Simple"])
+
+            assert(stubFile in kaptExtension.reportedOutputs)
+            assert(File(stubsOutputDir, "test/Simple.kapt_metadata") in kaptExtension.reportedOutputs)
+        }
+    }
+
+    private val kaptExtension: Kapt3ExtensionForTests
+        get() = AnalysisHandlerExtension.getInstances(myEnvironment.project).firstIsInstance()
+
     private fun bindingsTest(name: String, test: (File, File, Map<String, KaptJavaFileObject>) -> Unit) {
         test(name, "test.MyAnnotation") { _, _, _ ->
-            val kaptExtension = AnalysisHandlerExtension.getInstances(myEnvironment.project).firstIsInstance<Kapt3ExtensionForTests>()
-
+            val kaptExtension = kaptExtension
             val stubsOutputDir = kaptExtension.options.stubsOutputDir
             val incrementalDataOutputDir = kaptExtension.options.incrementalDataOutputDir
 